@@ -0,0 +1,37 @@
+package org.example.lastcall.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.example.lastcall.domain.auction.dto.request.AuctionCreateRequest;
+import org.example.lastcall.domain.auction.entity.Auction;
+import org.example.lastcall.domain.product.entity.Product;
+import org.example.lastcall.domain.product.enums.Category;
+import org.example.lastcall.domain.user.entity.User;
+import org.example.lastcall.domain.user.enums.Role;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public final class Fixtures {
+    private Fixtures() {}
+
+    public static User user(Long id) {
+        User user = User.of(UUID.randomUUID(), "bench" + id, "bench" + id, "bench" + id + "@test.com", "encoded",
+                "서울시", "12345", "101동", "010-0000-0000", Role.USER);
+        ReflectionTestUtils.setField(user, "id", id);
+
+        return user;
+    }
+
+    public static Auction ongoingAuction(Long id, User seller, Long startingBid, Long bidStep) {
+        AuctionCreateRequest request = new AuctionCreateRequest();
+        ReflectionTestUtils.setField(request, "startingBid", startingBid);
+        ReflectionTestUtils.setField(request, "bidStep", bidStep);
+        ReflectionTestUtils.setField(request, "startTime", LocalDateTime.now().minusHours(1));
+        ReflectionTestUtils.setField(request, "endTime", LocalDateTime.now().plusDays(1));
+
+        Auction auction = Auction.of(seller, Product.of(seller, "bench", Category.PET, "bench"), request);
+        ReflectionTestUtils.setField(auction, "id", id);
+
+        return auction;
+    }
+}
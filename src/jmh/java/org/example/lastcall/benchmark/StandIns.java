@@ -0,0 +1,45 @@
+package org.example.lastcall.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+// 벤치마크용 메모리 대역: 지정한 메서드만 응답하고 나머지는 빈 값(null/0/false/Optional.empty/List.of)을 반환
+public final class StandIns {
+    private StandIns() {}
+
+    @SuppressWarnings("unchecked")
+    public static <T> T of(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        return (T)Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+            Function<Object[], Object> answer = answers.get(method.getName());
+
+            if (answer != null) {
+                return answer.apply(args);
+            }
+
+            if (method.getName().equals("toString")) {
+                return type.getSimpleName() + "StandIn";
+            }
+
+            return emptyValue(method.getReturnType());
+        });
+    }
+
+    private static Object emptyValue(Class<?> returnType) {
+        if (returnType == boolean.class) {
+            return false;
+        } else if (returnType == long.class) {
+            return 0L;
+        } else if (returnType == int.class) {
+            return 0;
+        } else if (returnType == Optional.class) {
+            return Optional.empty();
+        } else if (returnType == List.class) {
+            return List.of();
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.lastcall.common.lock;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.example.lastcall.benchmark.StandIns;
+import org.example.lastcall.domain.auth.enums.AuthUser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// 락 키 SpEL 평가 비용 (메서드별로 캐시된 컴파일 식 + 평가 컨텍스트 생성)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LockKeyParseBenchmark {
+    private DistributedLockAspect aspect;
+    private ProceedingJoinPoint auctionJoinPoint;
+    private ProceedingJoinPoint userJoinPoint;
+
+    @Setup
+    public void setUp() {
+        aspect = new DistributedLockAspect(null, null, null, null);
+        auctionJoinPoint = joinPoint("lockedByAuction", new String[] {"auctionId", "authUser", "nextBidAmount"},
+                new Object[] {42L, new AuthUser(7L, "public-7", "USER"), 11_000L});
+        userJoinPoint = joinPoint("lockedByUser", new String[] {"authUser", "request"},
+                new Object[] {new AuthUser(7L, "public-7", "USER"), null});
+    }
+
+    @Benchmark
+    public String auctionKey() {
+        return aspect.parseKey(auctionJoinPoint, "'auction:' + #auctionId");
+    }
+
+    @Benchmark
+    public String userKey() {
+        return aspect.parseKey(userJoinPoint, "'user:' + #authUser.userId()");
+    }
+
+    private ProceedingJoinPoint joinPoint(String methodName, String[] parameterNames, Object[] args) {
+        Method method = Arrays.stream(LockKeyParseBenchmark.class.getDeclaredMethods())
+                .filter(candidate -> candidate.getName().equals(methodName))
+                .findFirst()
+                .orElseThrow();
+        MethodSignature signature = StandIns.of(MethodSignature.class, Map.of(
+                "getMethod", ignored -> method,
+                "getParameterNames", ignored -> parameterNames));
+
+        return StandIns.of(ProceedingJoinPoint.class, Map.of(
+                "getSignature", ignored -> signature,
+                "getArgs", ignored -> args));
+    }
+
+    // 락 키 식 캐시의 기준이 되는 대상 메서드
+    private void lockedByAuction(Long auctionId, AuthUser authUser, Long nextBidAmount) {
+    }
+
+    private void lockedByUser(AuthUser authUser, Object request) {
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.lastcall.common.security;
+
+import java.util.concurrent.TimeUnit;
+
+import org.example.lastcall.benchmark.Fixtures;
+import org.example.lastcall.common.security.jwt.JwtProperties;
+import org.example.lastcall.common.security.jwt.JwtUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.jsonwebtoken.Claims;
+
+// 인증 필터에서 요청마다 수행되는 토큰 서명 검증 + 클레임 파싱 비용
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtValidationBenchmark {
+    private static final String SECRET =
+            "u9vL0W5FvC47qkSmFl8D9DzRrXz7pXzMwx3xYV0I6MMktQoOE6rwpOBjXDEj9ywr4K9Q2CFw5UazUvH1wj3jbg==";
+
+    private JwtUtil jwtUtil;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(new JwtProperties(SECRET));
+        accessToken = jwtUtil.createAccessToken(Fixtures.user(1L));
+    }
+
+    @Benchmark
+    public Claims validateAndGetClaims() {
+        return jwtUtil.validateAndGetClaims(accessToken);
+    }
+}
@@ -0,0 +1,62 @@
+package org.example.lastcall.domain.auction;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.example.lastcall.benchmark.Fixtures;
+import org.example.lastcall.domain.auction.entity.Auction;
+import org.example.lastcall.domain.auction.enums.AuctionStatus;
+import org.example.lastcall.domain.user.entity.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+// 목록/상세 조회마다 호출되는 동적 상태 계산 비용
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuctionStatusBenchmark {
+    private Auction scheduled;
+    private Auction ongoing;
+    private Auction closed;
+
+    @Setup
+    public void setUp() {
+        User seller = Fixtures.user(1L);
+
+        ongoing = Fixtures.ongoingAuction(1L, seller, 10_000L, 1_000L);
+
+        scheduled = Fixtures.ongoingAuction(2L, seller, 10_000L, 1_000L);
+        ReflectionTestUtils.setField(scheduled, "startTime", LocalDateTime.now().plusDays(1));
+        ReflectionTestUtils.setField(scheduled, "endTime", LocalDateTime.now().plusDays(2));
+
+        closed = Fixtures.ongoingAuction(3L, seller, 10_000L, 1_000L);
+        ReflectionTestUtils.setField(closed, "endTime", LocalDateTime.now().minusMinutes(1));
+    }
+
+    @Benchmark
+    public AuctionStatus scheduled() {
+        return scheduled.getDynamicStatus();
+    }
+
+    @Benchmark
+    public AuctionStatus ongoing() {
+        return ongoing.getDynamicStatus();
+    }
+
+    @Benchmark
+    public AuctionStatus closed() {
+        return closed.getDynamicStatus();
+    }
+}
@@ -0,0 +1,107 @@
+package org.example.lastcall.domain.bid;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.example.lastcall.benchmark.Fixtures;
+import org.example.lastcall.benchmark.StandIns;
+import org.example.lastcall.common.exception.BusinessException;
+import org.example.lastcall.domain.auction.entity.Auction;
+import org.example.lastcall.domain.auction.service.query.AuctionQueryServiceApi;
+import org.example.lastcall.domain.auction.service.room.AuctionRoomBroker;
+import org.example.lastcall.domain.auction.service.room.AuctionRoomPublisher;
+import org.example.lastcall.domain.auth.enums.AuthUser;
+import org.example.lastcall.domain.bid.dto.response.BidCreateResponse;
+import org.example.lastcall.domain.bid.entity.Bid;
+import org.example.lastcall.domain.bid.repository.BidRepository;
+import org.example.lastcall.domain.bid.repository.ProxyBidRepository;
+import org.example.lastcall.domain.bid.service.command.AuctionBidBook;
+import org.example.lastcall.domain.bid.service.command.BidCommandService;
+import org.example.lastcall.domain.bid.service.command.ProxyBidCommandService;
+import org.example.lastcall.domain.point.service.command.PointCommandServiceApi;
+import org.example.lastcall.domain.point.service.query.PointQueryServiceApi;
+import org.example.lastcall.domain.user.entity.User;
+import org.example.lastcall.domain.user.service.query.UserQueryServiceApi;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+// 락/DB 를 제외한 createBid 검증 경로(입찰 장부 조회 + 금액 검증 + 엔티티 갱신) 측정
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BidValidationBenchmark {
+    private static final long BID_STEP = 1_000L;
+
+    private BidCommandService bidCommandService;
+    private Auction auction;
+    private AuthUser[] bidders;
+    private long round;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        User seller = Fixtures.user(1L);
+        auction = Fixtures.ongoingAuction(1L, seller, 10_000L, BID_STEP);
+        bidders = new AuthUser[] {new AuthUser(2L, "bidder-2", "USER"), new AuthUser(3L, "bidder-3", "USER")};
+        round = 0;
+
+        AtomicLong bidIds = new AtomicLong();
+        BidRepository bidRepository = StandIns.of(BidRepository.class, Map.of(
+                "save", args -> {
+                    ReflectionTestUtils.setField(args[0], "id", bidIds.incrementAndGet());
+                    return args[0];
+                },
+                "findMaxBidAmountByAuction", args -> Optional.empty()));
+        AuctionQueryServiceApi auctionQueryServiceApi = StandIns.of(AuctionQueryServiceApi.class, Map.of(
+                "findBiddableAuction", args -> auction));
+        UserQueryServiceApi userQueryServiceApi = StandIns.of(UserQueryServiceApi.class, Map.of(
+                "findReferenceById", args -> Fixtures.user((Long)args[0])));
+        PointCommandServiceApi pointCommandServiceApi = StandIns.of(PointCommandServiceApi.class, Map.of());
+        PointQueryServiceApi pointQueryServiceApi = StandIns.of(PointQueryServiceApi.class, Map.of());
+        AuctionRoomPublisher auctionRoomPublisher = new AuctionRoomPublisher(
+                StandIns.of(AuctionRoomBroker.class, Map.of()));
+        AuctionBidBook auctionBidBook = new AuctionBidBook(bidRepository);
+        ProxyBidCommandService proxyBidCommandService = new ProxyBidCommandService(bidRepository,
+                StandIns.of(ProxyBidRepository.class, Map.of()), auctionQueryServiceApi, userQueryServiceApi,
+                pointCommandServiceApi, pointQueryServiceApi, auctionBidBook, auctionRoomPublisher);
+
+        bidCommandService = new BidCommandService(bidRepository, auctionQueryServiceApi, userQueryServiceApi,
+                pointCommandServiceApi, auctionBidBook, proxyBidCommandService, auctionRoomPublisher);
+    }
+
+    @Benchmark
+    public BidCreateResponse acceptedBid() {
+        AuthUser bidder = bidders[(int)(round++ % bidders.length)];
+
+        return bidCommandService.createBid(auction.getId(), bidder, auction.getCurrentBid() + BID_STEP);
+    }
+
+    @Benchmark
+    public Object rejectedBid() {
+        try {
+            return bidCommandService.createBid(auction.getId(), bidders[0], auction.getCurrentBid() + BID_STEP + 1);
+        } catch (BusinessException e) {
+            return e.getErrorCode();
+        }
+    }
+
+    // 검증 비용과 비교하기 위한 엔티티 생성 기준선
+    @Benchmark
+    public Bid entityOnly() {
+        return Bid.of(auction.getCurrentBid() + BID_STEP, auction, Fixtures.user(2L));
+    }
+}
@@ -0,0 +1,112 @@
+package org.example.lastcall.domain.point;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.example.lastcall.benchmark.StandIns;
+import org.example.lastcall.domain.bid.repository.BidderMaxBid;
+import org.example.lastcall.domain.bid.service.query.BidQueryServiceApi;
+import org.example.lastcall.domain.point.repository.PointBalance;
+import org.example.lastcall.domain.point.repository.PointLogRepository;
+import org.example.lastcall.domain.point.repository.PointRepository;
+import org.example.lastcall.domain.point.repository.PointSettlementRepository;
+import org.example.lastcall.domain.point.service.command.PointSettlementService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.cache.CacheManager;
+
+// 경매 종료 정산에서 참여자별 최고 입찰(집계 쿼리 결과)로 환불/정산 대상을 고르고 로그를 만드는 비용 (DB 작업은 제외)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DepositGroupingBenchmark {
+    private static final Long WINNER_USER_ID = 1L;
+
+    @Param({"100", "1000", "10000"})
+    private int bidderCount;
+
+    private PointSettlementService pointSettlementService;
+    private SettlementCounter settlementCounter;
+    private long winningBid;
+
+    @Setup
+    public void setUp() {
+        List<BidderMaxBid> bidders = new ArrayList<>();
+        for (long id = 1; id <= bidderCount; id++) {
+            bidders.add(new BidderMaxBid(id, 11_000L + (bidderCount - id) * 1_000L));
+        }
+        winningBid = bidders.get(0).maxBidAmount();
+
+        BidQueryServiceApi bidQueryServiceApi = StandIns.of(BidQueryServiceApi.class, Map.of(
+                "findBidderMaxBidsByAuctionId", args -> bidders));
+        settlementCounter = new SettlementCounter();
+
+        pointSettlementService = new PointSettlementService(
+                bidQueryServiceApi,
+                settlementCounter,
+                StandIns.of(PointRepository.class, Map.of()),
+                StandIns.of(PointLogRepository.class, Map.of()),
+                StandIns.of(CacheManager.class, Map.of()));
+    }
+
+    @Benchmark
+    public void settle(Blackhole blackhole) {
+        pointSettlementService.settle(1L, WINNER_USER_ID, winningBid);
+        blackhole.consume(settlementCounter.moves);
+    }
+
+    // 갱신 대상 수만 세고 DB 작업은 하지 않는 대역
+    static class SettlementCounter extends PointSettlementRepository {
+        private long moves;
+
+        SettlementCounter() {
+            super(null, null);
+        }
+
+        @Override
+        public Set<Long> findSettledUserIds(Long auctionId) {
+            return Set.of();
+        }
+
+        @Override
+        public int[] moveDepositToAvailable(List<Map.Entry<Long, Long>> amountsByUser) {
+            moves += amountsByUser.size();
+            int[] counts = new int[amountsByUser.size()];
+            Arrays.fill(counts, 1);
+
+            return counts;
+        }
+
+        @Override
+        public int moveDepositToSettlement(Long userId, Long amount) {
+            moves++;
+
+            return 1;
+        }
+
+        @Override
+        public List<PointBalance> findBalances(Collection<Long> userIds) {
+            return userIds.stream()
+                    .map(userId -> new PointBalance(userId, userId, 0L, 0L, 0L))
+                    .toList();
+        }
+    }
+}
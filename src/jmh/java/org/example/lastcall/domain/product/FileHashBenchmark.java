@@ -0,0 +1,44 @@
+package org.example.lastcall.domain.product;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.example.lastcall.domain.product.utils.FileHashUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockMultipartFile;
+
+// 상품 이미지 중복 검사용 SHA-256 해시 비용 (파일 크기별)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FileHashBenchmark {
+    @Param({"65536", "1048576"})
+    private int fileSize;
+
+    private MockMultipartFile file;
+
+    @Setup
+    public void setUp() {
+        byte[] content = new byte[fileSize];
+        ThreadLocalRandom.current().nextBytes(content);
+        file = new MockMultipartFile("image", "image.png", "image/png", content);
+    }
+
+    @Benchmark
+    public String generateFileHash() {
+        return FileHashUtils.generateFileHash(file);
+    }
+}
@@ -3,9 +3,11 @@ package org.example.lastcall;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableCaching
+@EnableScheduling
 public class LastCallApplication {
 	public static void main(String[] args) {
 		SpringApplication.run(LastCallApplication.class, args);
@@ -0,0 +1,50 @@
+package org.example.lastcall.common.cache;
+
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 한 노드에서 변경된 캐시 키를 다른 노드에 알려 로컬(L1) 항목을 버리게 함
+@Slf4j
+public class CacheInvalidationBroadcaster {
+	private final RTopic topic;
+	private final ObjectMapper objectMapper;
+	private final String nodeId = UUID.randomUUID().toString();
+
+	public CacheInvalidationBroadcaster(RedissonClient redissonClient, ObjectMapper objectMapper, String topicName) {
+		this.topic = redissonClient.getTopic(topicName, StringCodec.INSTANCE);
+		this.objectMapper = objectMapper;
+	}
+
+	// 캐시 변경 응답을 늦추지 않도록 비동기 발행
+	public void publish(String cacheName, String key) {
+		try {
+			topic.publishAsync(objectMapper.writeValueAsString(new CacheInvalidationMessage(nodeId, cacheName, key)));
+		} catch (JsonProcessingException e) {
+			log.warn("[LayeredCache] 무효화 메시지 직렬화 실패: cacheName={}, key={}", cacheName, key, e);
+		}
+	}
+
+	// 자기 노드가 보낸 메시지는 이미 반영했으므로 무시
+	public void subscribe(BiConsumer<String, String> listener) {
+		topic.addListener(String.class, (channel, payload) -> {
+			try {
+				CacheInvalidationMessage message = objectMapper.readValue(payload, CacheInvalidationMessage.class);
+
+				if (!nodeId.equals(message.origin())) {
+					listener.accept(message.cacheName(), message.key());
+				}
+			} catch (JsonProcessingException e) {
+				log.warn("[LayeredCache] 무효화 메시지 역직렬화 실패: payload={}", payload, e);
+			}
+		});
+	}
+}
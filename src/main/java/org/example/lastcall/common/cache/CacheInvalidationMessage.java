@@ -0,0 +1,5 @@
+package org.example.lastcall.common.cache;
+
+// key 가 null 이면 캐시 전체 무효화
+public record CacheInvalidationMessage(String origin, String cacheName, String key) {
+}
@@ -0,0 +1,218 @@
+package org.example.lastcall.common.cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// 로컬 Caffeine(L1) 을 먼저 보고, 없으면 Redis(L2) 를 조회해 L1 을 채움
+// 쓰기/삭제는 두 계층에 모두 반영하고 다른 노드에는 L1 무효화를 알림
+public class LayeredCache implements Cache {
+	private static final int INVALIDATION_STRIPES = 1024;
+
+	private final String name;
+	private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+	private final Cache remote;
+	private final CacheInvalidationBroadcaster broadcaster;
+	private final TierMeters l1Meters;
+	private final TierMeters l2Meters;
+	// 키 해시별 무효화 횟수: Redis 를 읽는 동안 무효화가 있었으면 읽은 값으로 L1 을 채우지 않음
+	private final AtomicLongArray invalidations = new AtomicLongArray(INVALIDATION_STRIPES);
+
+	public LayeredCache(String name, com.github.benmanes.caffeine.cache.Cache<String, Object> local, Cache remote,
+		CacheInvalidationBroadcaster broadcaster, MeterRegistry meterRegistry) {
+		this.name = name;
+		this.local = local;
+		this.remote = remote;
+		this.broadcaster = broadcaster;
+		this.l1Meters = new TierMeters(meterRegistry, name, "l1");
+		this.l2Meters = new TierMeters(meterRegistry, name, "l2");
+
+		Gauge.builder("cache.layered.l1.size", local, com.github.benmanes.caffeine.cache.Cache::estimatedSize)
+			.description("로컬(L1) 캐시 항목 수")
+			.tag("cache", name)
+			.register(meterRegistry);
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public Object getNativeCache() {
+		return local;
+	}
+
+	@Override
+	public ValueWrapper get(Object key) {
+		String localKey = localKey(key);
+		Object value = local.getIfPresent(localKey);
+
+		if (value != null) {
+			l1Meters.hit();
+			return new SimpleValueWrapper(value);
+		}
+
+		l1Meters.miss();
+		long stamp = invalidationStamp(localKey);
+		ValueWrapper wrapper = remote.get(key);
+
+		if (wrapper == null) {
+			l2Meters.miss();
+			return null;
+		}
+
+		l2Meters.hit();
+
+		if (wrapper.get() != null) {
+			refill(localKey, stamp, wrapper.get());
+		}
+
+		return wrapper;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(Object key, Class<T> type) {
+		ValueWrapper wrapper = get(key);
+		Object value = wrapper == null ? null : wrapper.get();
+
+		if (value != null && type != null && !type.isInstance(value)) {
+			throw new IllegalStateException("캐시 값의 타입이 요청한 타입과 다릅니다: " + type.getName() + " / " + value);
+		}
+
+		return (T)value;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(Object key, Callable<T> valueLoader) {
+		ValueWrapper wrapper = get(key);
+
+		if (wrapper != null) {
+			return (T)wrapper.get();
+		}
+
+		String localKey = localKey(key);
+		long stamp = invalidationStamp(localKey);
+		T value = remote.get(key, valueLoader);
+
+		if (value != null) {
+			refill(localKey, stamp, value);
+		}
+
+		return value;
+	}
+
+	// 다른 노드의 L1 에는 이전 값이 남아 있을 수 있으므로 무효화를 알림
+	@Override
+	public void put(Object key, Object value) {
+		remote.put(key, value);
+		markInvalidated(localKey(key));
+
+		if (value != null) {
+			local.put(localKey(key), value);
+		} else {
+			local.invalidate(localKey(key));
+		}
+
+		broadcaster.publish(name, localKey(key));
+	}
+
+	@Override
+	public void evict(Object key) {
+		remote.evict(key);
+		invalidate(localKey(key));
+		broadcaster.publish(name, localKey(key));
+	}
+
+	@Override
+	public void clear() {
+		remote.clear();
+		invalidate(null);
+		broadcaster.publish(name, null);
+	}
+
+	// 다른 노드에서 온 무효화 (Redis 는 이미 보낸 쪽에서 반영됨)
+	public void invalidateLocal(String key) {
+		invalidate(key);
+	}
+
+	// 무효화 횟수를 먼저 올린 뒤 지워, 진행 중인 Redis 조회가 이전 값을 다시 채우지 못하게 함
+	private void invalidate(String localKey) {
+		if (localKey == null) {
+			for (int i = 0; i < INVALIDATION_STRIPES; i++) {
+				invalidations.incrementAndGet(i);
+			}
+
+			local.invalidateAll();
+		} else {
+			markInvalidated(localKey);
+			local.invalidate(localKey);
+		}
+	}
+
+	private void markInvalidated(String localKey) {
+		invalidations.incrementAndGet(stripe(localKey));
+	}
+
+	private long invalidationStamp(String localKey) {
+		return invalidations.get(stripe(localKey));
+	}
+
+	// 조회 시작 이후 무효화가 없었을 때만 채움 (같은 키의 무효화는 compute 가 끝날 때까지 기다렸다가 지움)
+	private void refill(String localKey, long stamp, Object value) {
+		local.asMap().compute(localKey, (k, current) -> invalidationStamp(k) == stamp ? value : current);
+	}
+
+	private static int stripe(String localKey) {
+		return Math.floorMod(localKey.hashCode(), INVALIDATION_STRIPES);
+	}
+
+	// Redis 캐시 키와 같은 문자열 표현을 사용해 노드 간 무효화 메시지로 그대로 전달
+	private static String localKey(Object key) {
+		return String.valueOf(key);
+	}
+
+	// 계층별 조회 적중/실패 횟수와 적중률
+	private static class TierMeters {
+		private final Counter hits;
+		private final Counter misses;
+
+		TierMeters(MeterRegistry meterRegistry, String cacheName, String tier) {
+			this.hits = Counter.builder("cache.layered.requests")
+				.description("계층별 캐시 조회 결과")
+				.tags("cache", cacheName, "tier", tier, "result", "hit")
+				.register(meterRegistry);
+			this.misses = Counter.builder("cache.layered.requests")
+				.description("계층별 캐시 조회 결과")
+				.tags("cache", cacheName, "tier", tier, "result", "miss")
+				.register(meterRegistry);
+
+			Gauge.builder("cache.layered.hit.ratio", this, TierMeters::hitRatio)
+				.description("계층별 캐시 적중률 (L2 는 L1 에서 놓친 조회 기준)")
+				.tags("cache", cacheName, "tier", tier)
+				.register(meterRegistry);
+		}
+
+		void hit() {
+			hits.increment();
+		}
+
+		void miss() {
+			misses.increment();
+		}
+
+		double hitRatio() {
+			double total = hits.count() + misses.count();
+
+			return total == 0 ? 0 : hits.count() / total;
+		}
+	}
+}
@@ -0,0 +1,68 @@
+package org.example.lastcall.common.cache;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Redis 캐시 매니저의 각 캐시 앞에 캐시 이름별 Caffeine 캐시를 둠
+public class LayeredCacheManager implements CacheManager {
+	private final CacheManager remoteCacheManager;
+	private final CacheInvalidationBroadcaster broadcaster;
+	private final LayeredCacheProperties properties;
+	private final MeterRegistry meterRegistry;
+	private final Map<String, LayeredCache> caches = new ConcurrentHashMap<>();
+
+	public LayeredCacheManager(CacheManager remoteCacheManager, CacheInvalidationBroadcaster broadcaster,
+		LayeredCacheProperties properties, MeterRegistry meterRegistry) {
+		this.remoteCacheManager = remoteCacheManager;
+		this.broadcaster = broadcaster;
+		this.properties = properties;
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Override
+	public Cache getCache(String name) {
+		LayeredCache cache = caches.get(name);
+
+		if (cache != null) {
+			return cache;
+		}
+
+		Cache remote = remoteCacheManager.getCache(name);
+
+		if (remote == null) {
+			return null;
+		}
+
+		return caches.computeIfAbsent(name, cacheName -> new LayeredCache(cacheName, newLocalCache(), remote,
+			broadcaster, meterRegistry));
+	}
+
+	@Override
+	public Collection<String> getCacheNames() {
+		return remoteCacheManager.getCacheNames();
+	}
+
+	// 이 노드에서 아직 만들지 않은 캐시는 L1 항목도 없으므로 무시
+	public void invalidateLocal(String cacheName, String key) {
+		LayeredCache cache = caches.get(cacheName);
+
+		if (cache != null) {
+			cache.invalidateLocal(key);
+		}
+	}
+
+	private com.github.benmanes.caffeine.cache.Cache<String, Object> newLocalCache() {
+		return Caffeine.newBuilder()
+			.maximumSize(properties.l1().maximumSize())
+			.expireAfterWrite(properties.l1().ttl())
+			.build();
+	}
+}
@@ -0,0 +1,19 @@
+package org.example.lastcall.common.cache;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+// l1.maximumSize: 캐시 이름별 로컬(Caffeine) 최대 항목 수
+// l1.ttl: 로컬 항목 유지 시간 (무효화 메시지를 놓친 노드도 이 시간 안에는 Redis 값으로 돌아옴)
+// topic: 노드 간 로컬 캐시 무효화를 전달하는 Redis pub/sub 채널
+@ConfigurationProperties(prefix = "cache.layered")
+public record LayeredCacheProperties(
+	@DefaultValue L1 l1,
+	@DefaultValue("cache:invalidation") String topic) {
+	public record L1(
+		@DefaultValue("10000") long maximumSize,
+		@DefaultValue("30s") Duration ttl) {
+	}
+}
@@ -1,14 +1,22 @@
 package org.example.lastcall.common.config;
 
+import org.example.lastcall.domain.auction.config.AuctionListenerProperties;
+import org.example.lastcall.domain.auction.config.AuctionRetryProperties;
+import org.example.lastcall.domain.auction.enums.AuctionTimerType;
 import org.springframework.amqp.core.*;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Configuration
@@ -20,9 +28,12 @@ public class AuctionConfig {
     public static final String END_ROUTING_KEY = "auction.end.key";
 
     public static final String DLX_NAME = "auction.dlx";
-    public static final String START_RETRY_QUEUE = "start.retry.queue";
-    public static final String END_RETRY_QUEUE = "end.retry.queue";
-    public static final String DLX_RETRY_ROUTING_KEY = "auction.retry.key";
+    public static final String PARKING_QUEUE_NAME = "auction.parking.queue";
+    public static final String START_PARKING_ROUTING_KEY = "auction.start.parking";
+    public static final String END_PARKING_ROUTING_KEY = "auction.end.parking";
+
+    public static final String LISTENER_CONTAINER_FACTORY = "auctionListenerContainerFactory";
+    public static final String BATCH_LISTENER_CONTAINER_FACTORY = "auctionBatchListenerContainerFactory";
 
     @Bean
     public CustomExchange delayExchange() {
@@ -45,11 +56,35 @@ public class AuctionConfig {
         return rabbitTemplate;
     }
 
+    // 경매 이벤트 리스너 컨테이너 (spring.rabbitmq.listener.simple 설정 위에 소비자 수/prefetch 만 덮어씀)
+    @Bean(name = LISTENER_CONTAINER_FACTORY)
+    public SimpleRabbitListenerContainerFactory auctionListenerContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer, ConnectionFactory connectionFactory,
+            AuctionListenerProperties properties) {
+        return listenerContainerFactory(configurer, connectionFactory, properties);
+    }
+
+    // 일괄 소비 컨테이너 (소비자마다 batchSize 개 또는 receiveTimeout 동안 받은 메시지를 한 번에 전달)
+    @Bean(name = BATCH_LISTENER_CONTAINER_FACTORY)
+    public SimpleRabbitListenerContainerFactory auctionBatchListenerContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer, ConnectionFactory connectionFactory,
+            AuctionListenerProperties properties) {
+        SimpleRabbitListenerContainerFactory factory = listenerContainerFactory(configurer, connectionFactory, properties);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(properties.batchSize());
+        factory.setReceiveTimeout(properties.receiveTimeout().toMillis());
+        factory.setPrefetchCount(Math.max(properties.prefetch(), properties.batchSize()));
+
+        return factory;
+    }
+
+    // 리스너가 재시도/보관 메시지를 다시 발행하지 못하고 거절(NACK)하면 바로 parking 큐로 보냄
     @Bean
     public Queue startQueue() {
         return QueueBuilder.durable(START_QUEUE_NAME)
                 .withArgument("x-dead-letter-exchange", DLX_NAME)
-                .withArgument("x-dead-letter-routing-key", DLX_RETRY_ROUTING_KEY)
+                .withArgument("x-dead-letter-routing-key", START_PARKING_ROUTING_KEY)
                 .build();
     }
 
@@ -57,7 +92,7 @@ public class AuctionConfig {
     public Queue endQueue() {
         return QueueBuilder.durable(END_QUEUE_NAME)
                 .withArgument("x-dead-letter-exchange", DLX_NAME)
-                .withArgument("x-dead-letter-routing-key", DLX_RETRY_ROUTING_KEY)
+                .withArgument("x-dead-letter-routing-key", END_PARKING_ROUTING_KEY)
                 .build();
     }
 
@@ -71,45 +106,71 @@ public class AuctionConfig {
         return BindingBuilder.bind(endQueue).to(delayExchange).with(END_ROUTING_KEY).noargs();
     }
 
-    // Dead Letter Exchange (DLX)
+    // Dead Letter Exchange (DLX): 재시도 대기 큐와 parking 큐로 라우팅
     @Bean
     public DirectExchange auctionDLX() {
         return new DirectExchange(DLX_NAME);
     }
 
-    // Retry Queue (지연 재시도용)
+    // 이벤트 종류별 단계 재시도 큐 (TTL 이 지나면 원래 라우팅 키로 경매 exchange 에 되돌아감)
     @Bean
-    public Queue startRetryQueue() {
-        return QueueBuilder.durable(START_RETRY_QUEUE)
-                .withArgument("x-dead-letter-exchange", EXCHANGE_NAME)
-                .withArgument("x-dead-letter-routing-key", START_ROUTING_KEY)
-                .withArgument("x-message-ttl", 5000) // 첫 재시도 5초 후 실행
-                .build();
+    public Declarables auctionRetryQueues(AuctionRetryProperties properties) {
+        List<Declarable> declarables = new ArrayList<>();
+
+        for (AuctionTimerType type : AuctionTimerType.values()) {
+            for (Duration tier : properties.tiers()) {
+                Queue retryQueue = QueueBuilder.durable(retryRoutingKey(type, tier))
+                        .withArgument("x-dead-letter-exchange", EXCHANGE_NAME)
+                        .withArgument("x-dead-letter-routing-key", routingKey(type))
+                        .withArgument("x-message-ttl", tier.toMillis())
+                        .build();
+
+                declarables.add(retryQueue);
+                declarables.add(BindingBuilder.bind(retryQueue).to(auctionDLX()).with(retryRoutingKey(type, tier)));
+            }
+        }
+
+        return new Declarables(declarables);
     }
 
+    // 재시도를 모두 소진한 이벤트 보관 (관리자 재처리 API 로 되돌림)
     @Bean
-    public Queue endRetryQueue() {
-        return QueueBuilder.durable(END_RETRY_QUEUE)
-                .withArgument("x-dead-letter-exchange", EXCHANGE_NAME)
-                .withArgument("x-dead-letter-routing-key", END_ROUTING_KEY)
-                .withArgument("x-message-ttl", 5000)
-                .build();
+    public Queue parkingQueue() {
+        return QueueBuilder.durable(PARKING_QUEUE_NAME).build();
     }
 
-    // Retry Queue Binding
     @Bean
-    public Binding startRetryBinding(Queue startRetryQueue, DirectExchange auctionDLX) {
-        return BindingBuilder
-                .bind(startRetryQueue)
-                .to(auctionDLX)
-                .with(DLX_RETRY_ROUTING_KEY);
+    public Binding startParkingBinding(Queue parkingQueue, DirectExchange auctionDLX) {
+        return BindingBuilder.bind(parkingQueue).to(auctionDLX).with(START_PARKING_ROUTING_KEY);
     }
 
     @Bean
-    public Binding endRetryBinding(Queue endRetryQueue, DirectExchange auctionDLX) {
-        return BindingBuilder
-                .bind(endRetryQueue)
-                .to(auctionDLX)
-                .with(DLX_RETRY_ROUTING_KEY);
+    public Binding endParkingBinding(Queue parkingQueue, DirectExchange auctionDLX) {
+        return BindingBuilder.bind(parkingQueue).to(auctionDLX).with(END_PARKING_ROUTING_KEY);
+    }
+
+    public static String routingKey(AuctionTimerType type) {
+        return type == AuctionTimerType.START ? START_ROUTING_KEY : END_ROUTING_KEY;
+    }
+
+    public static String parkingRoutingKey(AuctionTimerType type) {
+        return type == AuctionTimerType.START ? START_PARKING_ROUTING_KEY : END_PARKING_ROUTING_KEY;
+    }
+
+    // 재시도 큐 이름이자 라우팅 키 (예: auction.start.retry.5000ms)
+    public static String retryRoutingKey(AuctionTimerType type, Duration tier) {
+        return "auction." + type.name().toLowerCase() + ".retry." + tier.toMillis() + "ms";
+    }
+
+    private SimpleRabbitListenerContainerFactory listenerContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer, ConnectionFactory connectionFactory,
+            AuctionListenerProperties properties) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setConcurrentConsumers(properties.concurrency());
+        factory.setMaxConcurrentConsumers(Math.max(properties.concurrency(), properties.maxConcurrency()));
+        factory.setPrefetchCount(properties.prefetch());
+
+        return factory;
     }
 }
@@ -0,0 +1,82 @@
+package org.example.lastcall.common.config;
+
+import java.util.LinkedHashSet;
+
+import org.example.lastcall.common.cache.CacheInvalidationBroadcaster;
+import org.example.lastcall.common.cache.LayeredCacheManager;
+import org.example.lastcall.common.cache.LayeredCacheProperties;
+import org.redisson.api.RedissonClient;
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// L1(Caffeine) + L2(Redis) 캐시 매니저
+// L2 는 spring.cache.redis.* 설정을 그대로 따르고, L1 은 cache.layered.* 설정을 따름
+@Configuration
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+	@Bean
+	public CacheInvalidationBroadcaster cacheInvalidationBroadcaster(RedissonClient redissonClient,
+		ObjectMapper objectMapper, LayeredCacheProperties layeredCacheProperties) {
+		return new CacheInvalidationBroadcaster(redissonClient, objectMapper, layeredCacheProperties.topic());
+	}
+
+	@Bean
+	public LayeredCacheManager cacheManager(RedisConnectionFactory redisConnectionFactory, CacheProperties cacheProperties,
+		LayeredCacheProperties layeredCacheProperties, CacheInvalidationBroadcaster cacheInvalidationBroadcaster,
+		MeterRegistry meterRegistry) {
+		LayeredCacheManager cacheManager = new LayeredCacheManager(
+			redisCacheManager(redisConnectionFactory, cacheProperties), cacheInvalidationBroadcaster,
+			layeredCacheProperties, meterRegistry);
+
+		cacheInvalidationBroadcaster.subscribe(cacheManager::invalidateLocal);
+
+		return cacheManager;
+	}
+
+	private RedisCacheManager redisCacheManager(RedisConnectionFactory redisConnectionFactory,
+		CacheProperties cacheProperties) {
+		CacheProperties.Redis redis = cacheProperties.getRedis();
+		RedisCacheConfiguration configuration = RedisCacheConfiguration.defaultCacheConfig(getClass().getClassLoader());
+
+		if (redis.getTimeToLive() != null) {
+			configuration = configuration.entryTtl(redis.getTimeToLive());
+		}
+
+		if (redis.getKeyPrefix() != null) {
+			configuration = configuration.prefixCacheNameWith(redis.getKeyPrefix());
+		}
+
+		if (!redis.isCacheNullValues()) {
+			configuration = configuration.disableCachingNullValues();
+		}
+
+		if (!redis.isUseKeyPrefix()) {
+			configuration = configuration.disableKeyPrefix();
+		}
+
+		RedisCacheManager.RedisCacheManagerBuilder builder = RedisCacheManager.builder(redisConnectionFactory)
+			.cacheDefaults(configuration);
+
+		if (redis.isEnableStatistics()) {
+			builder.enableStatistics();
+		}
+
+		if (!cacheProperties.getCacheNames().isEmpty()) {
+			builder.initialCacheNames(new LinkedHashSet<>(cacheProperties.getCacheNames()));
+		}
+
+		RedisCacheManager redisCacheManager = builder.build();
+		redisCacheManager.initializeCaches();
+
+		return redisCacheManager;
+	}
+}
@@ -0,0 +1,51 @@
+package org.example.lastcall.common.config;
+
+import org.example.lastcall.common.entity.IdGenerators;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 테이블 기반 ID 발급 값을 엔티티 테이블의 최대 ID 이후로 맞춤
+// (IDENTITY 로 저장된 기존 행과 겹치지 않도록, 지연 저장 입찰 ID 도 BidIdAllocator 가 같은 행에서 블록으로 받아감)
+// 스키마가 만들어진 뒤 실행되도록 EntityManagerFactory 이후에 초기화
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class IdGeneratorInitializer implements InitializingBean {
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterPropertiesSet() {
+        IdGenerators.SEGMENT_TABLES.forEach(this::alignSegment);
+    }
+
+    private void alignSegment(String segment, String table) {
+        String maxId = "(SELECT COALESCE(MAX(id), 0) + 1 FROM " + table + ")";
+
+        int updated = jdbcTemplate.update(
+                "UPDATE " + IdGenerators.TABLE + " SET " + IdGenerators.VALUE_COLUMN + " = GREATEST("
+                        + IdGenerators.VALUE_COLUMN + ", " + maxId + ") WHERE " + IdGenerators.SEGMENT_COLUMN + " = ?",
+                segment);
+
+        if (updated > 0) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.update(
+                    "INSERT INTO " + IdGenerators.TABLE + " (" + IdGenerators.SEGMENT_COLUMN + ", "
+                            + IdGenerators.VALUE_COLUMN + ") SELECT ?, COALESCE(MAX(id), 0) + 1 FROM " + table,
+                    segment);
+            log.info("ID 발급 세그먼트 초기화: segment={}", segment);
+        } catch (DuplicateKeyException e) {
+            // 다른 노드가 먼저 초기화함
+            log.debug("ID 발급 세그먼트 이미 존재: segment={}", segment);
+        }
+    }
+}
@@ -1,8 +1,18 @@
 package org.example.lastcall.common.config;
 
+import org.example.lastcall.common.cache.LayeredCacheProperties;
+import org.example.lastcall.common.idempotency.IdempotencyProperties;
+import org.example.lastcall.common.lock.LockProperties;
 import org.example.lastcall.common.security.AuthProperties;
 import org.example.lastcall.common.security.jwt.JwtProperties;
+import org.example.lastcall.domain.auction.config.AuctionCloseProperties;
+import org.example.lastcall.domain.auction.config.AuctionListenerProperties;
+import org.example.lastcall.domain.auction.config.AuctionOutboxProperties;
+import org.example.lastcall.domain.auction.config.AuctionRetryProperties;
+import org.example.lastcall.domain.auction.config.AuctionTimerProperties;
 import org.example.lastcall.domain.auth.email.config.MailProperties;
+import org.example.lastcall.domain.bid.config.BidProperties;
+import org.example.lastcall.domain.point.config.PointReconciliationProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
@@ -10,6 +20,16 @@ import org.springframework.context.annotation.Configuration;
 @EnableConfigurationProperties({
         MailProperties.class,
         JwtProperties.class,
-        AuthProperties.class
+        AuthProperties.class,
+        BidProperties.class,
+        IdempotencyProperties.class,
+        LockProperties.class,
+        LayeredCacheProperties.class,
+        PointReconciliationProperties.class,
+        AuctionTimerProperties.class,
+        AuctionCloseProperties.class,
+        AuctionOutboxProperties.class,
+        AuctionListenerProperties.class,
+        AuctionRetryProperties.class
 })
 public class PropertiesConfig {}
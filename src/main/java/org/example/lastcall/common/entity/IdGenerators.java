@@ -0,0 +1,24 @@
+package org.example.lastcall.common.entity;
+
+import java.util.Map;
+
+// 대량으로 저장되는 엔티티의 테이블 기반 ID 발급 설정
+// IDENTITY 는 INSERT 마다 ID 를 받아와야 해서 JDBC 배치가 꺼지므로, 블록 단위(pooled-lo)로 미리 할당받아 배치 INSERT 가능하게 함
+public final class IdGenerators {
+    public static final String TABLE = "id_generators";
+    public static final String SEGMENT_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50;
+
+    public static final String BID = "bids";
+    public static final String POINT = "points";
+    public static final String POINT_LOG = "point_logs";
+
+    // 세그먼트 -> 엔티티 테이블 (기동 시 기존 최대 ID 이후부터 발급되도록 맞춤)
+    public static final Map<String, String> SEGMENT_TABLES = Map.of(
+            BID, "bids",
+            POINT, "points",
+            POINT_LOG, "point_logs");
+
+    private IdGenerators() {}
+}
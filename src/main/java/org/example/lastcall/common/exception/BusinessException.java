@@ -3,13 +3,22 @@ package org.example.lastcall.common.exception;
 import lombok.Getter;
 import org.springframework.http.HttpStatus;
 
+import java.time.Duration;
+
 @Getter
 public class BusinessException extends RuntimeException {
     private final ErrorCode errorCode;
+    // 재시도 가능 시점 안내 (응답의 Retry-After 헤더, 없으면 null)
+    private final Duration retryAfter;
 
     public BusinessException(ErrorCode errorCode) {
+        this(errorCode, null);
+    }
+
+    public BusinessException(ErrorCode errorCode, Duration retryAfter) {
         super(errorCode.getMessage());
         this.errorCode = errorCode;
+        this.retryAfter = retryAfter;
     }
 
     public HttpStatus getStatus() {
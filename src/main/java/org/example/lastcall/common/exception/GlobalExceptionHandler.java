@@ -3,6 +3,7 @@ package org.example.lastcall.common.exception;
 import lombok.extern.slf4j.Slf4j;
 import org.example.lastcall.common.response.ApiResponse;
 import org.example.lastcall.domain.auth.email.exception.EmailErrorCode;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -23,7 +24,13 @@ public class GlobalExceptionHandler {
 
 		ApiResponse<?> errorResponse = ApiResponse.error(errorCode.getMessage());
 
-		return new ResponseEntity<>(errorResponse, errorCode.getStatus());
+		HttpHeaders headers = new HttpHeaders();
+
+		if (ex.getRetryAfter() != null) {
+			headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())));
+		}
+
+		return new ResponseEntity<>(errorResponse, headers, errorCode.getStatus());
 	}
 
 	@ExceptionHandler(Exception.class)
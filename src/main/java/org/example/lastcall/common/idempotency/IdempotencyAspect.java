@@ -0,0 +1,252 @@
+package org.example.lastcall.common.idempotency;
+
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.example.lastcall.common.exception.BusinessException;
+import org.redisson.api.RBucket;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.core.annotation.Order;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.SimpleEvaluationContext;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// Idempotency-Key 재요청 처리: 완료된 응답은 Redis 에서 그대로 재생 (락/DB 접근 없음)
+// 같은 노드의 동시 중복 요청은 먼저 들어온 요청의 결과를 공유하고, 다른 노드에서 처리 중이면 완료될 때까지 대기
+@Slf4j
+@Aspect
+@Component
+@RequiredArgsConstructor
+@Order(-2)
+public class IdempotencyAspect {
+	public static final String HEADER = "Idempotency-Key";
+	public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+	private static final String KEY_PREFIX = "idempotency:";
+	private static final int MAX_KEY_LENGTH = 255;
+	// 반복 평가되는 식은 바이트코드로 컴파일 (컴파일할 수 없는 식은 해석 모드로 동작)
+	private static final ExpressionParser PARSER = new SpelExpressionParser(
+		new SpelParserConfiguration(SpelCompilerMode.MIXED, IdempotencyAspect.class.getClassLoader()));
+
+	private final RedissonClient redissonClient;
+	private final ObjectMapper objectMapper;
+	private final IdempotencyProperties properties;
+	private final Map<Method, ScopeExpression> scopeExpressions = new ConcurrentHashMap<>();
+	private final Map<String, CompletableFuture<IdempotentResponse>> inFlight = new ConcurrentHashMap<>();
+
+	@Around("@annotation(idempotent)")
+	public Object around(ProceedingJoinPoint pjp, Idempotent idempotent) throws Throwable {
+		String idempotencyKey = currentIdempotencyKey();
+
+		if (idempotencyKey == null) {
+			return pjp.proceed();
+		}
+
+		if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+			throw new BusinessException(IdempotencyErrorCode.INVALID_IDEMPOTENCY_KEY);
+		}
+
+		String storeKey = KEY_PREFIX + parseScope(pjp, idempotent.scope()) + ":" + idempotencyKey;
+		String fingerprint = fingerprint(pjp.getArgs());
+
+		CompletableFuture<IdempotentResponse> mine = new CompletableFuture<>();
+		CompletableFuture<IdempotentResponse> leader = inFlight.putIfAbsent(storeKey, mine);
+
+		if (leader != null) {
+			log.debug("[Idempotency] 처리 중인 요청에 합류 - key: {}", storeKey);
+			return replay(awaitLeader(leader), fingerprint);
+		}
+
+		try {
+			return execute(pjp, storeKey, fingerprint, mine);
+		} catch (Throwable t) {
+			mine.completeExceptionally(t);
+			throw t;
+		} finally {
+			inFlight.remove(storeKey, mine);
+		}
+	}
+
+	private Object execute(ProceedingJoinPoint pjp, String storeKey, String fingerprint,
+		CompletableFuture<IdempotentResponse> mine) throws Throwable {
+		RBucket<String> bucket = redissonClient.getBucket(storeKey, StringCodec.INSTANCE);
+		long deadline = System.nanoTime() + properties.waitTimeout().toNanos();
+
+		while (true) {
+			String stored = bucket.get();
+
+			if (stored == null) {
+				if (bucket.setIfAbsent(write(IdempotentResponse.inProgress(fingerprint)), properties.lockTtl())) {
+					return proceedAndStore(pjp, bucket, fingerprint, mine);
+				}
+
+				continue;
+			}
+
+			IdempotentResponse response = read(stored);
+
+			if (response.completed()) {
+				mine.complete(response);
+				log.debug("[Idempotency] 저장된 응답 재생 - key: {}", storeKey);
+
+				return replay(response, fingerprint);
+			}
+
+			if (!response.matches(fingerprint)) {
+				throw new BusinessException(IdempotencyErrorCode.IDEMPOTENCY_KEY_REUSED);
+			}
+
+			if (System.nanoTime() > deadline) {
+				throw new BusinessException(IdempotencyErrorCode.REQUEST_IN_PROGRESS);
+			}
+
+			sleep();
+		}
+	}
+
+	// 성공(2xx) 응답만 저장, 실패하면 처리 중 표시를 지워 같은 키로 다시 시도할 수 있게 함
+	private Object proceedAndStore(ProceedingJoinPoint pjp, RBucket<String> bucket, String fingerprint,
+		CompletableFuture<IdempotentResponse> mine) throws Throwable {
+		Object result;
+
+		try {
+			result = pjp.proceed();
+		} catch (Throwable t) {
+			bucket.delete();
+			throw t;
+		}
+
+		if (!(result instanceof ResponseEntity<?> entity) || !entity.getStatusCode().is2xxSuccessful()) {
+			// 재생할 응답이 없으므로 합류한 요청은 다시 시도하도록 안내
+			bucket.delete();
+			mine.completeExceptionally(new BusinessException(IdempotencyErrorCode.REQUEST_IN_PROGRESS));
+
+			return result;
+		}
+
+		IdempotentResponse completed = IdempotentResponse.completed(
+			fingerprint, entity.getStatusCode().value(), objectMapper.writeValueAsString(entity.getBody()));
+
+		bucket.set(write(completed), properties.ttl().toMillis(), TimeUnit.MILLISECONDS);
+		mine.complete(completed);
+
+		return result;
+	}
+
+	private IdempotentResponse awaitLeader(CompletableFuture<IdempotentResponse> leader) throws Throwable {
+		try {
+			return leader.get(properties.waitTimeout().toMillis(), TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			throw new BusinessException(IdempotencyErrorCode.REQUEST_IN_PROGRESS);
+		} catch (ExecutionException e) {
+			throw e.getCause();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new BusinessException(IdempotencyErrorCode.IDEMPOTENCY_INTERRUPTED);
+		}
+	}
+
+	private ResponseEntity<Object> replay(IdempotentResponse response, String fingerprint) throws JsonProcessingException {
+		if (!response.matches(fingerprint)) {
+			throw new BusinessException(IdempotencyErrorCode.IDEMPOTENCY_KEY_REUSED);
+		}
+
+		return ResponseEntity.status(response.status())
+			.header(REPLAYED_HEADER, "true")
+			.body(objectMapper.readTree(response.body()));
+	}
+
+	private String currentIdempotencyKey() {
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+		if (attributes instanceof ServletRequestAttributes servletAttributes) {
+			return servletAttributes.getRequest().getHeader(HEADER);
+		}
+
+		return null;
+	}
+
+	private String parseScope(ProceedingJoinPoint pjp, String scopeExpression) {
+		MethodSignature signature = (MethodSignature)pjp.getSignature();
+
+		return scopeExpressions.computeIfAbsent(signature.getMethod(),
+				method -> new ScopeExpression(signature.getParameterNames(), PARSER.parseExpression(scopeExpression)))
+			.evaluate(pjp.getArgs());
+	}
+
+	// 같은 키로 내용이 다른 요청을 구분하기 위한 요청 인자 해시
+	private String fingerprint(Object[] args) {
+		byte[] payload;
+
+		try {
+			payload = objectMapper.writeValueAsBytes(args);
+		} catch (JsonProcessingException e) {
+			payload = Arrays.deepToString(args).getBytes(StandardCharsets.UTF_8);
+		}
+
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(payload));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private String write(IdempotentResponse response) throws JsonProcessingException {
+		return objectMapper.writeValueAsString(response);
+	}
+
+	private IdempotentResponse read(String stored) throws JsonProcessingException {
+		return objectMapper.readValue(stored, IdempotentResponse.class);
+	}
+
+	private void sleep() {
+		try {
+			Thread.sleep(properties.pollInterval().toMillis());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new BusinessException(IdempotencyErrorCode.IDEMPOTENCY_INTERRUPTED);
+		}
+	}
+
+	// 메서드별로 한 번만 파싱한 범위 식 (파라미터 이름도 함께 보관)
+	private record ScopeExpression(String[] parameterNames, Expression expression) {
+		String evaluate(Object[] args) {
+			EvaluationContext context = SimpleEvaluationContext.forReadOnlyDataBinding().withInstanceMethods().build();
+
+			for (int i = 0; i < parameterNames.length; i++) {
+				context.setVariable(parameterNames[i], args[i]);
+			}
+
+			return expression.getValue(context, String.class);
+		}
+	}
+}
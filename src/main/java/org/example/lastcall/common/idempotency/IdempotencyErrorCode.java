@@ -0,0 +1,19 @@
+package org.example.lastcall.common.idempotency;
+
+import org.example.lastcall.common.exception.ErrorCode;
+import org.springframework.http.HttpStatus;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum IdempotencyErrorCode implements ErrorCode {
+	INVALID_IDEMPOTENCY_KEY(HttpStatus.BAD_REQUEST, "Idempotency-Key 는 1~255자여야 합니다."),
+	IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다."),
+	REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "같은 Idempotency-Key 의 요청이 아직 처리 중입니다. 잠시 후 다시 시도해주세요."),
+	IDEMPOTENCY_INTERRUPTED(HttpStatus.INTERNAL_SERVER_ERROR, "요청 처리 중 일시적인 오류가 발생했습니다. 잠시 후 다시 시도해주세요.");
+
+	private final HttpStatus status;
+	private final String message;
+}
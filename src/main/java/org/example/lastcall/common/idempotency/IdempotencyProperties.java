@@ -0,0 +1,16 @@
+package org.example.lastcall.common.idempotency;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+// ttl: 완료된 응답 보관 기간, lockTtl: 처리 중 표시가 남는 최대 시간 (노드 장애 시 자동 해제)
+// waitTimeout: 처리 중인 같은 키의 요청을 기다리는 최대 시간
+@ConfigurationProperties(prefix = "idempotency")
+public record IdempotencyProperties(
+	@DefaultValue("24h") Duration ttl,
+	@DefaultValue("30s") Duration lockTtl,
+	@DefaultValue("10s") Duration waitTimeout,
+	@DefaultValue("50ms") Duration pollInterval) {
+}
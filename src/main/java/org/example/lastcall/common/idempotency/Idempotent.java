@@ -0,0 +1,16 @@
+package org.example.lastcall.common.idempotency;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Idempotency-Key 헤더가 있으면 같은 키의 재요청에 최초 응답을 그대로 돌려줌 (컨트롤러 메서드에 사용)
+// scope 는 키를 구분할 범위(SpEL), 예: "'bid:' + #authUser.userId()"
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Idempotent {
+	String scope();
+}
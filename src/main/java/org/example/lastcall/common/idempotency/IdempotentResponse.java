@@ -0,0 +1,19 @@
+package org.example.lastcall.common.idempotency;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+// Redis 에 저장되는 멱등 처리 상태 (처리 중이면 status/body 없음)
+public record IdempotentResponse(String fingerprint, boolean completed, int status, String body) {
+	public static IdempotentResponse inProgress(String fingerprint) {
+		return new IdempotentResponse(fingerprint, false, 0, null);
+	}
+
+	public static IdempotentResponse completed(String fingerprint, int status, String body) {
+		return new IdempotentResponse(fingerprint, true, status, body);
+	}
+
+	@JsonIgnore
+	public boolean matches(String otherFingerprint) {
+		return fingerprint.equals(otherFingerprint);
+	}
+}
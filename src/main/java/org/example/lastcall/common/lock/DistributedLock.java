@@ -10,7 +10,10 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.RUNTIME)
 @Documented
 public @interface DistributedLock {
-	String key();
+	String key() default "";
+
+	// 여러 키를 한 번에 잠글 때 사용 (키 컬렉션을 반환하는 SpEL, 정렬된 순서로 잠가 교착 방지)
+	String keys() default "";
 
 	long waitTime() default 5;
 
@@ -1,6 +1,14 @@
 package org.example.lastcall.common.lock;
 
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
 
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
@@ -11,9 +19,12 @@ import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
 import org.springframework.core.annotation.Order;
 import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
-import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.expression.spel.support.SimpleEvaluationContext;
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
@@ -25,30 +36,107 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 @Order(-1)
 public class DistributedLockAspect {
+	// 반복 평가되는 식은 바이트코드로 컴파일 (컴파일할 수 없는 식은 해석 모드로 동작)
+	private static final ExpressionParser PARSER = new SpelExpressionParser(
+		new SpelParserConfiguration(SpelCompilerMode.MIXED, DistributedLockAspect.class.getClassLoader()));
+
 	private final RedissonClient redissonClient;
-	private final ExpressionParser parser = new SpelExpressionParser();
+	private final LocalLockStripes localLockStripes;
+	private final LockMetrics lockMetrics;
+	private final LockWaitQueue lockWaitQueue;
+	private final Map<Method, LockKeyExpression> keyExpressions = new ConcurrentHashMap<>();
 
 	@Around("@annotation(distributedLock)")
 	public Object around(ProceedingJoinPoint pjp, DistributedLock distributedLock) throws Throwable {
+		if (!distributedLock.keys().isEmpty()) {
+			return aroundMultiKey(pjp, distributedLock);
+		}
+
 		String originKey = parseKey(pjp, distributedLock.key());
 		String lockKey = "lock:" + originKey;
 
-		long waitTime = distributedLock.waitTime();
-		long leaseTime = distributedLock.leaseTime();
+		// 같은 노드의 경쟁자는 JVM 락에서 먼저 줄을 세우고, 통과한 한 스레드만 Redis 락을 시도
+		ReentrantLock localLock = localLockStripes.outermostStripeFor(lockKey);
 
-		RLock rLock = redissonClient.getLock(lockKey);
+		return proceedWithLock(pjp, distributedLock, LockMetrics.prefixOf(originKey), lockKey,
+			redissonClient.getLock(lockKey), localLock, true);
+	}
+
+	// 여러 키를 정렬된 순서로 한 번에 잠금 (MultiLock 은 모든 키를 얻거나 모두 해제)
+	private Object aroundMultiKey(ProceedingJoinPoint pjp, DistributedLock distributedLock) throws Throwable {
+		List<String> originKeys = parseKeys(pjp, distributedLock.keys());
 
+		if (originKeys.isEmpty()) {
+			return pjp.proceed();
+		}
+
+		RLock[] locks = originKeys.stream()
+			.map(originKey -> redissonClient.getLock("lock:" + originKey))
+			.toArray(RLock[]::new);
+		String lockKey = "lock:" + originKeys.get(0) + (originKeys.size() > 1 ? " 외 " + (originKeys.size() - 1) + "건" : "");
+
+		boolean entered = localLockStripes.enterMultiKey();
+
+		try {
+			return proceedWithLock(pjp, distributedLock, LockMetrics.prefixOf(originKeys.get(0)), lockKey,
+				redissonClient.getMultiLock(locks), null, false);
+		} finally {
+			if (entered) {
+				localLockStripes.exitMultiKey();
+			}
+		}
+	}
+
+	// 대기 시간은 로컬/Redis 두 단계가 합쳐서 waitTime 을 넘지 않음
+	// bounded: 키별 대기열 길이 제한 적용 여부 (가득 차면 기다리지 않고 Retry-After 와 함께 즉시 실패)
+	private Object proceedWithLock(ProceedingJoinPoint pjp, DistributedLock distributedLock, String prefix,
+		String lockKey, RLock rLock, ReentrantLock localLock, boolean bounded) throws Throwable {
+		boolean waiting = bounded && lockWaitQueue.tryEnter(lockKey, prefix);
+
+		if (bounded && !waiting) {
+			lockMetrics.recordFailure(prefix);
+			log.warn("[RedissonLock] 락 대기열 초과로 즉시 실패 - lockKey: {}", lockKey);
+			throw new BusinessException(LockErrorCode.LOCK_ACQUISITION_FAILED, lockWaitQueue.getRetryAfter());
+		}
+
+		long waitNanos = TimeUnit.SECONDS.toNanos(distributedLock.waitTime());
+		long leaseTime = distributedLock.leaseTime();
+		long waitStart = System.nanoTime();
+		long deadline = waitStart + waitNanos;
+		long acquiredAt = 0;
+
+		boolean localAcquired = false;
 		boolean lockAcquired = false;
 
 		try {
-			lockAcquired = rLock.tryLock(waitTime, leaseTime, TimeUnit.SECONDS);
+			if (localLock != null) {
+				localAcquired = localLockStripes.tryLock(localLock, waitNanos);
+
+				if (!localAcquired) {
+					lockMetrics.recordFailure(prefix);
+					log.warn("[RedissonLock] 로컬 락 대기 시간 초과 - lockKey: {}", lockKey);
+					throw new BusinessException(LockErrorCode.LOCK_ACQUISITION_FAILED);
+				}
+			}
+
+			long remainingMillis = Math.max(0, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()));
+			lockAcquired = rLock.tryLock(remainingMillis, TimeUnit.SECONDS.toMillis(leaseTime), TimeUnit.MILLISECONDS);
+
+			if (waiting) {
+				lockWaitQueue.exit(lockKey, prefix);
+				waiting = false;
+			}
+
+			acquiredAt = System.nanoTime();
+			lockMetrics.recordWait(prefix, acquiredAt - waitStart);
 
 			if (!lockAcquired) {
+				lockMetrics.recordFailure(prefix);
 				log.warn("[RedissonLock] 락 획득 실패 - lockKey: {}", lockKey);
 				throw new BusinessException(LockErrorCode.LOCK_ACQUISITION_FAILED);
 			}
 
-			log.info("[RedissonLock] 락 획득 성공 - lockKey: {}", lockKey);
+			log.debug("[RedissonLock] 락 획득 성공 - lockKey: {}", lockKey);
 
 			return pjp.proceed();
 		} catch (InterruptedException e) {
@@ -56,28 +144,68 @@ public class DistributedLockAspect {
 			log.error("[RedissonLock] 락 획득 중 인터럽트 발생", e);
 			throw new BusinessException(LockErrorCode.LOCK_INTERRUPTED);
 		} finally {
-			if (lockAcquired && rLock.isHeldByCurrentThread()) {
-				try {
-					rLock.unlock();
-					log.info("[RedissonLock] 락 해제 완료 - lockKey: {}", lockKey);
-				} catch (IllegalMonitorStateException e) {
-					log.warn("[RedissonLock] 이미 해제된 락 또는 스레드 불일치 - lockKey: {}", lockKey, e);
-				}
+			if (waiting) {
+				lockWaitQueue.exit(lockKey, prefix);
+			}
+
+			if (lockAcquired) {
+				release(rLock, lockKey);
+				lockMetrics.recordHold(prefix, System.nanoTime() - acquiredAt);
+			}
+
+			if (localAcquired) {
+				localLockStripes.unlock(localLock);
 			}
 		}
 	}
 
-	private String parseKey(ProceedingJoinPoint pjp, String keyExpression) {
-		MethodSignature signature = (MethodSignature)pjp.getSignature();
-		String[] parameterNames = signature.getParameterNames();
-		Object[] args = pjp.getArgs();
+	// MultiLock 은 보유 여부 확인을 지원하지 않으므로 해제 시도 후 예외로 판단
+	private void release(RLock rLock, String lockKey) {
+		try {
+			rLock.unlock();
+			log.debug("[RedissonLock] 락 해제 완료 - lockKey: {}", lockKey);
+		} catch (IllegalMonitorStateException e) {
+			log.warn("[RedissonLock] 이미 해제된 락 또는 스레드 불일치 - lockKey: {}", lockKey, e);
+		}
+	}
 
-		EvaluationContext context = new StandardEvaluationContext();
+	// 벤치마크(src/jmh)에서 직접 호출하므로 package-private
+	String parseKey(ProceedingJoinPoint pjp, String keyExpression) {
+		return expressionFor(pjp, keyExpression).evaluate(pjp.getArgs(), String.class);
+	}
+
+	// 중복 제거 후 정렬해 모든 노드가 같은 순서로 잠그도록 함
+	List<String> parseKeys(ProceedingJoinPoint pjp, String keysExpression) {
+		Collection<?> keys = expressionFor(pjp, keysExpression).evaluate(pjp.getArgs(), Collection.class);
 
-		for (int i = 0; i < parameterNames.length; i++) {
-			context.setVariable(parameterNames[i], args[i]);
+		if (keys == null) {
+			return List.of();
 		}
 
-		return parser.parseExpression(keyExpression).getValue(context, String.class);
+		return keys.stream()
+			.map(String::valueOf)
+			.collect(Collectors.toCollection(TreeSet::new))
+			.stream()
+			.toList();
+	}
+
+	private LockKeyExpression expressionFor(ProceedingJoinPoint pjp, String expression) {
+		MethodSignature signature = (MethodSignature)pjp.getSignature();
+
+		return keyExpressions.computeIfAbsent(signature.getMethod(),
+			method -> new LockKeyExpression(signature.getParameterNames(), PARSER.parseExpression(expression)));
+	}
+
+	// 메서드별로 한 번만 파싱한 락 키 식 (파라미터 이름도 함께 보관)
+	private record LockKeyExpression(String[] parameterNames, Expression expression) {
+		<T> T evaluate(Object[] args, Class<T> type) {
+			EvaluationContext context = SimpleEvaluationContext.forReadOnlyDataBinding().withInstanceMethods().build();
+
+			for (int i = 0; i < parameterNames.length; i++) {
+				context.setVariable(parameterNames[i], args[i]);
+			}
+
+			return expression.getValue(context, type);
+		}
 	}
 }
@@ -0,0 +1,70 @@
+package org.example.lastcall.common.lock;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.stereotype.Component;
+
+// 락 키별 JVM 락 (키 수와 무관하게 고정 개수의 락을 해시로 나눠 씀)
+@Component
+public class LocalLockStripes {
+	private final ReentrantLock[] stripes;
+	private final int mask;
+	private final boolean enabled;
+	private final ThreadLocal<ReentrantLock> held = new ThreadLocal<>();
+	private final ReentrantLock multiKeyMarker = new ReentrantLock();
+
+	public LocalLockStripes(LockProperties lockProperties) {
+		int size = Integer.highestOneBit(Math.max(1, lockProperties.local().stripes() - 1)) << 1;
+
+		this.stripes = new ReentrantLock[size];
+		this.mask = size - 1;
+		this.enabled = lockProperties.local().enabled();
+
+		for (int i = 0; i < size; i++) {
+			stripes[i] = new ReentrantLock();
+		}
+	}
+
+	// 바깥쪽 락에서만 JVM 락을 사용하고, 이미 보유 중인 스레드의 중첩 락이면 null
+	// (서로 다른 키가 같은 JVM 락을 공유하므로 중첩해서 잡으면 스레드 간 교착이 생길 수 있음)
+	public ReentrantLock outermostStripeFor(String lockKey) {
+		if (!enabled || held.get() != null) {
+			return null;
+		}
+
+		int hash = lockKey.hashCode();
+
+		return stripes[(hash ^ (hash >>> 16)) & mask];
+	}
+
+	public boolean tryLock(ReentrantLock stripe, long waitNanos) throws InterruptedException {
+		if (!stripe.tryLock(waitNanos, TimeUnit.NANOSECONDS)) {
+			return false;
+		}
+
+		held.set(stripe);
+
+		return true;
+	}
+
+	public void unlock(ReentrantLock stripe) {
+		held.remove();
+		stripe.unlock();
+	}
+
+	// 여러 키를 한 번에 잠그는 동안에는 JVM 락 없이 보유 중으로만 표시 (안쪽 락이 JVM 락을 잡지 않도록)
+	public boolean enterMultiKey() {
+		if (held.get() != null) {
+			return false;
+		}
+
+		held.set(multiKeyMarker);
+
+		return true;
+	}
+
+	public void exitMultiKey() {
+		held.remove();
+	}
+}
@@ -0,0 +1,66 @@
+package org.example.lastcall.common.lock;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// 락 키 접두사(auction, user, product ...)별 대기/보유 시간과 획득 실패 횟수
+@Component
+public class LockMetrics {
+	private final MeterRegistry meterRegistry;
+	private final Map<String, Meters> meters = new ConcurrentHashMap<>();
+
+	public LockMetrics(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	public void recordWait(String prefix, long nanos) {
+		metersFor(prefix).waitTimer.record(nanos, TimeUnit.NANOSECONDS);
+	}
+
+	public void recordHold(String prefix, long nanos) {
+		metersFor(prefix).holdTimer.record(nanos, TimeUnit.NANOSECONDS);
+	}
+
+	public void recordFailure(String prefix) {
+		metersFor(prefix).failureCounter.increment();
+	}
+
+	// "auction:42" -> "auction"
+	static String prefixOf(String key) {
+		int separator = key.indexOf(':');
+
+		return separator < 0 ? key : key.substring(0, separator);
+	}
+
+	private Meters metersFor(String prefix) {
+		return meters.computeIfAbsent(prefix, this::register);
+	}
+
+	private Meters register(String prefix) {
+		return new Meters(
+			Timer.builder("lock.wait")
+				.description("분산 락 획득까지 대기 시간 (로컬 + Redis)")
+				.tag("prefix", prefix)
+				.publishPercentileHistogram()
+				.register(meterRegistry),
+			Timer.builder("lock.hold")
+				.description("분산 락 보유 시간")
+				.tag("prefix", prefix)
+				.publishPercentileHistogram()
+				.register(meterRegistry),
+			Counter.builder("lock.acquisition.failures")
+				.description("대기 시간 초과로 락 획득에 실패한 횟수")
+				.tag("prefix", prefix)
+				.register(meterRegistry));
+	}
+
+	private record Meters(Timer waitTimer, Timer holdTimer, Counter failureCounter) {
+	}
+}
@@ -0,0 +1,23 @@
+package org.example.lastcall.common.lock;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+// local.enabled: 같은 노드의 경쟁 스레드를 JVM 락으로 먼저 직렬화할지 여부
+// local.stripes: JVM 락 개수 (2의 거듭제곱으로 올림, 서로 다른 키가 같은 락을 공유할 수 있음)
+// queue.maxDepth: 노드별 락 키 하나에 대기할 수 있는 최대 요청 수 (0 이면 제한 없음), 초과 시 대기 없이 즉시 실패
+// queue.retryAfter: 즉시 실패 응답의 Retry-After 값
+@ConfigurationProperties(prefix = "lock")
+public record LockProperties(@DefaultValue Local local, @DefaultValue Queue queue) {
+	public record Local(
+		@DefaultValue("true") boolean enabled,
+		@DefaultValue("1024") int stripes) {
+	}
+
+	public record Queue(
+		@DefaultValue("16") int maxDepth,
+		@DefaultValue("1s") Duration retryAfter) {
+	}
+}
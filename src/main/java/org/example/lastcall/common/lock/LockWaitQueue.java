@@ -0,0 +1,89 @@
+package org.example.lastcall.common.lock;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// 노드별 락 키 대기열 길이 제한 (뜨거운 키 하나가 요청 스레드를 모두 붙잡지 않도록)
+@Component
+public class LockWaitQueue {
+	private final int maxDepth;
+	private final Duration retryAfter;
+	private final MeterRegistry meterRegistry;
+	private final Map<String, Integer> waitersByKey = new ConcurrentHashMap<>();
+	private final Map<String, AtomicInteger> waitersByPrefix = new ConcurrentHashMap<>();
+	private final Map<String, Counter> rejectedByPrefix = new ConcurrentHashMap<>();
+
+	public LockWaitQueue(LockProperties lockProperties, MeterRegistry meterRegistry) {
+		this.maxDepth = lockProperties.queue().maxDepth();
+		this.retryAfter = lockProperties.queue().retryAfter();
+		this.meterRegistry = meterRegistry;
+	}
+
+	public Duration getRetryAfter() {
+		return retryAfter;
+	}
+
+	// 대기열에 자리가 있으면 대기자로 등록, 가득 찼으면 false
+	public boolean tryEnter(String lockKey, String prefix) {
+		boolean[] admitted = {false};
+
+		waitersByKey.compute(lockKey, (key, waiters) -> {
+			int current = waiters == null ? 0 : waiters;
+
+			if (maxDepth > 0 && current >= maxDepth) {
+				return waiters;
+			}
+
+			admitted[0] = true;
+
+			return current + 1;
+		});
+
+		if (!admitted[0]) {
+			rejectedCounter(prefix).increment();
+			return false;
+		}
+
+		prefixWaiters(prefix).incrementAndGet();
+
+		return true;
+	}
+
+	// 락 획득/실패로 대기가 끝나면 호출 (대기자가 없어진 키는 제거)
+	public void exit(String lockKey, String prefix) {
+		waitersByKey.computeIfPresent(lockKey, (key, waiters) -> waiters > 1 ? waiters - 1 : null);
+		prefixWaiters(prefix).decrementAndGet();
+	}
+
+	public int waiters(String lockKey) {
+		return waitersByKey.getOrDefault(lockKey, 0);
+	}
+
+	private AtomicInteger prefixWaiters(String prefix) {
+		return waitersByPrefix.computeIfAbsent(prefix, key -> {
+			AtomicInteger waiters = new AtomicInteger();
+
+			Gauge.builder("lock.waiters", waiters, AtomicInteger::get)
+				.description("락 획득을 기다리는 요청 수")
+				.tag("prefix", key)
+				.register(meterRegistry);
+
+			return waiters;
+		});
+	}
+
+	private Counter rejectedCounter(String prefix) {
+		return rejectedByPrefix.computeIfAbsent(prefix, key -> Counter.builder("lock.queue.rejected")
+			.description("대기열이 가득 차 대기 없이 거절된 락 요청 수")
+			.tag("prefix", key)
+			.register(meterRegistry));
+	}
+}
@@ -0,0 +1,33 @@
+package org.example.lastcall.common.response;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+@Schema(description = "커서 기반 페이징 응답 DTO (전체 개수 없이 다음 페이지 커서만 제공)")
+@Getter
+public class CursorResponse<T> {
+    @Schema(description = "페이지 내 데이터 리스트")
+    private final List<T> content;
+
+    @Schema(description = "다음 페이지 요청 시 전달할 커서 (마지막 페이지면 null)", example = "MTUwMDAwOjEwMDE")
+    private final String nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private final boolean hasNext;
+
+    @Schema(description = "페이지당 데이터 개수", example = "10")
+    private final int size;
+
+    public CursorResponse(List<T> content, String nextCursor, int size) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+        this.size = size;
+    }
+
+    public static <T> CursorResponse<T> of(List<T> content, String nextCursor, int size) {
+        return new CursorResponse<>(content, nextCursor, size);
+    }
+}
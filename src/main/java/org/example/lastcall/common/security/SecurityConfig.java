@@ -51,12 +51,14 @@ public class SecurityConfig {
                         .requestMatchers("/api/v1/auth/login", "/api/v1/auth/signup", "/api/v1/auth/logout", "/api/v1/auth/tokens").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/v1/auctions").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/v1/auctions/*").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/v1/auctions/*/stream").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/v1/email-verifications/**").permitAll()
                         .requestMatchers(HttpMethod.PUT, "/api/v1/email-verifications/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/v1/email/**").permitAll()
                         .requestMatchers("/actuator/**").permitAll()
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                         .requestMatchers("/healthz").permitAll()
+                        .requestMatchers("/api/v1/admin/**").hasRole("ADMIN")
                         .anyRequest().authenticated())
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
                 .build();
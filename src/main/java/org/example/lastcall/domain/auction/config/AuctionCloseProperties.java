@@ -0,0 +1,19 @@
+package org.example.lastcall.domain.auction.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+// 같은 시각에 끝나는 경매를 window 동안 모아 최대 maxBatchSize 개씩 한 트랜잭션으로 종료
+// 대기열이 queueCapacity 만큼 차면 submitTimeout 동안 호출 측(리스너/타이머)을 멈춰 유입 속도를 늦춤
+@ConfigurationProperties(prefix = "auction.close")
+public record AuctionCloseProperties(
+        @DefaultValue("true") boolean batchEnabled,
+        @DefaultValue("50ms") Duration window,
+        @DefaultValue("200") int maxBatchSize,
+        @DefaultValue("4") int parallelism,
+        @DefaultValue("2000") int queueCapacity,
+        @DefaultValue("5s") Duration submitTimeout,
+        @DefaultValue("30s") Duration closeTimeout) {
+}
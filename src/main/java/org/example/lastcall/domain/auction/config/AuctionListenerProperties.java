@@ -0,0 +1,19 @@
+package org.example.lastcall.domain.auction.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+// auction.start / auction.end 큐 소비 설정
+// 일괄 모드는 batchSize 개(또는 receiveTimeout 동안 받은 만큼)를 한 번에 받아 경매를 한 번에 조회하고 한 번의 ACK 로 확인
+@ConfigurationProperties(prefix = "auction.listener")
+public record AuctionListenerProperties(
+        @DefaultValue("2") int concurrency,
+        @DefaultValue("8") int maxConcurrency,
+        @DefaultValue("50") int prefetch,
+        @DefaultValue("false") boolean batchEnabled,
+        @DefaultValue("50") int batchSize,
+        @DefaultValue("200ms") Duration receiveTimeout,
+        @DefaultValue("10000") long metricsIntervalMillis) {
+}
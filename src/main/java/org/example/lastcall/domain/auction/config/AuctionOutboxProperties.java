@@ -0,0 +1,18 @@
+package org.example.lastcall.domain.auction.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+// 미발행 이벤트를 batchSize 개씩 점유(lease)해 발행하고, 브로커 확인(confirm)을 받은 행만 발행 완료로 표시
+@ConfigurationProperties(prefix = "auction.outbox")
+public record AuctionOutboxProperties(
+        @DefaultValue("500") long pollIntervalMillis,
+        @DefaultValue("3600000") long purgeIntervalMillis,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("20") int maxBatchesPerRun,
+        @DefaultValue("5s") Duration confirmTimeout,
+        @DefaultValue("30s") Duration lease,
+        @DefaultValue("7d") Duration retention) {
+}
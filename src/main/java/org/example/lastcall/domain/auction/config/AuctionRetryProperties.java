@@ -0,0 +1,16 @@
+package org.example.lastcall.domain.auction.config;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+// 경매 이벤트 처리 실패 시 tiers 순서대로 대기 큐를 거쳐 재시도하고, 모두 실패하면 parking 큐에 보관
+// 대기 큐 이름에 대기 시간이 들어가므로 값을 바꾸면 새 큐가 선언됨 (기존 큐의 TTL 은 바뀌지 않음)
+@ConfigurationProperties(prefix = "auction.retry")
+public record AuctionRetryProperties(
+        @DefaultValue({"5s", "30s", "5m"}) List<Duration> tiers,
+        @DefaultValue("100") int replayBatchSize,
+        @DefaultValue("5s") Duration replayConfirmTimeout) {
+}
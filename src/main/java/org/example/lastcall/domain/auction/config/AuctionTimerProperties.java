@@ -0,0 +1,24 @@
+package org.example.lastcall.domain.auction.config;
+
+import java.time.Duration;
+
+import org.example.lastcall.domain.auction.enums.AuctionSchedulingMode;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+// horizon 안에 실행될 타이머만 메모리에 올리고, scanInterval 마다 DB 에서 다시 읽어 재시작/다른 노드 등록분을 반영
+// lease 동안 한 노드만 타이머를 실행하며, 실행 중 노드가 죽으면 lease 만료 후 다른 노드가 가져감
+@ConfigurationProperties(prefix = "auction.timer")
+public record AuctionTimerProperties(
+        @DefaultValue("TIMER") AuctionSchedulingMode mode,
+        @DefaultValue("100") long tickMillis,
+        @DefaultValue("512") int wheelSize,
+        @DefaultValue("4") int levels,
+        @DefaultValue("30000") long scanIntervalMillis,
+        @DefaultValue("2m") Duration horizon,
+        @DefaultValue("1000") int scanBatchSize,
+        @DefaultValue("60s") Duration lease,
+        @DefaultValue("3") int maxAttempts,
+        @DefaultValue("5s") Duration retryBackoff,
+        @DefaultValue("4") int firePoolSize) {
+}
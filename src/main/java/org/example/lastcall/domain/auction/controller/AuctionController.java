@@ -11,6 +11,7 @@ import org.example.lastcall.domain.auction.dto.request.AuctionUpdateRequest;
 import org.example.lastcall.domain.auction.dto.response.*;
 import org.example.lastcall.domain.auction.service.command.AuctionCommandService;
 import org.example.lastcall.domain.auction.service.query.AuctionQueryService;
+import org.example.lastcall.domain.auction.service.room.AuctionRoomRegistry;
 import org.example.lastcall.domain.auth.enums.AuthUser;
 import org.example.lastcall.domain.product.enums.Category;
 import org.springdoc.core.annotations.ParameterObject;
@@ -18,9 +19,11 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Tag(name = "경매 API", description = "경매 등록, 전체 조회, 상세 조회 기능 제공")
 @RestController
@@ -29,6 +32,7 @@ import org.springframework.web.bind.annotation.*;
 public class AuctionController {
     private final AuctionQueryService auctionQueryService;
     private final AuctionCommandService auctionCommandService;
+    private final AuctionRoomRegistry auctionRoomRegistry;
 
     @Operation(
             summary = "경매 등록",
@@ -77,6 +81,16 @@ public class AuctionController {
         );
     }
 
+    @Operation(
+            summary = "경매 실시간 구독 (SSE)",
+            description = "연결 직후 현재가, 참여자 수, 종료 시간을 담은 snapshot 이벤트를 보내고, " +
+                    "이후 입찰/상태 변경은 delta 이벤트로 보냅니다. 느린 연결에는 최신 값만 전송되며, 경매가 끝나면 연결을 닫습니다."
+    )
+    @GetMapping(value = "/{auctionId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamAuction(@PathVariable Long auctionId) {
+        return auctionRoomRegistry.subscribe(auctionId);
+    }
+
     @Operation(
             summary = "내가 판매한 경매 목록 조회",
             description = "로그인한 사용자가 자신이 등록한(판매 중이거나 종료된) 모든 경매 목록을 조회합니다. " +
@@ -0,0 +1,43 @@
+package org.example.lastcall.domain.auction.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.example.lastcall.common.response.ApiResponse;
+import org.example.lastcall.domain.auction.dto.response.AuctionEventReplayResponse;
+import org.example.lastcall.domain.auction.service.event.AuctionParkingLotService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "경매 이벤트 관리자 API", description = "재시도를 소진해 parking 큐에 보관된 경매 이벤트 조회 및 재처리 기능 제공")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin/auction-events")
+public class AuctionEventAdminController {
+    private final AuctionParkingLotService auctionParkingLotService;
+
+    @Operation(
+            summary = "보관된 경매 이벤트 수 조회",
+            description = "관리자가 parking 큐에 보관된 경매 시작/종료 이벤트 수를 조회합니다."
+    )
+    @GetMapping("/parking")
+    public ResponseEntity<ApiResponse<Long>> getParkedCount() {
+        long parkedCount = auctionParkingLotService.parkedCount();
+
+        return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.success("보관된 경매 이벤트 수가 조회되었습니다.", parkedCount));
+    }
+
+    @Operation(
+            summary = "보관된 경매 이벤트 재처리",
+            description = "관리자가 parking 큐의 경매 이벤트를 묶음 단위로 원래 큐에 되돌립니다. " +
+                    "maxMessages 만큼 되돌리거나 parking 큐가 빌 때까지 진행합니다."
+    )
+    @PostMapping("/parking/replay")
+    public ResponseEntity<ApiResponse<AuctionEventReplayResponse>> replayParkedEvents(
+            @RequestParam(defaultValue = "1000") int maxMessages) {
+        AuctionEventReplayResponse response = auctionParkingLotService.replay(Math.max(maxMessages, 1));
+
+        return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.success("보관된 경매 이벤트가 재처리되었습니다.", response));
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.lastcall.domain.auction.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.example.lastcall.common.response.ApiResponse;
+import org.example.lastcall.domain.auction.dto.response.AuctionTimerReplayResponse;
+import org.example.lastcall.domain.auction.service.timer.AuctionTimerService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "경매 타이머 관리자 API", description = "재시도를 소진해 보관된 경매 시작/종료 타이머 조회 및 재처리 기능 제공")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin/auction-timers")
+public class AuctionTimerAdminController {
+    private final AuctionTimerService auctionTimerService;
+
+    @Operation(
+            summary = "보관된 경매 타이머 수 조회",
+            description = "관리자가 재시도를 소진해 보관된 경매 시작/종료 타이머 수를 조회합니다."
+    )
+    @GetMapping("/parking")
+    public ResponseEntity<ApiResponse<Long>> getParkedCount() {
+        long parkedCount = auctionTimerService.parkedCount();
+
+        return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.success("보관된 경매 타이머 수가 조회되었습니다.", parkedCount));
+    }
+
+    @Operation(
+            summary = "보관된 경매 타이머 재처리",
+            description = "관리자가 보관된 경매 타이머를 오래된 순으로 maxTimers 개까지 즉시 다시 실행되도록 예약합니다."
+    )
+    @PostMapping("/parking/replay")
+    public ResponseEntity<ApiResponse<AuctionTimerReplayResponse>> replayParkedTimers(
+            @RequestParam(defaultValue = "1000") int maxTimers) {
+        AuctionTimerReplayResponse response = auctionTimerService.replayParked(Math.max(maxTimers, 1));
+
+        return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.success("보관된 경매 타이머가 재처리되었습니다.", response));
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.lastcall.domain.auction.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+@Schema(description = "parking 큐 경매 이벤트 재처리 응답 DTO")
+@Getter
+public class AuctionEventReplayResponse {
+    @Schema(description = "경매 exchange 로 되돌린 이벤트 수", example = "120")
+    private final int replayedCount;
+
+    @Schema(description = "재처리 후 parking 큐에 남은 이벤트 수", example = "0")
+    private final long remainingCount;
+
+    public AuctionEventReplayResponse(int replayedCount, long remainingCount) {
+        this.replayedCount = replayedCount;
+        this.remainingCount = remainingCount;
+    }
+}
@@ -0,0 +1,85 @@
+package org.example.lastcall.domain.auction.dto.response;
+
+import java.time.LocalDateTime;
+
+import org.example.lastcall.domain.auction.entity.Auction;
+import org.example.lastcall.domain.auction.enums.AuctionRoomMessageType;
+import org.example.lastcall.domain.auction.enums.AuctionStatus;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "경매방 실시간 메시지 (SSE)")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AuctionRoomMessage {
+    @Schema(description = "메시지 종류", example = "DELTA")
+    private AuctionRoomMessageType type;
+
+    @Schema(description = "경매 ID", example = "101")
+    private Long auctionId;
+
+    @Schema(description = "경매 상태", example = "ONGOING")
+    private AuctionStatus status;
+
+    @Schema(description = "현재 입찰가", example = "35000")
+    private Long currentBid;
+
+    @Schema(description = "입찰 참여자 수", example = "7")
+    private Integer participantCount;
+
+    @Schema(description = "경매 종료 시간", example = "2025-10-26T09:00:00")
+    private LocalDateTime endTime;
+
+    public static AuctionRoomMessage snapshot(Auction auction) {
+        return new AuctionRoomMessage(
+                AuctionRoomMessageType.SNAPSHOT,
+                auction.getId(),
+                auction.getStatus(),
+                auction.getCurrentBid(),
+                auction.getParticipantCount(),
+                auction.getEndTime());
+    }
+
+    // participantCount 를 모르는 경로(지연 저장)는 null 로 보내 기존 값을 유지
+    public static AuctionRoomMessage bid(Long auctionId, Long currentBid, Integer participantCount) {
+        return new AuctionRoomMessage(AuctionRoomMessageType.DELTA, auctionId, null, currentBid, participantCount, null);
+    }
+
+    public static AuctionRoomMessage status(Long auctionId, AuctionStatus status) {
+        return new AuctionRoomMessage(AuctionRoomMessageType.DELTA, auctionId, status, null, null, null);
+    }
+
+    // 아직 보내지 못한 변경분 위에 새 변경분을 덮어씀 (느린 클라이언트에는 최신 값만 전송)
+    public AuctionRoomMessage mergedWith(AuctionRoomMessage next) {
+        return new AuctionRoomMessage(
+                AuctionRoomMessageType.DELTA,
+                auctionId,
+                next.status != null ? next.status : status,
+                latestBid(next.currentBid),
+                next.participantCount != null ? next.participantCount : participantCount,
+                next.endTime != null ? next.endTime : endTime);
+    }
+
+    @JsonIgnore
+    public boolean isTerminal() {
+        return status == AuctionStatus.CLOSED || status == AuctionStatus.CLOSED_FAILED || status == AuctionStatus.DELETED;
+    }
+
+    // 노드 간 전달 순서가 뒤바뀌어도 현재가는 내려가지 않음
+    private Long latestBid(Long nextBid) {
+        if (nextBid == null) {
+            return currentBid;
+        }
+
+        return currentBid == null ? nextBid : Math.max(currentBid, nextBid);
+    }
+}
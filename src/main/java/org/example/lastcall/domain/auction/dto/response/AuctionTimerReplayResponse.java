@@ -0,0 +1,19 @@
+package org.example.lastcall.domain.auction.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+@Schema(description = "보관된 경매 타이머 재처리 응답 DTO")
+@Getter
+public class AuctionTimerReplayResponse {
+    @Schema(description = "다시 예약한 타이머 수", example = "12")
+    private final int replayedCount;
+
+    @Schema(description = "재처리 후 보관 상태로 남은 타이머 수", example = "0")
+    private final long remainingCount;
+
+    public AuctionTimerReplayResponse(int replayedCount, long remainingCount) {
+        this.replayedCount = replayedCount;
+        this.remainingCount = remainingCount;
+    }
+}
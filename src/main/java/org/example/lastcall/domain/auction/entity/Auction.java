@@ -53,6 +53,10 @@ public class Auction extends BaseEntity {
     @Column(name = "participant_count", nullable = false)
     private int participantCount = 0;
 
+    // 등록된 자동 입찰 수 (0 이면 수동 입찰 때 자동 입찰 조회를 건너뜀, 경매 행에 두어 모든 노드가 같은 값을 봄)
+    @Column(name = "proxy_bid_count", nullable = false)
+    private int proxyBidCount = 0;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "product_id", nullable = false)
     private Product product;
@@ -163,6 +167,18 @@ public class Auction extends BaseEntity {
         this.participantCount++;
     }
 
+    public boolean hasProxyBids() {
+        return proxyBidCount > 0;
+    }
+
+    public void incrementProxyBidCount() {
+        this.proxyBidCount++;
+    }
+
+    public void decrementProxyBidCount() {
+        this.proxyBidCount = Math.max(proxyBidCount - 1, 0);
+    }
+
     public void increaseVersion() {
         this.eventVersion++;
     }
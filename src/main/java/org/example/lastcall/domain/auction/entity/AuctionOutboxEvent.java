@@ -0,0 +1,54 @@
+package org.example.lastcall.domain.auction.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.lastcall.domain.auction.enums.AuctionTimerType;
+
+import java.time.LocalDateTime;
+
+// 경매 시작/종료 이벤트 outbox (경매 저장과 같은 트랜잭션으로 기록, 릴레이가 커밋된 행만 RabbitMQ 로 발행)
+// 조회/갱신은 AuctionOutboxRepository(JdbcTemplate) 로 일괄 처리하므로 엔티티는 스키마 정의용
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "outbox", indexes = {
+        @Index(name = "idx_outbox_pending", columnList = "sent_at, id"),
+        @Index(name = "idx_outbox_auction", columnList = "auction_id, event_type")
+})
+public class AuctionOutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "auction_id", nullable = false)
+    private Long auctionId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 10)
+    private AuctionTimerType eventType;
+
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    // 이벤트가 전달돼야 하는 시각 (발행 시점에 남은 시간을 지연 시간으로 사용)
+    @Column(name = "fire_at", nullable = false)
+    private LocalDateTime fireAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // 발행 중인 릴레이 노드와 점유 만료 시각
+    @Column(name = "claimed_by", length = 36)
+    private String claimedBy;
+
+    @Column(name = "claimed_until")
+    private LocalDateTime claimedUntil;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+}
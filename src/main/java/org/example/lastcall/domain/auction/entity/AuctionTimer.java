@@ -0,0 +1,50 @@
+package org.example.lastcall.domain.auction.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.lastcall.domain.auction.enums.AuctionTimerType;
+
+import java.time.LocalDateTime;
+
+// 경매별 시작/종료 타이머 (경매당 종류별 한 행, 재예약은 같은 행의 version 을 올려 이전 예약을 무효화)
+// 조회/갱신은 조건부 UPDATE 로만 하므로 AuctionTimerRepository(JdbcTemplate) 사용, 엔티티는 스키마 정의용
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "auction_timers",
+        uniqueConstraints = @UniqueConstraint(name = "uk_auction_timer_auction_type", columnNames = {"auction_id", "type"}),
+        indexes = @Index(name = "idx_auction_timer_fire_at", columnList = "fire_at"))
+public class AuctionTimer {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "auction_id", nullable = false)
+    private Long auctionId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 10)
+    private AuctionTimerType type;
+
+    @Column(name = "fire_at", nullable = false)
+    private LocalDateTime fireAt;
+
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    // 실행 중인 노드와 점유 만료 시각 (만료되면 다른 노드가 다시 실행)
+    @Column(name = "owner", length = 36)
+    private String owner;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    // 재시도를 모두 소진한 시각 (값이 있으면 스캔/점유 대상에서 빠지고 관리자 재처리를 기다림)
+    @Column(name = "parked_at")
+    private LocalDateTime parkedAt;
+}
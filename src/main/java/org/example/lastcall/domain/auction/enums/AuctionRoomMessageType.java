@@ -0,0 +1,12 @@
+package org.example.lastcall.domain.auction.enums;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "경매방 실시간 메시지 종류")
+public enum AuctionRoomMessageType {
+    @Schema(description = "구독 직후 1회 전송되는 현재 상태 전체")
+    SNAPSHOT,
+
+    @Schema(description = "이후 변경분 (값이 있는 필드만 반영)")
+    DELTA
+}
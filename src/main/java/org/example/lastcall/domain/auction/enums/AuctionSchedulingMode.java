@@ -0,0 +1,15 @@
+package org.example.lastcall.domain.auction.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum AuctionSchedulingMode {
+    TIMER("DB 에 저장한 타이머를 노드 메모리의 타이밍 휠로 실행 (취소/재예약 가능)"),
+    RABBITMQ("RabbitMQ 지연 메시지로 시작/종료 이벤트 발행");
+
+    private final String description;
+
+    AuctionSchedulingMode(String description) {
+        this.description = description;
+    }
+}
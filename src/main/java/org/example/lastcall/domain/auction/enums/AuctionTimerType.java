@@ -0,0 +1,15 @@
+package org.example.lastcall.domain.auction.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum AuctionTimerType {
+    START("경매 시작"),
+    END("경매 종료");
+
+    private final String description;
+
+    AuctionTimerType(String description) {
+        this.description = description;
+    }
+}
@@ -0,0 +1,9 @@
+package org.example.lastcall.domain.auction.repository;
+
+import org.example.lastcall.domain.auction.enums.AuctionTimerType;
+
+import java.time.LocalDateTime;
+
+// 릴레이가 점유한 미발행 outbox 행
+public record AuctionOutboxMessage(Long id, Long auctionId, AuctionTimerType eventType, Long version, LocalDateTime fireAt) {
+}
@@ -0,0 +1,115 @@
+package org.example.lastcall.domain.auction.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.lastcall.domain.auction.enums.AuctionTimerType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+// 경매 이벤트 outbox, 릴레이 노드 간에는 점유(lease) UPDATE 로 행을 나눠 가짐
+@Repository
+@RequiredArgsConstructor
+public class AuctionOutboxRepository {
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    // 호출 측 트랜잭션에 참여 (경매 저장이 롤백되면 이벤트도 남지 않음)
+    // 아직 발행되지 않은 이전 버전은 발행할 필요가 없으므로 발행 완료로 접어 수정이 몰려도 최신 버전만 발행
+    public void append(Long auctionId, Long version, Map<AuctionTimerType, LocalDateTime> fireAtByType) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("UPDATE outbox SET sent_at = ? WHERE auction_id = ? AND sent_at IS NULL AND version < ?",
+                now, auctionId, version);
+
+        List<Object[]> rows = fireAtByType.entrySet().stream()
+                .map(entry -> new Object[] {auctionId, entry.getKey().name(), version, Timestamp.valueOf(entry.getValue()), now})
+                .toList();
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO outbox (auction_id, event_type, version, fire_at, created_at, attempts) VALUES (?, ?, ?, ?, ?, 0)",
+                rows);
+    }
+
+    // 미발행이고 점유되지 않은 행을 id 순서로 점유한 뒤, 실제로 이 노드가 점유한 행만 반환
+    public List<AuctionOutboxMessage> claimPending(String owner, LocalDateTime now, LocalDateTime leaseUntil, int limit) {
+        List<Long> candidates = jdbcTemplate.queryForList("""
+                        SELECT id FROM outbox
+                        WHERE sent_at IS NULL AND (claimed_until IS NULL OR claimed_until < ?)
+                        ORDER BY id
+                        LIMIT ?
+                        """,
+                Long.class, Timestamp.valueOf(now), limit);
+
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, Object> params = Map.of(
+                "ids", candidates,
+                "owner", owner,
+                "now", Timestamp.valueOf(now),
+                "leaseUntil", Timestamp.valueOf(leaseUntil));
+
+        namedParameterJdbcTemplate.update("""
+                        UPDATE outbox SET claimed_by = :owner, claimed_until = :leaseUntil
+                        WHERE id IN (:ids) AND sent_at IS NULL AND (claimed_until IS NULL OR claimed_until < :now)
+                        """,
+                params);
+
+        return namedParameterJdbcTemplate.query("""
+                        SELECT id, auction_id, event_type, version, fire_at FROM outbox
+                        WHERE id IN (:ids) AND claimed_by = :owner AND sent_at IS NULL
+                        ORDER BY id
+                        """,
+                params,
+                (rs, rowNum) -> new AuctionOutboxMessage(
+                        rs.getLong("id"),
+                        rs.getLong("auction_id"),
+                        AuctionTimerType.valueOf(rs.getString("event_type")),
+                        rs.getLong("version"),
+                        rs.getTimestamp("fire_at").toLocalDateTime()));
+    }
+
+    // 발행 완료 표시를 한 번의 UPDATE 로 처리
+    public int markSent(Collection<Long> ids, LocalDateTime sentAt) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        return namedParameterJdbcTemplate.update(
+                "UPDATE outbox SET sent_at = :sentAt, claimed_by = NULL, claimed_until = NULL WHERE id IN (:ids)",
+                Map.of("ids", ids, "sentAt", Timestamp.valueOf(sentAt)));
+    }
+
+    // 브로커 확인을 받지 못한 행은 점유를 풀어 다음 주기에 다시 발행
+    public int release(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        return namedParameterJdbcTemplate.update(
+                "UPDATE outbox SET claimed_by = NULL, claimed_until = NULL, attempts = attempts + 1 WHERE id IN (:ids)",
+                Map.of("ids", ids));
+    }
+
+    // 삭제된 경매의 미발행 이벤트 폐기 (이미 발행된 지연 메시지는 수신 시 상태 검사로 무시)
+    public int discardPending(Long auctionId, LocalDateTime now) {
+        return jdbcTemplate.update("UPDATE outbox SET sent_at = ? WHERE auction_id = ? AND sent_at IS NULL",
+                Timestamp.valueOf(now), auctionId);
+    }
+
+    public long countPending() {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox WHERE sent_at IS NULL", Long.class);
+
+        return count == null ? 0 : count;
+    }
+
+    public int deleteSentBefore(LocalDateTime before) {
+        return jdbcTemplate.update("DELETE FROM outbox WHERE sent_at < ?", Timestamp.valueOf(before));
+    }
+}
@@ -4,10 +4,15 @@ import org.example.lastcall.domain.auction.dto.response.MySellingResponse;
 import org.example.lastcall.domain.auction.entity.Auction;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface AuctionRepository extends JpaRepository<Auction, Long>, AuctionQueryRepository {
@@ -70,4 +75,42 @@ public interface AuctionRepository extends JpaRepository<Auction, Long>, Auction
     // 삭제된 경매는 제외하고 조회
     @Query("SELECT a FROM Auction a WHERE a.id = :auctionId AND a.deleted = false")
     Optional<Auction> findActiveById(@Param("auctionId") Long auctionId);
+
+    // 종료 처리 시 행 잠금 (락 없이 반영되는 입찰과 종료 처리의 순서 보장)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Auction a WHERE a.id = :auctionId")
+    Optional<Auction> findByIdForUpdate(@Param("auctionId") Long auctionId);
+
+    // 일괄 종료 시 여러 경매를 ID 순서로 한 번에 잠금 (노드 간 잠금 순서를 같게 해 교착 방지)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Auction a WHERE a.id IN :auctionIds ORDER BY a.id")
+    List<Auction> findAllByIdForUpdate(@Param("auctionIds") Collection<Long> auctionIds);
+
+    // 허용된 입찰을 경매에 반영 (진행 중인 경매만, 커밋 순서가 뒤바뀌어도 현재가는 최댓값 유지)
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE Auction a
+            SET a.currentBid = GREATEST(COALESCE(a.currentBid, 0), :bidAmount),
+                a.participantCount = a.participantCount + :participantIncrement
+            WHERE a.id = :auctionId
+              AND a.status = 'ONGOING'
+            """)
+    int applyAdmittedBid(@Param("auctionId") Long auctionId,
+                         @Param("bidAmount") Long bidAmount,
+                         @Param("participantIncrement") int participantIncrement);
+
+    // 조회 시점의 현재가가 그대로일 때만 입찰 반영 (0건이면 다른 입찰에 밀린 것)
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE Auction a
+            SET a.currentBid = :bidAmount,
+                a.participantCount = a.participantCount + :participantIncrement
+            WHERE a.id = :auctionId
+              AND a.status = 'ONGOING'
+              AND a.currentBid = :expectedCurrentBid
+            """)
+    int compareAndSetCurrentBid(@Param("auctionId") Long auctionId,
+                                @Param("expectedCurrentBid") Long expectedCurrentBid,
+                                @Param("bidAmount") Long bidAmount,
+                                @Param("participantIncrement") int participantIncrement);
 }
@@ -0,0 +1,123 @@
+package org.example.lastcall.domain.auction.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.lastcall.domain.auction.enums.AuctionTimerType;
+import org.example.lastcall.domain.auction.service.timer.AuctionTimerTask;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+// 경매 타이머 저장소, 실행 권한은 조건부 UPDATE 한 번으로 한 노드에만 부여
+@Repository
+@RequiredArgsConstructor
+public class AuctionTimerRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    // 예약 또는 재예약 (기존 행이 있으면 시각/버전을 덮어써 이전 예약과 점유, 보관 상태를 무효화)
+    public void upsert(Long auctionId, AuctionTimerType type, LocalDateTime fireAt, Long version) {
+        int updated = jdbcTemplate.update("""
+                        UPDATE auction_timers
+                        SET fire_at = ?, version = ?, owner = NULL, lease_until = NULL, attempts = 0, parked_at = NULL
+                        WHERE auction_id = ? AND type = ?
+                        """,
+                Timestamp.valueOf(fireAt), version, auctionId, type.name());
+
+        if (updated == 0) {
+            jdbcTemplate.update(
+                    "INSERT INTO auction_timers (auction_id, type, fire_at, version, attempts) VALUES (?, ?, ?, ?, 0)",
+                    auctionId, type.name(), Timestamp.valueOf(fireAt), version);
+        }
+    }
+
+    public void deleteByAuctionId(Long auctionId) {
+        jdbcTemplate.update("DELETE FROM auction_timers WHERE auction_id = ?", auctionId);
+    }
+
+    // 실행 시각이 지났고 다른 노드가 점유하지 않은 같은 버전의 보관되지 않은 타이머만 점유 (1 이면 이 노드가 실행)
+    public boolean claim(AuctionTimerTask task, String owner, LocalDateTime now, LocalDateTime leaseUntil) {
+        return jdbcTemplate.update("""
+                        UPDATE auction_timers
+                        SET owner = ?, lease_until = ?
+                        WHERE auction_id = ? AND type = ? AND version = ?
+                          AND fire_at <= ?
+                          AND parked_at IS NULL
+                          AND (lease_until IS NULL OR lease_until < ?)
+                        """,
+                owner, Timestamp.valueOf(leaseUntil), task.auctionId(), task.type().name(), task.version(),
+                Timestamp.valueOf(now), Timestamp.valueOf(now)) == 1;
+    }
+
+    // 실행 완료 (점유 중 재예약됐다면 새 예약은 남김)
+    public void complete(AuctionTimerTask task, String owner) {
+        jdbcTemplate.update(
+                "DELETE FROM auction_timers WHERE auction_id = ? AND type = ? AND version = ? AND owner = ?",
+                task.auctionId(), task.type().name(), task.version(), owner);
+    }
+
+    // 점유를 풀고 재시도 시각으로 미룸, 최대 시도 횟수에 도달했으면 0 반환
+    public boolean retry(AuctionTimerTask task, String owner, LocalDateTime nextFireAt, int maxAttempts) {
+        return jdbcTemplate.update("""
+                        UPDATE auction_timers
+                        SET owner = NULL, lease_until = NULL, fire_at = ?, attempts = attempts + 1
+                        WHERE auction_id = ? AND type = ? AND version = ? AND owner = ?
+                          AND attempts + 1 < ?
+                        """,
+                Timestamp.valueOf(nextFireAt), task.auctionId(), task.type().name(), task.version(), owner,
+                maxAttempts) == 1;
+    }
+
+    // 재시도를 소진한 타이머는 지우지 않고 보관 (점유가 이 노드에 있을 때만, 재예약됐다면 새 예약을 남김)
+    public boolean park(AuctionTimerTask task, String owner, LocalDateTime parkedAt) {
+        return jdbcTemplate.update("""
+                        UPDATE auction_timers
+                        SET owner = NULL, lease_until = NULL, parked_at = ?
+                        WHERE auction_id = ? AND type = ? AND version = ? AND owner = ?
+                        """,
+                Timestamp.valueOf(parkedAt), task.auctionId(), task.type().name(), task.version(), owner) == 1;
+    }
+
+    public long countParked() {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM auction_timers WHERE parked_at IS NOT NULL", Long.class);
+
+        return count == null ? 0 : count;
+    }
+
+    // 오래 보관된 순서로 limit 개를 시도 횟수를 초기화해 fireAt 에 다시 실행되도록 되돌림 (동시에 재처리해도 한 번만 반영)
+    public int unpark(LocalDateTime fireAt, int limit) {
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM auction_timers WHERE parked_at IS NOT NULL ORDER BY parked_at LIMIT ?", Long.class, limit);
+
+        int[][] counts = jdbcTemplate.batchUpdate("""
+                        UPDATE auction_timers
+                        SET parked_at = NULL, attempts = 0, fire_at = ?
+                        WHERE id = ? AND parked_at IS NOT NULL
+                        """,
+                ids, ids.size(), (ps, id) -> {
+                    ps.setTimestamp(1, Timestamp.valueOf(fireAt));
+                    ps.setLong(2, id);
+                });
+
+        return (int) Arrays.stream(counts).flatMapToInt(Arrays::stream).filter(count -> count > 0).count();
+    }
+
+    // until 이전에 실행될 보관되지 않은 타이머 (재시작 복구 및 다른 노드가 등록한 타이머 반영)
+    public List<AuctionTimerTask> findDueBefore(LocalDateTime until, int limit) {
+        return jdbcTemplate.query("""
+                        SELECT auction_id, type, version, fire_at
+                        FROM auction_timers
+                        WHERE fire_at <= ? AND parked_at IS NULL
+                        ORDER BY fire_at
+                        LIMIT ?
+                        """,
+                (rs, rowNum) -> new AuctionTimerTask(
+                        rs.getLong("auction_id"),
+                        AuctionTimerType.valueOf(rs.getString("type")),
+                        rs.getLong("version"),
+                        rs.getTimestamp("fire_at").toLocalDateTime()),
+                Timestamp.valueOf(until), limit);
+    }
+}
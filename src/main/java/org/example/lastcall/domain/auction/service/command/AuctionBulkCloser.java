@@ -0,0 +1,259 @@
+package org.example.lastcall.domain.auction.service.command;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.lastcall.common.exception.BusinessException;
+import org.example.lastcall.domain.auction.config.AuctionCloseProperties;
+import org.example.lastcall.domain.auction.exception.AuctionErrorCode;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 같은 시각에 몰리는 경매 종료를 짧은 window 동안 모아 묶음 단위로 종료
+// 묶음은 parallelism 개의 작업 스레드에서 동시에 처리되고, 작업 스레드가 모두 바쁘면 수집 스레드가 직접 처리하느라
+// 대기열이 차고, 대기열이 차면 submit 이 호출 측(리스너/타이머)을 멈춰 유입 속도를 늦춤
+@Slf4j
+@Component
+public class AuctionBulkCloser {
+    private final AuctionCommandService auctionCommandService;
+    private final AuctionCloseProperties properties;
+    private final BlockingQueue<CloseRequest> queue;
+    private final Timer batchTimer;
+    private final DistributionSummary batchSize;
+    private final Counter fallbackCounter;
+    private final Counter rejectedCounter;
+    private volatile boolean running;
+    private Thread collector;
+    private ThreadPoolExecutor workers;
+
+    public AuctionBulkCloser(AuctionCommandService auctionCommandService, AuctionCloseProperties properties,
+                             MeterRegistry meterRegistry) {
+        this.auctionCommandService = auctionCommandService;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(Math.max(properties.queueCapacity(), 1));
+
+        this.batchTimer = Timer.builder("auction.close.batch")
+                .description("경매 묶음 하나의 종료 처리 시간")
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("auction.close.batch.size")
+                .description("한 번에 종료한 경매 수")
+                .register(meterRegistry);
+        this.fallbackCounter = Counter.builder("auction.close.fallback")
+                .description("묶음 종료 실패로 경매별 종료로 다시 처리한 묶음 수")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("auction.close.rejected")
+                .description("대기열이 가득 차 submitTimeout 안에 넣지 못한 종료 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("auction.close.queue.depth", queue, BlockingQueue::size)
+                .description("묶음 종료를 기다리는 경매 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!properties.batchEnabled()) {
+            return;
+        }
+
+        AtomicInteger threadSeq = new AtomicInteger();
+        int parallelism = Math.max(properties.parallelism(), 1);
+
+        workers = new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS, new SynchronousQueue<>(),
+                runnable -> daemon(runnable, "auction-close-" + threadSeq.incrementAndGet()),
+                AuctionBulkCloser::runOnCollectorUnlessShutdown);
+        running = true;
+        collector = daemon(this::collect, "auction-close-collector");
+        collector.start();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+
+        if (collector != null) {
+            collector.interrupt();
+        }
+
+        if (workers != null) {
+            workers.shutdown();
+        }
+
+        // 남은 요청은 실패로 돌려 리스너는 재시도 큐로, 타이머는 재시도 예약으로 넘김
+        List<CloseRequest> pending = new ArrayList<>();
+        queue.drainTo(pending);
+        pending.forEach(request -> request.future().completeExceptionally(new IllegalStateException("경매 일괄 종료기 종료 중")));
+    }
+
+    public boolean isBatchEnabled() {
+        return properties.batchEnabled();
+    }
+
+    public Duration closeTimeout() {
+        return properties.closeTimeout();
+    }
+
+    // 종료 완료까지 대기 (RabbitMQ 리스너처럼 처리 결과로 ACK 를 정해야 하는 호출 측용)
+    public void close(Long auctionId) {
+        if (!properties.batchEnabled()) {
+            auctionCommandService.closeAuction(auctionId);
+            return;
+        }
+
+        try {
+            submit(auctionId).get(properties.closeTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+
+            throw new IllegalStateException("경매 일괄 종료 실패: auctionId=" + auctionId, e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("경매 일괄 종료 대기 시간 초과: auctionId=" + auctionId, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("경매 일괄 종료 대기 중 인터럽트: auctionId=" + auctionId, e);
+        }
+    }
+
+    // 대기열이 가득 차면 submitTimeout 동안 기다린 뒤 거절 (재시도 가능한 시스템 예외)
+    public CompletableFuture<Void> submit(Long auctionId) {
+        CloseRequest request = new CloseRequest(auctionId, new CompletableFuture<>());
+
+        try {
+            if (!running || !queue.offer(request, properties.submitTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                rejectedCounter.increment();
+                throw new RejectedExecutionException("경매 종료 대기열 초과: auctionId=" + auctionId);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("경매 종료 대기 중 인터럽트: auctionId=" + auctionId, e);
+        }
+
+        return request.future();
+    }
+
+    // 첫 요청이 들어오면 window 동안 더 모아 한 묶음으로 넘김
+    // 넘기지 못한 묶음은 실패로 돌려 리스너는 재시도 큐로, 타이머는 재시도 예약으로 넘김
+    private void collect() {
+        while (running) {
+            List<CloseRequest> batch = new ArrayList<>();
+
+            try {
+                CloseRequest first = queue.poll(1, TimeUnit.SECONDS);
+
+                if (first == null) {
+                    continue;
+                }
+
+                batch.add(first);
+                long deadline = System.nanoTime() + properties.window().toNanos();
+
+                while (batch.size() < properties.maxBatchSize()) {
+                    CloseRequest next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+
+                    if (next == null) {
+                        break;
+                    }
+
+                    batch.add(next);
+                }
+
+                workers.execute(() -> closeBatch(batch));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(batch, new IllegalStateException("경매 일괄 종료기 종료 중"));
+                return;
+            } catch (RejectedExecutionException e) {
+                log.warn("[AuctionClose] 종료 중이라 묶음 처리 실패: auctionCount={}", batch.size());
+                fail(batch, e);
+            }
+        }
+    }
+
+    void closeBatch(List<CloseRequest> batch) {
+        // 같은 경매가 중복 요청됐으면 한 번만 종료하고 결과를 함께 전달
+        Map<Long, List<CompletableFuture<Void>>> futures = new LinkedHashMap<>();
+        batch.forEach(request -> futures.computeIfAbsent(request.auctionId(), id -> new ArrayList<>()).add(request.future()));
+        List<Long> auctionIds = futures.keySet().stream().sorted().toList();
+
+        batchSize.record(auctionIds.size());
+
+        if (auctionIds.size() == 1) {
+            closeEach(auctionIds, futures);
+            return;
+        }
+
+        try {
+            Set<Long> closed = new HashSet<>(batchTimer.recordCallable(() -> auctionCommandService.closeAuctions(auctionIds)));
+
+            futures.forEach((auctionId, waiting) -> {
+                if (closed.contains(auctionId)) {
+                    waiting.forEach(future -> future.complete(null));
+                } else {
+                    BusinessException alreadyClosed = new BusinessException(AuctionErrorCode.AUCTION_ALREADY_CLOSED);
+                    waiting.forEach(future -> future.completeExceptionally(alreadyClosed));
+                }
+            });
+        } catch (Exception e) {
+            fallbackCounter.increment();
+            log.warn("[AuctionClose] 묶음 종료 실패, 경매별로 다시 처리: auctionCount={}", auctionIds.size(), e);
+            closeEach(auctionIds, futures);
+        }
+    }
+
+    private void closeEach(List<Long> auctionIds, Map<Long, List<CompletableFuture<Void>>> futures) {
+        for (Long auctionId : auctionIds) {
+            try {
+                auctionCommandService.closeAuction(auctionId);
+                futures.get(auctionId).forEach(future -> future.complete(null));
+            } catch (Exception e) {
+                futures.get(auctionId).forEach(future -> future.completeExceptionally(e));
+            }
+        }
+    }
+
+    private void fail(List<CloseRequest> batch, Exception cause) {
+        batch.forEach(request -> request.future().completeExceptionally(cause));
+    }
+
+    // 작업 스레드가 모두 바쁘면 수집 스레드가 직접 처리해 유입을 늦추고, 종료 후에는 버리지 않고 거절
+    private static void runOnCollectorUnlessShutdown(Runnable task, ThreadPoolExecutor executor) {
+        if (executor.isShutdown()) {
+            throw new RejectedExecutionException("경매 일괄 종료기 종료 중");
+        }
+
+        task.run();
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+
+        return thread;
+    }
+
+    record CloseRequest(Long auctionId, CompletableFuture<Void> future) {
+    }
+}
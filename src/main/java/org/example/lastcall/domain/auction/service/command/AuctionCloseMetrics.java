@@ -0,0 +1,35 @@
+package org.example.lastcall.domain.auction.service.command;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.example.lastcall.domain.auction.entity.Auction;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+// 경매 종료 지연: 종료 시각(endTime)부터 종료 상태(CLOSED/CLOSED_FAILED) 반영까지 걸린 시간
+@Component
+public class AuctionCloseMetrics {
+    private final Timer singleCloseLag;
+    private final Timer batchCloseLag;
+
+    public AuctionCloseMetrics(MeterRegistry meterRegistry) {
+        this.singleCloseLag = closeLag(meterRegistry, "single");
+        this.batchCloseLag = closeLag(meterRegistry, "batch");
+    }
+
+    public void recordClosed(Auction auction, boolean batch) {
+        Duration lag = Duration.between(auction.getEndTime(), LocalDateTime.now());
+
+        (batch ? batchCloseLag : singleCloseLag).record(lag.isNegative() ? Duration.ZERO : lag);
+    }
+
+    private static Timer closeLag(MeterRegistry meterRegistry, String mode) {
+        return Timer.builder("auction.close.lag")
+                .description("경매 종료 시각부터 종료 상태 반영까지의 지연")
+                .tag("mode", mode)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -12,14 +12,23 @@ import org.example.lastcall.domain.auction.enums.AuctionStatus;
 import org.example.lastcall.domain.auction.exception.AuctionErrorCode;
 import org.example.lastcall.domain.auction.repository.AuctionRepository;
 import org.example.lastcall.domain.bid.entity.Bid;
+import org.example.lastcall.domain.bid.repository.BidderMaxBid;
+import org.example.lastcall.domain.bid.service.command.BidAdmissionRouter;
 import org.example.lastcall.domain.bid.service.query.BidQueryServiceApi;
 import org.example.lastcall.domain.point.service.command.PointCommandService;
+import org.example.lastcall.domain.point.service.command.PointSettlementService;
 import org.example.lastcall.domain.product.entity.Product;
 import org.example.lastcall.domain.product.service.query.ProductQueryServiceApi;
 import org.example.lastcall.domain.user.entity.User;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -30,6 +39,8 @@ public class AuctionCommandService {
     private final BidQueryServiceApi bidQueryServiceApi;
     private final PointCommandService pointCommandServiceApi;
     private final AuctionEventScheduler auctionEventScheduler;
+    private final BidAdmissionRouter bidAdmissionRouter;
+    private final AuctionCloseMetrics auctionCloseMetrics;
 
     // 경매 등록
     @DistributedLock(key = "'product:' + #productId")
@@ -110,6 +121,7 @@ public class AuctionCommandService {
         }
 
         auction.markAsDeleted();
+        auctionEventScheduler.cancelAuctionEvents(auction);
     }
 
     // 경매 종료 처리 (closed)
@@ -117,7 +129,10 @@ public class AuctionCommandService {
     public void closeAuction(Long auctionId) {
         log.debug("락 획득 후 작업 실행: 경매 종료 처리 시작 - auctionId={}", auctionId);
 
-        Auction auction = auctionRepository.findById(auctionId).orElseThrow(
+        // 행 잠금 전에 처리해야 지연 저장 입찰 반영(별도 트랜잭션)과 교착되지 않음
+        bidAdmissionRouter.seal(auctionId);
+
+        Auction auction = auctionRepository.findByIdForUpdate(auctionId).orElseThrow(
                 () -> new BusinessException(AuctionErrorCode.AUCTION_NOT_FOUND));
 
         if (!auction.canClose()) {
@@ -134,12 +149,8 @@ public class AuctionCommandService {
 
             auction.assignWinner(winnerId, bidAmount);
 
-            try {
-                pointCommandServiceApi.depositToAvailablePoint(auction.getId());
-                pointCommandServiceApi.depositToSettlement(auction.getId());
-            } catch (Exception e) {
-                log.error("포인트 처리 실패: auctionId={}, error={}", auctionId, e.getMessage());
-            }
+            // 정산은 같은 트랜잭션에 참여하므로 실패하면 경매 종료도 함께 롤백되고, 예외는 리스너/타이머 재시도로 전달
+            pointCommandServiceApi.settleAuction(auction.getId(), winnerId, bidAmount);
 
             log.info("[RabbitMQ] 경매 종료(낙찰): auctionId={}, winnerId={}, bidAmount={}원", auctionId, winnerId, bidAmount);
         } else {
@@ -148,9 +159,50 @@ public class AuctionCommandService {
         }
 
         auctionRepository.save(auction);
+        auctionCloseMetrics.recordClosed(auction, false);
         log.debug("락 점유한 작업 종료: auctionId={}", auctionId);
     }
 
+    // 같은 시각에 끝나는 경매 묶음을 한 트랜잭션으로 종료 (최고 입찰 집계/정산 쿼리를 묶음 전체가 공유)
+    // 정산 중 하나라도 실패하면 묶음 전체가 롤백되고, 호출 측이 경매별 closeAuction 으로 다시 처리
+    // 반환: 이번에 종료한 경매 ID (이미 종료/삭제된 경매는 제외)
+    @DistributedLock(keys = "#auctionIds.!['auction:' + #this]")
+    public List<Long> closeAuctions(List<Long> auctionIds) {
+        // 행 잠금 전에 처리해야 지연 저장 입찰 반영(별도 트랜잭션)과 교착되지 않음
+        auctionIds.forEach(bidAdmissionRouter::seal);
+
+        List<Auction> auctions = auctionRepository.findAllByIdForUpdate(auctionIds).stream()
+                .filter(Auction::canClose)
+                .toList();
+
+        if (auctions.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, List<BidderMaxBid>> biddersByAuction = bidQueryServiceApi.findBidderMaxBidsByAuctionIds(
+                auctions.stream().map(Auction::getId).toList());
+        List<PointSettlementService.AuctionSettlement> settlements = new ArrayList<>();
+
+        for (Auction auction : auctions) {
+            List<BidderMaxBid> bidders = biddersByAuction.getOrDefault(auction.getId(), List.of());
+            Optional<BidderMaxBid> top = bidders.stream().max(Comparator.comparing(BidderMaxBid::maxBidAmount));
+
+            if (top.isPresent()) {
+                auction.assignWinner(top.get().userId(), top.get().maxBidAmount());
+                settlements.add(new PointSettlementService.AuctionSettlement(auction.getId(), top.get().userId(),
+                        top.get().maxBidAmount(), bidders));
+            } else {
+                auction.closeAsFailed();
+            }
+        }
+
+        pointCommandServiceApi.settleAuctions(settlements);
+        auctions.forEach(auction -> auctionCloseMetrics.recordClosed(auction, true));
+        log.info("경매 일괄 종료: auctionCount={}, awardedCount={}", auctions.size(), settlements.size());
+
+        return auctions.stream().map(Auction::getId).toList();
+    }
+
     // 경매 시작 후 상태 변경 (SCHEDULED -> ONGOING)
     public void startAuction(Long auctionId) {
         Auction auction = auctionRepository.findById(auctionId).orElseThrow(
@@ -2,58 +2,63 @@ package org.example.lastcall.domain.auction.service.command;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.lastcall.domain.auction.config.AuctionTimerProperties;
 import org.example.lastcall.domain.auction.entity.Auction;
-import org.example.lastcall.domain.auction.service.event.AuctionEvent;
-import org.example.lastcall.domain.auction.service.event.AuctionEventPublisher;
+import org.example.lastcall.domain.auction.enums.AuctionSchedulingMode;
+import org.example.lastcall.domain.auction.enums.AuctionTimerType;
+import org.example.lastcall.domain.auction.repository.AuctionOutboxRepository;
+import org.example.lastcall.domain.auction.service.timer.AuctionTimerService;
 import org.springframework.stereotype.Service;
 
-import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AuctionEventScheduler {
-    private final AuctionEventPublisher auctionEventPublisher;
+    private final AuctionOutboxRepository auctionOutboxRepository;
+    private final AuctionTimerService auctionTimerService;
+    private final AuctionTimerProperties auctionTimerProperties;
 
-    // 경매 시작/종료 이벤트 예약 발행
+    // 경매 시작/종료 이벤트 예약 (TIMER 모드는 경매와 같은 트랜잭션으로 타이머 행 저장)
     public void scheduleAuctionEvents(Auction auction) {
-        long startDelay = Math.max(0, Duration.between(LocalDateTime.now(), auction.getStartTime()).toMillis());
-        long endDelay = Math.max(0, Duration.between(LocalDateTime.now(), auction.getEndTime()).toMillis());
-
-        AuctionEvent startEvent = new AuctionEvent(
-                auction.getId(),
-                null,
-                null,
-                null,
-                auction.getEventVersion());
-
-        AuctionEvent endEvent = new AuctionEvent(
-                auction.getId(),
-                null,
-                null,
-                null,
-                auction.getEventVersion());
-
-        try {
-            auctionEventPublisher.sendAuctionStartEvent(startEvent, startDelay);
-            log.info("[RabbitMQ] 경매 시작 이벤트 예약 완료: auctionId={}, delay={}ms", auction.getId(), startDelay);
-        } catch (Exception e) {
-            log.error("[RabbitMQ] sendAuctionStartEvent exception: auctionId={}", auction.getId(), e);
+        if (isTimerMode()) {
+            auctionTimerService.schedule(auction);
+            return;
         }
 
-        try {
-            auctionEventPublisher.sendAuctionEndEvent(endEvent, endDelay);
-            log.info("[RabbitMQ] 경매 종료 이벤트 예약 완료: auctionId={}, delay={}ms", auction.getId(), endDelay);
-        } catch (Exception e) {
-            log.error("[RabbitMQ] sendAuctionEndEvent exception: auctionId={}", auction.getId(), e);
-        }
+        appendOutboxEvents(auction);
     }
 
-    // 수정 시 재발행 (기존 예약을 새로 덮어쓰기)
+    // 수정 시 재예약 (TIMER 모드는 같은 타이머 행을 새 버전으로 덮어써 이전 예약을 취소)
     public void rescheduleAuctionEvents(Auction auction) {
-        log.info("[RabbitMQ] 경매 이벤트 재발행: auctionId={}", auction.getId());
+        log.info("[AuctionEvent] 경매 이벤트 재예약: auctionId={}", auction.getId());
         scheduleAuctionEvents(auction);
     }
-}
 
+    // 삭제 시 예약 취소 (RabbitMQ 모드는 미발행 outbox 행만 폐기, 이미 발행된 지연 메시지는 수신 시 상태 검사로 무시)
+    public void cancelAuctionEvents(Auction auction) {
+        if (isTimerMode()) {
+            auctionTimerService.cancel(auction.getId());
+            return;
+        }
+
+        auctionOutboxRepository.discardPending(auction.getId(), LocalDateTime.now());
+    }
+
+    private boolean isTimerMode() {
+        return auctionTimerProperties.mode() == AuctionSchedulingMode.TIMER;
+    }
+
+    // 경매와 같은 트랜잭션으로 outbox 에 기록 (커밋된 경매의 이벤트만 릴레이가 발행, 발행 실패로 이벤트가 사라지지 않음)
+    private void appendOutboxEvents(Auction auction) {
+        Map<AuctionTimerType, LocalDateTime> fireAtByType = new EnumMap<>(AuctionTimerType.class);
+        fireAtByType.put(AuctionTimerType.START, auction.getStartTime());
+        fireAtByType.put(AuctionTimerType.END, auction.getEndTime());
+
+        auctionOutboxRepository.append(auction.getId(), auction.getEventVersion(), fireAtByType);
+        log.info("[RabbitMQ] 경매 이벤트 outbox 기록: auctionId={}, version={}", auction.getId(), auction.getEventVersion());
+    }
+}
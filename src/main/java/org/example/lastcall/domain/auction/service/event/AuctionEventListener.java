@@ -6,37 +6,236 @@ import lombok.extern.slf4j.Slf4j;
 import org.example.lastcall.common.config.AuctionConfig;
 import org.example.lastcall.common.exception.BusinessException;
 import org.example.lastcall.domain.auction.entity.Auction;
+import org.example.lastcall.domain.auction.enums.AuctionTimerType;
 import org.example.lastcall.domain.auction.exception.AuctionErrorCode;
 import org.example.lastcall.domain.auction.repository.AuctionRepository;
+import org.example.lastcall.domain.auction.service.command.AuctionBulkCloser;
 import org.example.lastcall.domain.auction.service.command.AuctionCommandService;
+import org.example.lastcall.domain.auction.service.room.AuctionRoomPublisher;
 import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AuctionEventListener {
+    public static final String START_LISTENER_ID = "auction-start";
+    public static final String END_LISTENER_ID = "auction-end";
+    public static final String START_BATCH_LISTENER_ID = "auction-start-batch";
+    public static final String END_BATCH_LISTENER_ID = "auction-end-batch";
+
     private final AuctionCommandService auctionCommandService;
+    private final AuctionBulkCloser auctionBulkCloser;
     private final AuctionRepository auctionRepository;
+    private final AuctionRoomPublisher auctionRoomPublisher;
+    private final AuctionListenerMetrics auctionListenerMetrics;
+    private final AuctionEventRetryRouter auctionEventRetryRouter;
+    private final MessageConverter messageConverter;
 
-    // 이벤트 처리 메서드
-    @RabbitListener(queues = AuctionConfig.START_QUEUE_NAME)
+    // 이벤트 처리 메서드 (auction.listener.batch-enabled=true 이면 일괄 리스너만 기동)
+    @RabbitListener(id = START_LISTENER_ID, queues = AuctionConfig.START_QUEUE_NAME,
+            containerFactory = AuctionConfig.LISTENER_CONTAINER_FACTORY,
+            autoStartup = "#{!${auction.listener.batch-enabled:false}}")
     public void handleAuctionStart(AuctionEvent event, Message message, Channel channel) {
-        processEvent(event, message, channel, auctionCommandService::startAuction, "[RabbitMQ] 경매 시작");
+        long startedAt = System.nanoTime();
+        processEvent(event, message, channel, auctionCommandService::startAuction, AuctionTimerType.START);
+        auctionListenerMetrics.recordBusy(AuctionConfig.START_QUEUE_NAME, System.nanoTime() - startedAt);
     }
 
-    @RabbitListener(queues = AuctionConfig.END_QUEUE_NAME)
+    // 일괄 종료 모드면 같은 시각에 끝나는 다른 경매와 묶어서 종료될 때까지 대기 (대기열이 차면 수신이 늦춰짐)
+    @RabbitListener(id = END_LISTENER_ID, queues = AuctionConfig.END_QUEUE_NAME,
+            containerFactory = AuctionConfig.LISTENER_CONTAINER_FACTORY,
+            autoStartup = "#{!${auction.listener.batch-enabled:false}}")
     public void handleAuctionEnd(AuctionEvent event, Message message, Channel channel) {
-        processEvent(event, message, channel, auctionCommandService::closeAuction, "[RabbitMQ] 경매 종료");
+        long startedAt = System.nanoTime();
+        processEvent(event, message, channel, auctionBulkCloser::close, AuctionTimerType.END);
+        auctionListenerMetrics.recordBusy(AuctionConfig.END_QUEUE_NAME, System.nanoTime() - startedAt);
+    }
+
+    @RabbitListener(id = START_BATCH_LISTENER_ID, queues = AuctionConfig.START_QUEUE_NAME,
+            containerFactory = AuctionConfig.BATCH_LISTENER_CONTAINER_FACTORY,
+            autoStartup = "${auction.listener.batch-enabled:false}")
+    public void handleAuctionStartBatch(List<Message> messages, Channel channel) {
+        long startedAt = System.nanoTime();
+        processBatch(messages, channel, AuctionTimerType.START);
+        auctionListenerMetrics.recordBusy(AuctionConfig.START_QUEUE_NAME, System.nanoTime() - startedAt);
+    }
+
+    @RabbitListener(id = END_BATCH_LISTENER_ID, queues = AuctionConfig.END_QUEUE_NAME,
+            containerFactory = AuctionConfig.BATCH_LISTENER_CONTAINER_FACTORY,
+            autoStartup = "${auction.listener.batch-enabled:false}")
+    public void handleAuctionEndBatch(List<Message> messages, Channel channel) {
+        long startedAt = System.nanoTime();
+        processBatch(messages, channel, AuctionTimerType.END);
+        auctionListenerMetrics.recordBusy(AuctionConfig.END_QUEUE_NAME, System.nanoTime() - startedAt);
+    }
+
+    // 묶음 처리: 참조된 경매를 한 번에 조회해 버전을 메모리에서 비교하고,
+    // 재시도 큐로 넘기지 못한 메시지만 개별 NACK 한 뒤 나머지는 가장 큰 delivery tag 로 한 번에 ACK (multiple=true)
+    void processBatch(List<Message> messages, Channel channel, AuctionTimerType type) {
+        String eventType = "[RabbitMQ] " + type.getDescription();
+        Map<Message, AuctionEvent> events = new LinkedHashMap<>();
+        List<Message> completed = new ArrayList<>();
+
+        for (Message message : messages) {
+            try {
+                events.put(message, (AuctionEvent) messageConverter.fromMessage(message));
+            } catch (Exception e) {
+                log.error("{} 이벤트 변환 실패, 폐기: deliveryTag={}", eventType, message.getMessageProperties().getDeliveryTag(), e);
+                completed.add(message);
+            }
+        }
+
+        Map<Long, Auction> auctions;
+
+        try {
+            auctions = auctionRepository.findAllById(
+                            events.values().stream().map(AuctionEvent::getAuctionId).distinct().toList()).stream()
+                    .collect(Collectors.toMap(Auction::getId, Function.identity()));
+        } catch (Exception e) {
+            // 단건 처리와 같이 조회 실패는 시스템 예외로 보고 묶음 전체를 재시도 큐로 넘김
+            log.error("{} 경매 일괄 조회 실패, 묶음 전체 재시도: size={}", eventType, events.size(), e);
+            settle(channel, completed, new ArrayList<>(events.keySet()), type);
+
+            return;
+        }
+
+        Map<Message, AuctionEvent> accepted = new LinkedHashMap<>();
+
+        events.forEach((message, event) -> {
+            Auction auction = auctions.get(event.getAuctionId());
+
+            if (auction == null) {
+                log.warn("{} 비즈니스 예외 발생: auctionId={}, message={}", eventType, event.getAuctionId(),
+                        AuctionErrorCode.AUCTION_NOT_FOUND.getMessage());
+                completed.add(message);
+            } else if (!Objects.equals(auction.getEventVersion(), event.getVersion())) {
+                log.warn("[RabbitMQ] 무시된 이벤트: 버전 불일치 (이벤트 버전={}, 현재 버전={})", event.getVersion(), auction.getEventVersion());
+                completed.add(message);
+            } else {
+                accepted.put(message, event);
+            }
+        });
+
+        Map<Message, Throwable> failures = handleAccepted(accepted, type);
+        List<Message> retryTargets = new ArrayList<>();
+        List<Long> handledAuctionIds = new ArrayList<>();
+
+        accepted.forEach((message, event) -> {
+            Throwable error = failures.get(message);
+
+            if (error == null) {
+                handledAuctionIds.add(event.getAuctionId());
+                completed.add(message);
+            } else if (error instanceof BusinessException e) {
+                log.warn("{} 비즈니스 예외 발생: auctionId={}, message={}", eventType, event.getAuctionId(), e.getMessage());
+                completed.add(message);
+            } else {
+                log.warn("{} 시스템 예외 발생: auctionId={}", eventType, event.getAuctionId(), error);
+                retryTargets.add(message);
+            }
+        });
+
+        // 경매방 구독자에게 바뀐 상태 알림 (이미 처리된 이벤트이므로 알림 실패로 재시도하지 않음)
+        if (!handledAuctionIds.isEmpty()) {
+            try {
+                auctionRepository.findAllById(handledAuctionIds)
+                        .forEach(updated -> auctionRoomPublisher.publishStatus(updated.getId(), updated.getStatus()));
+            } catch (Exception e) {
+                log.warn("{} 상태 알림 실패: auctionIds={}", eventType, handledAuctionIds, e);
+            }
+        }
+
+        settle(channel, completed, retryTargets, type);
+        log.info("{} 일괄 처리 완료: received={}, handled={}, retried={}", eventType, messages.size(), handledAuctionIds.size(), retryTargets.size());
+    }
+
+    // 재시도/parking 큐로 다시 발행한 메시지는 원본을 ACK, 발행하지 못한 메시지는 NACK 해 큐의 dead-letter 로 parking
+    // 나머지 완료된 메시지는 가장 큰 delivery tag 로 한 번에 ACK
+    private void settle(Channel channel, List<Message> completed, List<Message> retryTargets, AuctionTimerType type) {
+        List<Message> rejected = new ArrayList<>();
+
+        for (Message message : retryTargets) {
+            if (auctionEventRetryRouter.retryOrPark(message, type)) {
+                completed.add(message);
+            } else {
+                rejected.add(message);
+            }
+        }
+
+        rejected.forEach(message -> nackMessage(channel, message, false));
+        completed.stream()
+                .mapToLong(message -> message.getMessageProperties().getDeliveryTag())
+                .max()
+                .ifPresent(deliveryTag -> ackMultiple(channel, deliveryTag));
+    }
+
+    // 메시지별 처리 결과 (실패한 메시지만 예외와 함께 반환)
+    // 종료 이벤트는 일괄 종료기에 한꺼번에 넘겨 같은 묶음으로 종료되도록 함
+    private Map<Message, Throwable> handleAccepted(Map<Message, AuctionEvent> accepted, AuctionTimerType type) {
+        Map<Message, Throwable> failures = new LinkedHashMap<>();
+
+        if (type == AuctionTimerType.START || !auctionBulkCloser.isBatchEnabled()) {
+            Consumer<Long> handler = type == AuctionTimerType.START ? auctionCommandService::startAuction : auctionCommandService::closeAuction;
+
+            accepted.forEach((message, event) -> {
+                try {
+                    handler.accept(event.getAuctionId());
+                } catch (Exception e) {
+                    failures.put(message, e);
+                }
+            });
+
+            return failures;
+        }
+
+        Map<Message, CompletableFuture<Void>> futures = new LinkedHashMap<>();
+
+        accepted.forEach((message, event) -> {
+            try {
+                futures.put(message, auctionBulkCloser.submit(event.getAuctionId()));
+            } catch (Exception e) {
+                failures.put(message, e);
+            }
+        });
+
+        long deadline = System.nanoTime() + auctionBulkCloser.closeTimeout().toNanos();
+
+        futures.forEach((message, future) -> {
+            try {
+                future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (ExecutionException e) {
+                failures.put(message, e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failures.put(message, e);
+            } catch (Exception e) {
+                failures.put(message, e);
+            }
+        });
+
+        return failures;
     }
 
     // 공용 이벤트 처리 헬퍼 메서드 (메서드 분리)
-    private void processEvent(AuctionEvent event, Message message, Channel channel, Consumer<Long> auctionHandler, String eventType) {
+    private void processEvent(AuctionEvent event, Message message, Channel channel, Consumer<Long> auctionHandler, AuctionTimerType type) {
+        String eventType = "[RabbitMQ] " + type.getDescription();
+
         try {
             log.debug("[RabbitMQ] {} 이벤트 수신: {}", eventType, event);
 
@@ -52,6 +251,10 @@ public class AuctionEventListener {
 
             auctionHandler.accept(event.getAuctionId());
 
+            // 경매방 구독자에게 바뀐 상태 알림
+            auctionRepository.findById(event.getAuctionId())
+                    .ifPresent(updated -> auctionRoomPublisher.publishStatus(updated.getId(), updated.getStatus()));
+
             // 성공 처리 시 ACK
             ackMessage(channel, message);
             log.info("[RabbitMQ] {} 처리 완료: auctionId={}", eventType, event.getAuctionId());
@@ -61,37 +264,14 @@ public class AuctionEventListener {
             ackMessage(channel, message);
         } catch (Exception e) {
             log.error("[RabbitMQ] {} 처리 중 시스템 예외 발생: auctionId={}", eventType, event.getAuctionId(), e);
-            // 재시도 횟수 설정
-            int retryCount = getRetryCount(message);
-
-            if (retryCount >= 3) {
-                log.error("[RabbitMQ] {} 시스템 예외 3회 초과: auctionId={}", eventType, event.getAuctionId(), e);
 
+            // 시도 횟수에 맞는 재시도 큐로 넘기고, 넘기지 못하면 NACK 해 큐의 dead-letter 로 parking
+            if (auctionEventRetryRouter.retryOrPark(message, type)) {
                 ackMessage(channel, message);
-                return;
-            }
-            log.warn("[RabbitMQ] {} 시스템 예외 발생: auctionId={}, retryCount={}", eventType, event.getAuctionId(), retryCount, e);
-
-            nackMessage(channel, message, false);
-        }
-    }
-
-
-    // 재시도 메서드
-    private int getRetryCount(Message message) {
-        try {
-            Object death = message.getMessageProperties().getHeaders().get("x-death");
-            if (death instanceof java.util.List<?> list && !list.isEmpty()) {
-                Object first = list.get(0);
-                if (first instanceof java.util.Map<?, ?> map) {
-                    Object count = map.get("count");
-                    if (count instanceof Long c) return c.intValue();
-                }
+            } else {
+                nackMessage(channel, message, false);
             }
-        } catch (Exception ignored) { // retryCount = 0 처리
         }
-
-        return 0;
     }
 
     // 공용 ACK 헬퍼 메서드
@@ -103,6 +283,15 @@ public class AuctionEventListener {
         }
     }
 
+    // 이 채널에서 deliveryTag 이하의 미확인 메시지를 한 번에 ACK
+    private void ackMultiple(Channel channel, long deliveryTag) {
+        try {
+            channel.basicAck(deliveryTag, true);
+        } catch (IOException ioEx) {
+            log.error("[RabbitMQ] 일괄 ACK 처리 실패", ioEx);
+        }
+    }
+
     // 공용 NACK 헬퍼 메서드
     private void nackMessage(Channel channel, Message message, boolean requeue) {
         try {
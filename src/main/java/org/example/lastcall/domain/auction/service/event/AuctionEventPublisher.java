@@ -2,6 +2,8 @@ package org.example.lastcall.domain.auction.service.event;
 
 import lombok.RequiredArgsConstructor;
 import org.example.lastcall.common.config.AuctionConfig;
+import org.example.lastcall.domain.auction.enums.AuctionTimerType;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.stereotype.Service;
 
@@ -10,29 +12,17 @@ import org.springframework.stereotype.Service;
 public class AuctionEventPublisher {
     private final RabbitTemplate rabbitTemplate;
 
-    // 경매 시작 이벤트를 큐로 발행하는 메서드
-    public void sendAuctionStartEvent(AuctionEvent event, Long delayMillis) {
+    // 지연 메시지 발행, correlationData 가 있으면 브로커 확인(publisher confirm) 결과가 그 future 로 전달됨
+    public void publish(AuctionTimerType type, AuctionEvent event, long delayMillis, CorrelationData correlationData) {
         rabbitTemplate.convertAndSend(
                 AuctionConfig.EXCHANGE_NAME,
-                AuctionConfig.START_ROUTING_KEY,
+                AuctionConfig.routingKey(type),
                 event,
                 message -> {
                     message.getMessageProperties().setHeader("x-delay", delayMillis);
 
                     return message;
-                });
-    }
-
-    // 경매 종료 이벤트를 큐로 발행하는 메서드
-    public void sendAuctionEndEvent(AuctionEvent event, Long delayMillis) {
-        rabbitTemplate.convertAndSend(
-                AuctionConfig.EXCHANGE_NAME,
-                AuctionConfig.END_ROUTING_KEY,
-                event,
-                message -> {
-                    message.getMessageProperties().setHeader("x-delay", delayMillis);
-
-                    return message;
-                });
+                },
+                correlationData);
     }
 }
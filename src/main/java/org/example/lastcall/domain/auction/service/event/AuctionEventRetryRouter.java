@@ -0,0 +1,77 @@
+package org.example.lastcall.domain.auction.service.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.lastcall.common.config.AuctionConfig;
+import org.example.lastcall.domain.auction.config.AuctionRetryProperties;
+import org.example.lastcall.domain.auction.enums.AuctionTimerType;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// 처리에 실패한 경매 이벤트를 시도 횟수에 맞는 재시도 큐(5s -> 30s -> 5m)로, 모두 소진하면 parking 큐로 다시 발행
+// 큐 단위 dead-letter 와 달리 이벤트 종류별 라우팅 키로 보내 한 메시지가 한 큐에만 들어감
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuctionEventRetryRouter {
+    public static final String RETRY_COUNT_HEADER = "x-retry-count";
+    private static final String DELAY_HEADER = "x-delay";
+
+    private final RabbitTemplate rabbitTemplate;
+    private final AuctionRetryProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    // 다시 발행했으면 true (호출 측이 원본을 ACK), 발행 실패 시 false (원본 NACK -> 큐의 dead-letter 로 parking)
+    public boolean retryOrPark(Message message, AuctionTimerType type) {
+        int retryCount = retryCount(message);
+        boolean exhausted = retryCount >= properties.tiers().size();
+        String routingKey = exhausted
+                ? AuctionConfig.parkingRoutingKey(type)
+                : AuctionConfig.retryRoutingKey(type, properties.tiers().get(retryCount));
+
+        // 지연 exchange 로 되돌아갈 때 다시 지연되지 않도록 x-delay 제거
+        Message retry = MessageBuilder.fromClonedMessage(message)
+                .removeHeader(DELAY_HEADER)
+                .setHeader(RETRY_COUNT_HEADER, retryCount + 1)
+                .build();
+
+        try {
+            rabbitTemplate.send(AuctionConfig.DLX_NAME, routingKey, retry);
+        } catch (Exception e) {
+            log.error("[RabbitMQ] 재시도 메시지 발행 실패, parking 큐로 dead-letter: routingKey={}", routingKey, e);
+            return false;
+        }
+
+        if (exhausted) {
+            Counter.builder("auction.event.parked")
+                    .description("재시도를 모두 소진해 parking 큐로 보낸 이벤트 수")
+                    .tag("type", type.name())
+                    .register(meterRegistry)
+                    .increment();
+            log.error("[RabbitMQ] {} 재시도 {}회 소진, parking 큐로 이동", type.getDescription(), retryCount);
+        } else {
+            Duration tier = properties.tiers().get(retryCount);
+            Counter.builder("auction.event.retried")
+                    .description("재시도 큐로 보낸 이벤트 수")
+                    .tag("type", type.name())
+                    .tag("tier", tier.toString())
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("[RabbitMQ] {} 재시도 예약: retryCount={}, delay={}", type.getDescription(), retryCount + 1, tier);
+        }
+
+        return true;
+    }
+
+    public static int retryCount(Message message) {
+        Object count = message.getMessageProperties().getHeaders().get(RETRY_COUNT_HEADER);
+
+        return count instanceof Number number ? number.intValue() : 0;
+    }
+}
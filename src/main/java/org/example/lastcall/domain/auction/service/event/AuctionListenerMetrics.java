@@ -0,0 +1,116 @@
+package org.example.lastcall.domain.auction.service.event;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.lastcall.common.config.AuctionConfig;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.listener.MessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// 경매 이벤트 큐의 적체량과 소비자 사용률
+// 큐 깊이는 브로커 조회라 게이지 조회 시점이 아니라 주기적으로 읽어 두고,
+// 사용률은 직전 주기 동안 리스너가 처리에 쓴 시간 / (경과 시간 x 이 노드의 활성 소비자 수)
+@Slf4j
+@Component
+public class AuctionListenerMetrics {
+    private final AmqpAdmin amqpAdmin;
+    private final RabbitListenerEndpointRegistry listenerEndpointRegistry;
+    private final Map<String, QueueStats> stats = Map.of(
+            AuctionConfig.START_QUEUE_NAME, new QueueStats(
+                    List.of(AuctionEventListener.START_LISTENER_ID, AuctionEventListener.START_BATCH_LISTENER_ID)),
+            AuctionConfig.END_QUEUE_NAME, new QueueStats(
+                    List.of(AuctionEventListener.END_LISTENER_ID, AuctionEventListener.END_BATCH_LISTENER_ID)));
+
+    public AuctionListenerMetrics(AmqpAdmin amqpAdmin, RabbitListenerEndpointRegistry listenerEndpointRegistry,
+                                  MeterRegistry meterRegistry) {
+        this.amqpAdmin = amqpAdmin;
+        this.listenerEndpointRegistry = listenerEndpointRegistry;
+
+        stats.forEach((queue, queueStats) -> {
+            Gauge.builder("auction.listener.queue.depth", queueStats.depth, AtomicLong::get)
+                    .description("큐에 쌓인 메시지 수 (마지막 조회 기준)")
+                    .tag("queue", queue)
+                    .register(meterRegistry);
+            Gauge.builder("auction.listener.consumers", queueStats.consumers, AtomicLong::get)
+                    .description("이 노드의 활성 소비자 수")
+                    .tag("queue", queue)
+                    .register(meterRegistry);
+            Gauge.builder("auction.listener.utilization", queueStats.utilization, bits -> Double.longBitsToDouble(bits.get()))
+                    .description("직전 주기 동안 소비자가 메시지 처리에 쓴 시간 비율 (0~1)")
+                    .tag("queue", queue)
+                    .register(meterRegistry);
+        });
+    }
+
+    // 리스너가 메시지(또는 묶음) 처리에 쓴 시간 누적
+    public void recordBusy(String queue, long nanos) {
+        QueueStats queueStats = stats.get(queue);
+
+        if (queueStats != null) {
+            queueStats.busyNanos.add(nanos);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${auction.listener.metrics-interval-millis:10000}")
+    public void sample() {
+        stats.forEach(this::sample);
+    }
+
+    private void sample(String queue, QueueStats queueStats) {
+        long now = System.nanoTime();
+        long elapsed = now - queueStats.lastSampleNanos.getAndSet(now);
+        long busy = queueStats.busyNanos.sumThenReset();
+        int consumers = activeConsumers(queueStats.listenerIds);
+
+        queueStats.consumers.set(consumers);
+        queueStats.utilization.set(Double.doubleToLongBits(
+                consumers == 0 || elapsed <= 0 ? 0.0 : Math.min(1.0, (double) busy / ((double) elapsed * consumers))));
+
+        try {
+            QueueInformation info = amqpAdmin.getQueueInfo(queue);
+
+            if (info != null) {
+                queueStats.depth.set(info.getMessageCount());
+            }
+        } catch (Exception e) {
+            log.debug("[RabbitMQ] 큐 깊이 조회 실패: queue={}, message={}", queue, e.getMessage());
+        }
+    }
+
+    private int activeConsumers(List<String> listenerIds) {
+        int consumers = 0;
+
+        for (String listenerId : listenerIds) {
+            MessageListenerContainer container = listenerEndpointRegistry.getListenerContainer(listenerId);
+
+            if (container instanceof SimpleMessageListenerContainer simple && simple.isRunning()) {
+                consumers += simple.getActiveConsumerCount();
+            }
+        }
+
+        return consumers;
+    }
+
+    private static final class QueueStats {
+        private final List<String> listenerIds;
+        private final AtomicLong depth = new AtomicLong();
+        private final AtomicLong consumers = new AtomicLong();
+        private final AtomicLong utilization = new AtomicLong(Double.doubleToLongBits(0.0));
+        private final AtomicLong lastSampleNanos = new AtomicLong(System.nanoTime());
+        private final LongAdder busyNanos = new LongAdder();
+
+        private QueueStats(List<String> listenerIds) {
+            this.listenerIds = listenerIds;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package org.example.lastcall.domain.auction.service.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.lastcall.domain.auction.config.AuctionOutboxProperties;
+import org.example.lastcall.domain.auction.config.AuctionTimerProperties;
+import org.example.lastcall.domain.auction.enums.AuctionSchedulingMode;
+import org.example.lastcall.domain.auction.enums.AuctionTimerType;
+import org.example.lastcall.domain.auction.repository.AuctionOutboxMessage;
+import org.example.lastcall.domain.auction.repository.AuctionOutboxRepository;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+// outbox 의 미발행 이벤트를 묶음 단위로 점유해 RabbitMQ 로 발행 (RABBITMQ 스케줄링 모드에서만 동작)
+// 묶음 안에서 같은 경매/이벤트 종류는 최신 버전 하나만 발행하고, 브로커 확인(ack)을 받은 행만 한 번에 발행 완료로 표시
+@Slf4j
+@Component
+public class AuctionOutboxRelay {
+    private final AuctionOutboxRepository auctionOutboxRepository;
+    private final AuctionEventPublisher auctionEventPublisher;
+    private final AuctionOutboxProperties properties;
+    private final AuctionTimerProperties auctionTimerProperties;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final AtomicLong pending = new AtomicLong();
+    private final Counter published;
+    private final Counter superseded;
+    private final Counter failed;
+
+    public AuctionOutboxRelay(AuctionOutboxRepository auctionOutboxRepository, AuctionEventPublisher auctionEventPublisher,
+                              AuctionOutboxProperties properties, AuctionTimerProperties auctionTimerProperties,
+                              MeterRegistry meterRegistry) {
+        this.auctionOutboxRepository = auctionOutboxRepository;
+        this.auctionEventPublisher = auctionEventPublisher;
+        this.properties = properties;
+        this.auctionTimerProperties = auctionTimerProperties;
+        this.published = Counter.builder("auction.outbox.published")
+                .description("브로커 확인을 받은 이벤트 수")
+                .register(meterRegistry);
+        this.superseded = Counter.builder("auction.outbox.superseded")
+                .description("같은 묶음의 최신 버전에 접혀 발행하지 않은 이벤트 수")
+                .register(meterRegistry);
+        this.failed = Counter.builder("auction.outbox.failed")
+                .description("발행 실패/거절(nack)/확인 시간 초과로 다시 대기시킨 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder("auction.outbox.pending", pending, AtomicLong::get)
+                .description("마지막 실행 이후 남은 미발행 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${auction.outbox.poll-interval-millis:500}")
+    public void relay() {
+        if (!isEnabled()) {
+            return;
+        }
+
+        try {
+            for (int i = 0; i < properties.maxBatchesPerRun(); i++) {
+                if (relayBatch() < properties.batchSize()) {
+                    break;
+                }
+            }
+
+            pending.set(auctionOutboxRepository.countPending());
+        } catch (Exception e) {
+            log.error("[Outbox] 이벤트 릴레이 실패", e);
+        }
+    }
+
+    // 발행 완료 후 보관 기간이 지난 행 정리
+    @Scheduled(fixedDelayString = "${auction.outbox.purge-interval-millis:3600000}")
+    public void purge() {
+        if (!isEnabled()) {
+            return;
+        }
+
+        try {
+            int deleted = auctionOutboxRepository.deleteSentBefore(LocalDateTime.now().minus(properties.retention()));
+            log.debug("[Outbox] 발행 완료 이벤트 정리: deleted={}", deleted);
+        } catch (Exception e) {
+            log.error("[Outbox] 발행 완료 이벤트 정리 실패", e);
+        }
+    }
+
+    // 한 묶음을 점유해 발행하고 점유한 행 수를 반환
+    int relayBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<AuctionOutboxMessage> claimed = auctionOutboxRepository.claimPending(
+                nodeId, now, now.plus(properties.lease()), properties.batchSize());
+
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+
+        // 경매/이벤트 종류별 최신 버전만 남기고 나머지는 발행 없이 완료 처리
+        Map<Key, AuctionOutboxMessage> latest = new LinkedHashMap<>();
+        List<Long> sentIds = new ArrayList<>();
+
+        for (AuctionOutboxMessage message : claimed) {
+            AuctionOutboxMessage previous = latest.putIfAbsent(new Key(message.auctionId(), message.eventType()), message);
+
+            if (previous == null) {
+                continue;
+            }
+
+            if (message.version() > previous.version()) {
+                latest.put(new Key(message.auctionId(), message.eventType()), message);
+                sentIds.add(previous.id());
+            } else {
+                sentIds.add(message.id());
+            }
+        }
+
+        superseded.increment(sentIds.size());
+
+        // 확인을 기다리지 않고 묶음 전체를 먼저 보낸 뒤 한 번에 확인 결과를 모음
+        Map<AuctionOutboxMessage, CorrelationData> inFlight = new LinkedHashMap<>();
+        List<Long> failedIds = new ArrayList<>();
+
+        for (AuctionOutboxMessage message : latest.values()) {
+            CorrelationData correlation = new CorrelationData(String.valueOf(message.id()));
+
+            try {
+                long delayMillis = Math.max(0, Duration.between(LocalDateTime.now(), message.fireAt()).toMillis());
+                auctionEventPublisher.publish(message.eventType(),
+                        new AuctionEvent(message.auctionId(), null, null, null, message.version()), delayMillis, correlation);
+                inFlight.put(message, correlation);
+            } catch (Exception e) {
+                log.warn("[Outbox] 이벤트 발행 실패: outboxId={}, auctionId={}", message.id(), message.auctionId(), e);
+                failedIds.add(message.id());
+            }
+        }
+
+        long deadline = System.nanoTime() + properties.confirmTimeout().toNanos();
+
+        inFlight.forEach((message, correlation) -> {
+            if (isAcked(message, correlation, deadline)) {
+                sentIds.add(message.id());
+                published.increment();
+            } else {
+                failedIds.add(message.id());
+            }
+        });
+
+        auctionOutboxRepository.markSent(sentIds, LocalDateTime.now());
+        auctionOutboxRepository.release(failedIds);
+        failed.increment(failedIds.size());
+
+        log.debug("[Outbox] 이벤트 릴레이: claimed={}, published={}, failed={}",
+                claimed.size(), latest.size() - failedIds.size(), failedIds.size());
+
+        return claimed.size();
+    }
+
+    private boolean isAcked(AuctionOutboxMessage message, CorrelationData correlation, long deadline) {
+        try {
+            CorrelationData.Confirm confirm = correlation.getFuture()
+                    .get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+
+            if (!confirm.isAck()) {
+                log.warn("[Outbox] 브로커 거절(nack): outboxId={}, reason={}", message.id(), confirm.getReason());
+            }
+
+            return confirm.isAck();
+        } catch (TimeoutException e) {
+            log.warn("[Outbox] 브로커 확인 시간 초과: outboxId={}", message.id());
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            log.warn("[Outbox] 브로커 확인 실패: outboxId={}", message.id(), e);
+            return false;
+        }
+    }
+
+    private boolean isEnabled() {
+        return auctionTimerProperties.mode() == AuctionSchedulingMode.RABBITMQ;
+    }
+
+    private record Key(Long auctionId, AuctionTimerType eventType) {
+    }
+}
@@ -0,0 +1,126 @@
+package org.example.lastcall.domain.auction.service.event;
+
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.GetResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.lastcall.common.config.AuctionConfig;
+import org.example.lastcall.domain.auction.config.AuctionRetryProperties;
+import org.example.lastcall.domain.auction.dto.response.AuctionEventReplayResponse;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+
+// parking 큐에 보관된 경매 이벤트를 batchSize 개씩 원래 큐로 되돌림
+// 한 묶음을 발행하고 브로커 확인(confirm)을 받은 뒤에만 parking 큐에서 한 번에 ACK 하므로, 실패하면 묶음 전체가 parking 큐에 남음
+@Slf4j
+@Service
+public class AuctionParkingLotService {
+    private static final List<String> DEAD_LETTER_HEADERS = List.of(
+            "x-death", "x-first-death-exchange", "x-first-death-queue", "x-first-death-reason",
+            "x-last-death-exchange", "x-last-death-queue", "x-last-death-reason", "x-delay");
+
+    private final RabbitTemplate rabbitTemplate;
+    private final AmqpAdmin amqpAdmin;
+    private final AuctionRetryProperties properties;
+    private final Counter replayedCounter;
+
+    public AuctionParkingLotService(RabbitTemplate rabbitTemplate, AmqpAdmin amqpAdmin, AuctionRetryProperties properties,
+                                    MeterRegistry meterRegistry) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.amqpAdmin = amqpAdmin;
+        this.properties = properties;
+        this.replayedCounter = Counter.builder("auction.event.replayed")
+                .description("parking 큐에서 경매 exchange 로 되돌린 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    public AuctionEventReplayResponse replay(int maxMessages) {
+        int replayed = 0;
+
+        while (replayed < maxMessages) {
+            int limit = Math.min(Math.max(properties.replayBatchSize(), 1), maxMessages - replayed);
+            Integer count = rabbitTemplate.execute(channel -> replayBatch(channel, limit));
+
+            replayed += count == null ? 0 : count;
+
+            if (count == null || count < limit) {
+                break;
+            }
+        }
+
+        replayedCounter.increment(replayed);
+        log.info("[RabbitMQ] parking 큐 이벤트 재처리: replayed={}", replayed);
+
+        return new AuctionEventReplayResponse(replayed, parkedCount());
+    }
+
+    public long parkedCount() {
+        QueueInformation info = amqpAdmin.getQueueInfo(AuctionConfig.PARKING_QUEUE_NAME);
+
+        return info == null ? 0 : info.getMessageCount();
+    }
+
+    int replayBatch(Channel channel, int limit) throws IOException, InterruptedException, TimeoutException {
+        channel.confirmSelect();
+
+        long lastDeliveryTag = -1;
+        int count = 0;
+
+        try {
+            while (count < limit) {
+                GetResponse response = channel.basicGet(AuctionConfig.PARKING_QUEUE_NAME, false);
+
+                if (response == null) {
+                    break;
+                }
+
+                lastDeliveryTag = response.getEnvelope().getDeliveryTag();
+                channel.basicPublish(AuctionConfig.EXCHANGE_NAME, originalRoutingKey(response.getEnvelope().getRoutingKey()),
+                        resetRetry(response.getProps()), response.getBody());
+                count++;
+            }
+
+            if (count > 0) {
+                channel.waitForConfirmsOrDie(properties.replayConfirmTimeout().toMillis());
+                channel.basicAck(lastDeliveryTag, true);
+            }
+
+            return count;
+        } catch (IOException | InterruptedException | TimeoutException | RuntimeException e) {
+            // 묶음 전체를 parking 큐로 되돌림 (일부가 이미 발행됐다면 리스너의 버전/상태 검사로 중복이 무시됨)
+            if (lastDeliveryTag >= 0) {
+                channel.basicNack(lastDeliveryTag, true, true);
+            }
+
+            throw e;
+        }
+    }
+
+    // parking 라우팅 키 -> 원래 이벤트 라우팅 키
+    private String originalRoutingKey(String parkingRoutingKey) {
+        return switch (parkingRoutingKey) {
+            case AuctionConfig.START_PARKING_ROUTING_KEY -> AuctionConfig.START_ROUTING_KEY;
+            case AuctionConfig.END_PARKING_ROUTING_KEY -> AuctionConfig.END_ROUTING_KEY;
+            default -> throw new IllegalStateException("알 수 없는 parking 라우팅 키: " + parkingRoutingKey);
+        };
+    }
+
+    // 재처리된 이벤트는 첫 시도부터 다시 재시도 단계를 거침
+    private AMQP.BasicProperties resetRetry(AMQP.BasicProperties props) {
+        Map<String, Object> headers = props.getHeaders() == null ? new HashMap<>() : new HashMap<>(props.getHeaders());
+        DEAD_LETTER_HEADERS.forEach(headers::remove);
+        headers.put(AuctionEventRetryRouter.RETRY_COUNT_HEADER, 0);
+
+        return props.builder().headers(headers).build();
+    }
+}
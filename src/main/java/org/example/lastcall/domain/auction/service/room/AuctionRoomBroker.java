@@ -0,0 +1,12 @@
+package org.example.lastcall.domain.auction.service.room;
+
+import java.util.function.Consumer;
+
+import org.example.lastcall.domain.auction.dto.response.AuctionRoomMessage;
+
+// 경매방 메시지를 모든 노드로 전달하는 통로 (운영: Redis pub/sub, 테스트: 메모리 구현으로 대체)
+public interface AuctionRoomBroker {
+    void publish(AuctionRoomMessage message);
+
+    void subscribe(Consumer<AuctionRoomMessage> listener);
+}
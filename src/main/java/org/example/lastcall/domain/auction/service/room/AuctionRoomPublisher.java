@@ -0,0 +1,49 @@
+package org.example.lastcall.domain.auction.service.room;
+
+import org.example.lastcall.domain.auction.dto.response.AuctionRoomMessage;
+import org.example.lastcall.domain.auction.enums.AuctionStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 입찰/상태 변경을 경매방 구독자에게 알림, 트랜잭션 안에서 호출되면 커밋 이후에만 발행
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuctionRoomPublisher {
+    private final AuctionRoomBroker auctionRoomBroker;
+
+    public void publishBid(Long auctionId, Long currentBid, Integer participantCount) {
+        publishAfterCommit(AuctionRoomMessage.bid(auctionId, currentBid, participantCount));
+    }
+
+    public void publishStatus(Long auctionId, AuctionStatus status) {
+        publishAfterCommit(AuctionRoomMessage.status(auctionId, status));
+    }
+
+    private void publishAfterCommit(AuctionRoomMessage message) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(message);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(message);
+            }
+        });
+    }
+
+    // 실시간 알림 실패가 입찰/종료 처리를 실패시키지 않도록 예외를 삼킴
+    private void publish(AuctionRoomMessage message) {
+        try {
+            auctionRoomBroker.publish(message);
+        } catch (Exception e) {
+            log.warn("[AuctionRoom] 메시지 발행 실패: auctionId={}", message.getAuctionId(), e);
+        }
+    }
+}
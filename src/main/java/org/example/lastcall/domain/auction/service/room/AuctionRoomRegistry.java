@@ -0,0 +1,119 @@
+package org.example.lastcall.domain.auction.service.room;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.example.lastcall.domain.auction.dto.response.AuctionRoomMessage;
+import org.example.lastcall.domain.auction.service.query.AuctionFinder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// 이 노드에 연결된 경매방 구독자 관리, 브로커로 받은 메시지를 해당 경매 구독자에게 전달
+@Slf4j
+@Component
+public class AuctionRoomRegistry {
+    private static final long EMITTER_TIMEOUT_MILLIS = 30 * 60 * 1000L;
+
+    private final Map<Long, Set<AuctionRoomSubscriber>> rooms = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AuctionFinder auctionFinder;
+    private final ExecutorService dispatcher;
+    private final Counter coalescedCounter;
+
+    public AuctionRoomRegistry(AuctionFinder auctionFinder, AuctionRoomBroker auctionRoomBroker, MeterRegistry meterRegistry) {
+        this.auctionFinder = auctionFinder;
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.dispatcher = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+            Thread thread = new Thread(runnable, "auction-room-" + threadIndex.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("auction.room.subscribers", subscriberCount, AtomicInteger::get)
+                .description("이 노드에 연결된 경매방 구독자 수")
+                .register(meterRegistry);
+
+        this.coalescedCounter = Counter.builder("auction.room.coalesced")
+                .description("느린 구독자에게 보내기 전에 합쳐진 변경분 수")
+                .register(meterRegistry);
+
+        auctionRoomBroker.subscribe(this::dispatch);
+    }
+
+    public SseEmitter subscribe(Long auctionId) {
+        return subscribe(auctionId, new SseEmitter(EMITTER_TIMEOUT_MILLIS));
+    }
+
+    // 먼저 등록해 변경분을 쌓아 둔 뒤 스냅샷을 보냄 (스냅샷 조회 중 들어온 입찰 누락 방지)
+    public SseEmitter subscribe(Long auctionId, SseEmitter emitter) {
+        AuctionRoomSubscriber subscriber = new AuctionRoomSubscriber(auctionId, emitter, dispatcher, this::remove);
+
+        rooms.compute(auctionId, (id, subscribers) -> {
+            Set<AuctionRoomSubscriber> room = subscribers != null ? subscribers : ConcurrentHashMap.newKeySet();
+            room.add(subscriber);
+            return room;
+        });
+        subscriberCount.incrementAndGet();
+
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+
+        try {
+            subscriber.start(AuctionRoomMessage.snapshot(auctionFinder.findById(auctionId)));
+        } catch (RuntimeException e) {
+            remove(subscriber);
+            throw e;
+        }
+
+        return emitter;
+    }
+
+    public int subscriberCount(Long auctionId) {
+        Set<AuctionRoomSubscriber> subscribers = rooms.get(auctionId);
+
+        return subscribers == null ? 0 : subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rooms.values().forEach(subscribers -> subscribers.forEach(AuctionRoomSubscriber::close));
+        dispatcher.shutdown();
+    }
+
+    private void dispatch(AuctionRoomMessage message) {
+        Set<AuctionRoomSubscriber> subscribers = rooms.get(message.getAuctionId());
+
+        if (subscribers == null) {
+            return;
+        }
+
+        for (AuctionRoomSubscriber subscriber : subscribers) {
+            if (subscriber.offer(message)) {
+                coalescedCounter.increment();
+            }
+        }
+    }
+
+    // 완료/타임아웃/전송 실패가 겹쳐 여러 번 호출될 수 있음
+    private void remove(AuctionRoomSubscriber subscriber) {
+        rooms.computeIfPresent(subscriber.getAuctionId(), (id, subscribers) -> {
+            if (subscribers.remove(subscriber)) {
+                subscriberCount.decrementAndGet();
+            }
+
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+}
@@ -0,0 +1,97 @@
+package org.example.lastcall.domain.auction.service.room;
+
+import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import org.example.lastcall.domain.auction.dto.response.AuctionRoomMessage;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import lombok.Getter;
+
+// 구독자 1명의 전송 상태: 보내지 못한 변경분은 하나로 합쳐 두고, 전송이 끝나면 최신 값만 보냄
+class AuctionRoomSubscriber {
+    @Getter
+    private final Long auctionId;
+    private final SseEmitter emitter;
+    private final Executor executor;
+    private final Consumer<AuctionRoomSubscriber> onClose;
+    private final AtomicReference<AuctionRoomMessage> pending = new AtomicReference<>();
+    // 스냅샷을 보내기 전까지는 true 로 두어 변경분을 쌓기만 함
+    private final AtomicBoolean sending = new AtomicBoolean(true);
+
+    AuctionRoomSubscriber(Long auctionId, SseEmitter emitter, Executor executor, Consumer<AuctionRoomSubscriber> onClose) {
+        this.auctionId = auctionId;
+        this.emitter = emitter;
+        this.executor = executor;
+        this.onClose = onClose;
+    }
+
+    void start(AuctionRoomMessage snapshot) {
+        if (snapshot.isTerminal()) {
+            send(snapshot);
+            emitter.complete();
+            onClose.accept(this);
+            return;
+        }
+
+        if (send(snapshot)) {
+            sending.set(false);
+            scheduleIfPending();
+        }
+    }
+
+    // 이전 변경분이 아직 전송 대기 중이면 합쳐짐 (true 반환)
+    boolean offer(AuctionRoomMessage message) {
+        AuctionRoomMessage previous = pending.getAndAccumulate(message,
+                (current, next) -> current == null ? next : current.mergedWith(next));
+        scheduleIfPending();
+
+        return previous != null;
+    }
+
+    void close() {
+        emitter.complete();
+    }
+
+    private void scheduleIfPending() {
+        if (pending.get() != null && sending.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        AuctionRoomMessage message;
+
+        while ((message = pending.getAndSet(null)) != null) {
+            if (!send(message)) {
+                return;
+            }
+
+            if (message.isTerminal()) {
+                emitter.complete();
+                onClose.accept(this);
+                return;
+            }
+        }
+
+        sending.set(false);
+        scheduleIfPending();
+    }
+
+    private boolean send(AuctionRoomMessage message) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name(message.getType().name().toLowerCase())
+                    .data(message));
+
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            onClose.accept(this);
+
+            return false;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package org.example.lastcall.domain.auction.service.room;
+
+import java.util.function.Consumer;
+
+import org.example.lastcall.domain.auction.dto.response.AuctionRoomMessage;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class RedisAuctionRoomBroker implements AuctionRoomBroker {
+    public static final String TOPIC = "auction:room";
+
+    private final RTopic topic;
+    private final ObjectMapper objectMapper;
+
+    public RedisAuctionRoomBroker(RedissonClient redissonClient, ObjectMapper objectMapper) {
+        this.topic = redissonClient.getTopic(TOPIC, StringCodec.INSTANCE);
+        this.objectMapper = objectMapper;
+    }
+
+    // 입찰 응답을 늦추지 않도록 비동기 발행
+    @Override
+    public void publish(AuctionRoomMessage message) {
+        try {
+            topic.publishAsync(objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException e) {
+            log.warn("[AuctionRoom] 메시지 직렬화 실패: auctionId={}", message.getAuctionId(), e);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<AuctionRoomMessage> listener) {
+        topic.addListener(String.class, (channel, payload) -> {
+            try {
+                listener.accept(objectMapper.readValue(payload, AuctionRoomMessage.class));
+            } catch (JsonProcessingException e) {
+                log.warn("[AuctionRoom] 메시지 역직렬화 실패: payload={}", payload, e);
+            }
+        });
+    }
+}
@@ -0,0 +1,229 @@
+package org.example.lastcall.domain.auction.service.timer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.lastcall.common.exception.BusinessException;
+import org.example.lastcall.common.exception.ErrorCode;
+import org.example.lastcall.domain.auction.config.AuctionTimerProperties;
+import org.example.lastcall.domain.auction.exception.AuctionErrorCode;
+import org.example.lastcall.domain.auction.enums.AuctionSchedulingMode;
+import org.example.lastcall.domain.auction.enums.AuctionTimerType;
+import org.example.lastcall.domain.auction.repository.AuctionRepository;
+import org.example.lastcall.domain.auction.repository.AuctionTimerRepository;
+import org.example.lastcall.domain.auction.service.command.AuctionBulkCloser;
+import org.example.lastcall.domain.auction.service.command.AuctionCommandService;
+import org.example.lastcall.domain.auction.service.room.AuctionRoomPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 타이밍 휠을 tick 마다 돌려 만료된 타이머를 실행
+// 실행 전에 DB 행을 점유해 여러 노드가 같은 타이머를 들고 있어도 한 노드만 startAuction/closeAuction 호출
+@Slf4j
+@Component
+public class AuctionTimerRunner {
+    // 다시 실행해도 결과가 같은 예외만 완료 처리 (락 획득 실패 등 일시적인 예외는 재시도)
+    private static final Set<ErrorCode> TERMINAL_ERRORS = Set.of(
+            AuctionErrorCode.AUCTION_NOT_FOUND,
+            AuctionErrorCode.AUCTION_ALREADY_CLOSED);
+
+    private final AuctionTimerService auctionTimerService;
+    private final AuctionTimerRepository auctionTimerRepository;
+    private final AuctionCommandService auctionCommandService;
+    private final AuctionBulkCloser auctionBulkCloser;
+    private final AuctionRepository auctionRepository;
+    private final AuctionRoomPublisher auctionRoomPublisher;
+    private final AuctionTimerProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Timer fireLag;
+    private ScheduledExecutorService ticker;
+    private ExecutorService firePool;
+
+    public AuctionTimerRunner(AuctionTimerService auctionTimerService, AuctionTimerRepository auctionTimerRepository,
+                              AuctionCommandService auctionCommandService, AuctionBulkCloser auctionBulkCloser,
+                              AuctionRepository auctionRepository, AuctionRoomPublisher auctionRoomPublisher, AuctionTimerProperties properties,
+                              MeterRegistry meterRegistry) {
+        this.auctionTimerService = auctionTimerService;
+        this.auctionTimerRepository = auctionTimerRepository;
+        this.auctionCommandService = auctionCommandService;
+        this.auctionBulkCloser = auctionBulkCloser;
+        this.auctionRepository = auctionRepository;
+        this.auctionRoomPublisher = auctionRoomPublisher;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.fireLag = Timer.builder("auction.timer.lag")
+                .description("예약 시각부터 실제 실행까지 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!isEnabled()) {
+            return;
+        }
+
+        AtomicInteger threadSeq = new AtomicInteger();
+
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> daemon(runnable, "auction-timer-wheel"));
+        firePool = Executors.newFixedThreadPool(Math.max(properties.firePoolSize(), 1),
+                runnable -> daemon(runnable, "auction-timer-fire-" + threadSeq.incrementAndGet()));
+        ticker.scheduleAtFixedRate(this::tick, properties.tickMillis(), properties.tickMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+
+        // 실행 중이던 타이머는 lease 가 끝나면 다른 노드가 다시 실행
+        if (firePool != null) {
+            firePool.shutdown();
+        }
+    }
+
+    // 시작 직후 한 번, 이후 주기적으로 곧 실행될 타이머를 DB 에서 다시 읽음
+    @Scheduled(fixedDelayString = "${auction.timer.scan-interval-millis:30000}")
+    public void scan() {
+        if (!isEnabled()) {
+            return;
+        }
+
+        try {
+            int loaded = auctionTimerService.loadDueSoon();
+            log.debug("[AuctionTimer] 타이머 스캔: loaded={}", loaded);
+        } catch (Exception e) {
+            log.error("[AuctionTimer] 타이머 스캔 실패", e);
+        }
+    }
+
+    private void tick() {
+        try {
+            for (AuctionTimerTask task : auctionTimerService.pollExpired(System.currentTimeMillis())) {
+                firePool.execute(() -> fire(task));
+            }
+        } catch (RejectedExecutionException e) {
+            log.debug("[AuctionTimer] 종료 중이라 타이머 실행 생략");
+        } catch (Exception e) {
+            log.error("[AuctionTimer] 타이밍 휠 진행 실패", e);
+        }
+    }
+
+    // 취소/재예약된 타이머는 점유 UPDATE 가 0건이라 경매를 조회하지 않고 버려짐
+    public void fire(AuctionTimerTask task) {
+        LocalDateTime now = LocalDateTime.now();
+
+        if (!auctionTimerRepository.claim(task, nodeId, now, now.plus(properties.lease()))) {
+            count(task.type(), "skipped");
+            return;
+        }
+
+        // 일괄 종료 모드면 같은 틱에 만료된 종료 타이머가 한 묶음으로 처리되도록 기다리지 않고 넘김 (점유는 lease 동안 유지)
+        if (task.type() == AuctionTimerType.END && auctionBulkCloser.isBatchEnabled()) {
+            try {
+                auctionBulkCloser.submit(task.auctionId())
+                        .whenComplete((ignored, error) -> finish(task, error))
+                        .exceptionally(e -> {
+                            log.error("[AuctionTimer] 종료 타이머 결과 반영 실패, lease 만료 후 재실행: auctionId={}", task.auctionId(), e);
+                            return null;
+                        });
+            } catch (Exception e) {
+                finish(task, e);
+            }
+
+            return;
+        }
+
+        try {
+            if (task.type() == AuctionTimerType.START) {
+                auctionCommandService.startAuction(task.auctionId());
+            } else {
+                auctionCommandService.closeAuction(task.auctionId());
+            }
+
+            finish(task, null);
+        } catch (Exception e) {
+            finish(task, e);
+        }
+    }
+
+    private void finish(AuctionTimerTask task, Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            error = error.getCause();
+        }
+
+        if (error == null) {
+            auctionTimerRepository.complete(task, nodeId);
+            fireLag.record(Duration.between(task.fireAt(), LocalDateTime.now()));
+            count(task.type(), "fired");
+
+            // 경매방 구독자에게 바뀐 상태 알림
+            auctionRepository.findById(task.auctionId())
+                    .ifPresent(updated -> auctionRoomPublisher.publishStatus(updated.getId(), updated.getStatus()));
+            log.info("[AuctionTimer] {} 처리 완료: auctionId={}", task.type().getDescription(), task.auctionId());
+        } else if (error instanceof BusinessException e && TERMINAL_ERRORS.contains(e.getErrorCode())) {
+            // 이미 종료/삭제된 경매는 다시 실행해도 같은 결과이므로 완료 처리
+            auctionTimerRepository.complete(task, nodeId);
+            count(task.type(), "rejected");
+            log.warn("[AuctionTimer] {} 비즈니스 예외: auctionId={}, message={}", task.type().getDescription(), task.auctionId(), e.getMessage());
+        } else {
+            retry(task, error);
+        }
+    }
+
+    private void retry(AuctionTimerTask task, Throwable cause) {
+        LocalDateTime nextFireAt = LocalDateTime.now().plus(properties.retryBackoff());
+
+        if (auctionTimerRepository.retry(task, nodeId, nextFireAt, properties.maxAttempts())) {
+            auctionTimerService.register(new AuctionTimerTask(task.auctionId(), task.type(), task.version(), nextFireAt));
+            count(task.type(), "retried");
+            log.warn("[AuctionTimer] {} 처리 실패, 재시도 예약: auctionId={}, nextFireAt={}",
+                    task.type().getDescription(), task.auctionId(), nextFireAt, cause);
+            return;
+        }
+
+        // 경매가 진행/종료되지 않은 채 남지 않도록 지우지 않고 보관 (관리자 재처리 또는 재예약 시 다시 실행)
+        if (auctionTimerRepository.park(task, nodeId, LocalDateTime.now())) {
+            count(task.type(), "parked");
+        }
+
+        log.error("[AuctionTimer] {} 처리 실패 {}회 초과, 타이머 보관: auctionId={}",
+                task.type().getDescription(), properties.maxAttempts(), task.auctionId(), cause);
+    }
+
+    private void count(AuctionTimerType type, String result) {
+        Counter.builder("auction.timer.fired")
+                .description("만료된 타이머 처리 결과 (fired, skipped, rejected, retried, parked)")
+                .tag("type", type.name())
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private boolean isEnabled() {
+        return properties.mode() == AuctionSchedulingMode.TIMER;
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+
+        return thread;
+    }
+}
@@ -0,0 +1,127 @@
+package org.example.lastcall.domain.auction.service.timer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.lastcall.domain.auction.config.AuctionTimerProperties;
+import org.example.lastcall.domain.auction.dto.response.AuctionTimerReplayResponse;
+import org.example.lastcall.domain.auction.entity.Auction;
+import org.example.lastcall.domain.auction.enums.AuctionTimerType;
+import org.example.lastcall.domain.auction.repository.AuctionTimerRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+// 경매 시작/종료 타이머 예약/재예약/취소
+// DB(auction_timers)가 기준이고 타이밍 휠은 이 노드가 곧 실행할 타이머의 메모리 색인 (커밋된 예약만 휠에 등록)
+@Slf4j
+@Service
+public class AuctionTimerService {
+    private final AuctionTimerRepository auctionTimerRepository;
+    private final AuctionTimerProperties properties;
+    private final HierarchicalTimingWheel<AuctionTimerTask.Key, AuctionTimerTask> wheel;
+    private final Counter replayedCounter;
+
+    public AuctionTimerService(AuctionTimerRepository auctionTimerRepository, AuctionTimerProperties properties,
+                               MeterRegistry meterRegistry) {
+        this.auctionTimerRepository = auctionTimerRepository;
+        this.properties = properties;
+        this.wheel = new HierarchicalTimingWheel<>(properties.tickMillis(), properties.wheelSize(), properties.levels(),
+                System.currentTimeMillis());
+
+        Gauge.builder("auction.timer.pending", wheel, HierarchicalTimingWheel::size)
+                .description("이 노드의 타이밍 휠에 등록된 타이머 수")
+                .register(meterRegistry);
+        this.replayedCounter = Counter.builder("auction.timer.replayed")
+                .description("보관 상태에서 다시 예약한 타이머 수")
+                .register(meterRegistry);
+    }
+
+    // 경매 시작/종료 타이머를 현재 이벤트 버전으로 예약 (재예약도 같은 행을 덮어씀)
+    public void schedule(Auction auction) {
+        AuctionTimerTask start = new AuctionTimerTask(auction.getId(), AuctionTimerType.START, auction.getEventVersion(), auction.getStartTime());
+        AuctionTimerTask end = new AuctionTimerTask(auction.getId(), AuctionTimerType.END, auction.getEventVersion(), auction.getEndTime());
+
+        auctionTimerRepository.upsert(start.auctionId(), start.type(), start.fireAt(), start.version());
+        auctionTimerRepository.upsert(end.auctionId(), end.type(), end.fireAt(), end.version());
+
+        afterCommit(() -> {
+            register(start);
+            register(end);
+        });
+        log.info("[AuctionTimer] 경매 타이머 예약: auctionId={}, startTime={}, endTime={}, version={}",
+                auction.getId(), auction.getStartTime(), auction.getEndTime(), auction.getEventVersion());
+    }
+
+    // 다른 노드 휠에 남은 예약은 실행 시 DB 점유에 실패해 버려짐
+    public void cancel(Long auctionId) {
+        auctionTimerRepository.deleteByAuctionId(auctionId);
+
+        afterCommit(() -> {
+            wheel.cancel(new AuctionTimerTask.Key(auctionId, AuctionTimerType.START));
+            wheel.cancel(new AuctionTimerTask.Key(auctionId, AuctionTimerType.END));
+        });
+        log.info("[AuctionTimer] 경매 타이머 취소: auctionId={}", auctionId);
+    }
+
+    // 이미 같은 예약이 휠에 있으면 다시 넣지 않음 (주기적 스캔이 같은 행을 반복해서 읽음)
+    public void register(AuctionTimerTask task) {
+        if (Objects.equals(wheel.get(task.key()), task)) {
+            return;
+        }
+
+        wheel.schedule(task.key(), Timestamp.valueOf(task.fireAt()).getTime(), task);
+    }
+
+    public List<AuctionTimerTask> pollExpired(long nowMillis) {
+        return wheel.advance(nowMillis);
+    }
+
+    // horizon 안에 실행될 타이머를 DB 에서 읽어 휠에 등록 (재시작 복구, 다른 노드에서 예약된 타이머 반영)
+    public int loadDueSoon() {
+        List<AuctionTimerTask> tasks = auctionTimerRepository.findDueBefore(
+                LocalDateTime.now().plus(properties.horizon()), properties.scanBatchSize());
+
+        tasks.forEach(this::register);
+
+        return tasks.size();
+    }
+
+    // 보관된 타이머를 지금 실행되도록 되돌리고 바로 휠에 올림 (다른 노드는 다음 스캔에서 읽지만 점유는 한 노드만 성공)
+    public AuctionTimerReplayResponse replayParked(int maxTimers) {
+        int replayed = auctionTimerRepository.unpark(LocalDateTime.now(), maxTimers);
+
+        if (replayed > 0) {
+            loadDueSoon();
+        }
+
+        replayedCounter.increment(replayed);
+        log.info("[AuctionTimer] 보관된 타이머 재처리: replayed={}", replayed);
+
+        return new AuctionTimerReplayResponse(replayed, parkedCount());
+    }
+
+    public long parkedCount() {
+        return auctionTimerRepository.countParked();
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.lastcall.domain.auction.service.timer;
+
+import org.example.lastcall.domain.auction.enums.AuctionTimerType;
+
+import java.time.LocalDateTime;
+
+// 타이밍 휠에 올라가는 타이머 한 건 (version 이 DB 와 다르면 취소/재예약된 것)
+public record AuctionTimerTask(Long auctionId, AuctionTimerType type, Long version, LocalDateTime fireAt) {
+    public Key key() {
+        return new Key(auctionId, type);
+    }
+
+    public record Key(Long auctionId, AuctionTimerType type) {
+    }
+}
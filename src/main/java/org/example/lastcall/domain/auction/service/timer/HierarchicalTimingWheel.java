@@ -0,0 +1,153 @@
+package org.example.lastcall.domain.auction.service.timer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 계층형 타이밍 휠: 레벨 L 의 한 칸은 tick * wheelSize^L 밀리초
+// 먼 타이머는 상위 레벨 칸에 두었다가 그 칸 차례가 오면 하위 레벨로 내려 보내므로 등록/취소/틱 모두 O(1)
+// 실행 시각을 tick 단위로 올림해 배치하므로 예정 시각보다 일찍 만료되지 않음 (최대 tick 만큼 늦게 만료)
+public class HierarchicalTimingWheel<K, V> {
+    private final long tickMillis;
+    private final int wheelSize;
+    private final List<List<Entry<K, V>>[]> levels = new ArrayList<>();
+    private final Map<K, Entry<K, V>> entries = new HashMap<>();
+    private List<V> expired = new ArrayList<>();
+    private long currentTime;
+
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, int levelCount, long startMillis) {
+        if (tickMillis <= 0 || wheelSize <= 1 || levelCount <= 0) {
+            throw new IllegalArgumentException("tickMillis > 0, wheelSize > 1, levelCount > 0 이어야 합니다.");
+        }
+
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.currentTime = startMillis - Math.floorMod(startMillis, tickMillis);
+
+        for (int level = 0; level < levelCount; level++) {
+            List<Entry<K, V>>[] buckets = new List[wheelSize];
+
+            for (int i = 0; i < wheelSize; i++) {
+                buckets[i] = new ArrayList<>();
+            }
+
+            levels.add(buckets);
+        }
+    }
+
+    // 같은 키가 이미 있으면 교체 (이전 예약은 취소), 이미 지난 시각이면 다음 advance 에서 바로 만료
+    public synchronized void schedule(K key, long deadlineMillis, V value) {
+        cancel(key);
+
+        long expiration = -Math.floorDiv(-deadlineMillis, tickMillis) * tickMillis;
+        Entry<K, V> entry = new Entry<>(key, expiration, value);
+
+        entries.put(key, entry);
+        place(entry);
+    }
+
+    public synchronized boolean cancel(K key) {
+        Entry<K, V> entry = entries.remove(key);
+
+        if (entry == null) {
+            return false;
+        }
+
+        entry.cancelled = true;
+
+        return true;
+    }
+
+    public synchronized V get(K key) {
+        Entry<K, V> entry = entries.get(key);
+
+        return entry == null ? null : entry.value;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    // now 까지 tick 단위로 진행하며 만료된 값 반환 (진행이 늦었으면 밀린 틱을 모두 처리)
+    public synchronized List<V> advance(long nowMillis) {
+        while (currentTime + tickMillis <= nowMillis) {
+            currentTime += tickMillis;
+
+            // 상위 레벨부터 현재 칸을 비워 하위 레벨로 다시 배치
+            long levelTick = tickMillis;
+
+            for (int level = 1; level < levels.size(); level++) {
+                levelTick *= wheelSize;
+            }
+
+            for (int level = levels.size() - 1; level >= 0; level--) {
+                if (currentTime % levelTick == 0) {
+                    drain(levels.get(level), currentTime / levelTick);
+                }
+
+                levelTick /= wheelSize;
+            }
+        }
+
+        List<V> result = expired;
+        expired = new ArrayList<>();
+
+        return result;
+    }
+
+    private void drain(List<Entry<K, V>>[] buckets, long slot) {
+        int index = (int)Math.floorMod(slot, (long)wheelSize);
+        List<Entry<K, V>> bucket = buckets[index];
+
+        if (bucket.isEmpty()) {
+            return;
+        }
+
+        buckets[index] = new ArrayList<>();
+
+        for (Entry<K, V> entry : bucket) {
+            if (!entry.cancelled) {
+                place(entry);
+            }
+        }
+    }
+
+    // 만료 시각과 현재 칸의 차이가 wheelSize 보다 작은 가장 낮은 레벨에 배치
+    private void place(Entry<K, V> entry) {
+        if (entry.expiration <= currentTime) {
+            entries.remove(entry.key, entry);
+            expired.add(entry.value);
+            return;
+        }
+
+        long levelTick = tickMillis;
+
+        for (int level = 0; level < levels.size(); level++) {
+            long slot = entry.expiration / levelTick;
+            boolean last = level == levels.size() - 1;
+
+            // 최상위 레벨 범위를 넘으면 최상위에 두고, 그 칸 차례에 다시 배치
+            if (slot - currentTime / levelTick < wheelSize || last) {
+                levels.get(level)[(int)Math.floorMod(slot, (long)wheelSize)].add(entry);
+                return;
+            }
+
+            levelTick *= wheelSize;
+        }
+    }
+
+    private static final class Entry<K, V> {
+        private final K key;
+        private final long expiration;
+        private final V value;
+        private boolean cancelled;
+
+        private Entry(K key, long expiration, V value) {
+            this.key = key;
+            this.expiration = expiration;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package org.example.lastcall.domain.bid.config;
+
+import java.time.Duration;
+
+import org.example.lastcall.domain.bid.enums.BidAdmissionMode;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "bid")
+public record BidProperties(
+        @DefaultValue Admission admission,
+        @DefaultValue Sequencer sequencer,
+        @DefaultValue WriteBehind writeBehind,
+        @DefaultValue Optimistic optimistic) {
+    public record Admission(@DefaultValue("LOCK") BidAdmissionMode mode) {}
+
+    // lanes 가 0 이면 CPU 코어 수만큼 레인 생성
+    public record Sequencer(
+            @DefaultValue("0") int lanes,
+            @DefaultValue("256") int queueCapacity,
+            @DefaultValue("10s") Duration timeout) {}
+
+    // capacity 를 넘게 쌓이면 입찰을 즉시 거절, claimIdle 이상 처리되지 않은 항목은 다른 노드가 가져가 처리
+    // idBlockSize: 입찰 ID 를 id_generators 에서 한 번에 받아오는 개수
+    public record WriteBehind(
+            @DefaultValue("100") long flushIntervalMillis,
+            @DefaultValue("500") int batchSize,
+            @DefaultValue("100000") long capacity,
+            @DefaultValue("30s") Duration claimIdle,
+            @DefaultValue("5s") Duration drainTimeout,
+            @DefaultValue("1000") int idBlockSize) {}
+
+    // 교착/락 대기 초과 같은 일시적 DB 오류만 재시도 (현재가가 바뀐 경우는 즉시 실패)
+    public record Optimistic(
+            @DefaultValue("3") int maxAttempts,
+            @DefaultValue("20ms") Duration backoff) {}
+}
@@ -1,12 +1,17 @@
 package org.example.lastcall.domain.bid.controller;
 
+import org.example.lastcall.common.idempotency.IdempotencyAspect;
+import org.example.lastcall.common.idempotency.Idempotent;
 import org.example.lastcall.common.response.ApiResponse;
+import org.example.lastcall.common.response.CursorResponse;
 import org.example.lastcall.common.response.PageResponse;
 import org.example.lastcall.domain.auth.enums.AuthUser;
 import org.example.lastcall.domain.bid.dto.request.BidCreateRequest;
+import org.example.lastcall.domain.bid.dto.request.ProxyBidCreateRequest;
 import org.example.lastcall.domain.bid.dto.response.BidCreateResponse;
 import org.example.lastcall.domain.bid.dto.response.BidGetAllResponse;
-import org.example.lastcall.domain.bid.service.command.BidCommandService;
+import org.example.lastcall.domain.bid.dto.response.ProxyBidResponse;
+import org.example.lastcall.domain.bid.service.command.BidAdmissionRouter;
 import org.example.lastcall.domain.bid.service.query.BidQueryService;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Pageable;
@@ -20,9 +25,12 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -33,23 +41,41 @@ import lombok.RequiredArgsConstructor;
 @RequestMapping("/api/v1/auctions/{auctionId}/bids")
 public class BidController {
     private final BidQueryService bidQueryService;
-    private final BidCommandService bidCommandService;
+    private final BidAdmissionRouter bidAdmissionRouter;
 
     @Operation(
             summary = "입찰 등록",
             description = "로그인한 사용자가 해당 경매에 입찰을 등록합니다. " +
                     "경매 진행 중일 경우에만 가능하며, 이전 최고가보다 높은 금액으로 자동 계산됩니다."
     )
+    @Parameter(name = IdempotencyAspect.HEADER, in = ParameterIn.HEADER,
+            description = "재시도 시 같은 값을 보내면 최초 응답을 그대로 반환")
+    @Idempotent(scope = "'bid:' + #auctionId + ':' + #authUser.userId()")
     @PostMapping
     public ResponseEntity<ApiResponse<BidCreateResponse>> createBid(
             @PathVariable Long auctionId,
             @AuthenticationPrincipal AuthUser authUser,
             @Valid @RequestBody BidCreateRequest request) {
-        BidCreateResponse bid = bidCommandService.createBid(auctionId, authUser, request.getNextBidAmount());
+        BidCreateResponse bid = bidAdmissionRouter.createBid(auctionId, authUser, request.getNextBidAmount());
 
         return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success("입찰이 완료되었습니다.", bid));
     }
 
+    @Operation(
+            summary = "자동 입찰 등록",
+            description = "최대 입찰 금액을 등록하면 다른 입찰자와의 경쟁을 최대 금액 안에서 자동으로 응찰합니다. " +
+                    "다시 등록하면 최대 금액이 변경되며, 경쟁 결과의 최종 입찰만 저장됩니다."
+    )
+    @PostMapping("/proxy")
+    public ResponseEntity<ApiResponse<ProxyBidResponse>> registerProxyBid(
+            @PathVariable Long auctionId,
+            @AuthenticationPrincipal AuthUser authUser,
+            @Valid @RequestBody ProxyBidCreateRequest request) {
+        ProxyBidResponse proxyBid = bidAdmissionRouter.registerProxyBid(auctionId, authUser, request.getMaxAmount());
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success("자동 입찰이 등록되었습니다.", proxyBid));
+    }
+
     @Operation(
             summary = "경매별 입찰 내역 조회 (최신순)",
             description = "특정 경매에 대한 전체 입찰 내역을 최신순으로 조회합니다. " +
@@ -64,4 +90,19 @@ public class BidController {
 
         return ResponseEntity.ok(ApiResponse.success("해당 경매의 입찰 내역을 조회합니다.", bids));
     }
+
+    @Operation(
+            summary = "경매별 입찰 내역 조회 (금액순, 커서)",
+            description = "입찰 금액 내림차순으로 입찰 내역을 조회합니다. 응답의 nextCursor 를 다음 요청의 cursor 로 전달하면 " +
+                    "이어서 조회되며, 전체 개수는 제공하지 않습니다. 무한 스크롤용으로 페이지 깊이와 관계없이 일정한 속도로 조회됩니다."
+    )
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorResponse<BidGetAllResponse>>> getBidsByCursor(
+            @PathVariable Long auctionId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "5") int size) {
+        CursorResponse<BidGetAllResponse> bids = bidQueryService.getBidsByCursor(auctionId, cursor, size);
+
+        return ResponseEntity.ok(ApiResponse.success("해당 경매의 입찰 내역을 조회합니다.", bids));
+    }
 }
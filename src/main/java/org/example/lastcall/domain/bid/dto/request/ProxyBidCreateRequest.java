@@ -0,0 +1,15 @@
+package org.example.lastcall.domain.bid.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+
+@Schema(description = "자동 입찰 등록 요청 DTO")
+@Getter
+public class ProxyBidCreateRequest {
+    @Schema(description = "자동 입찰 최대 금액 (입찰 단위에 맞춰 내림 처리)", example = "30000")
+    @NotNull(message = "최대 입찰 금액은 필수 입력값입니다.")
+    @Positive(message = "최대 입찰 금액은 0보다 커야 합니다.")
+    private Long maxAmount;
+}
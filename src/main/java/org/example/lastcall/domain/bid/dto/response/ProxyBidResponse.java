@@ -0,0 +1,25 @@
+package org.example.lastcall.domain.bid.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Schema(description = "자동 입찰 등록 응답 DTO")
+@Getter
+@AllArgsConstructor
+public class ProxyBidResponse {
+    @Schema(description = "경매 ID", example = "501")
+    private final Long auctionId;
+
+    @Schema(description = "사용자 ID", example = "2001")
+    private final Long userId;
+
+    @Schema(description = "등록된 최대 입찰 금액", example = "30000")
+    private final Long maxAmount;
+
+    @Schema(description = "자동 입찰 반영 후 현재 입찰가", example = "21000")
+    private final Long currentBid;
+
+    @Schema(description = "현재 최고 입찰자 여부", example = "true")
+    private final boolean leading;
+}
@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.example.lastcall.common.entity.IdGenerators;
 import org.example.lastcall.domain.auction.entity.Auction;
 import org.example.lastcall.domain.user.entity.User;
 import org.springframework.data.annotation.CreatedDate;
@@ -16,13 +17,22 @@ import java.time.LocalDateTime;
 @Table(name = "bids", indexes = {
         @Index(name = "idx_auction_id", columnList = "auction_id"),
         @Index(name = "idx_user_id", columnList = "user_id"),
-        @Index(name = "idx_auction_and_user", columnList = "auction_id, user_id")
+        @Index(name = "idx_auction_and_user", columnList = "auction_id, user_id"),
+        // 입찰 내역 커서 조회 (bid_amount DESC, id DESC 역방향 스캔)
+        @Index(name = "idx_auction_amount_id", columnList = "auction_id, bid_amount, id")
 })
 @EntityListeners(AuditingEntityListener.class)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Bid {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "bid_id_generator")
+    @TableGenerator(
+            name = "bid_id_generator",
+            table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.SEGMENT_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = IdGenerators.BID,
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
 
     @Column(name = "bid_amount", nullable = false)
@@ -0,0 +1,61 @@
+package org.example.lastcall.domain.bid.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.lastcall.domain.auction.entity.Auction;
+import org.example.lastcall.domain.user.entity.User;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+// 자동 입찰: 사용자가 등록한 최대 금액까지 엔진이 대신 입찰
+@Entity
+@Getter
+@Table(name = "proxy_bids", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_proxy_bid_auction_user", columnNames = {"auction_id", "user_id"})
+})
+@EntityListeners(AuditingEntityListener.class)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProxyBid {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "max_amount", nullable = false)
+    private Long maxAmount;
+
+    // 최대 금액이 같으면 먼저 등록한 사용자가 우선
+    @Column(name = "registered_at", nullable = false)
+    private LocalDateTime registeredAt;
+
+    @CreatedDate
+    @Column(name = "created_at", updatable = false, nullable = false)
+    private LocalDateTime createdAt;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "auction_id", nullable = false)
+    private Auction auction;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    private ProxyBid(Long maxAmount, Auction auction, User user) {
+        this.maxAmount = maxAmount;
+        this.registeredAt = LocalDateTime.now();
+        this.auction = auction;
+        this.user = user;
+    }
+
+    public static ProxyBid of(Long maxAmount, Auction auction, User user) {
+        return new ProxyBid(maxAmount, auction, user);
+    }
+
+    public void updateMaxAmount(Long maxAmount) {
+        this.maxAmount = maxAmount;
+        this.registeredAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.lastcall.domain.bid.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum BidAdmissionMode {
+    LOCK("Redisson 분산 락으로 경매별 입찰 직렬화"),
+    LUA("Redis Lua 스크립트로 입찰 검증/반영을 원자적으로 처리"),
+    SEQUENCER("경매별 단일 스레드 레인에서 입찰을 순서대로 처리"),
+    WRITE_BEHIND("Redis에서 입찰을 확정하고 DB 저장은 배치로 지연 처리"),
+    OPTIMISTIC("락 없이 현재가 조건부 UPDATE 로 입찰 반영 (Redis 미사용)");
+
+    private final String description;
+
+    BidAdmissionMode(String description) {
+        this.description = description;
+    }
+}
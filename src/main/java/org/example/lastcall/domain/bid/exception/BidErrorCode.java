@@ -14,7 +14,15 @@ public enum BidErrorCode implements ErrorCode {
     INVALID_BID_AMOUNT(HttpStatus.BAD_REQUEST, "요청한 입찰 금액이 유효하지 않습니다."),
 
     CONCURRENCY_BID_FAILED(HttpStatus.CONFLICT, "이미 다른 사용자가 먼저 입찰했습니다. 다시 시도해주세요."),
-    FIRST_BID_TOO_LOW(HttpStatus.BAD_REQUEST, "첫 입찰 금액이 시작가보다 낮습니다.");
+    FIRST_BID_TOO_LOW(HttpStatus.BAD_REQUEST, "첫 입찰 금액이 시작가보다 낮습니다."),
+
+    BID_QUEUE_FULL(HttpStatus.TOO_MANY_REQUESTS, "입찰 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    BID_QUEUE_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE, "입찰 대기 시간이 초과되었습니다. 잠시 후 다시 시도해주세요."),
+
+    PROXY_MAX_TOO_LOW(HttpStatus.BAD_REQUEST, "최대 입찰 금액은 다음 입찰 금액 이상이어야 합니다."),
+    PROXY_BID_NOT_SUPPORTED(HttpStatus.CONFLICT, "현재 입찰 처리 방식에서는 자동 입찰을 사용할 수 없습니다."),
+
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 페이지 커서입니다.");
 
     private final HttpStatus status;
     private final String message;
@@ -0,0 +1,8 @@
+package org.example.lastcall.domain.bid.repository;
+
+// 여러 경매를 한 번에 집계할 때의 경매/참여자별 최고 입찰가
+public record AuctionBidderMaxBid(Long auctionId, Long userId, Long maxBidAmount) {
+    public BidderMaxBid toBidderMaxBid() {
+        return new BidderMaxBid(userId, maxBidAmount);
+    }
+}
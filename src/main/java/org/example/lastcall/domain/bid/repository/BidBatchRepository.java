@@ -0,0 +1,48 @@
+package org.example.lastcall.domain.bid.repository;
+
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
+
+import org.example.lastcall.domain.bid.service.command.BufferedBid;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+// 지연 저장 입찰을 JDBC 배치로 반영 (미리 발급된 ID 사용, IDENTITY 로 인한 배치 비활성화 회피)
+@Repository
+@RequiredArgsConstructor
+public class BidBatchRepository {
+	private final JdbcTemplate jdbcTemplate;
+
+	public void insertAll(List<BufferedBid> bids) {
+		jdbcTemplate.batchUpdate(
+			"INSERT INTO bids (id, bid_amount, created_at, auction_id, user_id) VALUES (?, ?, ?, ?, ?)",
+			bids,
+			bids.size(),
+			(ps, bid) -> {
+				ps.setLong(1, bid.bidId());
+				ps.setLong(2, bid.bidAmount());
+				ps.setTimestamp(3, Timestamp.valueOf(bid.admittedAt()));
+				ps.setLong(4, bid.auctionId());
+				ps.setLong(5, bid.userId());
+			});
+	}
+
+	public void deleteAll(Collection<Long> bidIds) {
+		jdbcTemplate.batchUpdate("DELETE FROM bids WHERE id = ?", bidIds, bidIds.size(),
+			(ps, bidId) -> ps.setLong(1, bidId));
+	}
+
+	// 경매별 1회 갱신: 현재가는 최댓값 유지, 참여자 수는 이번 배치의 신규 참여자 수만큼 증가 (입찰 전체 재집계 없음)
+	public void applyToAuction(Long auctionId, Long highestBid, int newParticipants) {
+		jdbcTemplate.update("""
+				UPDATE auctions a
+				SET a.current_bid = GREATEST(COALESCE(a.current_bid, 0), ?),
+				    a.participant_count = a.participant_count + ?
+				WHERE a.id = ?
+				""",
+			highestBid, newParticipants, auctionId);
+	}
+}
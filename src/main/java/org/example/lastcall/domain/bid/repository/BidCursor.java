@@ -0,0 +1,33 @@
+package org.example.lastcall.domain.bid.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.example.lastcall.common.exception.BusinessException;
+import org.example.lastcall.domain.bid.entity.Bid;
+import org.example.lastcall.domain.bid.exception.BidErrorCode;
+
+// 입찰 내역 커서: 마지막으로 받은 입찰의 (금액, ID), 클라이언트에는 불투명 문자열로 전달
+public record BidCursor(Long bidAmount, Long id) {
+    private static final String SEPARATOR = ":";
+
+    public static BidCursor from(Bid bid) {
+        return new BidCursor(bid.getBidAmount(), bid.getId());
+    }
+
+    public static BidCursor decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(SEPARATOR);
+
+            return new BidCursor(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new BusinessException(BidErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((bidAmount + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+}
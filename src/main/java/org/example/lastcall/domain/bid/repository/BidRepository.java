@@ -2,6 +2,7 @@ package org.example.lastcall.domain.bid.repository;
 
 import org.example.lastcall.domain.auction.entity.Auction;
 import org.example.lastcall.domain.bid.entity.Bid;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
@@ -9,6 +10,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,9 +18,30 @@ public interface BidRepository extends JpaRepository<Bid, Long> {
     @Query("SELECT MAX(b.bidAmount) FROM Bid b WHERE b.auction = :auction")
     Optional<Long> findMaxBidAmountByAuction(@Param("auction") Auction auction);
 
+    @Query("SELECT MAX(b.bidAmount) FROM Bid b WHERE b.auction.id = :auctionId AND b.user.id = :userId")
+    Optional<Long> findMaxBidAmountByAuctionIdAndUserId(@Param("auctionId") Long auctionId, @Param("userId") Long userId);
+
+    // 자동 입찰 후보들의 기존 예치 금액(사용자별 최고 입찰가)을 한 번에 조회
+    @Query("SELECT new org.example.lastcall.domain.bid.repository.BidderMaxBid(b.user.id, MAX(b.bidAmount)) "
+            + "FROM Bid b WHERE b.auction.id = :auctionId AND b.user.id IN :userIds GROUP BY b.user.id")
+    List<BidderMaxBid> findBidderMaxBidsByAuctionIdAndUserIdIn(@Param("auctionId") Long auctionId,
+                                                              @Param("userIds") Collection<Long> userIds);
+
     @EntityGraph(attributePaths = {"user"})
     Page<Bid> findAllByAuction(Auction auction, Pageable pageable);
 
+    // 커서 조회 첫 페이지 (COUNT 쿼리 없음)
+    @Query("SELECT b FROM Bid b JOIN FETCH b.user WHERE b.auction.id = :auctionId "
+            + "ORDER BY b.bidAmount DESC, b.id DESC")
+    List<Bid> findFirstPageByAuctionId(@Param("auctionId") Long auctionId, Limit limit);
+
+    // (bidAmount, id) 가 커서보다 작은 다음 페이지, 앞쪽 bidAmount <= 조건으로 인덱스 범위를 좁힘
+    @Query("SELECT b FROM Bid b JOIN FETCH b.user WHERE b.auction.id = :auctionId "
+            + "AND b.bidAmount <= :bidAmount AND (b.bidAmount < :bidAmount OR b.id < :id) "
+            + "ORDER BY b.bidAmount DESC, b.id DESC")
+    List<Bid> findNextPageByAuctionId(@Param("auctionId") Long auctionId, @Param("bidAmount") Long bidAmount,
+                                      @Param("id") Long id, Limit limit);
+
     boolean existsByAuctionIdAndUserId(Long auctionId, Long userId);
 
     Optional<Bid> findTopByAuctionOrderByBidAmountDesc(Auction auction);
@@ -29,4 +52,19 @@ public interface BidRepository extends JpaRepository<Bid, Long> {
     List<Bid> findAllByAuctionId(@Param("auctionId") Long auctionId);
 
     long countByAuctionId(Long auctionId);
+
+    @Query("SELECT DISTINCT b.user.id FROM Bid b WHERE b.auction.id = :auctionId")
+    List<Long> findParticipantIdsByAuctionId(@Param("auctionId") Long auctionId);
+
+    @Query("SELECT new org.example.lastcall.domain.bid.repository.BidderMaxBid(b.user.id, MAX(b.bidAmount)) "
+            + "FROM Bid b WHERE b.auction.id = :auctionId GROUP BY b.user.id")
+    List<BidderMaxBid> findBidderMaxBidsByAuctionId(@Param("auctionId") Long auctionId);
+
+    // 일괄 종료 시 여러 경매의 참여자별 최고 입찰가를 한 번에 집계
+    @Query("SELECT new org.example.lastcall.domain.bid.repository.AuctionBidderMaxBid(b.auction.id, b.user.id, MAX(b.bidAmount)) "
+            + "FROM Bid b WHERE b.auction.id IN :auctionIds GROUP BY b.auction.id, b.user.id")
+    List<AuctionBidderMaxBid> findBidderMaxBidsByAuctionIdIn(@Param("auctionIds") Collection<Long> auctionIds);
+
+    @Query("SELECT b.id FROM Bid b WHERE b.id IN :ids")
+    List<Long> findIdsByIdIn(@Param("ids") List<Long> ids);
 }
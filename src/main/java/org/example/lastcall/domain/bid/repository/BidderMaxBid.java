@@ -0,0 +1,5 @@
+package org.example.lastcall.domain.bid.repository;
+
+// 경매 참여자별 최고 입찰가
+public record BidderMaxBid(Long userId, Long maxBidAmount) {
+}
@@ -0,0 +1,16 @@
+package org.example.lastcall.domain.bid.repository;
+
+import org.example.lastcall.domain.bid.entity.ProxyBid;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ProxyBidRepository extends JpaRepository<ProxyBid, Long> {
+    @Query("SELECT p FROM ProxyBid p WHERE p.auction.id = :auctionId")
+    List<ProxyBid> findAllByAuctionId(@Param("auctionId") Long auctionId);
+
+    Optional<ProxyBid> findByAuctionIdAndUserId(Long auctionId, Long userId);
+}
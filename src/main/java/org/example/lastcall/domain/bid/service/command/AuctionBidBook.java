@@ -0,0 +1,77 @@
+package org.example.lastcall.domain.bid.service.command;
+
+import java.time.Duration;
+
+import org.example.lastcall.domain.auction.entity.Auction;
+import org.example.lastcall.domain.bid.repository.BidRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuctionBidBook {
+	// 종료 처리는 한 노드에서만 evict 되므로, 다른 노드에 남은 종료된 경매는 접근이 끊기면 만료시켜 메모리를 제한
+	private static final long MAX_ENTRIES = 10_000;
+	private static final Duration EXPIRE_AFTER_ACCESS = Duration.ofMinutes(30);
+
+	private final BidRepository bidRepository;
+	private final Cache<Long, BidBookEntry> entries = Caffeine.newBuilder()
+		.maximumSize(MAX_ENTRIES)
+		.expireAfterAccess(EXPIRE_AFTER_ACCESS)
+		.build();
+
+	// 경매별 입찰 현황 조회 (최초 접근 시 또는 DB 상태와 어긋났을 때만 DB에서 적재)
+	public BidBookEntry load(Auction auction) {
+		BidBookEntry entry = entries.getIfPresent(auction.getId());
+
+		if (entry != null && entry.isConsistentWith(auction)) {
+			return entry;
+		}
+
+		BidBookEntry loaded = BidBookEntry.of(
+			bidRepository.findMaxBidAmountByAuction(auction).orElse(auction.getStartingBid()),
+			bidRepository.countByAuctionId(auction.getId()),
+			bidRepository.findParticipantIdsByAuctionId(auction.getId()));
+
+		entries.put(auction.getId(), loaded);
+		log.debug("[BidBook] 입찰 현황 적재: auctionId={}, highestBid={}, bidCount={}", auction.getId(), loaded.getHighestBid(), loaded.getBidCount());
+
+		return loaded;
+	}
+
+	// 입찰 트랜잭션이 커밋된 뒤에만 반영 (롤백 시 DB 상태와 동일하게 유지)
+	public void record(Long auctionId, Long userId, Long bidAmount) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			apply(auctionId, userId, bidAmount);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				apply(auctionId, userId, bidAmount);
+			}
+		});
+	}
+
+	// 경매 종료 시 메모리에서 제거
+	public void evict(Long auctionId) {
+		entries.invalidate(auctionId);
+	}
+
+	private void apply(Long auctionId, Long userId, Long bidAmount) {
+		BidBookEntry entry = entries.getIfPresent(auctionId);
+
+		if (entry != null) {
+			entry.apply(userId, bidAmount);
+		}
+	}
+}
@@ -0,0 +1,41 @@
+package org.example.lastcall.domain.bid.service.command;
+
+import org.example.lastcall.common.exception.ErrorCode;
+import org.example.lastcall.domain.auction.exception.AuctionErrorCode;
+import org.example.lastcall.domain.bid.exception.BidErrorCode;
+
+// Lua 입찰 허용 스크립트 실행 결과 (bidId 는 지연 저장 모드에서 미리 발급된 입찰 ID)
+public record BidAdmission(long code, Long previousHighest, boolean newParticipant, Long previousUserBid, Long bidId) {
+	public static BidAdmission admitted(Long previousHighest, boolean newParticipant, Long previousUserBid, Long bidId) {
+		return new BidAdmission(BidAdmissionScript.ADMITTED, previousHighest, newParticipant, previousUserBid, bidId);
+	}
+
+	public static BidAdmission rejected(long code) {
+		return new BidAdmission(code, null, false, null, null);
+	}
+
+	public boolean isAdmitted() {
+		return code == BidAdmissionScript.ADMITTED;
+	}
+
+	public boolean needsInit() {
+		return code == BidAdmissionScript.NEEDS_INIT;
+	}
+
+	public ErrorCode toErrorCode() {
+		if (code == BidAdmissionScript.SELLER_CANNOT_BID) {
+			return BidErrorCode.SELLER_CANNOT_BID;
+		} else if (code == BidAdmissionScript.FIRST_BID_TOO_LOW) {
+			return BidErrorCode.FIRST_BID_TOO_LOW;
+		} else if (code == BidAdmissionScript.INVALID_BID_AMOUNT) {
+			return BidErrorCode.INVALID_BID_AMOUNT;
+		} else if (code == BidAdmissionScript.AUCTION_SEALED) {
+			return AuctionErrorCode.CANNOT_BID_ON_NON_ONGOING_AUCTION;
+		} else if (code == BidAdmissionScript.BUFFER_FULL) {
+			return BidErrorCode.BID_QUEUE_FULL;
+		}
+
+		// 적재 직후에도 상태가 뒤처져 있으면 다른 요청과 경합 중인 것으로 간주
+		return BidErrorCode.CONCURRENCY_BID_FAILED;
+	}
+}
@@ -0,0 +1,62 @@
+package org.example.lastcall.domain.bid.service.command;
+
+import lombok.RequiredArgsConstructor;
+import org.example.lastcall.common.exception.BusinessException;
+import org.example.lastcall.domain.auth.enums.AuthUser;
+import org.example.lastcall.domain.bid.config.BidProperties;
+import org.example.lastcall.domain.bid.dto.response.BidCreateResponse;
+import org.example.lastcall.domain.bid.dto.response.ProxyBidResponse;
+import org.example.lastcall.domain.bid.exception.BidErrorCode;
+import org.springframework.stereotype.Service;
+
+// 설정(bid.admission.mode)에 따라 입찰 처리 경로 선택
+@Service
+@RequiredArgsConstructor
+public class BidAdmissionRouter {
+    private final BidProperties bidProperties;
+    private final BidCommandService bidCommandService;
+    private final LuaBidAdmissionService luaBidAdmissionService;
+    private final BidSequencer bidSequencer;
+    private final WriteBehindBidService writeBehindBidService;
+    private final OptimisticBidService optimisticBidService;
+    private final BidAdmissionScript bidAdmissionScript;
+    private final BidWriteBehindFlusher bidWriteBehindFlusher;
+    private final AuctionBidBook auctionBidBook;
+    private final ProxyBidCommandService proxyBidCommandService;
+
+    public BidCreateResponse createBid(Long auctionId, AuthUser authUser, Long nextBidAmount) {
+        return switch (bidProperties.admission().mode()) {
+            case LOCK -> bidCommandService.createBid(auctionId, authUser, nextBidAmount);
+            case LUA -> luaBidAdmissionService.createBid(auctionId, authUser, nextBidAmount);
+            case SEQUENCER -> bidSequencer.execute(auctionId,
+                    () -> bidCommandService.createBid(auctionId, authUser, nextBidAmount));
+            case WRITE_BEHIND -> writeBehindBidService.createBid(auctionId, authUser, nextBidAmount);
+            case OPTIMISTIC -> optimisticBidService.createBid(auctionId, authUser, nextBidAmount);
+        };
+    }
+
+    // 자동 입찰은 경매 락으로 직렬화되는 경로(LOCK, SEQUENCER)에서만 지원
+    public ProxyBidResponse registerProxyBid(Long auctionId, AuthUser authUser, Long maxAmount) {
+        return switch (bidProperties.admission().mode()) {
+            case LOCK -> proxyBidCommandService.registerProxyBid(auctionId, authUser, maxAmount);
+            case SEQUENCER -> bidSequencer.execute(auctionId,
+                    () -> proxyBidCommandService.registerProxyBid(auctionId, authUser, maxAmount));
+            case LUA, WRITE_BEHIND, OPTIMISTIC -> throw new BusinessException(BidErrorCode.PROXY_BID_NOT_SUPPORTED);
+        };
+    }
+
+    // 경매 종료 처리 전 호출: 이후 입찰을 막고, 아직 DB에 반영되지 않은 입찰을 모두 저장
+    public void seal(Long auctionId) {
+        auctionBidBook.evict(auctionId);
+
+        switch (bidProperties.admission().mode()) {
+            case LUA -> bidAdmissionScript.seal(auctionId);
+            case WRITE_BEHIND -> {
+                bidAdmissionScript.seal(auctionId);
+                bidWriteBehindFlusher.drain(auctionId);
+            }
+            default -> {
+            }
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package org.example.lastcall.domain.bid.service.command;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.example.lastcall.domain.auction.entity.Auction;
+import org.example.lastcall.domain.bid.repository.BidderMaxBid;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.RedisException;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+// 경매별 입찰 상태를 Redis에 두고, 검증과 반영을 Lua 스크립트 1회 실행으로 원자적으로 처리
+@Component
+@RequiredArgsConstructor
+public class BidAdmissionScript {
+	public static final long ADMITTED = 0;
+	public static final long SELLER_CANNOT_BID = 1;
+	public static final long FIRST_BID_TOO_LOW = 2;
+	public static final long CONCURRENCY_BID_FAILED = 3;
+	public static final long INVALID_BID_AMOUNT = 4;
+	public static final long AUCTION_SEALED = 5;
+	public static final long BUFFER_FULL = 6;
+	public static final long NEEDS_INIT = -1;
+
+	public static final String WRITE_BEHIND_STREAM_KEY = "bid:write-behind";
+
+	// KEYS: 상태 해시, 입찰자별 최고 입찰가 해시, 종료 표시 / ARGV: userId, 입찰 금액, DB 현재가, DB 참여자 수
+	// 상태가 없거나 DB보다 뒤처져 있으면 적재가 필요함을 알림 (DB는 Redis보다 앞설 수 없음)
+	private static final String ADMIT_FUNCTION = """
+		local function isStale()
+			if redis.call('EXISTS', KEYS[1]) == 0 then return true end
+			local dbParticipants = tonumber(ARGV[4])
+			if dbParticipants == 0 then return false end
+			if dbParticipants > redis.call('HLEN', KEYS[2]) then return true end
+			return (tonumber(ARGV[3]) or 0) > tonumber(redis.call('HGET', KEYS[1], 'highest'))
+		end
+
+		local function admit()
+			if redis.call('EXISTS', KEYS[3]) == 1 then return {5} end
+			if isStale() then return {-1} end
+			local state = redis.call('HMGET', KEYS[1], 'seller', 'starting', 'step', 'highest', 'count')
+			local amount = tonumber(ARGV[2])
+			local starting = tonumber(state[2])
+			local highest = tonumber(state[4])
+			local isFirstBid = tonumber(state[5]) == 0
+			local expected = highest + tonumber(state[3])
+			if state[1] == ARGV[1] then return {1} end
+			if isFirstBid and amount < starting then return {2} end
+			if isFirstBid and amount ~= expected then return {4} end
+			if amount < expected then return {3} end
+			if amount ~= expected then return {4} end
+			redis.call('HSET', KEYS[1], 'highest', ARGV[2])
+			redis.call('HINCRBY', KEYS[1], 'count', 1)
+			local previous = redis.call('HGET', KEYS[2], ARGV[1])
+			redis.call('HSET', KEYS[2], ARGV[1], ARGV[2])
+			return {0, highest, previous and 0 or 1, tonumber(previous or '0')}
+		end
+		""";
+
+	private static final String ADMIT = ADMIT_FUNCTION + """
+		return admit()
+		""";
+
+	// 허용과 동시에 미리 발급한 입찰 ID로 지연 저장 스트림에 적재 (KEYS 4: 스트림)
+	// ARGV 5: auctionId, 6: 허용 시각(ms), 7: 버퍼 최대 크기, 8: 입찰 ID
+	private static final String ADMIT_AND_ENQUEUE = ADMIT_FUNCTION + """
+		if redis.call('XLEN', KEYS[4]) >= tonumber(ARGV[7]) then return {6} end
+		local result = admit()
+		if result[1] ~= 0 then return result end
+		redis.call('XADD', KEYS[4], '*',
+			'bidId', ARGV[8], 'auctionId', ARGV[5], 'userId', ARGV[1], 'bidAmount', ARGV[2],
+			'previousHighest', result[2], 'previousUserBid', result[4], 'newParticipant', result[3], 'admittedAt', ARGV[6])
+		table.insert(result, tonumber(ARGV[8]))
+		return result
+		""";
+
+	// ARGV: (isStale 인자 4개), 판매자, 시작가, 입찰 단위, 최고가, 입찰 수, 만료 시각(ms), (userId, 최고 입찰가)...
+	private static final String INIT = ADMIT_FUNCTION + """
+		if redis.call('EXISTS', KEYS[3]) == 1 then return 0 end
+		if not isStale() then return 0 end
+		redis.call('DEL', KEYS[1], KEYS[2])
+		redis.call('HSET', KEYS[1], 'seller', ARGV[5], 'starting', ARGV[6], 'step', ARGV[7], 'highest', ARGV[8], 'count', ARGV[9])
+		for i = 11, #ARGV, 2 do redis.call('HSET', KEYS[2], ARGV[i], ARGV[i + 1]) end
+		redis.call('PEXPIREAT', KEYS[1], ARGV[10])
+		redis.call('PEXPIREAT', KEYS[2], ARGV[10])
+		return 1
+		""";
+
+	private static final long STATE_GRACE_MILLIS = 24 * 60 * 60 * 1000L;
+
+	private static final String ADMIT_SHA = sha1(ADMIT);
+	private static final String ADMIT_AND_ENQUEUE_SHA = sha1(ADMIT_AND_ENQUEUE);
+	private static final String INIT_SHA = sha1(INIT);
+
+	private final RedissonClient redissonClient;
+
+	// 입찰 허용 여부 판정 (허용 시 Redis 상태에 즉시 반영)
+	public BidAdmission admit(Auction auction, Long userId, Long bidAmount) {
+		List<Long> result = run(ADMIT_SHA, ADMIT, RScript.ReturnType.MULTI, auctionKeys(auction.getId()),
+			String.valueOf(userId),
+			String.valueOf(bidAmount),
+			String.valueOf(auction.getCurrentBid()),
+			String.valueOf(auction.getParticipantCount()));
+
+		return toAdmission(result);
+	}
+
+	// 입찰 허용과 지연 저장 버퍼 적재를 한 번에 처리 (거절되면 bidId 는 쓰이지 않고 버려짐)
+	public BidAdmission admitAndEnqueue(Auction auction, Long userId, Long bidAmount, long admittedAt, long capacity,
+		long bidId) {
+		List<Object> keys = new ArrayList<>(auctionKeys(auction.getId()));
+		keys.add(WRITE_BEHIND_STREAM_KEY);
+
+		List<Long> result = run(ADMIT_AND_ENQUEUE_SHA, ADMIT_AND_ENQUEUE, RScript.ReturnType.MULTI, keys,
+			String.valueOf(userId),
+			String.valueOf(bidAmount),
+			String.valueOf(auction.getCurrentBid()),
+			String.valueOf(auction.getParticipantCount()),
+			String.valueOf(auction.getId()),
+			String.valueOf(admittedAt),
+			String.valueOf(capacity),
+			String.valueOf(bidId));
+
+		return toAdmission(result);
+	}
+
+	// DB 기준 입찰 현황으로 Redis 상태 적재 (이미 최신이거나 종료 처리 중이면 무시)
+	public void init(Auction auction, Long highestBid, long bidCount, Collection<BidderMaxBid> bidders) {
+		long expireAt = auction.getEndTime().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() + STATE_GRACE_MILLIS;
+
+		List<Object> args = new ArrayList<>(List.of(
+			"0",
+			"0",
+			String.valueOf(auction.getCurrentBid()),
+			String.valueOf(auction.getParticipantCount()),
+			String.valueOf(auction.getUser().getId()),
+			String.valueOf(auction.getStartingBid()),
+			String.valueOf(auction.getBidStep()),
+			String.valueOf(highestBid),
+			String.valueOf(bidCount),
+			String.valueOf(expireAt)));
+
+		bidders.forEach(bidder -> {
+			args.add(String.valueOf(bidder.userId()));
+			args.add(String.valueOf(bidder.maxBidAmount()));
+		});
+
+		run(INIT_SHA, INIT, RScript.ReturnType.INTEGER, auctionKeys(auction.getId()), args.toArray());
+	}
+
+	// DB 반영 실패 시 보상: 값을 되돌리지 않고 상태를 지워 다음 입찰이 DB 기준으로 다시 적재하게 함
+	// (되돌린 뒤 남은 최고가가 DB 보다 높으면 isStale 로 걸러지지 않음, 종료 표시는 유지)
+	public void invalidate(Long auctionId) {
+		redissonClient.getKeys().delete(stateKey(auctionId), biddersKey(auctionId));
+	}
+
+	// 종료 처리 시작 시 이후 입찰을 모두 거절하도록 표시
+	public void seal(Long auctionId) {
+		redissonClient.getBucket(sealedKey(auctionId), StringCodec.INSTANCE)
+			.set("1", STATE_GRACE_MILLIS, TimeUnit.MILLISECONDS);
+	}
+
+	public static String stateKey(Long auctionId) {
+		return "bid:auction:{" + auctionId + "}:state";
+	}
+
+	public static String biddersKey(Long auctionId) {
+		return "bid:auction:{" + auctionId + "}:bidders";
+	}
+
+	public static String sealedKey(Long auctionId) {
+		return "bid:auction:{" + auctionId + "}:sealed";
+	}
+
+	private List<Object> auctionKeys(Long auctionId) {
+		return List.of(stateKey(auctionId), biddersKey(auctionId), sealedKey(auctionId));
+	}
+
+	private BidAdmission toAdmission(List<Long> result) {
+		if (result.get(0) != ADMITTED) {
+			return BidAdmission.rejected(result.get(0));
+		}
+
+		Long bidId = result.size() > 4 ? result.get(4) : null;
+
+		return BidAdmission.admitted(result.get(1), result.get(2) == 1L, result.get(3), bidId);
+	}
+
+	// EVALSHA 우선 실행, 스크립트 캐시에 없으면 EVAL로 등록 겸 실행
+	private <R> R run(String sha, String script, RScript.ReturnType returnType, List<Object> keys, Object... args) {
+		RScript rScript = redissonClient.getScript(StringCodec.INSTANCE);
+
+		try {
+			return rScript.evalSha(RScript.Mode.READ_WRITE, sha, returnType, keys, args);
+		} catch (RedisException e) {
+			if (e.getMessage() == null || !e.getMessage().contains("NOSCRIPT")) {
+				throw e;
+			}
+
+			return rScript.eval(RScript.Mode.READ_WRITE, script, returnType, keys, args);
+		}
+	}
+
+	private static String sha1(String script) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-1");
+
+			return HexFormat.of().formatHex(digest.digest(script.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,56 @@
+package org.example.lastcall.domain.bid.service.command;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.example.lastcall.domain.auction.entity.Auction;
+
+import lombok.Getter;
+
+// 진행 중인 경매 1건의 입찰 현황 (최고 입찰가, 입찰 수, 참여자 목록)
+// 같은 경매에 대한 갱신은 'auction:{id}' 락 안에서만 일어나므로 단일 작성자를 전제로 한다.
+@Getter
+public class BidBookEntry {
+	private volatile Long highestBid;
+	private volatile long bidCount;
+	private final Set<Long> participantIds;
+
+	private BidBookEntry(Long highestBid, long bidCount, Collection<Long> participantIds) {
+		this.highestBid = highestBid;
+		this.bidCount = bidCount;
+		this.participantIds = ConcurrentHashMap.newKeySet();
+		this.participantIds.addAll(participantIds);
+	}
+
+	public static BidBookEntry of(Long highestBid, long bidCount, Collection<Long> participantIds) {
+		return new BidBookEntry(highestBid, bidCount, participantIds);
+	}
+
+	public boolean isEmpty() {
+		return bidCount == 0;
+	}
+
+	public boolean hasParticipated(Long userId) {
+		return participantIds.contains(userId);
+	}
+
+	public int getParticipantCount() {
+		return participantIds.size();
+	}
+
+	// 다른 노드에서 입찰이 반영되었는지 경매 엔티티의 현재가/참여자 수로 확인
+	public boolean isConsistentWith(Auction auction) {
+		if (getParticipantCount() != auction.getParticipantCount()) {
+			return false;
+		}
+
+		return isEmpty() || highestBid.equals(auction.getCurrentBid());
+	}
+
+	void apply(Long userId, Long bidAmount) {
+		participantIds.add(userId);
+		bidCount++;
+		highestBid = bidAmount;
+	}
+}
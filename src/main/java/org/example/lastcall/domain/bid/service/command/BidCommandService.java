@@ -6,13 +6,13 @@ import org.example.lastcall.common.exception.BusinessException;
 import org.example.lastcall.common.lock.DistributedLock;
 import org.example.lastcall.domain.auction.entity.Auction;
 import org.example.lastcall.domain.auction.service.query.AuctionQueryServiceApi;
+import org.example.lastcall.domain.auction.service.room.AuctionRoomPublisher;
 import org.example.lastcall.domain.auth.enums.AuthUser;
 import org.example.lastcall.domain.bid.dto.response.BidCreateResponse;
 import org.example.lastcall.domain.bid.entity.Bid;
 import org.example.lastcall.domain.bid.exception.BidErrorCode;
 import org.example.lastcall.domain.bid.repository.BidRepository;
 import org.example.lastcall.domain.point.service.command.PointCommandServiceApi;
-import org.example.lastcall.domain.point.service.query.PointQueryServiceApi;
 import org.example.lastcall.domain.user.entity.User;
 import org.example.lastcall.domain.user.service.query.UserQueryServiceApi;
 import org.springframework.stereotype.Service;
@@ -27,7 +27,9 @@ public class BidCommandService {
     private final AuctionQueryServiceApi auctionQueryServiceApi;
     private final UserQueryServiceApi userQueryServiceApi;
     private final PointCommandServiceApi pointCommandServiceApi;
-    private final PointQueryServiceApi pointQueryServiceApi;
+    private final AuctionBidBook auctionBidBook;
+    private final ProxyBidCommandService proxyBidCommandService;
+    private final AuctionRoomPublisher auctionRoomPublisher;
 
     @DistributedLock(key = "'auction:' + #auctionId")
     public BidCreateResponse createBid(Long auctionId, AuthUser authUser, Long nextBidAmount) {
@@ -39,14 +41,15 @@ public class BidCommandService {
             throw new BusinessException(BidErrorCode.SELLER_CANNOT_BID);
         }
 
-        User user = userQueryServiceApi.findById(authUser.userId());
+        // 입찰 현황은 메모리의 입찰 장부로 검증 (DB 조회 없이 O(1))
+        BidBookEntry bidBook = auctionBidBook.load(auction);
+        User user = userQueryServiceApi.findReferenceById(authUser.userId());
 
-        boolean alreadyParticipated = bidRepository.existsByAuctionIdAndUserId(auction.getId(), user.getId());
+        boolean alreadyParticipated = bidBook.hasParticipated(user.getId());
 
-        long bidCount = bidRepository.countByAuctionId(auctionId);
-        boolean isFirstBid = bidCount == 0;
+        boolean isFirstBid = bidBook.isEmpty();
 
-        Long currentMaxBid = bidRepository.findMaxBidAmountByAuction(auction).orElse(auction.getStartingBid());
+        Long currentMaxBid = bidBook.getHighestBid();
 
         Long expectedNextBidAmount = currentMaxBid + auction.getBidStep();
 
@@ -62,9 +65,6 @@ public class BidCommandService {
             throw new BusinessException(BidErrorCode.INVALID_BID_AMOUNT);
         }
 
-        pointQueryServiceApi.validateSufficientPoints(user.getId(), nextBidAmount);
-        log.debug("포인트 검증 완료: userId={}, nextBidAmount={}", user.getId(), nextBidAmount);
-
         Bid bid = Bid.of(nextBidAmount, auction, user);
         Bid savedBid = bidRepository.save(bid);
 
@@ -73,7 +73,9 @@ public class BidCommandService {
         }
 
         auction.updateCurrentBid(nextBidAmount);
+        auctionBidBook.record(auction.getId(), user.getId(), nextBidAmount);
 
+        // 잔액 검사와 예치를 조건부 UPDATE 한 번으로 처리 (부족하면 예외로 입찰 전체 롤백)
         try {
             pointCommandServiceApi.updateDepositPoint(auction.getId(), savedBid.getId(), nextBidAmount, user.getId());
             log.debug("[Bid] 포인트 예치 완료 - auctionId={}, userId={}, nextBidAmount={}", auctionId, user.getId(), nextBidAmount);
@@ -82,6 +84,10 @@ public class BidCommandService {
             throw e;
         }
 
+        // 더 높은 최대 금액을 등록한 자동 입찰이 있으면 같은 락 안에서 바로 응찰
+        proxyBidCommandService.applyProxyBids(auction, bidBook, nextBidAmount, user.getId());
+        auctionRoomPublisher.publishBid(auction.getId(), auction.getCurrentBid(), auction.getParticipantCount());
+
         log.debug("입찰 생성 완료: auctionId={}, userId={}, nextBidAmount={}", auctionId, user.getId(), nextBidAmount);
 
         return BidCreateResponse.from(savedBid);
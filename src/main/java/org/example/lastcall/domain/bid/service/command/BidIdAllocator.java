@@ -0,0 +1,48 @@
+package org.example.lastcall.domain.bid.service.command;
+
+import org.example.lastcall.common.entity.IdGenerators;
+import org.example.lastcall.domain.bid.config.BidProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+// 지연 저장 입찰의 ID 발급: Hibernate(pooled-lo)와 같은 id_generators 행에서 블록을 받아 노드 메모리에서 나눠줌
+// 블록은 next_val 을 읽은 값 그대로일 때만 끌어올리는 조건부 UPDATE 로 가져가므로 다른 노드/엔티티 저장과 겹치지 않음
+@Component
+@RequiredArgsConstructor
+public class BidIdAllocator {
+	private final JdbcTemplate jdbcTemplate;
+	private final BidProperties bidProperties;
+
+	private long next;
+	private long limit;
+
+	public synchronized long next() {
+		if (next >= limit) {
+			reserveBlock(Math.max(bidProperties.writeBehind().idBlockSize(), 1));
+		}
+
+		return next++;
+	}
+
+	private void reserveBlock(int blockSize) {
+		while (true) {
+			Long current = jdbcTemplate.queryForObject(
+				"SELECT " + IdGenerators.VALUE_COLUMN + " FROM " + IdGenerators.TABLE
+					+ " WHERE " + IdGenerators.SEGMENT_COLUMN + " = ?",
+				Long.class, IdGenerators.BID);
+
+			int updated = jdbcTemplate.update(
+				"UPDATE " + IdGenerators.TABLE + " SET " + IdGenerators.VALUE_COLUMN + " = ?"
+					+ " WHERE " + IdGenerators.SEGMENT_COLUMN + " = ? AND " + IdGenerators.VALUE_COLUMN + " = ?",
+				current + blockSize, IdGenerators.BID, current);
+
+			if (updated == 1) {
+				next = current;
+				limit = current + blockSize;
+				return;
+			}
+		}
+	}
+}
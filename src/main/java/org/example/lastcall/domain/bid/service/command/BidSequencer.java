@@ -0,0 +1,182 @@
+package org.example.lastcall.domain.bid.service.command;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.example.lastcall.common.exception.BusinessException;
+import org.example.lastcall.domain.bid.config.BidProperties;
+import org.example.lastcall.domain.bid.exception.BidErrorCode;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// auctionId 를 고정된 단일 스레드 레인에 배정해 같은 경매의 입찰을 순서대로 실행
+// 같은 경매의 요청은 락 대기 대신 레인 큐에서 기다리고, 다른 레인의 경매와는 서로 막지 않는다.
+@Slf4j
+@Component
+public class BidSequencer {
+	private final List<ThreadPoolExecutor> lanes = new ArrayList<>();
+	private final List<Counter> rejectedCounters = new ArrayList<>();
+	private final long timeoutMillis;
+
+	public BidSequencer(BidProperties bidProperties, MeterRegistry meterRegistry) {
+		BidProperties.Sequencer config = bidProperties.sequencer();
+		int laneCount = config.lanes() > 0 ? config.lanes() : Runtime.getRuntime().availableProcessors();
+		this.timeoutMillis = config.timeout().toMillis();
+
+		for (int i = 0; i < laneCount; i++) {
+			String laneName = String.valueOf(i);
+			ThreadPoolExecutor lane = new ThreadPoolExecutor(
+				1, 1, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(config.queueCapacity()),
+				runnable -> {
+					Thread thread = new Thread(runnable, "bid-lane-" + laneName);
+					thread.setDaemon(true);
+					return thread;
+				},
+				new ThreadPoolExecutor.AbortPolicy());
+
+			Gauge.builder("bid.sequencer.queue.depth", lane, executor -> executor.getQueue().size())
+				.description("레인별 대기 중인 입찰 수")
+				.tag("lane", laneName)
+				.register(meterRegistry);
+
+			Gauge.builder("bid.sequencer.active", lane, ThreadPoolExecutor::getActiveCount)
+				.description("레인별 실행 중인 입찰 수")
+				.tag("lane", laneName)
+				.register(meterRegistry);
+
+			rejectedCounters.add(Counter.builder("bid.sequencer.rejected")
+				.description("레인 큐가 가득 차 즉시 거절된 입찰 수")
+				.tag("lane", laneName)
+				.register(meterRegistry));
+
+			lanes.add(lane);
+		}
+	}
+
+	// 경매의 레인에서 작업을 실행하고 결과를 기다림 (큐가 가득 차면 즉시 거절)
+	public <T> T execute(Long auctionId, Supplier<T> task) {
+		int laneIndex = laneOf(auctionId);
+		LaneTask<T> laneTask = new LaneTask<>(task);
+		Future<T> future;
+
+		try {
+			future = lanes.get(laneIndex).submit(laneTask);
+		} catch (RejectedExecutionException e) {
+			rejectedCounters.get(laneIndex).increment();
+			log.warn("[BidSequencer] 레인 큐 초과로 입찰 거절 - auctionId={}, lane={}", auctionId, laneIndex);
+			throw new BusinessException(BidErrorCode.BID_QUEUE_FULL);
+		}
+
+		try {
+			return await(future, laneTask);
+		} catch (InterruptedException e) {
+			// 타임아웃과 같이 아직 시작되지 않은 작업만 취소, 이미 실행 중이면 인터럽트 상태를 유지한 채 결과를 기다림
+			if (laneTask.cancelIfNotStarted(future)) {
+				Thread.currentThread().interrupt();
+				throw new BusinessException(BidErrorCode.BID_QUEUE_TIMEOUT);
+			}
+
+			return awaitUninterruptibly(future);
+		}
+	}
+
+	public int laneOf(Long auctionId) {
+		return Math.floorMod(Long.hashCode(auctionId), lanes.size());
+	}
+
+	public int laneCount() {
+		return lanes.size();
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		lanes.forEach(ThreadPoolExecutor::shutdown);
+	}
+
+	private <T> T await(Future<T> future, LaneTask<T> laneTask) throws InterruptedException {
+		try {
+			return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			// 아직 시작되지 않은 작업만 취소, 이미 실행 중이면 결과를 끝까지 기다림 (응답 없는 입찰 방지)
+			if (laneTask.cancelIfNotStarted(future)) {
+				throw new BusinessException(BidErrorCode.BID_QUEUE_TIMEOUT);
+			}
+
+			return awaitStarted(future);
+		} catch (ExecutionException e) {
+			throw unwrap(e);
+		}
+	}
+
+	private <T> T awaitStarted(Future<T> future) throws InterruptedException {
+		try {
+			return future.get();
+		} catch (ExecutionException e) {
+			throw unwrap(e);
+		}
+	}
+
+	private <T> T awaitUninterruptibly(Future<T> future) {
+		try {
+			while (true) {
+				try {
+					return future.get();
+				} catch (InterruptedException ignored) {
+					// 끝까지 기다린 뒤 인터럽트 상태를 되살림
+				} catch (ExecutionException e) {
+					throw unwrap(e);
+				}
+			}
+		} finally {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private RuntimeException unwrap(ExecutionException e) {
+		if (e.getCause() instanceof RuntimeException runtimeException) {
+			return runtimeException;
+		}
+
+		return new IllegalStateException(e.getCause());
+	}
+
+	// FutureTask.cancel(false) 는 실행 중인 작업도 취소로 표시해 결과를 버리므로, 시작 여부를 직접 선점해 판단
+	private static class LaneTask<T> implements Callable<T> {
+		private final Supplier<T> task;
+		private final AtomicBoolean claimed = new AtomicBoolean();
+
+		LaneTask(Supplier<T> task) {
+			this.task = task;
+		}
+
+		@Override
+		public T call() {
+			return claimed.compareAndSet(false, true) ? task.get() : null;
+		}
+
+		boolean cancelIfNotStarted(Future<T> future) {
+			if (!claimed.compareAndSet(false, true)) {
+				return false;
+			}
+
+			future.cancel(false);
+			return true;
+		}
+	}
+}
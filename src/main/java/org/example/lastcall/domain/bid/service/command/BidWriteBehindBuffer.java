@@ -0,0 +1,105 @@
+package org.example.lastcall.domain.bid.service.command;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.example.lastcall.domain.bid.config.BidProperties;
+import org.redisson.api.RScript;
+import org.redisson.api.RStream;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.StreamMessageId;
+import org.redisson.api.stream.StreamReadGroupArgs;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+
+// 허용된 입찰이 DB에 저장되기 전까지 머무는 Redis Stream 버퍼 (소비자 그룹으로 노드 간 분배, 처리 후 ACK)
+@Component
+public class BidWriteBehindBuffer {
+	private static final String GROUP = "bid-writer";
+	private static final StreamMessageId FIRST = new StreamMessageId(0, 0);
+
+	// 그룹이 이미 있으면 무시 (스트림이 없으면 함께 생성)
+	private static final String CREATE_GROUP = """
+		local ok = pcall(redis.call, 'XGROUP', 'CREATE', KEYS[1], ARGV[1], '0', 'MKSTREAM')
+		return ok and 1 or 0
+		""";
+
+	private final RedissonClient redissonClient;
+	private final BidProperties.WriteBehind config;
+	private final String consumer = ManagementFactory.getRuntimeMXBean().getName();
+	private volatile boolean groupReady;
+
+	public BidWriteBehindBuffer(RedissonClient redissonClient, BidProperties bidProperties) {
+		this.redissonClient = redissonClient;
+		this.config = bidProperties.writeBehind();
+	}
+
+	// 이 노드가 읽고 아직 ACK 하지 않은 항목 (저장 실패 후 재시도)
+	public List<Map.Entry<StreamMessageId, Map<String, String>>> readOwnPending() {
+		ensureGroup();
+
+		return entries(stream().readGroup(GROUP, consumer,
+			StreamReadGroupArgs.greaterThan(StreamMessageId.ALL).count(config.batchSize())));
+	}
+
+	public List<Map.Entry<StreamMessageId, Map<String, String>>> readNew() {
+		ensureGroup();
+
+		return entries(stream().readGroup(GROUP, consumer,
+			StreamReadGroupArgs.neverDelivered().count(config.batchSize())));
+	}
+
+	// 장애 노드가 읽고 처리하지 못한 항목을 가져옴
+	public List<Map.Entry<StreamMessageId, Map<String, String>>> claimIdle() {
+		ensureGroup();
+
+		return entries(stream().autoClaim(GROUP, consumer, config.claimIdle().toMillis(), TimeUnit.MILLISECONDS,
+			FIRST, config.batchSize()).getMessages());
+	}
+
+	// 어느 노드든 아직 ACK 되지 않은 해당 경매의 항목이 있는지 확인
+	public boolean hasPending(Long auctionId) {
+		ensureGroup();
+		String target = String.valueOf(auctionId);
+
+		return stream().pendingRange(GROUP, StreamMessageId.MIN, StreamMessageId.MAX, (int) config.capacity()).values()
+			.stream()
+			.anyMatch(fields -> target.equals(fields.get("auctionId")));
+	}
+
+	public void acknowledge(Collection<StreamMessageId> ids) {
+		StreamMessageId[] idArray = ids.toArray(StreamMessageId[]::new);
+
+		stream().ack(GROUP, idArray);
+		stream().remove(idArray);
+	}
+
+	public long size() {
+		return stream().size();
+	}
+
+	private void ensureGroup() {
+		if (groupReady) {
+			return;
+		}
+
+		redissonClient.getScript(StringCodec.INSTANCE).eval(RScript.Mode.READ_WRITE, CREATE_GROUP,
+			RScript.ReturnType.INTEGER, List.of(BidAdmissionScript.WRITE_BEHIND_STREAM_KEY), GROUP);
+		groupReady = true;
+	}
+
+	private RStream<String, String> stream() {
+		return redissonClient.getStream(BidAdmissionScript.WRITE_BEHIND_STREAM_KEY, StringCodec.INSTANCE);
+	}
+
+	private List<Map.Entry<StreamMessageId, Map<String, String>>> entries(Map<StreamMessageId, Map<String, String>> messages) {
+		if (messages == null) {
+			return List.of();
+		}
+
+		return List.copyOf(messages.entrySet());
+	}
+}
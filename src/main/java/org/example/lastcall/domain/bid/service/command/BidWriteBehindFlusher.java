@@ -0,0 +1,226 @@
+package org.example.lastcall.domain.bid.service.command;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.example.lastcall.domain.bid.config.BidProperties;
+import org.example.lastcall.domain.bid.enums.BidAdmissionMode;
+import org.example.lastcall.domain.bid.repository.BidBatchRepository;
+import org.example.lastcall.domain.bid.repository.BidRepository;
+import org.example.lastcall.domain.point.service.command.PointCommandServiceApi;
+import org.redisson.api.StreamMessageId;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+// 지연 저장 버퍼의 입찰을 모아 한 트랜잭션으로 저장 (입찰 배치 INSERT, 예치, 경매별 1회 갱신)
+@Slf4j
+@Component
+public class BidWriteBehindFlusher {
+	private final BidWriteBehindBuffer buffer;
+	private final BidBatchRepository bidBatchRepository;
+	private final BidRepository bidRepository;
+	private final PointCommandServiceApi pointCommandServiceApi;
+	private final BidAdmissionScript bidAdmissionScript;
+	private final BidProperties bidProperties;
+	private final TransactionTemplate transactionTemplate;
+	private final ReentrantLock flushLock = new ReentrantLock();
+	private final AtomicLong backlog = new AtomicLong();
+	private final Timer flushLag;
+	private final Counter voidedCounter;
+	private long lastClaimedAt;
+
+	public BidWriteBehindFlusher(BidWriteBehindBuffer buffer, BidBatchRepository bidBatchRepository,
+		BidRepository bidRepository, PointCommandServiceApi pointCommandServiceApi,
+		BidAdmissionScript bidAdmissionScript, BidProperties bidProperties,
+		PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+		this.buffer = buffer;
+		this.bidBatchRepository = bidBatchRepository;
+		this.bidRepository = bidRepository;
+		this.pointCommandServiceApi = pointCommandServiceApi;
+		this.bidAdmissionScript = bidAdmissionScript;
+		this.bidProperties = bidProperties;
+
+		// 호출한 쪽(경매 종료 처리)의 트랜잭션과 분리해 먼저 커밋
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+		this.flushLag = Timer.builder("bid.write-behind.flush.lag")
+			.description("입찰 허용부터 DB 저장까지 걸린 시간")
+			.register(meterRegistry);
+		this.voidedCounter = Counter.builder("bid.write-behind.voided")
+			.description("저장 시점 예치 실패로 무효 처리된 입찰 수")
+			.register(meterRegistry);
+		Gauge.builder("bid.write-behind.backlog", backlog, AtomicLong::get)
+			.description("저장 대기 중인 입찰 수")
+			.register(meterRegistry);
+	}
+
+	@Scheduled(fixedDelayString = "${bid.write-behind.flush-interval-millis:100}")
+	public void flushScheduled() {
+		if (!isEnabled()) {
+			return;
+		}
+
+		try {
+			recoverIfDue();
+
+			while (flush() == bidProperties.writeBehind().batchSize()) {
+				// 배치가 가득 찼으면 쌓인 항목이 더 있으므로 이어서 처리
+			}
+		} catch (Exception e) {
+			log.error("[WriteBehind] 입찰 저장 실패, 다음 주기에 재시도", e);
+		}
+	}
+
+	// 경매 종료 전 해당 경매의 입찰이 모두 저장될 때까지 대기 (다른 노드가 처리 중인 항목 포함)
+	public void drain(Long auctionId) {
+		long deadline = System.nanoTime() + bidProperties.writeBehind().drainTimeout().toNanos();
+
+		while (true) {
+			while (flush() == bidProperties.writeBehind().batchSize()) {
+				// 이 노드에 쌓인 항목 먼저 저장
+			}
+
+			if (!buffer.hasPending(auctionId)) {
+				return;
+			}
+
+			if (System.nanoTime() > deadline) {
+				// 종료 처리를 실패시켜 메시지 재시도로 다시 시도
+				throw new IllegalStateException("저장되지 않은 입찰이 남아 있어 경매를 종료할 수 없습니다. auctionId=" + auctionId);
+			}
+
+			sleepQuietly();
+		}
+	}
+
+	// 이전에 실패한 항목을 먼저 재시도하고, 없으면 새 항목을 처리
+	int flush() {
+		flushLock.lock();
+		try {
+			List<Map.Entry<StreamMessageId, Map<String, String>>> entries = buffer.readOwnPending();
+
+			if (entries.isEmpty()) {
+				entries = buffer.readNew();
+			}
+
+			persist(entries);
+			backlog.set(buffer.size());
+
+			return entries.size();
+		} finally {
+			flushLock.unlock();
+		}
+	}
+
+	private void persist(List<Map.Entry<StreamMessageId, Map<String, String>>> entries) {
+		if (entries.isEmpty()) {
+			return;
+		}
+
+		Map<StreamMessageId, BufferedBid> bids = new LinkedHashMap<>();
+		entries.forEach(entry -> bids.put(entry.getKey(), BufferedBid.from(entry.getValue())));
+
+		List<BufferedBid> voided = transactionTemplate.execute(status -> save(List.copyOf(bids.values())));
+
+		buffer.acknowledge(bids.keySet());
+
+		long now = System.currentTimeMillis();
+		bids.values().forEach(bid -> flushLag.record(now - bid.admittedAtMillis(), TimeUnit.MILLISECONDS));
+
+		// 무효 입찰이 있던 경매는 Redis 상태를 지워 다음 입찰 때 DB 기준으로 다시 적재
+		voidedCounter.increment(voided.size());
+		voided.stream().map(BufferedBid::auctionId).distinct().forEach(bidAdmissionScript::invalidate);
+
+		log.debug("[WriteBehind] 입찰 {}건 저장, 무효 {}건", bids.size(), voided.size());
+	}
+
+	private List<BufferedBid> save(List<BufferedBid> bids) {
+		// 커밋 후 ACK 전에 중단된 항목은 이미 저장되어 있으므로 제외
+		Set<Long> saved = new HashSet<>(bidRepository.findIdsByIdIn(bids.stream().map(BufferedBid::bidId).toList()));
+		List<BufferedBid> fresh = bids.stream().filter(bid -> !saved.contains(bid.bidId())).toList();
+
+		if (fresh.isEmpty()) {
+			return List.of();
+		}
+
+		bidBatchRepository.insertAll(fresh);
+
+		List<BufferedBid> voided = new ArrayList<>();
+		Map<Long, Long> highestByAuction = new LinkedHashMap<>();
+		Map<Long, Integer> newParticipantsByAuction = new HashMap<>();
+
+		for (BufferedBid bid : fresh) {
+			boolean deposited = pointCommandServiceApi.depositForAdmittedBid(
+				bid.auctionId(), bid.bidId(), bid.bidAmount(), bid.userId());
+
+			if (deposited) {
+				highestByAuction.merge(bid.auctionId(), bid.bidAmount(), Math::max);
+
+				// 허용 시점에 Redis 참여자 집합에 처음 추가된 입찰만 참여자 수에 더함
+				if (bid.newParticipant()) {
+					newParticipantsByAuction.merge(bid.auctionId(), 1, Integer::sum);
+				}
+			} else {
+				voided.add(bid);
+			}
+		}
+
+		if (!voided.isEmpty()) {
+			bidBatchRepository.deleteAll(voided.stream().map(BufferedBid::bidId).toList());
+		}
+
+		highestByAuction.forEach((auctionId, highestBid) -> bidBatchRepository.applyToAuction(
+			auctionId, highestBid, newParticipantsByAuction.getOrDefault(auctionId, 0)));
+
+		return voided;
+	}
+
+	// 장애 노드가 남긴 항목 회수는 claimIdle 의 절반 주기로만 수행
+	private void recoverIfDue() {
+		long now = System.currentTimeMillis();
+
+		if (now - lastClaimedAt < bidProperties.writeBehind().claimIdle().toMillis() / 2) {
+			return;
+		}
+
+		lastClaimedAt = now;
+
+		flushLock.lock();
+		try {
+			persist(buffer.claimIdle());
+		} finally {
+			flushLock.unlock();
+		}
+	}
+
+	private boolean isEnabled() {
+		return bidProperties.admission().mode() == BidAdmissionMode.WRITE_BEHIND;
+	}
+
+	private void sleepQuietly() {
+		try {
+			Thread.sleep(50);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,34 @@
+package org.example.lastcall.domain.bid.service.command;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+
+// 지연 저장 버퍼(Redis Stream)에 적재된 입찰 항목
+public record BufferedBid(
+	Long bidId,
+	Long auctionId,
+	Long userId,
+	Long bidAmount,
+	Long previousHighest,
+	Long previousUserBid,
+	boolean newParticipant,
+	long admittedAtMillis) {
+
+	public static BufferedBid from(Map<String, String> fields) {
+		return new BufferedBid(
+			Long.valueOf(fields.get("bidId")),
+			Long.valueOf(fields.get("auctionId")),
+			Long.valueOf(fields.get("userId")),
+			Long.valueOf(fields.get("bidAmount")),
+			Long.valueOf(fields.get("previousHighest")),
+			Long.valueOf(fields.get("previousUserBid")),
+			"1".equals(fields.get("newParticipant")),
+			Long.parseLong(fields.get("admittedAt")));
+	}
+
+	public LocalDateTime admittedAt() {
+		return LocalDateTime.ofInstant(Instant.ofEpochMilli(admittedAtMillis), ZoneId.systemDefault());
+	}
+}
@@ -0,0 +1,102 @@
+package org.example.lastcall.domain.bid.service.command;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.lastcall.common.exception.BusinessException;
+import org.example.lastcall.domain.auction.entity.Auction;
+import org.example.lastcall.domain.auction.exception.AuctionErrorCode;
+import org.example.lastcall.domain.auction.repository.AuctionRepository;
+import org.example.lastcall.domain.auction.service.query.AuctionQueryServiceApi;
+import org.example.lastcall.domain.auction.service.room.AuctionRoomPublisher;
+import org.example.lastcall.domain.auth.enums.AuthUser;
+import org.example.lastcall.domain.bid.dto.response.BidCreateResponse;
+import org.example.lastcall.domain.bid.entity.Bid;
+import org.example.lastcall.domain.bid.repository.BidRepository;
+import org.example.lastcall.domain.point.service.command.PointCommandServiceApi;
+import org.example.lastcall.domain.user.entity.User;
+import org.example.lastcall.domain.user.service.query.UserQueryServiceApi;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 분산 락 대신 Redis Lua 스크립트로 입찰을 허용한 뒤 DB에 반영하는 입찰 경로
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Slf4j
+public class LuaBidAdmissionService {
+    private final BidRepository bidRepository;
+    private final AuctionRepository auctionRepository;
+    private final AuctionQueryServiceApi auctionQueryServiceApi;
+    private final UserQueryServiceApi userQueryServiceApi;
+    private final PointCommandServiceApi pointCommandServiceApi;
+    private final BidAdmissionScript bidAdmissionScript;
+    private final AuctionRoomPublisher auctionRoomPublisher;
+
+    public BidCreateResponse createBid(Long auctionId, AuthUser authUser, Long nextBidAmount) {
+        Auction auction = auctionQueryServiceApi.findBiddableAuction(auctionId);
+        Long userId = authUser.userId();
+
+        BidAdmission admission = admit(auction, userId, nextBidAmount);
+        log.debug("[Bid] Lua 입찰 허용: auctionId={}, userId={}, nextBidAmount={}", auctionId, userId, nextBidAmount);
+
+        // 이후 DB 반영이 롤백되면 Redis 상태를 지워 DB 기준으로 다시 적재
+        registerCompensation(auctionId, userId, nextBidAmount);
+
+        // 경매 행을 먼저 갱신해 행 잠금을 잡음 (종료 처리와의 순서 보장)
+        int updated = auctionRepository.applyAdmittedBid(auctionId, nextBidAmount, admission.newParticipant() ? 1 : 0);
+
+        if (updated == 0) {
+            throw new BusinessException(AuctionErrorCode.CANNOT_BID_ON_NON_ONGOING_AUCTION);
+        }
+
+        User user = userQueryServiceApi.findReferenceById(userId);
+        Bid savedBid = bidRepository.save(Bid.of(nextBidAmount, auction, user));
+
+        pointCommandServiceApi.updateDepositPoint(auctionId, savedBid.getId(), nextBidAmount, userId);
+        auctionRoomPublisher.publishBid(auctionId, nextBidAmount,
+                auction.getParticipantCount() + (admission.newParticipant() ? 1 : 0));
+        log.debug("[Bid] Lua 입찰 생성 완료: auctionId={}, userId={}, nextBidAmount={}", auctionId, userId, nextBidAmount);
+
+        return BidCreateResponse.from(savedBid);
+    }
+
+    private BidAdmission admit(Auction auction, Long userId, Long nextBidAmount) {
+        BidAdmission admission = bidAdmissionScript.admit(auction, userId, nextBidAmount);
+
+        if (admission.needsInit()) {
+            bidAdmissionScript.init(
+                    auction,
+                    bidRepository.findMaxBidAmountByAuction(auction).orElse(auction.getStartingBid()),
+                    bidRepository.countByAuctionId(auction.getId()),
+                    bidRepository.findBidderMaxBidsByAuctionId(auction.getId()));
+
+            admission = bidAdmissionScript.admit(auction, userId, nextBidAmount);
+        }
+
+        if (!admission.isAdmitted()) {
+            throw new BusinessException(admission.toErrorCode());
+        }
+
+        return admission;
+    }
+
+    private void registerCompensation(Long auctionId, Long userId, Long bidAmount) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    return;
+                }
+
+                try {
+                    bidAdmissionScript.invalidate(auctionId);
+                    log.warn("[Bid] Lua 입찰 보상 처리: auctionId={}, userId={}, bidAmount={}", auctionId, userId, bidAmount);
+                } catch (Exception e) {
+                    log.error("[Bid] Lua 입찰 보상 처리 실패: auctionId={}, userId={}", auctionId, userId, e);
+                }
+            }
+        });
+    }
+}
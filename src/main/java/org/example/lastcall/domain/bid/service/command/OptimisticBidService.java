@@ -0,0 +1,129 @@
+package org.example.lastcall.domain.bid.service.command;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.lastcall.common.exception.BusinessException;
+import org.example.lastcall.common.exception.ErrorCode;
+import org.example.lastcall.domain.auction.entity.Auction;
+import org.example.lastcall.domain.auction.enums.AuctionStatus;
+import org.example.lastcall.domain.auction.exception.AuctionErrorCode;
+import org.example.lastcall.domain.auction.repository.AuctionRepository;
+import org.example.lastcall.domain.auction.service.query.AuctionQueryServiceApi;
+import org.example.lastcall.domain.auction.service.room.AuctionRoomPublisher;
+import org.example.lastcall.domain.auth.enums.AuthUser;
+import org.example.lastcall.domain.bid.config.BidProperties;
+import org.example.lastcall.domain.bid.dto.response.BidCreateResponse;
+import org.example.lastcall.domain.bid.entity.Bid;
+import org.example.lastcall.domain.bid.exception.BidErrorCode;
+import org.example.lastcall.domain.bid.repository.BidRepository;
+import org.example.lastcall.domain.point.service.command.PointCommandServiceApi;
+import org.example.lastcall.domain.user.entity.User;
+import org.example.lastcall.domain.user.service.query.UserQueryServiceApi;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 분산 락 없이 경매 현재가 조건부 UPDATE(compare-and-set)로 입찰을 반영하는 경로
+// 같은 경매의 동시 입찰은 경매 행 갱신에서 한 건만 성공하고, 나머지는 0건 갱신으로 밀린 것을 감지한다.
+@Slf4j
+@Service
+public class OptimisticBidService {
+    private final BidRepository bidRepository;
+    private final AuctionRepository auctionRepository;
+    private final AuctionQueryServiceApi auctionQueryServiceApi;
+    private final UserQueryServiceApi userQueryServiceApi;
+    private final PointCommandServiceApi pointCommandServiceApi;
+    private final AuctionRoomPublisher auctionRoomPublisher;
+    private final BidProperties.Optimistic config;
+    private final TransactionTemplate transactionTemplate;
+
+    public OptimisticBidService(BidRepository bidRepository, AuctionRepository auctionRepository,
+                                AuctionQueryServiceApi auctionQueryServiceApi, UserQueryServiceApi userQueryServiceApi,
+                                PointCommandServiceApi pointCommandServiceApi, AuctionRoomPublisher auctionRoomPublisher,
+                                BidProperties bidProperties,
+                                PlatformTransactionManager transactionManager) {
+        this.bidRepository = bidRepository;
+        this.auctionRepository = auctionRepository;
+        this.auctionQueryServiceApi = auctionQueryServiceApi;
+        this.userQueryServiceApi = userQueryServiceApi;
+        this.pointCommandServiceApi = pointCommandServiceApi;
+        this.auctionRoomPublisher = auctionRoomPublisher;
+        this.config = bidProperties.optimistic();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // 시도마다 새 트랜잭션, 교착/락 대기 초과만 재시도 (밀린 입찰은 재시도해도 금액이 맞지 않으므로 즉시 실패)
+    public BidCreateResponse createBid(Long auctionId, AuthUser authUser, Long nextBidAmount) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> attemptBid(auctionId, authUser.userId(), nextBidAmount));
+            } catch (PessimisticLockingFailureException e) {
+                if (attempt >= config.maxAttempts()) {
+                    log.warn("[Bid] 조건부 입찰 재시도 초과: auctionId={}, userId={}, attempts={}", auctionId, authUser.userId(), attempt);
+                    throw new BusinessException(BidErrorCode.CONCURRENCY_BID_FAILED);
+                }
+
+                backoff(attempt);
+            }
+        }
+    }
+
+    private BidCreateResponse attemptBid(Long auctionId, Long userId, Long nextBidAmount) {
+        Auction auction = auctionQueryServiceApi.findBiddableAuction(auctionId);
+
+        if (auction.getUser().getId().equals(userId)) {
+            throw new BusinessException(BidErrorCode.SELLER_CANNOT_BID);
+        }
+
+        Long currentBid = auction.getCurrentBid();
+        Long expectedNextBidAmount = currentBid + auction.getBidStep();
+        boolean isFirstBid = auction.getParticipantCount() == 0;
+
+        if (isFirstBid && (nextBidAmount < auction.getStartingBid())) {
+            throw new BusinessException(BidErrorCode.FIRST_BID_TOO_LOW);
+        } else if (isFirstBid && (!nextBidAmount.equals(expectedNextBidAmount))) {
+            throw new BusinessException(BidErrorCode.INVALID_BID_AMOUNT);
+        }
+
+        if (nextBidAmount < expectedNextBidAmount) {
+            throw new BusinessException(BidErrorCode.CONCURRENCY_BID_FAILED);
+        } else if (!nextBidAmount.equals(expectedNextBidAmount)) {
+            throw new BusinessException(BidErrorCode.INVALID_BID_AMOUNT);
+        }
+
+        boolean alreadyParticipated = bidRepository.existsByAuctionIdAndUserId(auctionId, userId);
+        int updated = auctionRepository.compareAndSetCurrentBid(auctionId, currentBid, nextBidAmount, alreadyParticipated ? 0 : 1);
+
+        if (updated == 0) {
+            throw new BusinessException(resolveConflict(auctionId));
+        }
+
+        User user = userQueryServiceApi.findReferenceById(userId);
+        Bid savedBid = bidRepository.save(Bid.of(nextBidAmount, auction, user));
+
+        // 경매 행 잠금을 쥔 상태에서 조건부 UPDATE 로 예치 (같은 트랜잭션이라 잔액이 부족하면 입찰도 함께 롤백)
+        pointCommandServiceApi.updateDepositPoint(auctionId, savedBid.getId(), nextBidAmount, userId);
+        auctionRoomPublisher.publishBid(auctionId, nextBidAmount, auction.getParticipantCount() + (alreadyParticipated ? 0 : 1));
+        log.debug("[Bid] 조건부 입찰 생성 완료: auctionId={}, userId={}, nextBidAmount={}", auctionId, userId, nextBidAmount);
+
+        return BidCreateResponse.from(savedBid);
+    }
+
+    // 0건 갱신: 그 사이 경매가 종료되었거나 다른 입찰에 밀림
+    private ErrorCode resolveConflict(Long auctionId) {
+        boolean closed = auctionRepository.findById(auctionId)
+                .map(auction -> auction.getStatus() != AuctionStatus.ONGOING)
+                .orElse(true);
+
+        return closed ? AuctionErrorCode.CANNOT_BID_ON_NON_ONGOING_AUCTION : BidErrorCode.CONCURRENCY_BID_FAILED;
+    }
+
+    private void backoff(int attempt) {
+        try {
+            Thread.sleep(config.backoff().toMillis() * attempt);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(BidErrorCode.CONCURRENCY_BID_FAILED);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package org.example.lastcall.domain.bid.service.command;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.lastcall.common.exception.BusinessException;
+import org.example.lastcall.common.lock.DistributedLock;
+import org.example.lastcall.domain.auction.entity.Auction;
+import org.example.lastcall.domain.auction.service.query.AuctionQueryServiceApi;
+import org.example.lastcall.domain.auction.service.room.AuctionRoomPublisher;
+import org.example.lastcall.domain.auth.enums.AuthUser;
+import org.example.lastcall.domain.bid.dto.response.ProxyBidResponse;
+import org.example.lastcall.domain.bid.entity.Bid;
+import org.example.lastcall.domain.bid.entity.ProxyBid;
+import org.example.lastcall.domain.bid.exception.BidErrorCode;
+import org.example.lastcall.domain.bid.repository.BidRepository;
+import org.example.lastcall.domain.bid.repository.BidderMaxBid;
+import org.example.lastcall.domain.bid.repository.ProxyBidRepository;
+import org.example.lastcall.domain.point.service.command.PointCommandServiceApi;
+import org.example.lastcall.domain.point.service.query.PointQueryServiceApi;
+import org.example.lastcall.domain.user.entity.User;
+import org.example.lastcall.domain.user.service.query.UserQueryServiceApi;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 자동(최대 금액) 입찰: 경쟁 중인 최대 금액들로 결과를 한 번에 계산하고 최종 입찰만 저장
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Slf4j
+public class ProxyBidCommandService {
+    private final BidRepository bidRepository;
+    private final ProxyBidRepository proxyBidRepository;
+    private final AuctionQueryServiceApi auctionQueryServiceApi;
+    private final UserQueryServiceApi userQueryServiceApi;
+    private final PointCommandServiceApi pointCommandServiceApi;
+    private final PointQueryServiceApi pointQueryServiceApi;
+    private final AuctionBidBook auctionBidBook;
+    private final AuctionRoomPublisher auctionRoomPublisher;
+
+    @DistributedLock(key = "'auction:' + #auctionId")
+    public ProxyBidResponse registerProxyBid(Long auctionId, AuthUser authUser, Long maxAmount) {
+        Auction auction = auctionQueryServiceApi.findBiddableAuction(auctionId);
+        Long userId = authUser.userId();
+
+        if (auction.getUser().getId().equals(userId)) {
+            throw new BusinessException(BidErrorCode.SELLER_CANNOT_BID);
+        }
+
+        BidBookEntry bidBook = auctionBidBook.load(auction);
+        Long leaderId = findLeaderId(auction, bidBook);
+        long alignedMax = ProxyBidEngine.alignToStep(auction.getStartingBid(), auction.getBidStep(), maxAmount);
+
+        if (!userId.equals(leaderId) && alignedMax < bidBook.getHighestBid() + auction.getBidStep()) {
+            throw new BusinessException(BidErrorCode.PROXY_MAX_TOO_LOW);
+        }
+
+        // 이미 예치한 금액을 제외한 나머지를 최대 금액까지 감당할 수 있어야 함
+        long deposited = bidRepository.findMaxBidAmountByAuctionIdAndUserId(auctionId, userId).orElse(0L);
+        pointQueryServiceApi.validateSufficientPoints(userId, alignedMax - deposited);
+
+        User user = userQueryServiceApi.findReferenceById(userId);
+        ProxyBid proxyBid = proxyBidRepository.findByAuctionIdAndUserId(auctionId, userId)
+                .map(existing -> {
+                    existing.updateMaxAmount(alignedMax);
+                    return existing;
+                })
+                .orElseGet(() -> {
+                    auction.incrementProxyBidCount();
+                    return proxyBidRepository.save(ProxyBid.of(alignedMax, auction, user));
+                });
+
+        List<Bid> placed = applyProxyBids(auction, bidBook, bidBook.getHighestBid(), leaderId);
+        Long currentBid = placed.isEmpty() ? bidBook.getHighestBid() : placed.get(placed.size() - 1).getBidAmount();
+        Long currentLeaderId = placed.isEmpty() ? leaderId : placed.get(placed.size() - 1).getUser().getId();
+        if (!placed.isEmpty()) {
+            auctionRoomPublisher.publishBid(auctionId, auction.getCurrentBid(), auction.getParticipantCount());
+        }
+
+        log.debug("[ProxyBid] 자동 입찰 등록: auctionId={}, userId={}, maxAmount={}, placed={}", auctionId, userId, alignedMax, placed.size());
+
+        return new ProxyBidResponse(auctionId, userId, proxyBid.getMaxAmount(), currentBid, userId.equals(currentLeaderId));
+    }
+
+    // 새 입찰 이후 자동 입찰 경쟁 반영 (호출한 쪽이 경매 락을 보유한 상태여야 함)
+    // 등록된 자동 입찰이 없으면 조회하지 않음
+    public List<Bid> applyProxyBids(Auction auction, BidBookEntry bidBook, Long currentPrice, Long leaderId) {
+        if (!auction.hasProxyBids()) {
+            return List.of();
+        }
+
+        List<ProxyBid> proxies = new ArrayList<>(proxyBidRepository.findAllByAuctionId(auction.getId()));
+
+        if (proxies.isEmpty()) {
+            return List.of();
+        }
+
+        List<ProxyBidEngine.ResolvedBid> resolved = resolveAffordable(auction, currentPrice, leaderId, proxies);
+        List<Bid> placed = new ArrayList<>();
+        Set<Long> counted = new HashSet<>();
+
+        for (ProxyBidEngine.ResolvedBid result : resolved) {
+            User user = userQueryServiceApi.findReferenceById(result.userId());
+            Bid saved = bidRepository.save(Bid.of(result.amount(), auction, user));
+
+            if (!bidBook.hasParticipated(result.userId()) && !result.userId().equals(leaderId) && counted.add(result.userId())) {
+                auction.incrementParticipantCount();
+            }
+
+            auction.updateCurrentBid(result.amount());
+            auctionBidBook.record(auction.getId(), result.userId(), result.amount());
+            placed.add(saved);
+        }
+
+        // 사용자당 최종 입찰 1건만 저장되므로 예치도 사용자당 1회
+        placed.forEach(bid -> pointCommandServiceApi.updateDepositPoint(
+                auction.getId(), bid.getId(), bid.getBidAmount(), bid.getUser().getId()));
+
+        return placed;
+    }
+
+    // 결과 금액을 감당할 수 없는 사용자의 자동 입찰은 해제하고 다시 계산
+    // 후보 전체의 예치 금액/가용 포인트를 한 번씩만 조회 (다시 계산해도 바뀌지 않음)
+    private List<ProxyBidEngine.ResolvedBid> resolveAffordable(Auction auction, Long currentPrice, Long leaderId,
+                                                             List<ProxyBid> proxies) {
+        List<Long> userIds = proxies.stream().map(proxy -> proxy.getUser().getId()).toList();
+        Map<Long, Long> deposited = bidRepository.findBidderMaxBidsByAuctionIdAndUserIdIn(auction.getId(), userIds).stream()
+                .collect(Collectors.toMap(BidderMaxBid::userId, BidderMaxBid::maxBidAmount));
+        Map<Long, Long> available = pointQueryServiceApi.findAvailablePoints(userIds);
+
+        while (true) {
+            List<ProxyBidEngine.ResolvedBid> resolved = ProxyBidEngine.resolve(
+                    auction.getStartingBid(),
+                    auction.getBidStep(),
+                    currentPrice,
+                    leaderId,
+                    proxies.stream()
+                            .map(proxy -> new ProxyBidEngine.Candidate(proxy.getUser().getId(), proxy.getMaxAmount(), proxy.getRegisteredAt()))
+                            .toList());
+
+            Optional<ProxyBidEngine.ResolvedBid> unaffordable = resolved.stream()
+                    .filter(result -> !canAfford(result, deposited, available))
+                    .findFirst();
+
+            if (unaffordable.isEmpty()) {
+                return resolved;
+            }
+
+            Long userId = unaffordable.get().userId();
+            Optional<ProxyBid> released = proxies.stream()
+                    .filter(proxy -> proxy.getUser().getId().equals(userId))
+                    .findFirst();
+
+            if (released.isEmpty()) {
+                return List.of();
+            }
+
+            log.warn("[ProxyBid] 포인트 부족으로 자동 입찰 해제: auctionId={}, userId={}", auction.getId(), userId);
+            proxyBidRepository.delete(released.get());
+            auction.decrementProxyBidCount();
+            proxies.remove(released.get());
+        }
+    }
+
+    private boolean canAfford(ProxyBidEngine.ResolvedBid result, Map<Long, Long> deposited, Map<Long, Long> available) {
+        Long availablePoint = available.get(result.userId());
+
+        return availablePoint != null && availablePoint >= result.amount() - deposited.getOrDefault(result.userId(), 0L);
+    }
+
+    private Long findLeaderId(Auction auction, BidBookEntry bidBook) {
+        if (bidBook.isEmpty()) {
+            return null;
+        }
+
+        return bidRepository.findTopByAuctionOrderByBidAmountDesc(auction)
+                .map(bid -> bid.getUser().getId())
+                .orElse(null);
+    }
+}
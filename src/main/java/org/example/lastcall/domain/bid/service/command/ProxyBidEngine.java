@@ -0,0 +1,88 @@
+package org.example.lastcall.domain.bid.service.command;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 경쟁하는 최대 금액들로부터 입찰 경쟁의 최종 결과를 한 번에 계산
+// 한 단계씩 번갈아 올리는 과정을 거치지 않고, 2순위 최대 금액 + 입찰 단위에서 1순위가 낙찰 선두가 된다.
+public final class ProxyBidEngine {
+	private ProxyBidEngine() {
+	}
+
+	public record Candidate(Long userId, long maxAmount, LocalDateTime registeredAt) {
+	}
+
+	public record ResolvedBid(Long userId, long amount) {
+	}
+
+	// currentPrice: 현재 최고 입찰가 (입찰이 없으면 시작가), leaderId: 현재 최고 입찰자 (없으면 null)
+	// 반환: 새로 저장할 입찰 (금액 오름차순, 사용자당 최대 1건)
+	public static List<ResolvedBid> resolve(long startingBid, long bidStep, long currentPrice, Long leaderId,
+		List<Candidate> proxies) {
+		long nextAmount = currentPrice + bidStep;
+		Map<Long, Contender> contenders = new LinkedHashMap<>();
+
+		// 현재 최고 입찰자는 자신의 입찰가(또는 더 높은 최대 금액)까지 방어하고, 동률이면 우선
+		if (leaderId != null) {
+			contenders.put(leaderId, new Contender(leaderId, currentPrice, true, LocalDateTime.MIN));
+		}
+
+		for (Candidate proxy : proxies) {
+			long max = alignToStep(startingBid, bidStep, proxy.maxAmount());
+			boolean isLeader = proxy.userId().equals(leaderId);
+
+			if (isLeader) {
+				contenders.put(leaderId, new Contender(leaderId, Math.max(max, currentPrice), true, LocalDateTime.MIN));
+			} else if (max >= nextAmount) {
+				contenders.put(proxy.userId(), new Contender(proxy.userId(), max, false, proxy.registeredAt()));
+			}
+		}
+
+		List<Contender> ranked = new ArrayList<>(contenders.values());
+		ranked.sort(Comparator.comparingLong(Contender::maxAmount).reversed()
+			.thenComparing(Contender::registeredAt));
+
+		if (ranked.isEmpty() || (ranked.size() == 1 && ranked.get(0).leader())) {
+			return List.of();
+		}
+
+		Contender winner = ranked.get(0);
+
+		if (ranked.size() == 1) {
+			return List.of(new ResolvedBid(winner.userId(), nextAmount));
+		}
+
+		Contender runnerUp = ranked.get(1);
+		long finalAmount = winner.maxAmount() > runnerUp.maxAmount()
+			? runnerUp.maxAmount() + bidStep
+			: winner.maxAmount();
+		long runnerUpAmount = finalAmount - bidStep;
+
+		List<ResolvedBid> resolved = new ArrayList<>();
+
+		// 2순위의 마지막 입찰이 현재가 이하라면 이미 저장된 입찰로 충분
+		if (runnerUpAmount > currentPrice) {
+			resolved.add(new ResolvedBid(runnerUp.userId(), runnerUpAmount));
+		}
+
+		resolved.add(new ResolvedBid(winner.userId(), finalAmount));
+
+		return resolved;
+	}
+
+	// 입찰 금액은 시작가 + 입찰 단위의 배수만 가능
+	public static long alignToStep(long startingBid, long bidStep, long amount) {
+		if (amount <= startingBid) {
+			return startingBid;
+		}
+
+		return startingBid + ((amount - startingBid) / bidStep) * bidStep;
+	}
+
+	private record Contender(Long userId, long maxAmount, boolean leader, LocalDateTime registeredAt) {
+	}
+}
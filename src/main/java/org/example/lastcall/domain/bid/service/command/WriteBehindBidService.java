@@ -0,0 +1,85 @@
+package org.example.lastcall.domain.bid.service.command;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import org.example.lastcall.common.exception.BusinessException;
+import org.example.lastcall.domain.auction.entity.Auction;
+import org.example.lastcall.domain.auction.service.query.AuctionQueryServiceApi;
+import org.example.lastcall.domain.auction.service.room.AuctionRoomPublisher;
+import org.example.lastcall.domain.auth.enums.AuthUser;
+import org.example.lastcall.domain.bid.config.BidProperties;
+import org.example.lastcall.domain.bid.dto.response.BidCreateResponse;
+import org.example.lastcall.domain.bid.exception.BidErrorCode;
+import org.example.lastcall.domain.bid.repository.BidRepository;
+import org.example.lastcall.domain.point.service.query.PointQueryServiceApi;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// Redis에서 입찰을 확정하고 응답, DB 저장과 예치는 BidWriteBehindFlusher 가 배치로 처리
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WriteBehindBidService {
+	private final BidRepository bidRepository;
+	private final AuctionQueryServiceApi auctionQueryServiceApi;
+	private final PointQueryServiceApi pointQueryServiceApi;
+	private final BidAdmissionScript bidAdmissionScript;
+	private final BidProperties bidProperties;
+	private final AuctionRoomPublisher auctionRoomPublisher;
+	private final BidIdAllocator bidIdAllocator;
+	private final BidWriteBehindFlusher bidWriteBehindFlusher;
+
+	public BidCreateResponse createBid(Long auctionId, AuthUser authUser, Long nextBidAmount) {
+		Auction auction = auctionQueryServiceApi.findBiddableAuction(auctionId);
+		Long userId = authUser.userId();
+
+		// 예치는 저장 시점에 처리되므로 허용 전에 잔액을 먼저 확인
+		pointQueryServiceApi.validateSufficientPoints(userId, nextBidAmount);
+
+		LocalDateTime admittedAt = LocalDateTime.now();
+		BidAdmission admission = admit(auction, userId, nextBidAmount,
+			admittedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+		log.debug("[Bid] 지연 저장 입찰 허용: auctionId={}, userId={}, bidId={}", auctionId, userId, admission.bidId());
+
+		// 참여자 수는 DB 반영 전이라 알 수 없으므로 현재가만 알림
+		auctionRoomPublisher.publishBid(auctionId, nextBidAmount, null);
+
+		return new BidCreateResponse(admission.bidId(), auctionId, userId, nextBidAmount, admittedAt);
+	}
+
+	private BidAdmission admit(Auction auction, Long userId, Long nextBidAmount, long admittedAt) {
+		long capacity = bidProperties.writeBehind().capacity();
+		long bidId = bidIdAllocator.next();
+		BidAdmission admission = bidAdmissionScript.admitAndEnqueue(auction, userId, nextBidAmount, admittedAt, capacity, bidId);
+
+		if (admission.needsInit()) {
+			// 버퍼에 남은 입찰을 먼저 저장해야 DB 기준 적재가 이미 허용된 입찰보다 뒤처지지 않음
+			drain(auction.getId());
+			bidAdmissionScript.init(
+				auction,
+				bidRepository.findMaxBidAmountByAuction(auction).orElse(auction.getStartingBid()),
+				bidRepository.countByAuctionId(auction.getId()),
+				bidRepository.findBidderMaxBidsByAuctionId(auction.getId()));
+
+			admission = bidAdmissionScript.admitAndEnqueue(auction, userId, nextBidAmount, admittedAt, capacity, bidId);
+		}
+
+		if (!admission.isAdmitted()) {
+			throw new BusinessException(admission.toErrorCode());
+		}
+
+		return admission;
+	}
+
+	private void drain(Long auctionId) {
+		try {
+			bidWriteBehindFlusher.drain(auctionId);
+		} catch (IllegalStateException e) {
+			log.warn("[Bid] 지연 저장 대기 중인 입찰이 남아 상태 적재 보류: auctionId={}", auctionId);
+			throw new BusinessException(BidErrorCode.CONCURRENCY_BID_FAILED);
+		}
+	}
+}
@@ -1,16 +1,24 @@
 package org.example.lastcall.domain.bid.service.query;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.example.lastcall.common.exception.BusinessException;
+import org.example.lastcall.common.response.CursorResponse;
 import org.example.lastcall.common.response.PageResponse;
 import org.example.lastcall.domain.auction.entity.Auction;
 import org.example.lastcall.domain.auction.service.query.AuctionFinder;
 import org.example.lastcall.domain.bid.dto.response.BidGetAllResponse;
 import org.example.lastcall.domain.bid.entity.Bid;
 import org.example.lastcall.domain.bid.exception.BidErrorCode;
+import org.example.lastcall.domain.bid.repository.AuctionBidderMaxBid;
+import org.example.lastcall.domain.bid.repository.BidCursor;
 import org.example.lastcall.domain.bid.repository.BidRepository;
+import org.example.lastcall.domain.bid.repository.BidderMaxBid;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -22,6 +30,8 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class BidQueryService implements BidQueryServiceApi {
+	private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
 	private final BidRepository bidRepository;
 	private final AuctionFinder auctionFinder;
 
@@ -32,6 +42,28 @@ public class BidQueryService implements BidQueryServiceApi {
 		return PageResponse.of(bidPage.map(BidGetAllResponse::from));
 	}
 
+	// 금액 내림차순 커서 조회: 한 건 더 읽어 다음 페이지 여부를 판단 (깊은 페이지도 인덱스 범위 스캔 한 번)
+	public CursorResponse<BidGetAllResponse> getBidsByCursor(Long auctionId, String cursor, int size) {
+		auctionFinder.findById(auctionId);
+		int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+		Limit limit = Limit.of(pageSize + 1);
+
+		List<Bid> bids;
+
+		if (cursor == null || cursor.isBlank()) {
+			bids = bidRepository.findFirstPageByAuctionId(auctionId, limit);
+		} else {
+			BidCursor bidCursor = BidCursor.decode(cursor);
+			bids = bidRepository.findNextPageByAuctionId(auctionId, bidCursor.bidAmount(), bidCursor.id(), limit);
+		}
+
+		boolean hasNext = bids.size() > pageSize;
+		List<Bid> page = hasNext ? bids.subList(0, pageSize) : bids;
+		String nextCursor = hasNext ? BidCursor.from(page.get(pageSize - 1)).encode() : null;
+
+		return CursorResponse.of(page.stream().map(BidGetAllResponse::from).toList(), nextCursor, pageSize);
+	}
+
 	@Override
 	public boolean existsByAuctionIdAndUserId(Long auctionId, Long userId) {
 		return bidRepository.existsByAuctionIdAndUserId(auctionId, userId);
@@ -65,4 +97,22 @@ public class BidQueryService implements BidQueryServiceApi {
 	public List<Bid> findAllByAuctionId(Long auctionId) {
 		return bidRepository.findAllByAuctionId(auctionId);
 	}
+
+	// 참여자별 최고 입찰가 (정산 시 낙찰자/환불 금액 계산용 집계)
+	@Override
+	public List<BidderMaxBid> findBidderMaxBidsByAuctionId(Long auctionId) {
+		return bidRepository.findBidderMaxBidsByAuctionId(auctionId);
+	}
+
+	// 여러 경매의 참여자별 최고 입찰가를 한 번의 집계로 조회 (일괄 종료용)
+	@Override
+	public Map<Long, List<BidderMaxBid>> findBidderMaxBidsByAuctionIds(Collection<Long> auctionIds) {
+		if (auctionIds.isEmpty()) {
+			return Map.of();
+		}
+
+		return bidRepository.findBidderMaxBidsByAuctionIdIn(auctionIds).stream()
+			.collect(Collectors.groupingBy(AuctionBidderMaxBid::auctionId,
+				Collectors.mapping(AuctionBidderMaxBid::toBidderMaxBid, Collectors.toList())));
+	}
 }
@@ -1,10 +1,13 @@
 package org.example.lastcall.domain.bid.service.query;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.example.lastcall.domain.auction.entity.Auction;
 import org.example.lastcall.domain.bid.entity.Bid;
+import org.example.lastcall.domain.bid.repository.BidderMaxBid;
 
 public interface BidQueryServiceApi {
 	boolean existsByAuctionIdAndUserId(Long auctionId, Long userId);
@@ -18,4 +21,8 @@ public interface BidQueryServiceApi {
 	Bid findById(Long bidId);
 
 	List<Bid> findAllByAuctionId(Long auctionId);
+
+	List<BidderMaxBid> findBidderMaxBidsByAuctionId(Long auctionId);
+
+	Map<Long, List<BidderMaxBid>> findBidderMaxBidsByAuctionIds(Collection<Long> auctionIds);
 }
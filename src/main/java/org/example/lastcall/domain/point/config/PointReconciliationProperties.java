@@ -0,0 +1,23 @@
+package org.example.lastcall.domain.point.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+// chunkSize: 한 번에 읽어 집계할 포인트 로그 수 (id 순서)
+// rowsPerSecond: 초당 처리할 최대 로그 수 (주 DB 부하 제한)
+// parallelism / compareBatchSize: 집계와 잔액 비교를 나눠 병렬 실행할 스레드 수와 배치당 사용자 수
+// safetyLag: 이 시간보다 최근에 생성된 로그는 아직 커밋 중일 수 있으므로 다음 실행으로 미룸
+// maxRunTime: 한 번 실행에서 따라잡기를 계속할 최대 시간
+@ConfigurationProperties(prefix = "point.reconciliation")
+public record PointReconciliationProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("60000") long intervalMillis,
+        @DefaultValue("1000") int chunkSize,
+        @DefaultValue("2000") int rowsPerSecond,
+        @DefaultValue("4") int parallelism,
+        @DefaultValue("200") int compareBatchSize,
+        @DefaultValue("10s") Duration safetyLag,
+        @DefaultValue("5m") Duration maxRunTime) {
+}
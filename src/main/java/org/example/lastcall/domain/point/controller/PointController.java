@@ -1,8 +1,12 @@
 package org.example.lastcall.domain.point.controller;
 
+import org.example.lastcall.common.idempotency.IdempotencyAspect;
+import org.example.lastcall.common.idempotency.Idempotent;
 import org.example.lastcall.common.response.ApiResponse;
+import org.example.lastcall.common.response.CursorResponse;
 import org.example.lastcall.domain.auth.enums.AuthUser;
 import org.example.lastcall.domain.point.dto.request.PointCreateRequest;
+import org.example.lastcall.domain.point.dto.response.PointLogResponse;
 import org.example.lastcall.domain.point.dto.response.PointResponse;
 import org.example.lastcall.domain.point.service.command.PointCommandService;
 import org.example.lastcall.domain.point.service.query.PointQueryService;
@@ -13,9 +17,12 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -34,6 +41,9 @@ public class PointController {
 		description = "로그인한 사용자가 지정된 금액만큼 포인트를 충전합니다. " +
 			"요청 시 본인 인증이 필요하며, 충전 금액은 0보다 커야 합니다."
 	)
+	@Parameter(name = IdempotencyAspect.HEADER, in = ParameterIn.HEADER,
+		description = "재시도 시 같은 값을 보내면 최초 응답을 그대로 반환")
+	@Idempotent(scope = "'point-earn:' + #authUser.userId()")
 	@PostMapping("/earn")
 	public ResponseEntity<ApiResponse<PointResponse>> createPoint(
 		@AuthenticationPrincipal AuthUser authUser,
@@ -54,4 +64,20 @@ public class PointController {
 
 		return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.success("포인트 조회가 완료되었습니다.", pointResponse));
 	}
+
+	// 포인트 변동 내역 조회 (커서)
+	@Operation(
+		summary = "포인트 변동 내역 조회 (최신순, 커서)",
+		description = "로그인한 사용자의 포인트 변동 내역을 최신순으로 조회합니다. 응답의 nextCursor 를 다음 요청의 cursor 로 " +
+			"전달하면 이어서 조회되며, 전체 개수는 제공하지 않습니다. 내역이 많아도 페이지 깊이와 관계없이 일정한 속도로 조회됩니다."
+	)
+	@GetMapping("/logs")
+	public ResponseEntity<ApiResponse<CursorResponse<PointLogResponse>>> getPointLogs(
+		@AuthenticationPrincipal AuthUser authUser,
+		@RequestParam(required = false) String cursor,
+		@RequestParam(defaultValue = "20") int size) {
+		CursorResponse<PointLogResponse> logs = pointQueryService.getPointLogs(authUser, cursor, size);
+
+		return ResponseEntity.ok(ApiResponse.success("포인트 변동 내역을 조회합니다.", logs));
+	}
 }
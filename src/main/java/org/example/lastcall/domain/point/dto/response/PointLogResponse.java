@@ -0,0 +1,45 @@
+package org.example.lastcall.domain.point.dto.response;
+
+import java.time.LocalDateTime;
+
+import org.example.lastcall.domain.point.enums.PointLogType;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// JPQL 생성자 식으로 바로 조회 (PointLog 엔티티와 연관 관계를 적재하지 않음)
+@Schema(description = "포인트 변동 내역 조회 응답 DTO")
+@Getter
+@AllArgsConstructor
+public class PointLogResponse {
+	@Schema(description = "포인트 로그 ID", example = "30001")
+	private final Long id;
+
+	@Schema(description = "포인트 변동 유형", example = "DEPOSIT")
+	private final PointLogType type;
+
+	@Schema(description = "변동 사유", example = "입찰금 예치 처리")
+	private final String description;
+
+	@Schema(description = "변동 금액", example = "15000")
+	private final Long pointChange;
+
+	@Schema(description = "변동 후 가용 포인트", example = "35000")
+	private final Long availablePointAfter;
+
+	@Schema(description = "변동 후 예치 포인트", example = "15000")
+	private final Long depositPointAfter;
+
+	@Schema(description = "변동 후 정산 포인트", example = "0")
+	private final Long settlementPointAfter;
+
+	@Schema(description = "관련 경매 ID (없으면 null)", example = "501")
+	private final Long auctionId;
+
+	@Schema(description = "관련 입찰 ID (없으면 null)", example = "1001")
+	private final Long bidId;
+
+	@Schema(description = "변동 일시", example = "2025-10-24T15:30:00")
+	private final LocalDateTime createdAt;
+}
@@ -2,6 +2,7 @@ package org.example.lastcall.domain.point.entity;
 
 import jakarta.persistence.*;
 import org.example.lastcall.common.entity.BaseEntity;
+import org.example.lastcall.common.entity.IdGenerators;
 import org.example.lastcall.common.exception.BusinessException;
 import org.example.lastcall.domain.point.enums.PointLogType;
 import org.example.lastcall.domain.point.exception.PointErrorCode;
@@ -22,7 +23,14 @@ import java.time.LocalDateTime;
 @Table(name = "points")
 public class Point {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "point_id_generator")
+    @TableGenerator(
+            name = "point_id_generator",
+            table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.SEGMENT_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = IdGenerators.POINT,
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
 
     @OneToOne(fetch = FetchType.LAZY)
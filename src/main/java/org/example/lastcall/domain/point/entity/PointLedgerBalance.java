@@ -0,0 +1,37 @@
+package org.example.lastcall.domain.point.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 포인트 로그를 체크포인트까지 사용자별로 누적한 잔액 (정합성 검증 작업이 JDBC 배치로 갱신)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "point_ledger_balances")
+public class PointLedgerBalance {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "available_point", nullable = false)
+    private Long availablePoint;
+
+    @Column(name = "deposit_point", nullable = false)
+    private Long depositPoint;
+
+    @Column(name = "settlement_point", nullable = false)
+    private Long settlementPoint;
+
+    @Column(name = "last_log_id", nullable = false)
+    private Long lastLogId;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.example.lastcall.common.entity.IdGenerators;
 import org.example.lastcall.domain.auction.entity.Auction;
 import org.example.lastcall.domain.bid.entity.Bid;
 import org.example.lastcall.domain.point.enums.PointLogType;
@@ -18,13 +19,20 @@ import java.time.LocalDateTime;
 @EntityListeners(AuditingEntityListener.class)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "point_logs", indexes = {
-        @Index(name = "idx_point_log_user_created", columnList = "user_id, created_at DESC"),
+        @Index(name = "idx_point_log_user_created", columnList = "user_id, created_at DESC, id DESC"),
         @Index(name = "idx_point_log_auction", columnList = "auction_id"),
         @Index(name = "idx_point_log_point", columnList = "point_id")
 })
 public class PointLog {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "point_log_id_generator")
+    @TableGenerator(
+            name = "point_log_id_generator",
+            table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.SEGMENT_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = IdGenerators.POINT_LOG,
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -123,6 +131,25 @@ public class PointLog {
         return log;
     }
 
+    // 잔액을 DB 에서 직접 갱신한 경우 (집합 단위 정산, 조건부 예치), 갱신 후 조회한 잔액을 그대로 기록
+    public static PointLog ofBalance(Point point, Long userId, PointLogType type, String description, Long change,
+                                     Long auctionId, long availablePointAfter, long depositPointAfter,
+                                     long settlementPointAfter) {
+        return ofBalance(point, userId, type, description, change, auctionId, null,
+                availablePointAfter, depositPointAfter, settlementPointAfter);
+    }
+
+    public static PointLog ofBalance(Point point, Long userId, PointLogType type, String description, Long change,
+                                     Long auctionId, Long bidId, long availablePointAfter, long depositPointAfter,
+                                     long settlementPointAfter) {
+        PointLog log = new PointLog(point, userId, type, description, change, auctionId, bidId);
+
+        log.availablePointAfter = availablePointAfter;
+        log.depositPointAfter = depositPointAfter;
+        log.settlementPointAfter = settlementPointAfter;
+        return log;
+    }
+
     private static void applyAfterValues(PointLog log, Point point) {
         log.availablePointAfter = point.getAvailablePoint();
         log.depositPointAfter = point.getDepositPoint();
@@ -0,0 +1,28 @@
+package org.example.lastcall.domain.point.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 정합성 검증 작업이 마지막으로 집계한 포인트 로그 ID (재시작 시 이어서 처리)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "point_reconciliation_checkpoints")
+public class PointReconciliationCheckpoint {
+    @Id
+    @Column(name = "name", length = 50)
+    private String name;
+
+    @Column(name = "last_log_id", nullable = false)
+    private Long lastLogId;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,54 @@
+package org.example.lastcall.domain.point.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 포인트 로그 합계(ledger)와 실제 잔액(actual)이 다른 사용자 보고 (포인트 계정이 없으면 actual 은 null)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "point_reconciliation_mismatches", indexes = {
+        @Index(name = "idx_point_reconciliation_mismatch_user", columnList = "user_id")
+})
+public class PointReconciliationMismatch {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "ledger_available_point", nullable = false)
+    private Long ledgerAvailablePoint;
+
+    @Column(name = "ledger_deposit_point", nullable = false)
+    private Long ledgerDepositPoint;
+
+    @Column(name = "ledger_settlement_point", nullable = false)
+    private Long ledgerSettlementPoint;
+
+    @Column(name = "actual_available_point")
+    private Long actualAvailablePoint;
+
+    @Column(name = "actual_deposit_point")
+    private Long actualDepositPoint;
+
+    @Column(name = "actual_settlement_point")
+    private Long actualSettlementPoint;
+
+    @Column(name = "checkpoint_log_id", nullable = false)
+    private Long checkpointLogId;
+
+    @Column(name = "detected_at", nullable = false)
+    private LocalDateTime detectedAt;
+}
@@ -18,7 +18,9 @@ public enum PointErrorCode implements ErrorCode {
 
 	ALREADY_PROCESSED_DEPOSIT(HttpStatus.CONFLICT, "이미 예치로 전환시킨 입찰 입니다."),
 	ALREADY_PROCESSED_SETTLEMENT(HttpStatus.CONFLICT, "이미 정산이 완료된 경매입니다. 중복 정산은 불가능합니다."),
-	ALREADY_REFUNDED_DEPOSIT(HttpStatus.CONFLICT, "이미 환불이 완료된 사용자입니다.");
+	ALREADY_REFUNDED_DEPOSIT(HttpStatus.CONFLICT, "이미 환불이 완료된 사용자입니다."),
+
+	INVALID_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 페이지 커서입니다.");
 
     private final HttpStatus status;
     private final String message;
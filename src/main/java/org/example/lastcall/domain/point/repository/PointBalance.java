@@ -0,0 +1,10 @@
+package org.example.lastcall.domain.point.repository;
+
+// DB 에서 직접 갱신한 뒤의 포인트 잔액 (포인트 로그의 변경 후 값 기록용)
+public record PointBalance(Long pointId, Long userId, long availablePoint, long depositPoint, long settlementPoint) {
+	// 변경 전 잔액 (변경 후 잔액에서 변화량을 되돌림)
+	public PointBalance minus(PointLedgerDelta delta) {
+		return new PointBalance(pointId, userId, availablePoint - delta.availablePoint(),
+			depositPoint - delta.depositPoint(), settlementPoint - delta.settlementPoint());
+	}
+}
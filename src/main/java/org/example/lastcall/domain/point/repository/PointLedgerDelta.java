@@ -0,0 +1,32 @@
+package org.example.lastcall.domain.point.repository;
+
+import org.example.lastcall.domain.point.enums.PointLogType;
+
+// 포인트 로그가 잔액 세 항목에 주는 변화량 (누적하면 로그 기준 잔액)
+public record PointLedgerDelta(long availablePoint, long depositPoint, long settlementPoint) {
+	public static final PointLedgerDelta ZERO = new PointLedgerDelta(0, 0, 0);
+
+	public static PointLedgerDelta of(PointLogType type, long change) {
+		return switch (type) {
+			case EARN, REFUND -> new PointLedgerDelta(change, 0, 0);
+			case DEPOSIT, ADDITIONAL_DEPOSIT -> new PointLedgerDelta(-change, change, 0);
+			case SETTLEMENT -> new PointLedgerDelta(0, -change, change);
+			case DEPOSIT_TO_AVAILABLE -> new PointLedgerDelta(change, -change, 0);
+		};
+	}
+
+	public PointLedgerDelta plus(PointLedgerDelta other) {
+		return new PointLedgerDelta(availablePoint + other.availablePoint, depositPoint + other.depositPoint,
+			settlementPoint + other.settlementPoint);
+	}
+
+	public boolean matches(PointBalance balance) {
+		return availablePoint == balance.availablePoint()
+			&& depositPoint == balance.depositPoint()
+			&& settlementPoint == balance.settlementPoint();
+	}
+
+	public boolean isZero() {
+		return equals(ZERO);
+	}
+}
@@ -0,0 +1,9 @@
+package org.example.lastcall.domain.point.repository;
+
+import java.time.LocalDateTime;
+
+import org.example.lastcall.domain.point.enums.PointLogType;
+
+// 정합성 검증용으로 읽는 포인트 로그의 최소 컬럼
+public record PointLedgerEntry(Long id, Long userId, PointLogType type, long pointChange, LocalDateTime createdAt) {
+}
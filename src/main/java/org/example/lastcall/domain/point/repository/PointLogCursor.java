@@ -0,0 +1,36 @@
+package org.example.lastcall.domain.point.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import org.example.lastcall.common.exception.BusinessException;
+import org.example.lastcall.domain.point.dto.response.PointLogResponse;
+import org.example.lastcall.domain.point.exception.PointErrorCode;
+
+// 포인트 내역 커서: 마지막으로 받은 로그의 (생성 일시, ID), 클라이언트에는 불투명 문자열로 전달
+public record PointLogCursor(LocalDateTime createdAt, Long id) {
+	private static final String SEPARATOR = "|";
+
+	public static PointLogCursor from(PointLogResponse log) {
+		return new PointLogCursor(log.getCreatedAt(), log.getId());
+	}
+
+	public static PointLogCursor decode(String token) {
+		try {
+			String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			int separator = decoded.indexOf(SEPARATOR);
+
+			return new PointLogCursor(LocalDateTime.parse(decoded.substring(0, separator)),
+				Long.parseLong(decoded.substring(separator + 1)));
+		} catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+			throw new BusinessException(PointErrorCode.INVALID_CURSOR);
+		}
+	}
+
+	public String encode() {
+		return Base64.getUrlEncoder().withoutPadding()
+			.encodeToString((createdAt + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+	}
+}
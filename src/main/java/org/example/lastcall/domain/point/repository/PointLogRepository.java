@@ -1,13 +1,43 @@
 package org.example.lastcall.domain.point.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import org.example.lastcall.domain.point.dto.response.PointLogResponse;
 import org.example.lastcall.domain.point.entity.PointLog;
 import org.example.lastcall.domain.point.enums.PointLogType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface PointLogRepository extends JpaRepository<PointLog, Long> {
 	boolean existsByAuctionIdAndTypeAndUserId(Long id, PointLogType pointLogType, Long loserId);
 
 	boolean existsByBidIdAndTypeIn(Long bidId, List<PointLogType> deposit);
+
+	// 경매에 대해 사용자가 지금까지 예치한 총액
+	@Query("SELECT COALESCE(SUM(pl.pointChange), 0) FROM PointLog pl "
+		+ "WHERE pl.auctionId = :auctionId AND pl.userId = :userId AND pl.type IN :types")
+	long sumPointChangeByAuctionIdAndUserIdAndTypeIn(@Param("auctionId") Long auctionId, @Param("userId") Long userId,
+		@Param("types") List<PointLogType> types);
+
+	// 사용자 포인트 내역 커서 조회 첫 페이지, idx_point_log_user_created (user_id, created_at DESC, id DESC) 순서대로 읽어 정렬(filesort) 없음
+	// 연관 관계 대신 FK 컬럼(auctionId, bidId)만 선택해 조인 없이 DTO 로 조회
+	@Query("SELECT new org.example.lastcall.domain.point.dto.response.PointLogResponse("
+		+ "pl.id, pl.type, pl.description, pl.pointChange, pl.availablePointAfter, pl.depositPointAfter, "
+		+ "pl.settlementPointAfter, pl.auctionId, pl.bidId, pl.createdAt) "
+		+ "FROM PointLog pl WHERE pl.userId = :userId "
+		+ "ORDER BY pl.createdAt DESC, pl.id DESC")
+	List<PointLogResponse> findFirstPageByUserId(@Param("userId") Long userId, Limit limit);
+
+	// (createdAt, id) 가 커서보다 작은 다음 페이지, 앞쪽 createdAt <= 조건으로 인덱스 범위를 좁힘
+	@Query("SELECT new org.example.lastcall.domain.point.dto.response.PointLogResponse("
+		+ "pl.id, pl.type, pl.description, pl.pointChange, pl.availablePointAfter, pl.depositPointAfter, "
+		+ "pl.settlementPointAfter, pl.auctionId, pl.bidId, pl.createdAt) "
+		+ "FROM PointLog pl WHERE pl.userId = :userId "
+		+ "AND pl.createdAt <= :createdAt AND (pl.createdAt < :createdAt OR pl.id < :id) "
+		+ "ORDER BY pl.createdAt DESC, pl.id DESC")
+	List<PointLogResponse> findNextPageByUserId(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt,
+		@Param("id") Long id, Limit limit);
 }
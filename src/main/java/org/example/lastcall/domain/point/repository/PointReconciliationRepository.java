@@ -0,0 +1,211 @@
+package org.example.lastcall.domain.point.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.example.lastcall.domain.point.enums.PointLogType;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+// 포인트 로그와 잔액의 정합성 검증 (로그는 PK 범위로만 읽고, 사용자별 누적 잔액은 배치로 갱신)
+@Repository
+@RequiredArgsConstructor
+public class PointReconciliationRepository {
+	private final JdbcTemplate jdbcTemplate;
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+	// 체크포인트 행이 없으면 0 으로 생성 (다른 노드가 먼저 만들면 무시)
+	public void createCheckpointIfAbsent(String name) {
+		try {
+			jdbcTemplate.update(
+				"INSERT INTO point_reconciliation_checkpoints (name, last_log_id, updated_at) VALUES (?, 0, ?)",
+				name, Timestamp.valueOf(LocalDateTime.now()));
+		} catch (DuplicateKeyException e) {
+			// 이미 존재
+		}
+	}
+
+	// 체크포인트 행을 잠가 여러 노드가 같은 구간을 중복 집계하지 않도록 함 (트랜잭션 안에서 호출)
+	public long lockCheckpoint(String name) {
+		return jdbcTemplate.queryForObject(
+			"SELECT last_log_id FROM point_reconciliation_checkpoints WHERE name = ? FOR UPDATE", Long.class, name);
+	}
+
+	public long findCheckpoint(String name) {
+		return jdbcTemplate.queryForList(
+				"SELECT last_log_id FROM point_reconciliation_checkpoints WHERE name = ?", Long.class, name)
+			.stream()
+			.findFirst()
+			.orElse(0L);
+	}
+
+	public void saveCheckpoint(String name, long lastLogId) {
+		jdbcTemplate.update(
+			"UPDATE point_reconciliation_checkpoints SET last_log_id = ?, updated_at = ? WHERE name = ?",
+			lastLogId, Timestamp.valueOf(LocalDateTime.now()), name);
+	}
+
+	public long findMaxLogId() {
+		Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM point_logs", Long.class);
+
+		return maxId == null ? 0 : maxId;
+	}
+
+	// PK 범위 조회라 전체 테이블 크기와 무관하게 chunk 크기만큼만 읽음
+	public List<PointLedgerEntry> findLogsAfter(long afterId, int limit) {
+		return jdbcTemplate.query("""
+				SELECT id, user_id, type, point_change, created_at
+				FROM point_logs
+				WHERE id > ?
+				ORDER BY id
+				LIMIT ?
+				""",
+			(rs, rowNum) -> new PointLedgerEntry(
+				rs.getLong("id"),
+				rs.getLong("user_id"),
+				PointLogType.valueOf(rs.getString("type")),
+				rs.getLong("point_change"),
+				rs.getTimestamp("created_at").toLocalDateTime()),
+			afterId, limit);
+	}
+
+	// 기존 누적 잔액에 더하고, 처음 보는 사용자는 새로 추가
+	public void addToLedgerBalances(Map<Long, PointLedgerDelta> deltas, long lastLogId) {
+		List<Map.Entry<Long, PointLedgerDelta>> entries = new ArrayList<>(deltas.entrySet());
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+		int[][] counts = jdbcTemplate.batchUpdate("""
+				UPDATE point_ledger_balances
+				SET available_point = available_point + ?, deposit_point = deposit_point + ?,
+				    settlement_point = settlement_point + ?, last_log_id = ?, updated_at = ?
+				WHERE user_id = ?
+				""",
+			entries,
+			entries.size(),
+			(ps, entry) -> {
+				ps.setLong(1, entry.getValue().availablePoint());
+				ps.setLong(2, entry.getValue().depositPoint());
+				ps.setLong(3, entry.getValue().settlementPoint());
+				ps.setLong(4, lastLogId);
+				ps.setTimestamp(5, now);
+				ps.setLong(6, entry.getKey());
+			});
+
+		List<Map.Entry<Long, PointLedgerDelta>> inserts = new ArrayList<>();
+		int index = 0;
+
+		for (int[] batch : counts) {
+			for (int count : batch) {
+				if (count == 0) {
+					inserts.add(entries.get(index));
+				}
+				index++;
+			}
+		}
+
+		if (!inserts.isEmpty()) {
+			jdbcTemplate.batchUpdate("""
+					INSERT INTO point_ledger_balances
+					    (user_id, available_point, deposit_point, settlement_point, last_log_id, updated_at)
+					VALUES (?, ?, ?, ?, ?, ?)
+					""",
+				inserts,
+				inserts.size(),
+				(ps, entry) -> {
+					ps.setLong(1, entry.getKey());
+					ps.setLong(2, entry.getValue().availablePoint());
+					ps.setLong(3, entry.getValue().depositPoint());
+					ps.setLong(4, entry.getValue().settlementPoint());
+					ps.setLong(5, lastLogId);
+					ps.setTimestamp(6, now);
+				});
+		}
+	}
+
+	// 누적 잔액과 실제 잔액이 다른 사용자 (포인트 계정이 없는 경우 포함)
+	public List<Long> findDriftedUserIds(Collection<Long> userIds) {
+		return namedParameterJdbcTemplate.queryForList("""
+				SELECT b.user_id
+				FROM point_ledger_balances b
+				LEFT JOIN points p ON p.user_id = b.user_id
+				WHERE b.user_id IN (:userIds)
+				  AND (p.id IS NULL
+				    OR p.available_point <> b.available_point
+				    OR p.deposit_point <> b.deposit_point
+				    OR p.settlement_point <> b.settlement_point)
+				""",
+			Map.of("userIds", userIds),
+			Long.class);
+	}
+
+	// 한 사용자의 로그 합계를 다시 계산 (idx_point_log_user_created 로 해당 사용자 행만 읽음), maxLogId 가 null 이면 전체
+	public PointLedgerDelta sumLogs(Long userId, Long maxLogId) {
+		String sql = "SELECT type, SUM(point_change) AS total FROM point_logs WHERE user_id = ?"
+			+ (maxLogId == null ? "" : " AND id <= ?")
+			+ " GROUP BY type";
+		Object[] args = maxLogId == null ? new Object[] {userId} : new Object[] {userId, maxLogId};
+
+		return jdbcTemplate.query(sql,
+				(rs, rowNum) -> PointLedgerDelta.of(PointLogType.valueOf(rs.getString("type")), rs.getLong("total")),
+				args)
+			.stream()
+			.reduce(PointLedgerDelta.ZERO, PointLedgerDelta::plus);
+	}
+
+	// 사용자의 가장 큰 로그 ID (ID 는 노드별로 구간을 미리 받아 발급하므로 created_at 순서와 다를 수 있음)
+	// idx_point_log_user_created 에 id 가 포함되어 테이블을 읽지 않고 인덱스만으로 계산
+	public long findLatestLogId(Long userId) {
+		return jdbcTemplate.queryForObject(
+			"SELECT COALESCE(MAX(id), 0) FROM point_logs WHERE user_id = ?", Long.class, userId);
+	}
+
+	public Optional<PointBalance> findBalance(Long userId) {
+		return jdbcTemplate.query("""
+					SELECT id, user_id, available_point, deposit_point, settlement_point
+					FROM points
+					WHERE user_id = ?
+					""",
+				(rs, rowNum) -> new PointBalance(
+					rs.getLong("id"),
+					rs.getLong("user_id"),
+					rs.getLong("available_point"),
+					rs.getLong("deposit_point"),
+					rs.getLong("settlement_point")),
+				userId)
+			.stream()
+			.findFirst();
+	}
+
+	public void replaceLedgerBalance(Long userId, PointLedgerDelta balance, long lastLogId) {
+		jdbcTemplate.update("""
+				UPDATE point_ledger_balances
+				SET available_point = ?, deposit_point = ?, settlement_point = ?, last_log_id = ?, updated_at = ?
+				WHERE user_id = ?
+				""",
+			balance.availablePoint(), balance.depositPoint(), balance.settlementPoint(), lastLogId,
+			Timestamp.valueOf(LocalDateTime.now()), userId);
+	}
+
+	public void insertMismatch(Long userId, PointLedgerDelta ledger, PointBalance actual, long checkpointLogId) {
+		jdbcTemplate.update("""
+				INSERT INTO point_reconciliation_mismatches
+				    (user_id, ledger_available_point, ledger_deposit_point, ledger_settlement_point,
+				     actual_available_point, actual_deposit_point, actual_settlement_point, checkpoint_log_id, detected_at)
+				VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+				""",
+			userId, ledger.availablePoint(), ledger.depositPoint(), ledger.settlementPoint(),
+			actual == null ? null : actual.availablePoint(),
+			actual == null ? null : actual.depositPoint(),
+			actual == null ? null : actual.settlementPoint(),
+			checkpointLogId, Timestamp.valueOf(LocalDateTime.now()));
+	}
+}
@@ -2,12 +2,52 @@ package org.example.lastcall.domain.point.repository;
 
 import org.example.lastcall.domain.point.entity.Point;
 import org.example.lastcall.domain.user.entity.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface PointRepository extends JpaRepository<Point, Long> {
     Optional<Point> findByUser(User user);
 
     Optional<Point> findByUserId(Long userId);
+
+    // 포인트 변경 시 행 잠금 (분산 락을 쓰지 않는 입찰 경로와도 직렬화)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Point p WHERE p.user.id = :userId")
+    Optional<Point> findByUserIdForUpdate(@Param("userId") Long userId);
+
+    // 가용 포인트가 충분할 때만 예치 (조회-검사-수정 대신 한 문장으로 처리, 0건이면 잔액 부족 또는 포인트 계정 없음)
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE Point p
+            SET p.availablePoint = p.availablePoint - :amount,
+                p.depositPoint = p.depositPoint + :amount
+            WHERE p.user.id = :userId
+              AND p.availablePoint >= :amount
+            """)
+    int reserve(@Param("userId") Long userId, @Param("amount") Long amount);
+
+    // 엔티티를 적재하지 않고 현재 잔액만 조회 (조건부 UPDATE 직후 로그의 변경 후 값 기록용)
+    @Query("""
+            SELECT new org.example.lastcall.domain.point.repository.PointBalance(
+                p.id, p.user.id, p.availablePoint, p.depositPoint, p.settlementPoint)
+            FROM Point p
+            WHERE p.user.id = :userId
+            """)
+    Optional<PointBalance> findBalanceByUserId(@Param("userId") Long userId);
+
+    @Query("""
+            SELECT new org.example.lastcall.domain.point.repository.PointBalance(
+                p.id, p.user.id, p.availablePoint, p.depositPoint, p.settlementPoint)
+            FROM Point p
+            WHERE p.user.id IN :userIds
+            """)
+    List<PointBalance> findBalancesByUserIdIn(@Param("userIds") Collection<Long> userIds);
 }
@@ -0,0 +1,113 @@
+package org.example.lastcall.domain.point.repository;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.example.lastcall.domain.point.enums.PointLogType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+// 경매 종료 정산을 집합 단위로 처리 (사용자 수와 무관하게 일정한 횟수의 쿼리/배치로 반영)
+@Repository
+@RequiredArgsConstructor
+public class PointSettlementRepository {
+	private final JdbcTemplate jdbcTemplate;
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+	// 이미 정산/환불된 사용자 (재처리 방지)
+	public Set<Long> findSettledUserIds(Long auctionId) {
+		return new HashSet<>(jdbcTemplate.queryForList(
+			"SELECT DISTINCT user_id FROM point_logs WHERE auction_id = ? AND type IN (?, ?)",
+			Long.class,
+			auctionId, PointLogType.SETTLEMENT.name(), PointLogType.DEPOSIT_TO_AVAILABLE.name()));
+	}
+
+	// 여러 경매의 이미 정산/환불된 사용자를 한 번에 조회 (경매 ID -> 사용자 ID)
+	public Map<Long, Set<Long>> findSettledUserIdsByAuctionIds(Collection<Long> auctionIds) {
+		Map<Long, Set<Long>> settled = new HashMap<>();
+
+		namedParameterJdbcTemplate.query("""
+				SELECT DISTINCT auction_id, user_id
+				FROM point_logs
+				WHERE auction_id IN (:auctionIds) AND type IN (:types)
+				""",
+			Map.of("auctionIds", auctionIds,
+				"types", List.of(PointLogType.SETTLEMENT.name(), PointLogType.DEPOSIT_TO_AVAILABLE.name())),
+			rs -> {
+				settled.computeIfAbsent(rs.getLong("auction_id"), auctionId -> new HashSet<>()).add(rs.getLong("user_id"));
+			});
+
+		return settled;
+	}
+
+	// 예치금 -> 사용 가능 포인트 (사용자별 갱신 건수, 예치금이 부족한 행은 갱신되지 않아 0)
+	public int[] moveDepositToAvailable(List<Map.Entry<Long, Long>> amountsByUser) {
+		int[][] counts = jdbcTemplate.batchUpdate("""
+				UPDATE points
+				SET deposit_point = deposit_point - ?, available_point = available_point + ?
+				WHERE user_id = ? AND deposit_point >= ?
+				""",
+			amountsByUser,
+			amountsByUser.size(),
+			(ps, entry) -> {
+				ps.setLong(1, entry.getValue());
+				ps.setLong(2, entry.getValue());
+				ps.setLong(3, entry.getKey());
+				ps.setLong(4, entry.getValue());
+			});
+
+		return Arrays.stream(counts).flatMapToInt(Arrays::stream).toArray();
+	}
+
+	// 예치금 -> 정산 포인트
+	public int moveDepositToSettlement(Long userId, Long amount) {
+		return jdbcTemplate.update("""
+				UPDATE points
+				SET deposit_point = deposit_point - ?, settlement_point = settlement_point + ?
+				WHERE user_id = ? AND deposit_point >= ?
+				""",
+			amount, amount, userId, amount);
+	}
+
+	// 여러 낙찰자의 예치금 -> 정산 포인트를 한 번의 배치로 반영
+	public int[] moveDepositToSettlement(List<Map.Entry<Long, Long>> amountsByUser) {
+		int[][] counts = jdbcTemplate.batchUpdate("""
+				UPDATE points
+				SET deposit_point = deposit_point - ?, settlement_point = settlement_point + ?
+				WHERE user_id = ? AND deposit_point >= ?
+				""",
+			amountsByUser,
+			amountsByUser.size(),
+			(ps, entry) -> {
+				ps.setLong(1, entry.getValue());
+				ps.setLong(2, entry.getValue());
+				ps.setLong(3, entry.getKey());
+				ps.setLong(4, entry.getValue());
+			});
+
+		return Arrays.stream(counts).flatMapToInt(Arrays::stream).toArray();
+	}
+
+	public List<PointBalance> findBalances(Collection<Long> userIds) {
+		return namedParameterJdbcTemplate.query("""
+				SELECT id, user_id, available_point, deposit_point, settlement_point
+				FROM points
+				WHERE user_id IN (:userIds)
+				""",
+			Map.of("userIds", userIds),
+			(rs, rowNum) -> new PointBalance(
+				rs.getLong("id"),
+				rs.getLong("user_id"),
+				rs.getLong("available_point"),
+				rs.getLong("deposit_point"),
+				rs.getLong("settlement_point")));
+	}
+}
@@ -5,13 +5,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.lastcall.common.exception.BusinessException;
 import org.example.lastcall.common.lock.DistributedLock;
-import org.example.lastcall.domain.auction.entity.Auction;
-import org.example.lastcall.domain.auction.exception.AuctionErrorCode;
-import org.example.lastcall.domain.auction.repository.AuctionRepository;
-import org.example.lastcall.domain.auction.service.query.AuctionFinder;
 import org.example.lastcall.domain.auth.enums.AuthUser;
 import org.example.lastcall.domain.bid.entity.Bid;
-import org.example.lastcall.domain.bid.exception.BidErrorCode;
 import org.example.lastcall.domain.bid.service.query.BidQueryServiceApi;
 import org.example.lastcall.domain.point.dto.request.PointCreateRequest;
 import org.example.lastcall.domain.point.dto.response.PointResponse;
@@ -19,6 +14,7 @@ import org.example.lastcall.domain.point.entity.Point;
 import org.example.lastcall.domain.point.entity.PointLog;
 import org.example.lastcall.domain.point.enums.PointLogType;
 import org.example.lastcall.domain.point.exception.PointErrorCode;
+import org.example.lastcall.domain.point.repository.PointBalance;
 import org.example.lastcall.domain.point.repository.PointLogRepository;
 import org.example.lastcall.domain.point.repository.PointRepository;
 import org.example.lastcall.domain.user.entity.User;
@@ -29,8 +25,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -41,9 +35,7 @@ public class PointCommandService implements PointCommandServiceApi {
     private final PointLogRepository pointLogRepository;
     private final UserQueryServiceApi userQueryServiceApi;
     private final BidQueryServiceApi bidQueryServiceApi;
-    private final AuctionFinder auctionFinder;
-    private final AuctionRepository auctionRepository;
-    private final PointTransactionService pointTransactionService;
+    private final PointSettlementService pointSettlementService;
 
     @CacheEvict(value = "userPoints", key = "#authUser.userId()")
     @DistributedLock(key = "'user:' + #authUser.userId()")
@@ -52,7 +44,7 @@ public class PointCommandService implements PointCommandServiceApi {
 
         User user = userQueryServiceApi.findById(authUser.userId());
 
-        Point currentPoint = pointRepository.findByUser(user).orElse(null);
+        Point currentPoint = pointRepository.findByUserIdForUpdate(user.getId()).orElse(null);
 
         Long incomePoint = request.getIncomePoint();
 
@@ -83,111 +75,102 @@ public class PointCommandService implements PointCommandServiceApi {
                 currentPoint.getSettlementPoint());
     }
 
+    // 분산 락과 포인트 선조회 없이 조건부 UPDATE 한 번으로 예치 (입찰 경로에서 입찰과 같은 트랜잭션으로 호출)
+    // 같은 사용자의 동시 예치는 포인트 행 잠금으로 직렬화되고, 잔액 검사는 UPDATE 조건이 대신함
     @Override
     @CacheEvict(value = "userPoints", key = "#userId")
-    @DistributedLock(key = "'user:' + #userId")
     public void updateDepositPoint(Long auctionId, Long bidId, Long bidAmount, Long userId) {
-        log.debug("락 획득 후 작업 실행: 입찰 포인트 예치 - userId: {}, auctionId: {}, bidAmount: {}", userId, auctionId, bidAmount);
+        log.debug("포인트 예치: userId: {}, auctionId: {}, bidAmount: {}", userId, auctionId, bidAmount);
 
-        Point point = pointRepository.findByUserId(userId).orElseThrow(
-                () -> new BusinessException(PointErrorCode.POINT_RECORD_NOT_FOUND));
+        applyDeposit(auctionId, bidId, bidAmount, userId);
+    }
 
-        boolean alreadyProcessed = pointLogRepository.existsByBidIdAndTypeIn(bidId, List.of(PointLogType.DEPOSIT, PointLogType.ADDITIONAL_DEPOSIT));
+    // 이미 허용된 입찰(지연 저장)의 예치 처리: 예외 대신 결과를 반환해 배치 트랜잭션을 유지
+    // 같은 배치 안의 이전 입찰도 반영되도록 지금까지 예치한 총액과의 차액만 조건부 UPDATE 로 예치 (0건이면 예치 실패)
+    @Override
+    @CacheEvict(value = "userPoints", key = "#userId")
+    public boolean depositForAdmittedBid(Long auctionId, Long bidId, Long bidAmount, Long userId) {
+        List<PointLogType> depositTypes = List.of(PointLogType.DEPOSIT, PointLogType.ADDITIONAL_DEPOSIT);
 
-        if (alreadyProcessed) {
-            throw new BusinessException(PointErrorCode.ALREADY_PROCESSED_DEPOSIT);
+        if (pointLogRepository.existsByBidIdAndTypeIn(bidId, depositTypes)) {
+            return true;
         }
 
-        Optional<Bid> existingBid = bidQueryServiceApi.findLastBidExceptBidId(auctionId, userId, bidId);
-
-        if (existingBid.isPresent()) {
-            Bid previousBid = existingBid.get();
-            Long previousBidAmount = previousBid.getBidAmount();
+        long deposited = pointLogRepository.sumPointChangeByAuctionIdAndUserIdAndTypeIn(auctionId, userId, depositTypes);
+        long difference = bidAmount - deposited;
 
-            if (bidAmount > previousBidAmount) {
-                Long difference = bidAmount - previousBidAmount;
+        if (difference <= 0) {
+            return true;
+        }
 
-                if (point.getAvailablePoint() < difference) {
-                    throw new BusinessException(PointErrorCode.INSUFFICIENT_POINT);
-                }
+        if (pointRepository.reserve(userId, difference) == 0) {
+            log.warn("지연 저장 입찰 예치 실패(포인트 부족 또는 포인트 계정 없음): userId={}, auctionId={}, bidId={}", userId, auctionId, bidId);
+            return false;
+        }
 
-                point.decreaseAvailablePoint(difference);
+        PointLogType type = deposited == 0 ? PointLogType.DEPOSIT : PointLogType.ADDITIONAL_DEPOSIT;
+        String description = deposited == 0 ? "입찰금 예치 처리" : "입찰 금액 증가로 인한 추가 예치 처리";
 
-                point.increaseDepositPoint(difference);
+        saveDepositLog(auctionId, bidId, userId, type, description, difference);
 
-                PointLog log = PointLog.of(
-                        point,
-                        userId,
-                        PointLogType.ADDITIONAL_DEPOSIT,
-                        "입찰 금액 증가로 인한 추가 예치 처리",
-                        difference,
-                        auctionId,
-                        bidId);
+        return true;
+    }
 
-                // 포인트 로그에 저장
-                pointLogRepository.save(log);
-            }
-        } else {
-            if (point.getAvailablePoint() < bidAmount) {
-                throw new BusinessException(PointErrorCode.INSUFFICIENT_POINT);
-            }
-
-            point.updateDepositPoint(bidAmount);
-
-            PointLog log = PointLog.of(
-                    point,
-                    userId,
-                    PointLogType.DEPOSIT,
-                    "입찰금 예치 처리",
-                    bidAmount,
-                    auctionId,
-                    bidId
-            );
-
-            pointLogRepository.save(log);
-        }
-        log.debug("락을 점유한 작업 종료: 포인트 예치 완료 - userId: {}, availablePoint: {}, depositPoint: {}", userId, point.getAvailablePoint(), point.getDepositPoint());
+    // 낙찰 정산과 낙찰 실패자 환불을 집합 단위로 한 번에 처리
+    @Override
+    public void settleAuction(Long auctionId, Long winnerUserId, Long winningBid) {
+        pointSettlementService.settle(auctionId, winnerUserId, winningBid);
     }
 
+    // 같은 시각에 끝난 경매 묶음을 한 번에 정산 (정산 쿼리를 묶음 전체가 공유)
     @Override
-    public void depositToSettlement(Long auctionId) {
-        Auction auction = auctionFinder.findById(auctionId);
+    public void settleAuctions(List<PointSettlementService.AuctionSettlement> settlements) {
+        pointSettlementService.settleAll(settlements);
+    }
 
-        Bid highestBid = bidQueryServiceApi.findTopByAuctionOrderByBidAmountDesc(auction).orElseThrow(
-                () -> new BusinessException(BidErrorCode.BID_NOT_FOUND));
+    // 직전 본인 입찰가와의 차액만큼 예치 (첫 입찰이면 전액)
+    private void applyDeposit(Long auctionId, Long bidId, Long bidAmount, Long userId) {
+        boolean alreadyProcessed = pointLogRepository.existsByBidIdAndTypeIn(bidId, List.of(PointLogType.DEPOSIT, PointLogType.ADDITIONAL_DEPOSIT));
+
+        if (alreadyProcessed) {
+            throw new BusinessException(PointErrorCode.ALREADY_PROCESSED_DEPOSIT);
+        }
+
+        Optional<Bid> existingBid = bidQueryServiceApi.findLastBidExceptBidId(auctionId, userId, bidId);
+        Long difference = existingBid.map(previousBid -> bidAmount - previousBid.getBidAmount()).orElse(bidAmount);
 
-        pointTransactionService.depositToSettlementToUser(auction, highestBid.getUser().getId(), highestBid.getBidAmount());
+        if (existingBid.isPresent() && difference <= 0) {
+            return;
+        }
+
+        if (pointRepository.reserve(userId, difference) == 0) {
+            // 실패한 경우에만 원인 구분을 위해 조회
+            throw new BusinessException(pointRepository.findBalanceByUserId(userId).isPresent()
+                    ? PointErrorCode.INSUFFICIENT_POINT
+                    : PointErrorCode.POINT_RECORD_NOT_FOUND);
+        }
+
+        PointLogType type = existingBid.isPresent() ? PointLogType.ADDITIONAL_DEPOSIT : PointLogType.DEPOSIT;
+        String description = existingBid.isPresent() ? "입찰 금액 증가로 인한 추가 예치 처리" : "입찰금 예치 처리";
+
+        saveDepositLog(auctionId, bidId, userId, type, description, difference);
     }
 
-    @Override
-    public void depositToAvailablePoint(Long auctionId) {
-        Auction auction = auctionRepository.findById(auctionId).orElseThrow(
-                () -> new BusinessException(AuctionErrorCode.AUCTION_NOT_FOUND));
-
-        Bid highestBid = bidQueryServiceApi.findTopByAuctionOrderByBidAmountDesc(auction).orElseThrow(
-                () -> new BusinessException(BidErrorCode.BID_NOT_FOUND));
-
-        Long winnerUserId = highestBid.getUser().getId();
-
-        List<Bid> allBids = bidQueryServiceApi.findAllByAuctionId(auction.getId());
-
-        Set<Bid> filteredBids = allBids.stream()
-                .filter(bid -> !bid.getUser().getId().equals(winnerUserId)) // 낙찰자 제외
-                .collect(Collectors.toMap(
-                        bid -> bid.getUser().getId(),                       // key: 사용자 ID
-                        bid -> bid,                                         // value: 해당 사용자의 bid
-                        (existing, replacement) ->                      // merge: 더 높은 금액의 bid 선택
-                                replacement.getBidAmount() > existing.getBidAmount() ? replacement : existing
-                ))
-                .values()                              // Map<Long, Bid> → Collection<Bid>
-                .stream()
-                .collect(Collectors.toSet());          // Set<Bid> 으로 변환
-
-        // 낙찰 실패자만 처리
-        filteredBids.forEach(bid -> {
-            Long loserId = bid.getUser().getId();
-            System.out.println("loserId : " + loserId + " / winnerUserId : " + winnerUserId);
-            pointTransactionService.depositToAvailablePointToUser(auction, loserId, winnerUserId, bid);
-        });
+    // 예치 UPDATE 직후 잔액을 변경 후 값으로 기록
+    private void saveDepositLog(Long auctionId, Long bidId, Long userId, PointLogType type, String description, Long difference) {
+        PointBalance balance = pointRepository.findBalanceByUserId(userId).orElseThrow(
+                () -> new BusinessException(PointErrorCode.POINT_RECORD_NOT_FOUND));
+
+        pointLogRepository.save(PointLog.ofBalance(
+                pointRepository.getReferenceById(balance.pointId()),
+                userId,
+                type,
+                description,
+                difference,
+                auctionId,
+                bidId,
+                balance.availablePoint(),
+                balance.depositPoint(),
+                balance.settlementPoint()));
     }
-}
\ No newline at end of file
+}
@@ -1,9 +1,13 @@
 package org.example.lastcall.domain.point.service.command;
 
+import java.util.List;
+
 public interface PointCommandServiceApi {
     void updateDepositPoint(Long auctionId, Long bidId, Long bidAmount, Long userId);
 
-    void depositToSettlement(Long auctionId);
+    boolean depositForAdmittedBid(Long auctionId, Long bidId, Long bidAmount, Long userId);
+
+    void settleAuction(Long auctionId, Long winnerUserId, Long winningBid);
 
-    void depositToAvailablePoint(Long auctionId);
+    void settleAuctions(List<PointSettlementService.AuctionSettlement> settlements);
 }
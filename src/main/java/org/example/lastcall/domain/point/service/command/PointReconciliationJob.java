@@ -0,0 +1,101 @@
+package org.example.lastcall.domain.point.service.command;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.example.lastcall.domain.point.config.PointReconciliationProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+// 주기적으로 포인트 정합성 검증을 따라잡기 (초당 처리 로그 수를 넘지 않도록 chunk 사이에 대기)
+@Slf4j
+@Component
+public class PointReconciliationJob {
+	private final PointReconciliationService pointReconciliationService;
+	private final PointReconciliationProperties properties;
+	private final AtomicLong checkpoint = new AtomicLong();
+	private final AtomicLong backlog = new AtomicLong();
+	private final Counter rowsCounter;
+	private final Counter mismatchCounter;
+	private final Timer chunkTimer;
+
+	public PointReconciliationJob(PointReconciliationService pointReconciliationService,
+		PointReconciliationProperties properties, MeterRegistry meterRegistry) {
+		this.pointReconciliationService = pointReconciliationService;
+		this.properties = properties;
+
+		this.rowsCounter = Counter.builder("point.reconciliation.rows")
+			.description("정합성 검증으로 집계한 포인트 로그 수")
+			.register(meterRegistry);
+		this.mismatchCounter = Counter.builder("point.reconciliation.mismatches")
+			.description("로그 합계와 잔액이 달라 보고한 건수")
+			.register(meterRegistry);
+		this.chunkTimer = Timer.builder("point.reconciliation.chunk")
+			.description("chunk 하나의 집계와 비교에 걸린 시간")
+			.register(meterRegistry);
+		Gauge.builder("point.reconciliation.checkpoint", checkpoint, AtomicLong::get)
+			.description("마지막으로 집계한 포인트 로그 ID")
+			.register(meterRegistry);
+		Gauge.builder("point.reconciliation.backlog", backlog, AtomicLong::get)
+			.description("아직 집계하지 않은 포인트 로그 수 (최대 ID 기준 추정)")
+			.register(meterRegistry);
+	}
+
+	@Scheduled(fixedDelayString = "${point.reconciliation.interval-millis:60000}")
+	public void runScheduled() {
+		if (!properties.enabled()) {
+			return;
+		}
+
+		try {
+			run();
+		} catch (Exception e) {
+			log.error("[PointReconciliation] 정합성 검증 실패, 다음 주기에 체크포인트부터 재시도", e);
+		}
+	}
+
+	void run() {
+		long deadline = System.nanoTime() + properties.maxRunTime().toNanos();
+
+		while (System.nanoTime() < deadline) {
+			long startedAt = System.nanoTime();
+			PointReconciliationService.ChunkResult result = pointReconciliationService.reconcileNextChunk();
+			long elapsed = System.nanoTime() - startedAt;
+
+			chunkTimer.record(elapsed, TimeUnit.NANOSECONDS);
+			rowsCounter.increment(result.rows());
+			mismatchCounter.increment(result.mismatches());
+			checkpoint.set(result.checkpoint());
+
+			// chunk 가 덜 찼으면 따라잡았거나 최근 로그에서 멈춘 것
+			if (result.rows() < properties.chunkSize()) {
+				break;
+			}
+
+			throttle(result.rows(), elapsed);
+		}
+
+		backlog.set(pointReconciliationService.backlog());
+	}
+
+	private void throttle(int rows, long elapsedNanos) {
+		long minimumNanos = TimeUnit.SECONDS.toNanos(rows) / Math.max(properties.rowsPerSecond(), 1);
+		long sleepNanos = minimumNanos - elapsedNanos;
+
+		if (sleepNanos <= 0) {
+			return;
+		}
+
+		try {
+			TimeUnit.NANOSECONDS.sleep(sleepNanos);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,194 @@
+package org.example.lastcall.domain.point.service.command;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import org.example.lastcall.domain.point.config.PointReconciliationProperties;
+import org.example.lastcall.domain.point.repository.PointBalance;
+import org.example.lastcall.domain.point.repository.PointLedgerDelta;
+import org.example.lastcall.domain.point.repository.PointLedgerEntry;
+import org.example.lastcall.domain.point.repository.PointReconciliationRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// 포인트 로그를 id 순서로 조금씩 집계해 사용자별 누적 잔액을 유지하고, 실제 잔액과 다르면 보고
+// 1) 체크포인트 이후 로그 chunk 를 읽어 누적 잔액에 더하고 체크포인트를 같은 트랜잭션으로 전진 (중단돼도 이어서 처리)
+// 2) 이번 chunk 에 등장한 사용자의 누적 잔액과 실제 잔액을 fork-join 배치로 병렬 비교
+// 3) 다른 사용자는 한 스냅샷 안에서 전체 로그 합계로 다시 확인한 뒤 보고 (진행 중인 거래로 인한 오탐 제거)
+@Slf4j
+@Service
+public class PointReconciliationService {
+	static final String CHECKPOINT = "point-ledger";
+
+	private final PointReconciliationRepository pointReconciliationRepository;
+	private final PointReconciliationProperties properties;
+	private final TransactionTemplate transactionTemplate;
+	private final TransactionTemplate snapshotTemplate;
+	private final ForkJoinPool comparePool;
+	private volatile boolean checkpointCreated;
+
+	public PointReconciliationService(PointReconciliationRepository pointReconciliationRepository,
+		PointReconciliationProperties properties, PlatformTransactionManager transactionManager) {
+		this.pointReconciliationRepository = pointReconciliationRepository;
+		this.properties = properties;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+		// 잔액과 로그 합계를 같은 시점 기준으로 읽음
+		this.snapshotTemplate = new TransactionTemplate(transactionManager);
+		this.snapshotTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+		this.snapshotTemplate.setReadOnly(true);
+
+		this.comparePool = new ForkJoinPool(Math.max(properties.parallelism(), 1));
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		comparePool.shutdown();
+	}
+
+	public ChunkResult reconcileNextChunk() {
+		if (!checkpointCreated) {
+			pointReconciliationRepository.createCheckpointIfAbsent(CHECKPOINT);
+			checkpointCreated = true;
+		}
+
+		Fold fold = transactionTemplate.execute(status -> foldNextChunk());
+
+		if (fold.rows() == 0) {
+			return new ChunkResult(0, 0, fold.checkpoint());
+		}
+
+		List<Long> suspects = comparePool.invoke(new CompareTask(fold.userIds()));
+		int mismatches = 0;
+
+		for (Long userId : suspects) {
+			if (confirmDrift(userId)) {
+				mismatches++;
+			}
+		}
+
+		return new ChunkResult(fold.rows(), mismatches, fold.checkpoint());
+	}
+
+	public long backlog() {
+		return Math.max(0, pointReconciliationRepository.findMaxLogId()
+			- pointReconciliationRepository.findCheckpoint(CHECKPOINT));
+	}
+
+	// 체크포인트 행 잠금으로 여러 노드가 동시에 실행해도 같은 구간을 두 번 더하지 않음
+	private Fold foldNextChunk() {
+		long checkpoint = pointReconciliationRepository.lockCheckpoint(CHECKPOINT);
+		List<PointLedgerEntry> entries = settled(pointReconciliationRepository.findLogsAfter(checkpoint, properties.chunkSize()));
+
+		if (entries.isEmpty()) {
+			return new Fold(0, checkpoint, List.of());
+		}
+
+		Map<Long, PointLedgerDelta> deltas = new HashMap<>();
+
+		for (PointLedgerEntry entry : entries) {
+			deltas.merge(entry.userId(), PointLedgerDelta.of(entry.type(), entry.pointChange()), PointLedgerDelta::plus);
+		}
+
+		long lastLogId = entries.get(entries.size() - 1).id();
+
+		pointReconciliationRepository.addToLedgerBalances(deltas, lastLogId);
+		pointReconciliationRepository.saveCheckpoint(CHECKPOINT, lastLogId);
+
+		return new Fold(entries.size(), lastLogId, new ArrayList<>(deltas.keySet()));
+	}
+
+	// 최근 로그부터는 아직 커밋되지 않은 앞 번호가 있을 수 있으므로 거기서 멈춤
+	private List<PointLedgerEntry> settled(List<PointLedgerEntry> entries) {
+		LocalDateTime settledBefore = LocalDateTime.now().minus(properties.safetyLag());
+
+		for (int i = 0; i < entries.size(); i++) {
+			if (entries.get(i).createdAt().isAfter(settledBefore)) {
+				return entries.subList(0, i);
+			}
+		}
+
+		return entries;
+	}
+
+	private boolean confirmDrift(Long userId) {
+		long checkpoint = pointReconciliationRepository.findCheckpoint(CHECKPOINT);
+
+		// 체크포인트 이후 로그가 있는 사용자는 그 구간을 집계할 때 비교 (따라잡는 중 불필요한 재계산 방지)
+		if (pointReconciliationRepository.findLatestLogId(userId) > checkpoint) {
+			return false;
+		}
+
+		Snapshot snapshot = snapshotTemplate.execute(status -> new Snapshot(
+			pointReconciliationRepository.findBalance(userId).orElse(null),
+			pointReconciliationRepository.sumLogs(userId, null)));
+
+		boolean drifted = snapshot.actual() == null
+			? !snapshot.ledger().isZero()
+			: !snapshot.ledger().matches(snapshot.actual());
+
+		transactionTemplate.executeWithoutResult(status -> {
+			long lockedCheckpoint = pointReconciliationRepository.lockCheckpoint(CHECKPOINT);
+
+			// ID 를 블록 단위로 발급하므로 체크포인트보다 작은 ID 가 늦게 커밋될 수 있음, 누적 잔액을 다시 계산해 맞춤
+			pointReconciliationRepository.replaceLedgerBalance(userId,
+				pointReconciliationRepository.sumLogs(userId, lockedCheckpoint), lockedCheckpoint);
+
+			if (drifted) {
+				pointReconciliationRepository.insertMismatch(userId, snapshot.ledger(), snapshot.actual(), lockedCheckpoint);
+			}
+		});
+
+		if (drifted) {
+			log.warn("[PointReconciliation] 포인트 잔액 불일치: userId={}, ledger={}, actual={}",
+				userId, snapshot.ledger(), snapshot.actual());
+		}
+
+		return drifted;
+	}
+
+	// 사용자 목록을 compareBatchSize 이하로 나눠 병렬로 비교 쿼리 실행
+	private class CompareTask extends RecursiveTask<List<Long>> {
+		private final List<Long> userIds;
+
+		CompareTask(List<Long> userIds) {
+			this.userIds = userIds;
+		}
+
+		@Override
+		protected List<Long> compute() {
+			if (userIds.size() <= Math.max(properties.compareBatchSize(), 1)) {
+				return pointReconciliationRepository.findDriftedUserIds(userIds);
+			}
+
+			int middle = userIds.size() / 2;
+			CompareTask left = new CompareTask(userIds.subList(0, middle));
+			CompareTask right = new CompareTask(userIds.subList(middle, userIds.size()));
+
+			left.fork();
+			List<Long> drifted = new ArrayList<>(right.compute());
+			drifted.addAll(left.join());
+
+			return drifted;
+		}
+	}
+
+	public record ChunkResult(int rows, int mismatches, long checkpoint) {
+	}
+
+	private record Fold(int rows, long checkpoint, List<Long> userIds) {
+	}
+
+	private record Snapshot(PointBalance actual, PointLedgerDelta ledger) {
+	}
+}
@@ -0,0 +1,220 @@
+package org.example.lastcall.domain.point.service.command;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.example.lastcall.common.exception.BusinessException;
+import org.example.lastcall.domain.bid.repository.BidderMaxBid;
+import org.example.lastcall.domain.bid.service.query.BidQueryServiceApi;
+import org.example.lastcall.domain.point.entity.PointLog;
+import org.example.lastcall.domain.point.enums.PointLogType;
+import org.example.lastcall.domain.point.exception.PointErrorCode;
+import org.example.lastcall.domain.point.repository.PointBalance;
+import org.example.lastcall.domain.point.repository.PointLedgerDelta;
+import org.example.lastcall.domain.point.repository.PointLogRepository;
+import org.example.lastcall.domain.point.repository.PointRepository;
+import org.example.lastcall.domain.point.repository.PointSettlementRepository;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 경매 종료 정산: 낙찰자 정산 + 낙찰 실패자 환불을 참여자 수와 무관하게 일정한 횟수의 쿼리로 처리
+// (집계 1회, 처리 이력 1회, 배치 UPDATE, 정산 UPDATE 1회, 잔액 조회 1회, 로그 배치 INSERT - 테이블 기반 ID 로 JDBC 배치)
+// 포인트 변경은 모두 조건부 UPDATE 의 행 잠금으로 직렬화되므로 사용자별 분산 락을 잡지 않음
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class PointSettlementService {
+    private static final String SETTLEMENT_DESCRIPTION = "입찰 확정으로 인한 정산 포인트 이동";
+
+    private final BidQueryServiceApi bidQueryServiceApi;
+    private final PointSettlementRepository pointSettlementRepository;
+    private final PointRepository pointRepository;
+    private final PointLogRepository pointLogRepository;
+    private final CacheManager cacheManager;
+
+    public void settle(Long auctionId, Long winnerUserId, Long winningBid) {
+        List<BidderMaxBid> bidders = bidQueryServiceApi.findBidderMaxBidsByAuctionId(auctionId);
+        Set<Long> settledUserIds = pointSettlementRepository.findSettledUserIds(auctionId);
+
+        // 교착을 피하기 위해 사용자 ID 순서로 갱신
+        List<Map.Entry<Long, Long>> refunds = bidders.stream()
+                .filter(bidder -> !bidder.userId().equals(winnerUserId))
+                .filter(bidder -> !settledUserIds.contains(bidder.userId()))
+                .sorted(Comparator.comparing(BidderMaxBid::userId))
+                .map(bidder -> Map.entry(bidder.userId(), bidder.maxBidAmount()))
+                .toList();
+        boolean settleWinner = !settledUserIds.contains(winnerUserId);
+
+        if (refunds.isEmpty() && !settleWinner) {
+            log.warn("이미 정산된 경매: auctionId={}", auctionId);
+            return;
+        }
+
+        if (!refunds.isEmpty()) {
+            int[] counts = pointSettlementRepository.moveDepositToAvailable(refunds);
+
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] == 0) {
+                    log.error("환불 실패(예치금 부족): auctionId={}, userId={}", auctionId, refunds.get(i).getKey());
+                    throw new BusinessException(PointErrorCode.INSUFFICIENT_DEPOSIT_POINT);
+                }
+            }
+        }
+
+        if (settleWinner && pointSettlementRepository.moveDepositToSettlement(winnerUserId, winningBid) == 0) {
+            log.error("정산 실패(예치금 부족): auctionId={}, userId={}", auctionId, winnerUserId);
+            throw new BusinessException(PointErrorCode.INSUFFICIENT_DEPOSIT_POINT);
+        }
+
+        List<Long> userIds = new ArrayList<>(refunds.stream().map(Map.Entry::getKey).toList());
+
+        if (settleWinner) {
+            userIds.add(winnerUserId);
+        }
+
+        Map<Long, PointBalance> balances = pointSettlementRepository.findBalances(userIds).stream()
+                .collect(Collectors.toMap(PointBalance::userId, Function.identity()));
+
+        List<PointLog> logs = new ArrayList<>(userIds.size());
+        refunds.forEach(refund -> logs.add(settlementLog(balances.get(refund.getKey()), auctionId,
+                PointLogType.DEPOSIT_TO_AVAILABLE, PointLogType.DEPOSIT_TO_AVAILABLE.getDescription(), refund.getValue())));
+
+        if (settleWinner) {
+            logs.add(settlementLog(balances.get(winnerUserId), auctionId, PointLogType.SETTLEMENT, SETTLEMENT_DESCRIPTION, winningBid));
+        }
+
+        pointLogRepository.saveAll(logs);
+        evictAfterCommit(userIds);
+
+        log.debug("경매 정산 완료: auctionId={}, winnerUserId={}, refundCount={}", auctionId, winnerUserId, refunds.size());
+    }
+
+    // 같은 시각에 끝난 여러 경매를 한 번에 정산: 경매 수와 무관하게 settle 과 같은 횟수의 쿼리로 처리
+    // 한 사용자가 여러 경매에 걸쳐 있으면 갱신 순서를 거슬러 각 로그의 변경 후 잔액을 계산
+    public void settleAll(List<AuctionSettlement> settlements) {
+        if (settlements.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Set<Long>> settledByAuction = pointSettlementRepository.findSettledUserIdsByAuctionIds(
+                settlements.stream().map(AuctionSettlement::auctionId).toList());
+
+        List<SettlementMove> refunds = new ArrayList<>();
+        List<SettlementMove> winners = new ArrayList<>();
+
+        for (AuctionSettlement settlement : settlements) {
+            Set<Long> settledUserIds = settledByAuction.getOrDefault(settlement.auctionId(), Set.of());
+
+            settlement.bidders().stream()
+                    .filter(bidder -> !bidder.userId().equals(settlement.winnerUserId()))
+                    .filter(bidder -> !settledUserIds.contains(bidder.userId()))
+                    .forEach(bidder -> refunds.add(new SettlementMove(settlement.auctionId(), bidder.userId(),
+                            PointLogType.DEPOSIT_TO_AVAILABLE, bidder.maxBidAmount())));
+
+            if (!settledUserIds.contains(settlement.winnerUserId())) {
+                winners.add(new SettlementMove(settlement.auctionId(), settlement.winnerUserId(), PointLogType.SETTLEMENT,
+                        settlement.winningBid()));
+            }
+        }
+
+        if (refunds.isEmpty() && winners.isEmpty()) {
+            log.warn("이미 정산된 경매 묶음: auctionCount={}", settlements.size());
+            return;
+        }
+
+        // 교착을 피하기 위해 사용자 ID 순서로 갱신
+        Comparator<SettlementMove> byUser = Comparator.comparing(SettlementMove::userId).thenComparing(SettlementMove::auctionId);
+        refunds.sort(byUser);
+        winners.sort(byUser);
+
+        applyMoves(refunds, pointSettlementRepository::moveDepositToAvailable);
+        applyMoves(winners, pointSettlementRepository::moveDepositToSettlement);
+
+        List<SettlementMove> moves = new ArrayList<>(refunds);
+        moves.addAll(winners);
+        List<Long> userIds = moves.stream().map(SettlementMove::userId).distinct().toList();
+
+        Map<Long, PointBalance> balances = pointSettlementRepository.findBalances(userIds).stream()
+                .collect(Collectors.toMap(PointBalance::userId, Function.identity()));
+
+        // 마지막 갱신부터 거슬러 올라가며 갱신 직후 잔액을 복원
+        PointLog[] logs = new PointLog[moves.size()];
+
+        for (int i = moves.size() - 1; i >= 0; i--) {
+            SettlementMove move = moves.get(i);
+            PointBalance after = balances.get(move.userId());
+            String description = move.type() == PointLogType.SETTLEMENT ? SETTLEMENT_DESCRIPTION : move.type().getDescription();
+
+            logs[i] = settlementLog(after, move.auctionId(), move.type(), description, move.amount());
+            balances.put(move.userId(), after.minus(PointLedgerDelta.of(move.type(), move.amount())));
+        }
+
+        pointLogRepository.saveAll(Arrays.asList(logs));
+        evictAfterCommit(userIds);
+
+        log.debug("경매 일괄 정산 완료: auctionCount={}, winnerCount={}, refundCount={}", settlements.size(), winners.size(), refunds.size());
+    }
+
+    private void applyMoves(List<SettlementMove> moves, Function<List<Map.Entry<Long, Long>>, int[]> update) {
+        if (moves.isEmpty()) {
+            return;
+        }
+
+        int[] counts = update.apply(moves.stream().map(move -> Map.entry(move.userId(), move.amount())).toList());
+
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) {
+                log.error("일괄 정산 실패(예치금 부족): auctionId={}, userId={}", moves.get(i).auctionId(), moves.get(i).userId());
+                throw new BusinessException(PointErrorCode.INSUFFICIENT_DEPOSIT_POINT);
+            }
+        }
+    }
+
+    // 포인트는 조회 없이 참조만 연결 (잔액은 방금 조회한 값 사용)
+    private PointLog settlementLog(PointBalance balance, Long auctionId, PointLogType type, String description, Long amount) {
+        return PointLog.ofBalance(pointRepository.getReferenceById(balance.pointId()), balance.userId(), type,
+                description, amount, auctionId, balance.availablePoint(), balance.depositPoint(), balance.settlementPoint());
+    }
+
+    // 커밋 이후에 캐시를 비워야 다른 요청이 변경 전 잔액을 다시 캐시하지 않음
+    private void evictAfterCommit(List<Long> userIds) {
+        Cache cache = cacheManager.getCache("userPoints");
+
+        if (cache == null) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            userIds.forEach(cache::evict);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                userIds.forEach(cache::evict);
+            }
+        });
+    }
+
+    // 일괄 정산할 경매 한 건 (참여자별 최고 입찰가는 호출 측이 경매 묶음 전체를 한 번에 집계해 전달)
+    public record AuctionSettlement(Long auctionId, Long winnerUserId, Long winningBid, List<BidderMaxBid> bidders) {
+    }
+
+    private record SettlementMove(Long auctionId, Long userId, PointLogType type, Long amount) {
+    }
+}
@@ -1,14 +1,25 @@
 package org.example.lastcall.domain.point.service.query;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 import org.example.lastcall.common.exception.BusinessException;
+import org.example.lastcall.common.response.CursorResponse;
 import org.example.lastcall.domain.auth.enums.AuthUser;
+import org.example.lastcall.domain.point.dto.response.PointLogResponse;
 import org.example.lastcall.domain.point.dto.response.PointResponse;
 import org.example.lastcall.domain.point.entity.Point;
 import org.example.lastcall.domain.point.exception.PointErrorCode;
+import org.example.lastcall.domain.point.repository.PointBalance;
+import org.example.lastcall.domain.point.repository.PointLogCursor;
+import org.example.lastcall.domain.point.repository.PointLogRepository;
 import org.example.lastcall.domain.point.repository.PointRepository;
 import org.example.lastcall.domain.user.entity.User;
 import org.example.lastcall.domain.user.service.query.UserQueryServiceApi;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,7 +29,10 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 @Transactional
 public class PointQueryService implements PointQueryServiceApi {
+	private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
 	private final PointRepository pointRepository;
+	private final PointLogRepository pointLogRepository;
 	private final UserQueryServiceApi userQueryServiceApi;
 
 	// 유저 포인트 조회
@@ -37,6 +51,28 @@ public class PointQueryService implements PointQueryServiceApi {
 			point.getSettlementPoint());
 	}
 
+	// 포인트 변동 내역 커서 조회 (최신순), 페이지 깊이와 관계없이 인덱스 범위만 읽음
+	@Transactional(readOnly = true)
+	public CursorResponse<PointLogResponse> getPointLogs(AuthUser authUser, String cursor, int size) {
+		int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+		Limit limit = Limit.of(pageSize + 1);
+
+		List<PointLogResponse> logs;
+
+		if (cursor == null || cursor.isBlank()) {
+			logs = pointLogRepository.findFirstPageByUserId(authUser.userId(), limit);
+		} else {
+			PointLogCursor logCursor = PointLogCursor.decode(cursor);
+			logs = pointLogRepository.findNextPageByUserId(authUser.userId(), logCursor.createdAt(), logCursor.id(), limit);
+		}
+
+		boolean hasNext = logs.size() > pageSize;
+		List<PointLogResponse> page = hasNext ? logs.subList(0, pageSize) : logs;
+		String nextCursor = hasNext ? PointLogCursor.from(page.get(pageSize - 1)).encode() : null;
+
+		return CursorResponse.of(page, nextCursor, pageSize);
+	}
+
 	// 현재 보유 포인트로 입찰이 가능한지 확인하는 메서드
 	@Override
 	public void validateSufficientPoints(Long userId, Long requiredAmount) {
@@ -47,4 +83,15 @@ public class PointQueryService implements PointQueryServiceApi {
 			throw new BusinessException(PointErrorCode.INSUFFICIENT_POINT);
 		}
 	}
-}
\ No newline at end of file
+
+	// 여러 사용자의 가용 포인트를 한 번에 조회 (포인트 계정이 없는 사용자는 결과에서 빠짐, 예외 없이 결과만 반환)
+	@Override
+	public Map<Long, Long> findAvailablePoints(Collection<Long> userIds) {
+		if (userIds.isEmpty()) {
+			return Map.of();
+		}
+
+		return pointRepository.findBalancesByUserIdIn(userIds).stream()
+			.collect(Collectors.toMap(PointBalance::userId, PointBalance::availablePoint));
+	}
+}
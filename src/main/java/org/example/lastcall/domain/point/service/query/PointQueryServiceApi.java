@@ -1,5 +1,10 @@
 package org.example.lastcall.domain.point.service.query;
 
+import java.util.Collection;
+import java.util.Map;
+
 public interface PointQueryServiceApi {
 	void validateSufficientPoints(Long userId, Long requiredAmount);
+
+	Map<Long, Long> findAvailablePoints(Collection<Long> userIds);
 }
@@ -0,0 +1,105 @@
+package org.example.lastcall.common.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class LayeredCacheManagerTest {
+    @Mock
+    private CacheInvalidationBroadcaster broadcaster;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ConcurrentMapCacheManager remoteCacheManager;
+    private LayeredCacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        remoteCacheManager = new ConcurrentMapCacheManager("userPoints");
+        cacheManager = new LayeredCacheManager(remoteCacheManager, broadcaster,
+                new LayeredCacheProperties(new LayeredCacheProperties.L1(100, Duration.ofMinutes(1)), "cache:invalidation"),
+                meterRegistry);
+    }
+
+    @Test
+    @DisplayName("L2 에서 찾은 값은 L1 에 채워져 다음 조회는 L1 에서 끝난다")
+    void get_L2_적중_후_L1_에서_조회된다() {
+        remoteCacheManager.getCache("userPoints").put(1L, "point-1");
+        Cache cache = cacheManager.getCache("userPoints");
+
+        assertThat(cache.get(1L).get()).isEqualTo("point-1");
+        remoteCacheManager.getCache("userPoints").evict(1L);
+        assertThat(cache.get(1L).get()).isEqualTo("point-1");
+        assertThat(cache.get(2L)).isNull();
+
+        assertThat(requests("l1", "hit")).isEqualTo(1.0);
+        assertThat(requests("l1", "miss")).isEqualTo(2.0);
+        assertThat(requests("l2", "hit")).isEqualTo(1.0);
+        assertThat(requests("l2", "miss")).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.layered.hit.ratio").tags("tier", "l1").gauge().value())
+                .isEqualTo(1.0 / 3);
+    }
+
+    @Test
+    @DisplayName("삭제는 두 계층에서 모두 지우고 다른 노드에 무효화를 알린다")
+    void evict_두_계층을_지우고_무효화를_발행한다() {
+        Cache cache = cacheManager.getCache("userPoints");
+        cache.put(1L, "point-1");
+
+        cache.evict(1L);
+
+        assertThat(cache.get(1L)).isNull();
+        assertThat(remoteCacheManager.getCache("userPoints").get(1L)).isNull();
+        then(broadcaster).should(times(2)).publish("userPoints", "1");
+    }
+
+    @Test
+    @DisplayName("L2 를 읽는 동안 무효화된 키는 읽은 값으로 L1 을 다시 채우지 않는다")
+    void get_L2_조회_중_무효화되면_L1_을_채우지_않는다() {
+        Cache remote = mock(Cache.class);
+        LayeredCache cache = new LayeredCache("userPoints", Caffeine.newBuilder().build(), remote, broadcaster, meterRegistry);
+        given(remote.get(1L)).willAnswer(invocation -> {
+            cache.invalidateLocal("1");
+            return new SimpleValueWrapper("stale");
+        });
+
+        assertThat(cache.get(1L).get()).isEqualTo("stale");
+
+        given(remote.get(1L)).willReturn(new SimpleValueWrapper("fresh"));
+        assertThat(cache.get(1L).get()).isEqualTo("fresh");
+        assertThat(cache.get(1L).get()).isEqualTo("fresh");
+        then(remote).should(times(2)).get(1L);
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지는 L1 만 지우고 L2 값은 다시 읽는다")
+    void invalidateLocal_L1_만_지운다() {
+        Cache cache = cacheManager.getCache("userPoints");
+        cache.put(1L, "old");
+        remoteCacheManager.getCache("userPoints").put(1L, "new");
+
+        assertThat(cache.get(1L).get()).isEqualTo("old");
+        cacheManager.invalidateLocal("userPoints", "1");
+
+        assertThat(cache.get(1L).get()).isEqualTo("new");
+    }
+
+    private double requests(String tier, String result) {
+        return meterRegistry.get("cache.layered.requests").tags("tier", tier, "result", result).counter().count();
+    }
+}
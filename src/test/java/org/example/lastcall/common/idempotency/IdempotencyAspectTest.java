@@ -0,0 +1,213 @@
+package org.example.lastcall.common.idempotency;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.example.lastcall.common.exception.BusinessException;
+import org.example.lastcall.common.response.ApiResponse;
+import org.example.lastcall.domain.auth.enums.AuthUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.redisson.api.RBucket;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class IdempotencyAspectTest {
+    private static final String STORE_KEY = "idempotency:test:1:retry-key";
+
+    @Mock
+    private RedissonClient redissonClient;
+    @Mock
+    private RBucket<String> bucket;
+    @Mock
+    private ProceedingJoinPoint pjp;
+    @Mock
+    private MethodSignature signature;
+    @Mock
+    private Idempotent idempotent;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private IdempotencyAspect aspect;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        aspect = new IdempotencyAspect(redissonClient, objectMapper,
+                new IdempotencyProperties(Duration.ofHours(24), Duration.ofSeconds(30), Duration.ofSeconds(5), Duration.ofMillis(10)));
+
+        given(idempotent.scope()).willReturn("'test:' + #authUser.userId()");
+        given(pjp.getSignature()).willReturn(signature);
+        given(signature.getMethod()).willReturn(IdempotencyAspectTest.class.getDeclaredMethod("earn", AuthUser.class, Long.class));
+        given(signature.getParameterNames()).willReturn(new String[] {"authUser", "amount"});
+        given(pjp.getArgs()).willReturn(new Object[] {new AuthUser(1L, "public1", "USER"), 1000L});
+        given(redissonClient.<String>getBucket(STORE_KEY, StringCodec.INSTANCE)).willReturn(bucket);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Idempotency-Key 헤더가 없으면 Redis 를 거치지 않고 그대로 실행한다")
+    void around_헤더가_없으면_그대로_실행한다() throws Throwable {
+        bindRequest(null);
+        given(pjp.proceed()).willReturn(created("ok"));
+
+        Object result = aspect.around(pjp, idempotent);
+
+        assertThat(result).isInstanceOf(ResponseEntity.class);
+        verifyNoInteractions(redissonClient);
+    }
+
+    @Test
+    @DisplayName("처음 들어온 요청은 실행 후 성공 응답을 Redis 에 저장한다")
+    void around_첫_요청은_실행_후_응답을_저장한다() throws Throwable {
+        bindRequest("retry-key");
+        given(bucket.get()).willReturn(null);
+        given(bucket.setIfAbsent(anyString(), any(Duration.class))).willReturn(true);
+        given(pjp.proceed()).willReturn(created("ok"));
+
+        aspect.around(pjp, idempotent);
+
+        verify(pjp, times(1)).proceed();
+        verify(bucket).set(argThat(json -> json.contains("\"completed\":true")), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("완료된 응답이 있으면 실행하지 않고 최초 응답을 그대로 돌려준다")
+    void around_완료된_응답이_있으면_재생한다() throws Throwable {
+        bindRequest("retry-key");
+        String fingerprint = storeFirstResponse();
+        given(bucket.get()).willReturn(objectMapper.writeValueAsString(
+                IdempotentResponse.completed(fingerprint, 201, objectMapper.writeValueAsString(ApiResponse.success("done", "ok")))));
+
+        ResponseEntity<?> result = (ResponseEntity<?>)aspect.around(pjp, idempotent);
+
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(result.getHeaders().getFirst(IdempotencyAspect.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(((JsonNode)result.getBody()).get("data").asText()).isEqualTo("ok");
+        verify(pjp, never()).proceed();
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 내용의 요청을 보내면 거절한다")
+    void around_같은_키_다른_요청은_거절한다() throws Throwable {
+        bindRequest("retry-key");
+        given(bucket.get()).willReturn(objectMapper.writeValueAsString(
+                IdempotentResponse.completed("other-fingerprint", 201, "{}")));
+
+        assertThatThrownBy(() -> aspect.around(pjp, idempotent))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", IdempotencyErrorCode.IDEMPOTENCY_KEY_REUSED);
+        verify(pjp, never()).proceed();
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 중복 요청은 한 번만 실행되고 같은 결과를 공유한다")
+    void around_동시_중복_요청은_한_번만_실행된다() throws Throwable {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(bucket.get()).willReturn(null);
+        given(bucket.setIfAbsent(anyString(), any(Duration.class))).willReturn(true);
+        given(pjp.proceed()).willAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return created("ok");
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+        Future<Object> leader = executor.submit(() -> callWithKey("retry-key"));
+        started.await();
+
+        List<Future<Object>> followers = IntStream.range(0, 4)
+                .mapToObj(i -> executor.submit(() -> callWithKey("retry-key")))
+                .toList();
+        Thread.sleep(100);
+        release.countDown();
+
+        assertThat(((ResponseEntity<?>)leader.get()).getStatusCode()).isEqualTo(HttpStatus.CREATED);
+
+        for (Future<Object> follower : followers) {
+            ResponseEntity<?> replayed = (ResponseEntity<?>)follower.get();
+            assertThat(replayed.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+            assertThat(replayed.getHeaders().getFirst(IdempotencyAspect.REPLAYED_HEADER)).isEqualTo("true");
+        }
+
+        executor.shutdown();
+        verify(pjp, times(1)).proceed();
+    }
+
+    // 첫 요청을 실행해 저장되는 값에서 요청 해시를 얻음
+    private String storeFirstResponse() throws Throwable {
+        given(bucket.setIfAbsent(anyString(), any(Duration.class))).willReturn(true);
+        given(pjp.proceed()).willReturn(created("ok"));
+        aspect.around(pjp, idempotent);
+
+        ArgumentCaptor<String> stored = ArgumentCaptor.forClass(String.class);
+        verify(bucket).set(stored.capture(), anyLong(), any());
+        reset(pjp);
+        given(pjp.getSignature()).willReturn(signature);
+        given(pjp.getArgs()).willReturn(new Object[] {new AuthUser(1L, "public1", "USER"), 1000L});
+
+        return objectMapper.readValue(stored.getValue(), IdempotentResponse.class).fingerprint();
+    }
+
+    private Object callWithKey(String key) throws Exception {
+        bindRequest(key);
+
+        try {
+            return aspect.around(pjp, idempotent);
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    private void bindRequest(String key) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+
+        if (key != null) {
+            request.addHeader(IdempotencyAspect.HEADER, key);
+        }
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    private ResponseEntity<ApiResponse<String>> created(String data) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success("done", data));
+    }
+
+    // 범위 식 캐시 키로 쓰는 대상 메서드
+    @SuppressWarnings("unused")
+    private void earn(AuthUser authUser, Long amount) {
+    }
+}
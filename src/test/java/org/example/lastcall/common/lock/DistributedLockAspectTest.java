@@ -0,0 +1,244 @@
+package org.example.lastcall.common.lock;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.example.lastcall.common.exception.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class DistributedLockAspectTest {
+    @Mock
+    private RedissonClient redissonClient;
+    @Mock
+    private RLock rLock;
+    @Mock
+    private ProceedingJoinPoint pjp;
+    @Mock
+    private MethodSignature signature;
+    @Mock
+    private DistributedLock distributedLock;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger redisAttempts = new AtomicInteger();
+    private final AtomicInteger redisHolders = new AtomicInteger();
+    private final AtomicInteger maxRedisContenders = new AtomicInteger();
+    private LockWaitQueue lockWaitQueue;
+    private DistributedLockAspect aspect;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        LockProperties lockProperties = new LockProperties(
+                new LockProperties.Local(true, 16), new LockProperties.Queue(1, Duration.ofSeconds(2)));
+        lockWaitQueue = new LockWaitQueue(lockProperties, meterRegistry);
+        aspect = new DistributedLockAspect(redissonClient, new LocalLockStripes(lockProperties),
+                new LockMetrics(meterRegistry), lockWaitQueue);
+
+        given(distributedLock.key()).willReturn("'auction:' + #auctionId");
+        given(distributedLock.keys()).willReturn("");
+        given(distributedLock.waitTime()).willReturn(5L);
+        given(distributedLock.leaseTime()).willReturn(10L);
+        given(pjp.getSignature()).willReturn(signature);
+        given(signature.getMethod()).willReturn(getClass().getDeclaredMethod("lockedByAuction", Long.class));
+        given(signature.getParameterNames()).willReturn(new String[] {"auctionId"});
+        given(pjp.getArgs()).willReturn(new Object[] {42L});
+        given(redissonClient.getLock(anyString())).willReturn(rLock);
+
+        // Redis 락을 동시에 시도/보유 중인 스레드 수를 기록
+        given(rLock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).willAnswer(invocation -> {
+            redisAttempts.incrementAndGet();
+            maxRedisContenders.accumulateAndGet(redisHolders.incrementAndGet(), Math::max);
+            return true;
+        });
+        given(rLock.isHeldByCurrentThread()).willReturn(true);
+        willAnswer(invocation -> redisHolders.decrementAndGet()).given(rLock).unlock();
+    }
+
+    @Test
+    @DisplayName("같은 노드의 같은 키 경쟁자는 JVM 락에서 직렬화되어 Redis 락은 한 번에 한 스레드만 시도한다")
+    void around_같은_키_경쟁자는_한_스레드만_Redis_락을_시도한다() throws Throwable {
+        int threads = 16;
+        LockProperties unbounded = new LockProperties(
+                new LockProperties.Local(true, 16), new LockProperties.Queue(0, Duration.ofSeconds(1)));
+        aspect = new DistributedLockAspect(redissonClient, new LocalLockStripes(unbounded),
+                new LockMetrics(meterRegistry), new LockWaitQueue(unbounded, meterRegistry));
+        AtomicInteger completed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        given(pjp.proceed()).willAnswer(invocation -> {
+            Thread.sleep(5);
+            return completed.incrementAndGet();
+        });
+
+        for (int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                start.await();
+                return aroundQuietly();
+            });
+        }
+
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(completed.get()).isEqualTo(threads);
+        assertThat(redisAttempts.get()).isEqualTo(threads);
+        assertThat(maxRedisContenders.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("lock.wait").tag("prefix", "auction").timer().count()).isEqualTo(threads);
+        assertThat(meterRegistry.get("lock.hold").tag("prefix", "auction").timer().count()).isEqualTo(threads);
+    }
+
+    @Test
+    @DisplayName("락 안에서 다른 키의 락을 다시 잡으면 JVM 락 없이 Redis 락만 사용한다")
+    void around_중첩_락은_Redis_락만_사용한다() throws Throwable {
+        DistributedLock innerLock = mock(DistributedLock.class);
+        ProceedingJoinPoint innerPjp = mock(ProceedingJoinPoint.class);
+        MethodSignature innerSignature = mock(MethodSignature.class);
+
+        given(innerLock.key()).willReturn("'user:' + #userId");
+        given(innerLock.keys()).willReturn("");
+        given(innerLock.waitTime()).willReturn(5L);
+        given(innerLock.leaseTime()).willReturn(10L);
+        given(innerPjp.getSignature()).willReturn(innerSignature);
+        given(innerSignature.getMethod()).willReturn(getClass().getDeclaredMethod("lockedByUser", Long.class));
+        given(innerSignature.getParameterNames()).willReturn(new String[] {"userId"});
+        given(innerPjp.getArgs()).willReturn(new Object[] {7L});
+        given(innerPjp.proceed()).willReturn("inner");
+        given(pjp.proceed()).willAnswer(invocation -> aspect.around(innerPjp, innerLock));
+
+        Object result = aspect.around(pjp, distributedLock);
+
+        assertThat(result).isEqualTo("inner");
+        assertThat(redisAttempts.get()).isEqualTo(2);
+        then(redissonClient).should().getLock("lock:auction:42");
+        then(redissonClient).should().getLock("lock:user:7");
+    }
+
+    @Test
+    @DisplayName("Redis 락 획득에 실패하면 실패 횟수를 키 접두사별로 기록한다")
+    void around_락_획득_실패를_기록한다() throws Exception {
+        given(rLock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).willReturn(false);
+
+        assertThatThrownBy(() -> aspect.around(pjp, distributedLock))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", LockErrorCode.LOCK_ACQUISITION_FAILED);
+
+        assertThat(meterRegistry.get("lock.acquisition.failures").tag("prefix", "auction").counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("lock.hold").tag("prefix", "auction").timer().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 키는 정렬된 순서로 MultiLock 한 번에 잠그고, 키가 없으면 잠그지 않고 실행한다")
+    void around_여러_키는_정렬된_순서로_한_번에_잠근다() throws Throwable {
+        DistributedLock multiLock = mock(DistributedLock.class);
+        RLock redissonMultiLock = mock(RLock.class);
+
+        given(multiLock.keys()).willReturn("#userIds.!['user:' + #this]");
+        given(multiLock.waitTime()).willReturn(5L);
+        given(multiLock.leaseTime()).willReturn(10L);
+        given(signature.getMethod()).willReturn(getClass().getDeclaredMethod("lockedByUsers", List.class));
+        given(signature.getParameterNames()).willReturn(new String[] {"userIds"});
+        given(pjp.getArgs()).willReturn(new Object[] {List.of(3L, 1L, 2L, 1L)});
+        given(pjp.proceed()).willReturn("done");
+        given(redissonClient.getMultiLock(any(RLock[].class))).willReturn(redissonMultiLock);
+        given(redissonMultiLock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).willReturn(true);
+
+        assertThat(aspect.around(pjp, multiLock)).isEqualTo("done");
+
+        InOrder inOrder = inOrder(redissonClient);
+        inOrder.verify(redissonClient).getLock("lock:user:1");
+        inOrder.verify(redissonClient).getLock("lock:user:2");
+        inOrder.verify(redissonClient).getLock("lock:user:3");
+        inOrder.verify(redissonClient).getMultiLock(any(RLock[].class));
+        then(redissonMultiLock).should().unlock();
+
+        given(pjp.getArgs()).willReturn(new Object[] {List.of()});
+
+        assertThat(aspect.around(pjp, multiLock)).isEqualTo("done");
+        then(redissonClient).should(times(1)).getMultiLock(any(RLock[].class));
+    }
+
+    @Test
+    @DisplayName("같은 키의 대기열이 가득 차면 기다리지 않고 Retry-After 와 함께 즉시 실패한다")
+    void around_대기열이_가득_차면_즉시_실패한다() throws Throwable {
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        given(pjp.proceed()).willAnswer(invocation -> {
+            holding.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "done";
+        });
+
+        executor.submit(this::aroundQuietly);
+        assertThat(holding.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.submit(this::aroundQuietly);
+        awaitWaiters("lock:auction:42", 1);
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> aspect.around(pjp, distributedLock))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", LockErrorCode.LOCK_ACQUISITION_FAILED)
+                .hasFieldOrPropertyWithValue("retryAfter", Duration.ofSeconds(2));
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+        assertThat(meterRegistry.get("lock.waiters").tag("prefix", "auction").gauge().value()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("lock.queue.rejected").tag("prefix", "auction").counter().count()).isEqualTo(1.0);
+
+        release.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(lockWaitQueue.waiters("lock:auction:42")).isZero();
+    }
+
+    private void awaitWaiters(String lockKey, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+        while (lockWaitQueue.waiters(lockKey) < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private Object aroundQuietly() {
+        try {
+            return aspect.around(pjp, distributedLock);
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void lockedByAuction(Long auctionId) {
+    }
+
+    private void lockedByUser(Long userId) {
+    }
+
+    private void lockedByUsers(List<Long> userIds) {
+    }
+}
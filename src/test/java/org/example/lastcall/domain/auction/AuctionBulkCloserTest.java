@@ -0,0 +1,104 @@
+package org.example.lastcall.domain.auction;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.lastcall.common.exception.BusinessException;
+import org.example.lastcall.domain.auction.config.AuctionCloseProperties;
+import org.example.lastcall.domain.auction.exception.AuctionErrorCode;
+import org.example.lastcall.domain.auction.service.command.AuctionBulkCloser;
+import org.example.lastcall.domain.auction.service.command.AuctionCommandService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class AuctionBulkCloserTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AuctionCommandService auctionCommandService = mock(AuctionCommandService.class);
+    private AuctionBulkCloser auctionBulkCloser;
+
+    private AuctionBulkCloser createCloser(Duration window) {
+        AuctionCloseProperties properties = new AuctionCloseProperties(true, window, 200, 2, 100,
+                Duration.ofSeconds(1), Duration.ofSeconds(5));
+
+        auctionBulkCloser = new AuctionBulkCloser(auctionCommandService, properties, meterRegistry);
+        auctionBulkCloser.start();
+
+        return auctionBulkCloser;
+    }
+
+    @AfterEach
+    void tearDown() {
+        auctionBulkCloser.shutdown();
+    }
+
+    @Test
+    @DisplayName("window 안에 들어온 종료 요청은 한 번의 묶음 종료로 처리된다")
+    void submit_같은_시각의_종료_요청을_묶어서_처리한다() throws Exception {
+        AuctionBulkCloser closer = createCloser(Duration.ofMillis(300));
+        when(auctionCommandService.closeAuctions(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<CompletableFuture<Void>> futures = LongStream.rangeClosed(1, 5)
+                .mapToObj(closer::submit)
+                .toList();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+        verify(auctionCommandService).closeAuctions(List.of(1L, 2L, 3L, 4L, 5L));
+        verify(auctionCommandService, never()).closeAuction(anyLong());
+        assertThat(meterRegistry.get("auction.close.batch.size").summary().max()).isEqualTo(5.0);
+    }
+
+    @Test
+    @DisplayName("묶음 종료가 실패하면 경매별 종료로 다시 처리하고 결과를 각각 전달한다")
+    void submit_묶음_실패시_경매별로_다시_처리한다() throws Exception {
+        AuctionBulkCloser closer = createCloser(Duration.ofMillis(300));
+        when(auctionCommandService.closeAuctions(anyList())).thenThrow(new IllegalStateException("deadlock"));
+        doThrow(new BusinessException(AuctionErrorCode.AUCTION_ALREADY_CLOSED)).when(auctionCommandService).closeAuction(2L);
+
+        CompletableFuture<Void> first = closer.submit(1L);
+        CompletableFuture<Void> second = closer.submit(2L);
+
+        first.get(5, TimeUnit.SECONDS);
+        assertThatThrownBy(() -> second.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(BusinessException.class);
+        verify(auctionCommandService).closeAuction(1L);
+        assertThat(meterRegistry.get("auction.close.fallback").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("묶음 종료 대상에서 빠진 경매는 이미 종료된 것으로 알린다")
+    void close_이미_종료된_경매는_비즈니스_예외가_전달된다() {
+        AuctionBulkCloser closer = createCloser(Duration.ofMillis(300));
+        when(auctionCommandService.closeAuctions(anyList())).thenReturn(List.of(1L));
+
+        CompletableFuture<Void> closed = closer.submit(1L);
+
+        assertThatThrownBy(() -> closer.close(2L))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", AuctionErrorCode.AUCTION_ALREADY_CLOSED);
+        assertThat(closed).succeedsWithin(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("모으는 중인 묶음은 일괄 종료기가 멈추면 버려지지 않고 실패로 전달된다")
+    void shutdown_모으던_묶음은_실패로_전달된다() throws Exception {
+        AuctionBulkCloser closer = createCloser(Duration.ofSeconds(10));
+
+        CompletableFuture<Void> future = closer.submit(1L);
+        Thread.sleep(100);
+        closer.shutdown();
+
+        assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalStateException.class);
+        verify(auctionCommandService, never()).closeAuctions(anyList());
+    }
+}
@@ -8,10 +8,13 @@ import org.example.lastcall.domain.auction.entity.Auction;
 import org.example.lastcall.domain.auction.enums.AuctionStatus;
 import org.example.lastcall.domain.auction.exception.AuctionErrorCode;
 import org.example.lastcall.domain.auction.repository.AuctionRepository;
+import org.example.lastcall.domain.auction.service.command.AuctionCloseMetrics;
 import org.example.lastcall.domain.auction.service.command.AuctionCommandService;
 import org.example.lastcall.domain.auction.service.command.AuctionEventScheduler;
 import org.example.lastcall.domain.bid.entity.Bid;
+import org.example.lastcall.domain.bid.service.command.BidAdmissionRouter;
 import org.example.lastcall.domain.bid.service.query.BidQueryServiceApi;
+import org.example.lastcall.domain.point.exception.PointErrorCode;
 import org.example.lastcall.domain.point.service.command.PointCommandService;
 import org.example.lastcall.domain.product.entity.Product;
 import org.example.lastcall.domain.product.service.query.ProductQueryServiceApi;
@@ -51,6 +54,12 @@ public class AuctionCommandServiceTest {
     @Mock
     private AuctionEventScheduler auctionEventScheduler;
 
+    @Mock
+    private BidAdmissionRouter bidAdmissionRouter;
+
+    @Mock
+    private AuctionCloseMetrics auctionCloseMetrics;
+
     @BeforeEach
     void init() {
         MockitoAnnotations.openMocks(this);
@@ -268,7 +277,7 @@ public class AuctionCommandServiceTest {
         when(auction.canClose()).thenReturn(true);
         when(auction.getId()).thenReturn(1L);
 
-        when(auctionRepository.findById(1L))
+        when(auctionRepository.findByIdForUpdate(1L))
                 .thenReturn(Optional.of(auction));
 
         when(bidQueryServiceApi.findTopByAuctionOrderByBidAmountDesc(auction))
@@ -294,7 +303,7 @@ public class AuctionCommandServiceTest {
         when(auction.canClose()).thenReturn(true);
         when(auction.getId()).thenReturn(1L);
 
-        when(auctionRepository.findById(1L))
+        when(auctionRepository.findByIdForUpdate(1L))
                 .thenReturn(Optional.of(auction));
 
         when(bidQueryServiceApi.findTopByAuctionOrderByBidAmountDesc(auction))
@@ -303,9 +312,39 @@ public class AuctionCommandServiceTest {
         auctionCommandService.closeAuction(1L);
 
         verify(auction).assignWinner(50L, 2500L);
-        verify(pointCommandService).depositToAvailablePoint(1L);
-        verify(pointCommandService).depositToSettlement(1L);
+        verify(pointCommandService).settleAuction(1L, 50L, 2500L);
         verify(auctionRepository).save(auction);
+        verify(bidAdmissionRouter).seal(1L);
+    }
+
+    @Test
+    @DisplayName("closeAuction - 정산에 실패하면 예외가 그대로 전달되어 경매 종료가 반영되지 않는다")
+    void closeAuction_정산에_실패하면_예외가_전달된다() {
+        User bidder = mock(User.class);
+        when(bidder.getId()).thenReturn(50L);
+
+        Bid bid = mock(Bid.class);
+        when(bid.getUser()).thenReturn(bidder);
+        when(bid.getBidAmount()).thenReturn(2500L);
+
+        Auction auction = mock(Auction.class);
+        when(auction.canClose()).thenReturn(true);
+        when(auction.getId()).thenReturn(1L);
+
+        when(auctionRepository.findByIdForUpdate(1L))
+                .thenReturn(Optional.of(auction));
+
+        when(bidQueryServiceApi.findTopByAuctionOrderByBidAmountDesc(auction))
+                .thenReturn(Optional.of(bid));
+
+        doThrow(new BusinessException(PointErrorCode.INSUFFICIENT_DEPOSIT_POINT))
+                .when(pointCommandService).settleAuction(1L, 50L, 2500L);
+
+        assertThatThrownBy(() -> auctionCommandService.closeAuction(1L))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage(PointErrorCode.INSUFFICIENT_DEPOSIT_POINT.getMessage());
+
+        verify(auctionRepository, never()).save(auction);
     }
 
     @Test
@@ -313,7 +352,7 @@ public class AuctionCommandServiceTest {
     void closeAuction_이미_종료된_경매는_종료할_수_없다() {
         Auction auction = mock(Auction.class);
 
-        when(auctionRepository.findById(1L))
+        when(auctionRepository.findByIdForUpdate(1L))
                 .thenReturn(Optional.of(auction));
 
         when(auction.canClose()).thenReturn(false);
@@ -0,0 +1,106 @@
+package org.example.lastcall.domain.auction;
+
+import com.rabbitmq.client.Channel;
+import org.example.lastcall.domain.auction.entity.Auction;
+import org.example.lastcall.domain.auction.enums.AuctionStatus;
+import org.example.lastcall.domain.auction.enums.AuctionTimerType;
+import org.example.lastcall.domain.auction.repository.AuctionRepository;
+import org.example.lastcall.domain.auction.service.command.AuctionBulkCloser;
+import org.example.lastcall.domain.auction.service.command.AuctionCommandService;
+import org.example.lastcall.domain.auction.service.event.AuctionEvent;
+import org.example.lastcall.domain.auction.service.event.AuctionEventListener;
+import org.example.lastcall.domain.auction.service.event.AuctionEventRetryRouter;
+import org.example.lastcall.domain.auction.service.event.AuctionListenerMetrics;
+import org.example.lastcall.domain.auction.service.room.AuctionRoomPublisher;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class AuctionEventListenerBatchTest {
+    private final Jackson2JsonMessageConverter messageConverter = new Jackson2JsonMessageConverter();
+    private final AuctionCommandService auctionCommandService = mock(AuctionCommandService.class);
+    private final AuctionBulkCloser auctionBulkCloser = mock(AuctionBulkCloser.class);
+    private final AuctionRepository auctionRepository = mock(AuctionRepository.class);
+    private final AuctionEventRetryRouter auctionEventRetryRouter = mock(AuctionEventRetryRouter.class);
+    private final Channel channel = mock(Channel.class);
+    private final AuctionEventListener listener = new AuctionEventListener(auctionCommandService, auctionBulkCloser,
+            auctionRepository, mock(AuctionRoomPublisher.class), mock(AuctionListenerMetrics.class), auctionEventRetryRouter,
+            messageConverter);
+
+    @Test
+    @DisplayName("묶음의 경매를 한 번에 조회해 버전이 맞는 이벤트만 처리하고, 한 번의 multiple ACK 로 확인한다")
+    void handleAuctionStartBatch_한_번에_조회하고_한_번에_ACK_한다() throws Exception {
+        Auction current = auction(1L, 0L);
+        Auction edited = auction(2L, 3L);
+        when(auctionRepository.findAllById(List.of(1L, 2L, 3L))).thenReturn(List.of(current, edited));
+        when(auctionRepository.findAllById(List.of(1L))).thenReturn(List.of(current));
+
+        listener.handleAuctionStartBatch(List.of(message(1L, 0L, 11), message(2L, 1L, 12), message(3L, 0L, 13)), channel);
+
+        verify(auctionCommandService).startAuction(1L);
+        verify(auctionCommandService, never()).startAuction(2L);
+        verify(auctionCommandService, never()).startAuction(3L);
+        verify(channel).basicAck(13L, true);
+        verify(channel, never()).basicNack(anyLong(), anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("일괄 종료 중 시스템 예외가 난 메시지는 재시도 큐로 넘기고, 넘기지 못한 메시지만 개별 NACK 한다")
+    void handleAuctionEndBatch_재시도_큐로_넘기지_못한_메시지만_NACK_한다() throws Exception {
+        List<Auction> auctions = List.of(auction(1L, 0L), auction(2L, 0L), auction(3L, 0L));
+        when(auctionRepository.findAllById(List.of(1L, 2L, 3L))).thenReturn(auctions);
+        when(auctionBulkCloser.isBatchEnabled()).thenReturn(true);
+        when(auctionBulkCloser.closeTimeout()).thenReturn(Duration.ofSeconds(1));
+        when(auctionBulkCloser.submit(anyLong())).thenReturn(CompletableFuture.completedFuture(null));
+        when(auctionBulkCloser.submit(2L)).thenReturn(CompletableFuture.failedFuture(new IllegalStateException("db down")));
+        when(auctionBulkCloser.submit(3L)).thenReturn(CompletableFuture.failedFuture(new IllegalStateException("db down")));
+        when(auctionEventRetryRouter.retryOrPark(any(), eq(AuctionTimerType.END))).thenReturn(true, false);
+
+        listener.handleAuctionEndBatch(List.of(message(1L, 0L, 21), message(2L, 0L, 22), message(3L, 0L, 23)), channel);
+
+        verify(auctionEventRetryRouter, times(2)).retryOrPark(any(), eq(AuctionTimerType.END));
+        verify(channel).basicNack(23L, false, false);
+        verify(channel).basicAck(22L, true);
+        verify(auctionCommandService, never()).closeAuction(anyLong());
+    }
+
+    @Test
+    @DisplayName("경매 일괄 조회가 실패하면 묶음 전체를 재시도 큐로 넘기고 확인 응답을 남기지 않는다")
+    void handleAuctionEndBatch_조회_실패시_묶음_전체를_재시도한다() throws Exception {
+        when(auctionRepository.findAllById(List.of(1L, 2L))).thenThrow(new IllegalStateException("db down"));
+        when(auctionEventRetryRouter.retryOrPark(any(), eq(AuctionTimerType.END))).thenReturn(true, false);
+
+        listener.handleAuctionEndBatch(List.of(message(1L, 0L, 31), message(2L, 0L, 32)), channel);
+
+        verify(auctionEventRetryRouter, times(2)).retryOrPark(any(), eq(AuctionTimerType.END));
+        verify(channel).basicNack(32L, false, false);
+        verify(channel).basicAck(31L, true);
+        verify(auctionCommandService, never()).closeAuction(anyLong());
+        verify(auctionBulkCloser, never()).submit(anyLong());
+    }
+
+    private Auction auction(Long id, Long eventVersion) {
+        Auction auction = mock(Auction.class);
+        when(auction.getId()).thenReturn(id);
+        when(auction.getEventVersion()).thenReturn(eventVersion);
+        when(auction.getStatus()).thenReturn(AuctionStatus.ONGOING);
+
+        return auction;
+    }
+
+    private Message message(Long auctionId, Long version, long deliveryTag) {
+        MessageProperties properties = new MessageProperties();
+        properties.setDeliveryTag(deliveryTag);
+
+        return messageConverter.toMessage(new AuctionEvent(auctionId, null, null, null, version), properties);
+    }
+}
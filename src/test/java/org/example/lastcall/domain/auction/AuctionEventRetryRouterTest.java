@@ -0,0 +1,69 @@
+package org.example.lastcall.domain.auction;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.lastcall.common.config.AuctionConfig;
+import org.example.lastcall.domain.auction.config.AuctionRetryProperties;
+import org.example.lastcall.domain.auction.enums.AuctionTimerType;
+import org.example.lastcall.domain.auction.service.event.AuctionEventRetryRouter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class AuctionEventRetryRouterTest {
+    private final RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AuctionEventRetryRouter router = new AuctionEventRetryRouter(rabbitTemplate,
+            new AuctionRetryProperties(List.of(Duration.ofSeconds(5), Duration.ofSeconds(30), Duration.ofMinutes(5)), 100,
+                    Duration.ofSeconds(5)),
+            meterRegistry);
+
+    @Test
+    @DisplayName("시도 횟수에 맞는 이벤트 종류별 재시도 큐로 보내고 x-delay 를 제거한다")
+    void retryOrPark_시도_횟수에_맞는_재시도_큐로_보낸다() {
+        assertThat(router.retryOrPark(message(1), AuctionTimerType.END)).isTrue();
+
+        ArgumentCaptor<Message> sent = ArgumentCaptor.forClass(Message.class);
+        verify(rabbitTemplate).send(eq(AuctionConfig.DLX_NAME), eq("auction.end.retry.30000ms"), sent.capture());
+        assertThat(AuctionEventRetryRouter.retryCount(sent.getValue())).isEqualTo(2);
+        assertThat(sent.getValue().getMessageProperties().getHeaders()).doesNotContainKey("x-delay");
+    }
+
+    @Test
+    @DisplayName("재시도 단계를 모두 소진하면 parking 큐로 보낸다")
+    void retryOrPark_재시도를_소진하면_parking_큐로_보낸다() {
+        assertThat(router.retryOrPark(message(3), AuctionTimerType.START)).isTrue();
+
+        verify(rabbitTemplate).send(eq(AuctionConfig.DLX_NAME), eq(AuctionConfig.START_PARKING_ROUTING_KEY), any(Message.class));
+        assertThat(meterRegistry.get("auction.event.parked").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("다시 발행하지 못하면 false 를 반환해 원본을 NACK 하게 한다")
+    void retryOrPark_발행_실패시_false() {
+        doThrow(new AmqpException("broker down")).when(rabbitTemplate).send(anyString(), anyString(), any(Message.class));
+
+        assertThat(router.retryOrPark(message(0), AuctionTimerType.START)).isFalse();
+    }
+
+    private Message message(int retryCount) {
+        MessageProperties properties = new MessageProperties();
+        properties.setHeader("x-delay", -5000);
+
+        if (retryCount > 0) {
+            properties.setHeader(AuctionEventRetryRouter.RETRY_COUNT_HEADER, retryCount);
+        }
+
+        return new Message("{}".getBytes(), properties);
+    }
+}
@@ -0,0 +1,84 @@
+package org.example.lastcall.domain.auction;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.lastcall.domain.auction.config.AuctionOutboxProperties;
+import org.example.lastcall.domain.auction.config.AuctionTimerProperties;
+import org.example.lastcall.domain.auction.enums.AuctionSchedulingMode;
+import org.example.lastcall.domain.auction.enums.AuctionTimerType;
+import org.example.lastcall.domain.auction.repository.AuctionOutboxMessage;
+import org.example.lastcall.domain.auction.repository.AuctionOutboxRepository;
+import org.example.lastcall.domain.auction.service.event.AuctionEvent;
+import org.example.lastcall.domain.auction.service.event.AuctionEventPublisher;
+import org.example.lastcall.domain.auction.service.event.AuctionOutboxRelay;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class AuctionOutboxRelayTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AuctionOutboxRepository auctionOutboxRepository = mock(AuctionOutboxRepository.class);
+    private final AuctionEventPublisher auctionEventPublisher = mock(AuctionEventPublisher.class);
+    private final AuctionOutboxRelay relay = new AuctionOutboxRelay(
+            auctionOutboxRepository,
+            auctionEventPublisher,
+            new AuctionOutboxProperties(500, 3600000, 100, 1, Duration.ofMillis(200), Duration.ofSeconds(30), Duration.ofDays(7)),
+            new AuctionTimerProperties(AuctionSchedulingMode.RABBITMQ, 100, 512, 4, 30000, Duration.ofMinutes(2), 1000,
+                    Duration.ofSeconds(60), 3, Duration.ofSeconds(5), 4),
+            meterRegistry);
+
+    @Test
+    @DisplayName("같은 경매/이벤트 종류는 최신 버전 하나만 발행하고, 확인받은 행과 접힌 행을 함께 발행 완료로 표시한다")
+    void relay_최신_버전만_발행한다() {
+        LocalDateTime fireAt = LocalDateTime.now().plusMinutes(1);
+        when(auctionOutboxRepository.claimPending(anyString(), any(), any(), anyInt())).thenReturn(List.of(
+                new AuctionOutboxMessage(1L, 10L, AuctionTimerType.END, 0L, fireAt),
+                new AuctionOutboxMessage(2L, 10L, AuctionTimerType.END, 2L, fireAt),
+                new AuctionOutboxMessage(3L, 10L, AuctionTimerType.END, 1L, fireAt),
+                new AuctionOutboxMessage(4L, 11L, AuctionTimerType.START, 0L, fireAt)));
+        confirmWith(true);
+
+        relay.relay();
+
+        ArgumentCaptor<AuctionEvent> events = ArgumentCaptor.forClass(AuctionEvent.class);
+        verify(auctionEventPublisher, times(2)).publish(any(), events.capture(), anyLong(), any());
+        assertThat(events.getAllValues())
+                .extracting(AuctionEvent::getAuctionId, AuctionEvent::getVersion)
+                .containsExactly(tuple(10L, 2L), tuple(11L, 0L));
+        verify(auctionOutboxRepository).markSent(argThat(ids -> ids.containsAll(List.of(1L, 2L, 3L, 4L)) && ids.size() == 4), any());
+        verify(auctionOutboxRepository).release(argThat(ids -> ids.isEmpty()));
+        assertThat(meterRegistry.get("auction.outbox.superseded").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("브로커가 거절(nack)하거나 확인이 오지 않은 행은 점유를 풀어 다음 주기에 다시 발행한다")
+    void relay_확인받지_못한_행은_다시_대기시킨다() {
+        LocalDateTime fireAt = LocalDateTime.now();
+        when(auctionOutboxRepository.claimPending(anyString(), any(), any(), anyInt())).thenReturn(List.of(
+                new AuctionOutboxMessage(5L, 12L, AuctionTimerType.START, 0L, fireAt)));
+        confirmWith(false);
+
+        relay.relay();
+
+        verify(auctionOutboxRepository).markSent(argThat(ids -> ids.isEmpty()), any());
+        verify(auctionOutboxRepository).release(List.of(5L));
+        assertThat(meterRegistry.get("auction.outbox.failed").counter().count()).isEqualTo(1.0);
+    }
+
+    private void confirmWith(boolean ack) {
+        doAnswer(invocation -> {
+            CorrelationData correlation = invocation.getArgument(3);
+            correlation.getFuture().complete(new CorrelationData.Confirm(ack, ack ? null : "nack"));
+            return null;
+        }).when(auctionEventPublisher).publish(any(), any(), anyLong(), any());
+    }
+}
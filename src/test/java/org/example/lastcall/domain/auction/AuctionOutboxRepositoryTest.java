@@ -0,0 +1,80 @@
+package org.example.lastcall.domain.auction;
+
+import org.example.lastcall.common.config.IdGeneratorInitializer;
+import org.example.lastcall.common.config.JpaAuditingConfig;
+import org.example.lastcall.common.config.QueryDslConfig;
+import org.example.lastcall.domain.auction.enums.AuctionTimerType;
+import org.example.lastcall.domain.auction.repository.AuctionOutboxMessage;
+import org.example.lastcall.domain.auction.repository.AuctionOutboxRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// outbox 행이 릴레이 노드 간에 겹치지 않게 점유되고, 이전 버전은 새 버전 기록 시 접히는지 검증
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QueryDslConfig.class, JpaAuditingConfig.class, IdGeneratorInitializer.class, AuctionOutboxRepository.class})
+class AuctionOutboxRepositoryTest {
+    @Autowired
+    private AuctionOutboxRepository auctionOutboxRepository;
+
+    @Test
+    @DisplayName("점유된 행은 다른 노드가 가져가지 못하고, 발행 완료 표시 후에는 다시 점유되지 않는다")
+    void claimPending_노드별로_겹치지_않게_점유한다() {
+        LocalDateTime now = LocalDateTime.now();
+        auctionOutboxRepository.append(2001L, 0L, Map.of(AuctionTimerType.START, now, AuctionTimerType.END, now.plusHours(1)));
+        auctionOutboxRepository.append(2002L, 0L, Map.of(AuctionTimerType.START, now, AuctionTimerType.END, now.plusHours(1)));
+
+        List<AuctionOutboxMessage> first = auctionOutboxRepository.claimPending("node-a", now, now.plusSeconds(30), 3);
+        List<AuctionOutboxMessage> second = auctionOutboxRepository.claimPending("node-b", now, now.plusSeconds(30), 10);
+
+        assertThat(first).hasSize(3);
+        assertThat(second).hasSize(1);
+        assertThat(second).extracting(AuctionOutboxMessage::id)
+                .doesNotContainAnyElementsOf(first.stream().map(AuctionOutboxMessage::id).toList());
+
+        auctionOutboxRepository.markSent(first.stream().map(AuctionOutboxMessage::id).toList(), now);
+        auctionOutboxRepository.release(second.stream().map(AuctionOutboxMessage::id).toList());
+
+        assertThat(auctionOutboxRepository.claimPending("node-c", now, now.plusSeconds(30), 10))
+                .extracting(AuctionOutboxMessage::id)
+                .containsExactly(second.get(0).id());
+    }
+
+    @Test
+    @DisplayName("점유가 만료된 행은 다른 노드가 다시 점유한다")
+    void claimPending_점유가_만료되면_다시_점유한다() {
+        LocalDateTime now = LocalDateTime.now();
+        auctionOutboxRepository.append(2003L, 0L, Map.of(AuctionTimerType.END, now));
+
+        assertThat(auctionOutboxRepository.claimPending("node-a", now, now.plusSeconds(30), 10)).hasSize(1);
+        assertThat(auctionOutboxRepository.claimPending("node-b", now.plusSeconds(10), now.plusSeconds(40), 10)).isEmpty();
+        assertThat(auctionOutboxRepository.claimPending("node-b", now.plusSeconds(31), now.plusSeconds(61), 10)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("새 버전을 기록하면 아직 발행되지 않은 이전 버전은 발행 대상에서 빠진다")
+    void append_미발행_이전_버전을_접는다() {
+        LocalDateTime now = LocalDateTime.now();
+
+        for (long version = 0; version < 5; version++) {
+            auctionOutboxRepository.append(2004L, version, Map.of(AuctionTimerType.START, now, AuctionTimerType.END, now.plusHours(1)));
+        }
+
+        assertThat(auctionOutboxRepository.countPending()).isEqualTo(2);
+        assertThat(auctionOutboxRepository.claimPending("node-a", now, now.plusSeconds(30), 10))
+                .extracting(AuctionOutboxMessage::version)
+                .containsOnly(4L);
+    }
+}
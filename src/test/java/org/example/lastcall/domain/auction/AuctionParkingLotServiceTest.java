@@ -0,0 +1,87 @@
+package org.example.lastcall.domain.auction;
+
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.Envelope;
+import com.rabbitmq.client.GetResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.lastcall.common.config.AuctionConfig;
+import org.example.lastcall.domain.auction.config.AuctionRetryProperties;
+import org.example.lastcall.domain.auction.dto.response.AuctionEventReplayResponse;
+import org.example.lastcall.domain.auction.service.event.AuctionEventRetryRouter;
+import org.example.lastcall.domain.auction.service.event.AuctionParkingLotService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.rabbit.core.ChannelCallback;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class AuctionParkingLotServiceTest {
+    private final RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+    private final Channel channel = mock(Channel.class);
+    private final AuctionParkingLotService service = new AuctionParkingLotService(rabbitTemplate, mock(AmqpAdmin.class),
+            new AuctionRetryProperties(List.of(Duration.ofSeconds(5)), 2, Duration.ofSeconds(1)), new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("보관된 이벤트를 묶음 단위로 원래 라우팅 키로 되돌리고, 확인 후 묶음마다 한 번에 ACK 한다")
+    void replay_묶음_단위로_되돌린다() throws Exception {
+        executeOnChannel();
+        when(channel.basicGet(AuctionConfig.PARKING_QUEUE_NAME, false)).thenReturn(
+                parked(1, AuctionConfig.START_PARKING_ROUTING_KEY),
+                parked(2, AuctionConfig.END_PARKING_ROUTING_KEY),
+                parked(3, AuctionConfig.END_PARKING_ROUTING_KEY),
+                null);
+
+        AuctionEventReplayResponse response = service.replay(10);
+
+        assertThat(response.getReplayedCount()).isEqualTo(3);
+        ArgumentCaptor<AMQP.BasicProperties> props = ArgumentCaptor.forClass(AMQP.BasicProperties.class);
+        verify(channel).basicPublish(eq(AuctionConfig.EXCHANGE_NAME), eq(AuctionConfig.START_ROUTING_KEY), props.capture(), any());
+        verify(channel, times(2)).basicPublish(eq(AuctionConfig.EXCHANGE_NAME), eq(AuctionConfig.END_ROUTING_KEY), any(), any());
+        assertThat(props.getValue().getHeaders())
+                .doesNotContainKey("x-death")
+                .containsEntry(AuctionEventRetryRouter.RETRY_COUNT_HEADER, 0);
+        verify(channel).basicAck(2L, true);
+        verify(channel).basicAck(3L, true);
+    }
+
+    @Test
+    @DisplayName("브로커 확인을 받지 못하면 묶음 전체를 parking 큐로 되돌린다")
+    void replay_확인_실패시_묶음을_되돌린다() throws Exception {
+        executeOnChannel();
+        when(channel.basicGet(AuctionConfig.PARKING_QUEUE_NAME, false)).thenReturn(
+                parked(1, AuctionConfig.START_PARKING_ROUTING_KEY),
+                parked(2, AuctionConfig.START_PARKING_ROUTING_KEY));
+        doThrow(new IOException("nack")).when(channel).waitForConfirmsOrDie(anyLong());
+
+        assertThatThrownBy(() -> service.replay(10)).isInstanceOf(IOException.class);
+
+        verify(channel).basicNack(2L, true, true);
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void executeOnChannel() {
+        when(rabbitTemplate.execute(any(ChannelCallback.class)))
+                .thenAnswer(invocation -> ((ChannelCallback<Integer>) invocation.getArgument(0)).doInRabbit(channel));
+    }
+
+    private GetResponse parked(long deliveryTag, String routingKey) {
+        AMQP.BasicProperties props = new AMQP.BasicProperties.Builder()
+                .headers(Map.of("x-death", List.of(), AuctionEventRetryRouter.RETRY_COUNT_HEADER, 4))
+                .build();
+
+        return new GetResponse(new Envelope(deliveryTag, false, AuctionConfig.DLX_NAME, routingKey), props, "{}".getBytes(), 0);
+    }
+}
@@ -0,0 +1,187 @@
+package org.example.lastcall.domain.auction;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.example.lastcall.domain.auction.dto.response.AuctionRoomMessage;
+import org.example.lastcall.domain.auction.entity.Auction;
+import org.example.lastcall.domain.auction.enums.AuctionRoomMessageType;
+import org.example.lastcall.domain.auction.enums.AuctionStatus;
+import org.example.lastcall.domain.auction.service.query.AuctionFinder;
+import org.example.lastcall.domain.auction.service.room.AuctionRoomPublisher;
+import org.example.lastcall.domain.auction.service.room.AuctionRoomRegistry;
+import org.example.lastcall.fixture.InMemoryAuctionRoomBroker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class AuctionRoomRegistryTest {
+    private static final Long AUCTION_ID = 10L;
+
+    @Mock
+    private AuctionFinder auctionFinder;
+
+    private final InMemoryAuctionRoomBroker broker = new InMemoryAuctionRoomBroker();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AuctionRoomRegistry registry;
+    private AuctionRoomPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        registry = new AuctionRoomRegistry(auctionFinder, broker, meterRegistry);
+        publisher = new AuctionRoomPublisher(broker);
+
+        Auction auction = mock(Auction.class);
+        given(auction.getId()).willReturn(AUCTION_ID);
+        given(auction.getStatus()).willReturn(AuctionStatus.ONGOING);
+        given(auction.getCurrentBid()).willReturn(1000L);
+        given(auction.getParticipantCount()).willReturn(3);
+        given(auction.getEndTime()).willReturn(LocalDateTime.of(2030, 1, 1, 0, 0));
+        given(auctionFinder.findById(AUCTION_ID)).willReturn(auction);
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.shutdown();
+    }
+
+    @Test
+    @DisplayName("구독하면 스냅샷을 먼저 받고, 이후 입찰은 변경분으로 받는다")
+    void subscribe_스냅샷_후_변경분을_받는다() throws InterruptedException {
+        RecordingEmitter emitter = new RecordingEmitter(null);
+        registry.subscribe(AUCTION_ID, emitter);
+
+        publisher.publishBid(AUCTION_ID, 1100L, 4);
+        emitter.awaitMessages(2);
+
+        assertThat(emitter.messages.get(0).getType()).isEqualTo(AuctionRoomMessageType.SNAPSHOT);
+        assertThat(emitter.messages.get(0).getCurrentBid()).isEqualTo(1000L);
+        assertThat(emitter.messages.get(1).getType()).isEqualTo(AuctionRoomMessageType.DELTA);
+        assertThat(emitter.messages.get(1).getCurrentBid()).isEqualTo(1100L);
+        assertThat(emitter.messages.get(1).getParticipantCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("느린 구독자에게는 밀린 변경분을 합쳐 최신 값만 보낸다")
+    void subscribe_느린_구독자는_최신_값만_받는다() throws InterruptedException {
+        CountDownLatch slowSend = new CountDownLatch(1);
+        RecordingEmitter emitter = new RecordingEmitter(slowSend);
+        registry.subscribe(AUCTION_ID, emitter);
+
+        publisher.publishBid(AUCTION_ID, 1100L, 4);
+        emitter.awaitBlocked();
+
+        for (long bid = 1200L; bid <= 2000L; bid += 100L) {
+            publisher.publishBid(AUCTION_ID, bid, null);
+        }
+
+        slowSend.countDown();
+        emitter.awaitMessages(3);
+        Thread.sleep(50);
+
+        assertThat(emitter.messages).hasSize(3);
+        assertThat(emitter.messages.get(2).getCurrentBid()).isEqualTo(2000L);
+        // 참여자 수를 모르는 변경분은 비워 보내 클라이언트가 기존 값을 유지
+        assertThat(emitter.messages.get(2).getParticipantCount()).isNull();
+        assertThat(meterRegistry.get("auction.room.coalesced").counter().count()).isEqualTo(8.0);
+    }
+
+    @Test
+    @DisplayName("경매 종료 상태를 받으면 전송 후 연결을 닫고 구독을 해제한다")
+    void subscribe_경매가_종료되면_연결을_닫는다() throws InterruptedException {
+        RecordingEmitter emitter = new RecordingEmitter(null);
+        registry.subscribe(AUCTION_ID, emitter);
+
+        publisher.publishStatus(AUCTION_ID, AuctionStatus.CLOSED);
+        emitter.awaitMessages(2);
+        Thread.sleep(50);
+
+        assertThat(emitter.messages.get(1).getStatus()).isEqualTo(AuctionStatus.CLOSED);
+        assertThat(registry.subscriberCount(AUCTION_ID)).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 경매의 메시지는 전달되지 않는다")
+    void subscribe_다른_경매_메시지는_받지_않는다() throws InterruptedException {
+        RecordingEmitter emitter = new RecordingEmitter(null);
+        registry.subscribe(AUCTION_ID, emitter);
+
+        publisher.publishBid(99L, 5000L, 1);
+        Thread.sleep(50);
+
+        assertThat(emitter.messages).hasSize(1);
+        assertThat(registry.subscriberCount(AUCTION_ID)).isEqualTo(1);
+    }
+
+    // 실제 응답 대신 보낸 메시지를 기록, blockSecondSend 가 있으면 두 번째 전송에서 대기 (느린 클라이언트)
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<AuctionRoomMessage> messages = new CopyOnWriteArrayList<>();
+        private final CountDownLatch blockSecondSend;
+        private final CountDownLatch blocked = new CountDownLatch(1);
+
+        RecordingEmitter(CountDownLatch blockSecondSend) {
+            this.blockSecondSend = blockSecondSend;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            for (ResponseBodyEmitter.DataWithMediaType data : builder.build()) {
+                if (data.getData() instanceof AuctionRoomMessage message) {
+                    messages.add(message);
+                }
+            }
+
+            if (blockSecondSend != null && messages.size() == 2) {
+                blocked.countDown();
+                awaitQuietly(blockSecondSend);
+            }
+        }
+
+        @Override
+        public void send(Object object, MediaType mediaType) {
+        }
+
+        @Override
+        public void complete() {
+        }
+
+        void awaitBlocked() throws InterruptedException {
+            assertThat(blocked.await(2, TimeUnit.SECONDS)).isTrue();
+        }
+
+        void awaitMessages(int count) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 2000;
+
+            while (messages.size() < count && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+
+            assertThat(messages).hasSizeGreaterThanOrEqualTo(count);
+        }
+
+        private void awaitQuietly(CountDownLatch latch) {
+            try {
+                latch.await(2, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
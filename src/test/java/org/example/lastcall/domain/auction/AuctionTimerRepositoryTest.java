@@ -0,0 +1,98 @@
+package org.example.lastcall.domain.auction;
+
+import org.example.lastcall.common.config.IdGeneratorInitializer;
+import org.example.lastcall.common.config.JpaAuditingConfig;
+import org.example.lastcall.common.config.QueryDslConfig;
+import org.example.lastcall.domain.auction.enums.AuctionTimerType;
+import org.example.lastcall.domain.auction.repository.AuctionTimerRepository;
+import org.example.lastcall.domain.auction.service.timer.AuctionTimerTask;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 타이머 점유가 한 노드에만 성공하고, 재예약/취소된 예약은 점유되지 않는지 검증
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QueryDslConfig.class, JpaAuditingConfig.class, IdGeneratorInitializer.class, AuctionTimerRepository.class})
+class AuctionTimerRepositoryTest {
+    @Autowired
+    private AuctionTimerRepository auctionTimerRepository;
+
+    @Test
+    @DisplayName("실행 시각이 지난 타이머는 한 노드만 점유하고, 점유가 만료되면 다른 노드가 가져간다")
+    void claim_한_노드만_점유한다() {
+        LocalDateTime now = LocalDateTime.now();
+        AuctionTimerTask task = new AuctionTimerTask(1001L, AuctionTimerType.END, 0L, now.minusSeconds(1));
+        auctionTimerRepository.upsert(task.auctionId(), task.type(), task.fireAt(), task.version());
+
+        assertThat(auctionTimerRepository.claim(task, "node-a", now, now.plusSeconds(60))).isTrue();
+        assertThat(auctionTimerRepository.claim(task, "node-b", now, now.plusSeconds(60))).isFalse();
+        assertThat(auctionTimerRepository.claim(task, "node-b", now.plusSeconds(61), now.plusSeconds(121))).isTrue();
+
+        auctionTimerRepository.complete(task, "node-b");
+
+        assertThat(auctionTimerRepository.findDueBefore(now.plusHours(1), 10))
+                .extracting(AuctionTimerTask::auctionId)
+                .doesNotContain(task.auctionId());
+    }
+
+    @Test
+    @DisplayName("재예약되거나 아직 시각이 되지 않은 타이머는 점유할 수 없다")
+    void claim_재예약된_이전_버전은_점유하지_않는다() {
+        LocalDateTime now = LocalDateTime.now();
+        AuctionTimerTask stale = new AuctionTimerTask(1002L, AuctionTimerType.START, 0L, now.minusSeconds(1));
+        auctionTimerRepository.upsert(stale.auctionId(), stale.type(), stale.fireAt(), stale.version());
+
+        auctionTimerRepository.upsert(stale.auctionId(), stale.type(), now.plusMinutes(10), 1L);
+        AuctionTimerTask rescheduled = new AuctionTimerTask(stale.auctionId(), stale.type(), 1L, now.plusMinutes(10));
+
+        assertThat(auctionTimerRepository.claim(stale, "node-a", now, now.plusSeconds(60))).isFalse();
+        assertThat(auctionTimerRepository.claim(rescheduled, "node-a", now, now.plusSeconds(60))).isFalse();
+        assertThat(auctionTimerRepository.claim(rescheduled, "node-a", now.plusMinutes(11), now.plusMinutes(12))).isTrue();
+    }
+
+    @Test
+    @DisplayName("재시도는 최대 시도 횟수 전까지만 예약된다")
+    void retry_최대_시도_횟수까지만_재예약한다() {
+        LocalDateTime now = LocalDateTime.now();
+        AuctionTimerTask task = new AuctionTimerTask(1003L, AuctionTimerType.END, 0L, now.minusSeconds(1));
+        auctionTimerRepository.upsert(task.auctionId(), task.type(), task.fireAt(), task.version());
+
+        assertThat(auctionTimerRepository.claim(task, "node-a", now, now.plusSeconds(60))).isTrue();
+        assertThat(auctionTimerRepository.retry(task, "node-a", now.minusSeconds(1), 2)).isTrue();
+        assertThat(auctionTimerRepository.claim(task, "node-a", now, now.plusSeconds(60))).isTrue();
+        assertThat(auctionTimerRepository.retry(task, "node-a", now.minusSeconds(1), 2)).isFalse();
+    }
+
+    @Test
+    @DisplayName("재시도를 소진해 보관된 타이머는 스캔/점유되지 않다가 재처리하면 다시 실행된다")
+    void park_보관된_타이머는_재처리_전까지_실행되지_않는다() {
+        LocalDateTime now = LocalDateTime.now();
+        AuctionTimerTask task = new AuctionTimerTask(1004L, AuctionTimerType.END, 0L, now.minusSeconds(1));
+        auctionTimerRepository.upsert(task.auctionId(), task.type(), task.fireAt(), task.version());
+
+        assertThat(auctionTimerRepository.claim(task, "node-a", now, now.plusSeconds(60))).isTrue();
+        assertThat(auctionTimerRepository.park(task, "node-a", now)).isTrue();
+
+        assertThat(auctionTimerRepository.countParked()).isEqualTo(1);
+        assertThat(auctionTimerRepository.claim(task, "node-b", now.plusSeconds(61), now.plusSeconds(121))).isFalse();
+        assertThat(auctionTimerRepository.findDueBefore(now.plusHours(1), 10))
+                .extracting(AuctionTimerTask::auctionId)
+                .doesNotContain(task.auctionId());
+
+        assertThat(auctionTimerRepository.unpark(now.minusSeconds(1), 10)).isEqualTo(1);
+        assertThat(auctionTimerRepository.unpark(now.minusSeconds(1), 10)).isZero();
+
+        assertThat(auctionTimerRepository.countParked()).isZero();
+        assertThat(auctionTimerRepository.claim(task, "node-b", now, now.plusSeconds(60))).isTrue();
+    }
+}
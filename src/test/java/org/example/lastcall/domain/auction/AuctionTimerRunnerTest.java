@@ -0,0 +1,132 @@
+package org.example.lastcall.domain.auction;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.lastcall.common.exception.BusinessException;
+import org.example.lastcall.common.lock.LockErrorCode;
+import org.example.lastcall.domain.auction.config.AuctionTimerProperties;
+import org.example.lastcall.domain.auction.enums.AuctionSchedulingMode;
+import org.example.lastcall.domain.auction.enums.AuctionTimerType;
+import org.example.lastcall.domain.auction.exception.AuctionErrorCode;
+import org.example.lastcall.domain.auction.repository.AuctionRepository;
+import org.example.lastcall.domain.auction.repository.AuctionTimerRepository;
+import org.example.lastcall.domain.auction.service.command.AuctionBulkCloser;
+import org.example.lastcall.domain.auction.service.command.AuctionCommandService;
+import org.example.lastcall.domain.auction.service.room.AuctionRoomPublisher;
+import org.example.lastcall.domain.auction.service.timer.AuctionTimerRunner;
+import org.example.lastcall.domain.auction.service.timer.AuctionTimerService;
+import org.example.lastcall.domain.auction.service.timer.AuctionTimerTask;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class AuctionTimerRunnerTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AuctionTimerService auctionTimerService = mock(AuctionTimerService.class);
+    private final AuctionTimerRepository auctionTimerRepository = mock(AuctionTimerRepository.class);
+    private final AuctionCommandService auctionCommandService = mock(AuctionCommandService.class);
+    private final AuctionBulkCloser auctionBulkCloser = mock(AuctionBulkCloser.class);
+    private final AuctionRepository auctionRepository = mock(AuctionRepository.class);
+    private final AuctionTimerProperties properties = new AuctionTimerProperties(AuctionSchedulingMode.TIMER, 100, 512, 4,
+            30000, Duration.ofMinutes(2), 1000, Duration.ofSeconds(60), 3, Duration.ofSeconds(5), 4);
+    private final AuctionTimerRunner runner = new AuctionTimerRunner(auctionTimerService, auctionTimerRepository,
+            auctionCommandService, auctionBulkCloser, auctionRepository, mock(AuctionRoomPublisher.class), properties,
+            meterRegistry);
+    private final AuctionTimerTask task = new AuctionTimerTask(1L, AuctionTimerType.END, 0L, LocalDateTime.now());
+
+    @BeforeEach
+    void setUp() {
+        when(auctionTimerRepository.claim(eq(task), anyString(), any(), any())).thenReturn(true);
+        when(auctionRepository.findById(anyLong())).thenReturn(Optional.empty());
+    }
+
+    @Test
+    @DisplayName("종료에 성공하면 타이머를 완료 처리한다")
+    void fire_성공하면_완료_처리한다() {
+        runner.fire(task);
+
+        verify(auctionCommandService).closeAuction(1L);
+        verify(auctionTimerRepository).complete(eq(task), anyString());
+        assertThat(count("fired")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("이미 종료된 경매는 다시 실행해도 같은 결과이므로 완료 처리한다")
+    void fire_이미_종료된_경매는_완료_처리한다() {
+        doThrow(new BusinessException(AuctionErrorCode.AUCTION_ALREADY_CLOSED)).when(auctionCommandService).closeAuction(1L);
+
+        runner.fire(task);
+
+        verify(auctionTimerRepository).complete(eq(task), anyString());
+        verify(auctionTimerRepository, never()).retry(any(), anyString(), any(), anyInt());
+        assertThat(count("rejected")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("락 획득에 실패하면 완료하지 않고 재시도를 예약한다")
+    void fire_락_획득_실패시_재시도한다() {
+        doThrow(new BusinessException(LockErrorCode.LOCK_ACQUISITION_FAILED)).when(auctionCommandService).closeAuction(1L);
+        when(auctionTimerRepository.retry(eq(task), anyString(), any(), eq(3))).thenReturn(true);
+
+        runner.fire(task);
+
+        verify(auctionTimerRepository, never()).complete(any(), anyString());
+        verify(auctionTimerService).register(argThat(retried -> retried.auctionId().equals(1L)
+                && retried.fireAt().isAfter(task.fireAt())));
+        assertThat(count("retried")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("재시도 횟수를 넘기면 타이머를 지우지 않고 보관한다")
+    void fire_재시도_초과시_보관한다() {
+        doThrow(new BusinessException(LockErrorCode.LOCK_INTERRUPTED)).when(auctionCommandService).closeAuction(1L);
+        when(auctionTimerRepository.retry(eq(task), anyString(), any(), eq(3))).thenReturn(false);
+        when(auctionTimerRepository.park(eq(task), anyString(), any())).thenReturn(true);
+
+        runner.fire(task);
+
+        verify(auctionTimerRepository, never()).complete(any(), anyString());
+        verify(auctionTimerService, never()).register(any());
+        assertThat(count("parked")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("일괄 종료에서 락 획득에 실패한 경매도 완료하지 않고 재시도를 예약한다")
+    void fire_일괄_종료_락_획득_실패시_재시도한다() {
+        when(auctionBulkCloser.isBatchEnabled()).thenReturn(true);
+        when(auctionBulkCloser.submit(1L)).thenReturn(
+                CompletableFuture.failedFuture(new BusinessException(LockErrorCode.LOCK_ACQUISITION_FAILED)));
+        when(auctionTimerRepository.retry(eq(task), anyString(), any(), eq(3))).thenReturn(true);
+
+        runner.fire(task);
+
+        verify(auctionTimerRepository, never()).complete(any(), anyString());
+        verify(auctionTimerRepository).retry(eq(task), anyString(), any(), eq(3));
+        verify(auctionCommandService, never()).closeAuction(anyLong());
+    }
+
+    @Test
+    @DisplayName("다른 노드가 점유한 타이머는 실행하지 않는다")
+    void fire_점유_실패시_실행하지_않는다() {
+        AuctionTimerTask other = new AuctionTimerTask(2L, AuctionTimerType.START, 0L, LocalDateTime.now());
+        when(auctionTimerRepository.claim(eq(other), anyString(), any(), any())).thenReturn(false);
+
+        runner.fire(other);
+
+        verify(auctionCommandService, never()).startAuction(anyLong());
+        assertThat(meterRegistry.get("auction.timer.fired").tag("type", "START").tag("result", "skipped").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("auction.timer.fired").tag("type", "END").tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.lastcall.domain.auction;
+
+import org.example.lastcall.domain.auction.service.timer.HierarchicalTimingWheel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HierarchicalTimingWheelTest {
+    private static final long START = 1_000_000L;
+
+    @Test
+    @DisplayName("예정 시각 이전에는 만료되지 않고, 여러 레벨을 거쳐도 시각 순서대로 만료된다")
+    void advance_레벨을_거쳐_예정_시각에_만료된다() {
+        // tick 10ms, 칸 8개: 레벨0 80ms, 레벨1 640ms, 레벨2 5120ms 범위
+        HierarchicalTimingWheel<String, String> wheel = new HierarchicalTimingWheel<>(10, 8, 3, START);
+        wheel.schedule("near", START + 35, "near");
+        wheel.schedule("mid", START + 500, "mid");
+        wheel.schedule("far", START + 4_000, "far");
+        wheel.schedule("beyond", START + 20_000, "beyond");
+
+        List<String> fired = new ArrayList<>();
+
+        for (long now = START; now <= START + 20_000; now += 5) {
+            for (String value : wheel.advance(now)) {
+                fired.add(value);
+                assertThat(now).isGreaterThanOrEqualTo(START + expectedDelay(value));
+                assertThat(now).isLessThan(START + expectedDelay(value) + 15);
+            }
+        }
+
+        assertThat(fired).containsExactly("near", "mid", "far", "beyond");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("취소하거나 다시 예약하면 이전 예약은 만료되지 않는다")
+    void schedule_취소와_재예약은_이전_예약을_무효화한다() {
+        HierarchicalTimingWheel<String, String> wheel = new HierarchicalTimingWheel<>(10, 8, 3, START);
+        wheel.schedule("cancelled", START + 100, "cancelled");
+        wheel.schedule("moved", START + 100, "moved-v1");
+        wheel.schedule("moved", START + 300, "moved-v2");
+
+        assertThat(wheel.cancel("cancelled")).isTrue();
+        assertThat(wheel.advance(START + 200)).isEmpty();
+        assertThat(wheel.advance(START + 300)).containsExactly("moved-v2");
+    }
+
+    @Test
+    @DisplayName("이미 지난 시각이나 늦게 진행한 틱은 한 번에 만료된다")
+    void advance_밀린_틱을_한_번에_처리한다() {
+        HierarchicalTimingWheel<String, String> wheel = new HierarchicalTimingWheel<>(10, 8, 3, START);
+        wheel.schedule("past", START - 1_000, "past");
+        wheel.schedule("later", START + 1_000, "later");
+
+        assertThat(wheel.advance(START)).containsExactly("past");
+        assertThat(wheel.advance(START + 5_000)).containsExactly("later");
+    }
+
+    private long expectedDelay(String value) {
+        return switch (value) {
+            case "near" -> 35;
+            case "mid" -> 500;
+            case "far" -> 4_000;
+            default -> 20_000;
+        };
+    }
+}
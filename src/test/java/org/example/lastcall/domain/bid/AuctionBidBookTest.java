@@ -0,0 +1,78 @@
+package org.example.lastcall.domain.bid;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.example.lastcall.domain.auction.entity.Auction;
+import org.example.lastcall.domain.bid.repository.BidRepository;
+import org.example.lastcall.domain.bid.service.command.AuctionBidBook;
+import org.example.lastcall.domain.bid.service.command.BidBookEntry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AuctionBidBookTest {
+    @Mock
+    private BidRepository bidRepository;
+
+    @InjectMocks
+    private AuctionBidBook auctionBidBook;
+
+    private Auction mockAuction(Long auctionId, Long currentBid, int participantCount) {
+        Auction auction = mock(Auction.class);
+        given(auction.getId()).willReturn(auctionId);
+        given(auction.getCurrentBid()).willReturn(currentBid);
+        given(auction.getParticipantCount()).willReturn(participantCount);
+
+        return auction;
+    }
+
+    @Test
+    @DisplayName("최초 접근 시에만 DB에서 적재하고, 이후 입찰은 메모리에 반영된다")
+    void load_최초_접근_시에만_DB에서_적재한다() {
+        Auction auction = mockAuction(1L, 1100L, 1);
+        given(bidRepository.findMaxBidAmountByAuction(auction)).willReturn(Optional.of(1100L));
+        given(bidRepository.countByAuctionId(1L)).willReturn(1L);
+        given(bidRepository.findParticipantIdsByAuctionId(1L)).willReturn(List.of(7L));
+
+        BidBookEntry first = auctionBidBook.load(auction);
+        auctionBidBook.record(1L, 8L, 1200L);
+
+        given(auction.getCurrentBid()).willReturn(1200L);
+        given(auction.getParticipantCount()).willReturn(2);
+        BidBookEntry second = auctionBidBook.load(auction);
+
+        assertThat(second).isSameAs(first);
+        assertThat(second.getHighestBid()).isEqualTo(1200L);
+        assertThat(second.getBidCount()).isEqualTo(2L);
+        assertThat(second.hasParticipated(8L)).isTrue();
+        verify(bidRepository, times(1)).countByAuctionId(1L);
+    }
+
+    @Test
+    @DisplayName("다른 노드의 입찰로 경매 현재가가 달라지면 DB에서 다시 적재한다")
+    void load_경매_현재가와_불일치하면_다시_적재한다() {
+        Auction auction = mockAuction(1L, 1100L, 1);
+        given(bidRepository.findMaxBidAmountByAuction(auction)).willReturn(Optional.of(1100L));
+        given(bidRepository.countByAuctionId(1L)).willReturn(1L);
+        given(bidRepository.findParticipantIdsByAuctionId(1L)).willReturn(List.of(7L));
+
+        auctionBidBook.load(auction);
+
+        given(auction.getCurrentBid()).willReturn(1300L);
+        given(bidRepository.findMaxBidAmountByAuction(auction)).willReturn(Optional.of(1300L));
+        given(bidRepository.countByAuctionId(1L)).willReturn(3L);
+        BidBookEntry reloaded = auctionBidBook.load(auction);
+
+        assertThat(reloaded.getHighestBid()).isEqualTo(1300L);
+        assertThat(reloaded.getBidCount()).isEqualTo(3L);
+        verify(bidRepository, times(2)).countByAuctionId(1L);
+    }
+}
@@ -3,19 +3,22 @@ package org.example.lastcall.domain.bid;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
-import java.util.Optional;
+import java.util.List;
 
 import org.example.lastcall.common.exception.BusinessException;
 import org.example.lastcall.domain.auction.entity.Auction;
 import org.example.lastcall.domain.auction.service.query.AuctionQueryServiceApi;
+import org.example.lastcall.domain.auction.service.room.AuctionRoomPublisher;
 import org.example.lastcall.domain.auth.enums.AuthUser;
 import org.example.lastcall.domain.bid.dto.response.BidCreateResponse;
 import org.example.lastcall.domain.bid.entity.Bid;
 import org.example.lastcall.domain.bid.exception.BidErrorCode;
 import org.example.lastcall.domain.bid.repository.BidRepository;
+import org.example.lastcall.domain.bid.service.command.AuctionBidBook;
+import org.example.lastcall.domain.bid.service.command.BidBookEntry;
 import org.example.lastcall.domain.bid.service.command.BidCommandService;
+import org.example.lastcall.domain.bid.service.command.ProxyBidCommandService;
 import org.example.lastcall.domain.point.service.command.PointCommandServiceApi;
-import org.example.lastcall.domain.point.service.query.PointQueryServiceApi;
 import org.example.lastcall.domain.user.entity.User;
 import org.example.lastcall.domain.user.service.query.UserQueryServiceApi;
 import org.junit.jupiter.api.DisplayName;
@@ -28,8 +31,6 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 class BidCommandServiceTest {
-    @Mock
-    PointQueryServiceApi pointQueryServiceApi;
     @Mock
     private AuctionQueryServiceApi auctionQueryServiceApi;
     @Mock
@@ -38,6 +39,12 @@ class BidCommandServiceTest {
     private PointCommandServiceApi pointCommandServiceApi;
     @Mock
     private BidRepository bidRepository;
+    @Mock
+    private AuctionBidBook auctionBidBook;
+    @Mock
+    private ProxyBidCommandService proxyBidCommandService;
+    @Mock
+    private AuctionRoomPublisher auctionRoomPublisher;
 
     @InjectMocks
     private BidCommandService bidCommandService;
@@ -70,10 +77,9 @@ class BidCommandServiceTest {
         given(auction.getId()).willReturn(auctionId);
 
         given(auctionQueryServiceApi.findBiddableAuction(auctionId)).willReturn(auction);
-        given(userQueryServiceApi.findById(userId)).willReturn(user);
+        given(userQueryServiceApi.findReferenceById(userId)).willReturn(user);
 
-        given(bidRepository.findMaxBidAmountByAuction(auction)).willReturn(Optional.of(currentMaxBid));
-        willDoNothing().given(pointQueryServiceApi).validateSufficientPoints(userId, expectedNextBidAmount);
+        given(auctionBidBook.load(auction)).willReturn(BidBookEntry.of(currentMaxBid, 3L, List.of(30L, 31L)));
 
         Bid savedBid = Bid.of(expectedNextBidAmount, auction, user);
         ReflectionTestUtils.setField(savedBid, "id", bidId);
@@ -84,9 +90,10 @@ class BidCommandServiceTest {
         assertThat(bid).isNotNull();
         assertThat(bid.getBidAmount()).isEqualTo(expectedNextBidAmount);
 
-        verify(pointQueryServiceApi, times(1)).validateSufficientPoints(eq(userId), eq(expectedNextBidAmount));
         verify(bidRepository, times(1)).save(any(Bid.class));
         verify(pointCommandServiceApi, times(1)).updateDepositPoint(eq(auctionId), eq(bidId), eq(expectedNextBidAmount), eq(userId));
+        verify(auctionBidBook, times(1)).record(auctionId, userId, expectedNextBidAmount);
+        verify(bidRepository, never()).countByAuctionId(anyLong());
     }
 
     @Test
@@ -114,10 +121,9 @@ class BidCommandServiceTest {
         given(auction.getId()).willReturn(auctionId);
 
         given(auctionQueryServiceApi.findBiddableAuction(auctionId)).willReturn(auction);
-        given(userQueryServiceApi.findById(userId)).willReturn(user);
+        given(userQueryServiceApi.findReferenceById(userId)).willReturn(user);
 
-        given(bidRepository.findMaxBidAmountByAuction(auction)).willReturn(Optional.empty());
-        willDoNothing().given(pointQueryServiceApi).validateSufficientPoints(userId, expectedNextBidAmount);
+        given(auctionBidBook.load(auction)).willReturn(BidBookEntry.of(startingBid, 0L, List.of()));
 
         Bid savedBid = Bid.of(expectedNextBidAmount, auction, user);
         ReflectionTestUtils.setField(savedBid, "id", bidId);
@@ -128,9 +134,10 @@ class BidCommandServiceTest {
         assertThat(bid).isNotNull();
         assertThat(bid.getBidAmount()).isEqualTo(expectedNextBidAmount);
 
-        verify(pointQueryServiceApi, times(1)).validateSufficientPoints(eq(userId), eq(expectedNextBidAmount));
         verify(bidRepository, times(1)).save(any(Bid.class));
         verify(pointCommandServiceApi, times(1)).updateDepositPoint(eq(auctionId), eq(bidId), eq(expectedNextBidAmount), eq(userId));
+        verify(auctionBidBook, times(1)).record(auctionId, userId, expectedNextBidAmount);
+        verify(bidRepository, never()).countByAuctionId(anyLong());
     }
 
     @Test
@@ -154,4 +161,33 @@ class BidCommandServiceTest {
         verify(userQueryServiceApi, never()).findById(anyLong());
         verify(bidRepository, never()).save(any(Bid.class));
     }
+
+    @Test
+    @DisplayName("입찰 장부의 최고가보다 낮은 금액으로 입찰하면 동시성 예외 발생")
+    void createBid_입찰_장부_최고가보다_낮은_금액이면_예외가_발생한다() {
+        Long auctionId = 10L;
+        Long sellerId = 99L;
+        Long userId = 1L;
+        AuthUser authUser = createAuthUser(userId);
+
+        Auction auction = mock(Auction.class);
+        User seller = mock(User.class);
+        User user = mock(User.class);
+
+        given(seller.getId()).willReturn(sellerId);
+        given(user.getId()).willReturn(userId);
+        given(auction.getUser()).willReturn(seller);
+        given(auction.getBidStep()).willReturn(10L);
+
+        given(auctionQueryServiceApi.findBiddableAuction(auctionId)).willReturn(auction);
+        given(userQueryServiceApi.findReferenceById(userId)).willReturn(user);
+        given(auctionBidBook.load(auction)).willReturn(BidBookEntry.of(600L, 5L, List.of(userId, 30L)));
+
+        assertThatThrownBy(() -> bidCommandService.createBid(auctionId, authUser, 510L))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", BidErrorCode.CONCURRENCY_BID_FAILED);
+
+        verify(bidRepository, never()).save(any(Bid.class));
+        verify(auctionBidBook, never()).record(anyLong(), anyLong(), anyLong());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,122 @@
+package org.example.lastcall.domain.bid;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.example.lastcall.common.AbstractIntegrationTest;
+import org.example.lastcall.domain.auction.entity.Auction;
+import org.example.lastcall.domain.auth.enums.AuthUser;
+import org.example.lastcall.domain.bid.service.command.BidCommandService;
+import org.example.lastcall.domain.bid.service.command.OptimisticBidService;
+import org.example.lastcall.domain.product.enums.Category;
+import org.example.lastcall.domain.user.entity.User;
+import org.example.lastcall.fixture.TestAuctionService;
+import org.example.lastcall.fixture.TestPointService;
+import org.example.lastcall.fixture.TestUserService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+
+// 분산 락 경로(LOCK)와 조건부 UPDATE 경로(OPTIMISTIC)의 동시 입찰 처리량 비교
+// 기본 test 태스크에서는 제외, `gradle benchmark` 로 실행 (애플리케이션 컨텍스트 기동에 Redis 필요)
+@Tag("benchmark")
+class BidConcurrencyBenchmarkTest extends AbstractIntegrationTest {
+    private static final Logger log = LoggerFactory.getLogger(BidConcurrencyBenchmarkTest.class);
+    private static final long STARTING_BID = 1000L;
+    private static final long BID_STEP = 100L;
+
+    @Autowired
+    private BidCommandService bidCommandService;
+
+    @Autowired
+    private OptimisticBidService optimisticBidService;
+
+    @Autowired
+    private TestUserService testUserService;
+
+    @Autowired
+    private TestPointService testPointService;
+
+    @Autowired
+    private TestAuctionService testAuctionService;
+
+    @ParameterizedTest(name = "LOCK 동시 입찰자 {0}명")
+    @ValueSource(ints = {10, 100, 1000})
+    @DisplayName("분산 락 경로 동시 입찰")
+    void lockPath(int bidders) throws InterruptedException {
+        run("LOCK", bidders, (auctionId, authUser, amount) -> bidCommandService.createBid(auctionId, authUser, amount));
+    }
+
+    @ParameterizedTest(name = "OPTIMISTIC 동시 입찰자 {0}명")
+    @ValueSource(ints = {10, 100, 1000})
+    @DisplayName("조건부 UPDATE 경로 동시 입찰")
+    void optimisticPath(int bidders) throws InterruptedException {
+        run("OPTIMISTIC", bidders, (auctionId, authUser, amount) -> optimisticBidService.createBid(auctionId, authUser, amount));
+    }
+
+    private void run(String path, int bidders, BidCall bidCall) throws InterruptedException {
+        String runId = path + "-" + bidders + "-" + System.nanoTime();
+        User seller = testUserService.saveTestUser("seller-" + runId + "@test.com", "seller-" + runId);
+        Auction auction = testAuctionService.createOngoingAuction(seller, Category.ACCESSORY, STARTING_BID, BID_STEP);
+
+        List<AuthUser> authUsers = new ArrayList<>();
+
+        for (int i = 0; i < bidders; i++) {
+            User bidder = testUserService.saveTestUser("bidder-" + i + "-" + runId + "@test.com", "b" + i + "-" + runId);
+            testPointService.create(null, null, bidder, 100_000_000L);
+            authUsers.add(new AuthUser(bidder.getId(), bidder.getPublicId().toString(), bidder.getUserRole().name()));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(bidders, 64));
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(bidders);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger failCount = new AtomicInteger();
+
+        for (AuthUser authUser : authUsers) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    // 현재가를 읽고 다음 호가로 입찰 (사이에 다른 입찰이 반영되면 밀림)
+                    long currentBid = testAuctionService.findById(auction.getId()).getCurrentBid();
+                    bidCall.bid(auction.getId(), authUser, currentBid + BID_STEP);
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    failCount.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        assertThat(done.await(5, TimeUnit.MINUTES)).isTrue();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        executor.shutdown();
+
+        log.info("[Benchmark] path={}, bidders={}, success={}, outbid/failed={}, elapsed={}ms, throughput={} req/s",
+                path, bidders, successCount.get(), failCount.get(), elapsedMillis,
+                elapsedMillis == 0 ? bidders : bidders * 1000L / elapsedMillis);
+
+        Auction result = testAuctionService.findById(auction.getId());
+        assertThat(successCount.get()).isPositive();
+        assertThat(result.getCurrentBid()).isEqualTo(STARTING_BID + successCount.get() * BID_STEP);
+    }
+
+    @FunctionalInterface
+    private interface BidCall {
+        void bid(Long auctionId, AuthUser authUser, Long amount);
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.lastcall.domain.bid;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.example.lastcall.common.config.IdGeneratorInitializer;
+import org.example.lastcall.common.config.JpaAuditingConfig;
+import org.example.lastcall.common.config.QueryDslConfig;
+import org.example.lastcall.common.entity.IdGenerators;
+import org.example.lastcall.domain.bid.config.BidProperties;
+import org.example.lastcall.domain.bid.enums.BidAdmissionMode;
+import org.example.lastcall.domain.bid.service.command.BidIdAllocator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+// 지연 저장 입찰 ID 가 Hibernate 와 같은 id_generators 행에서 겹치지 않는 블록으로 발급되는지 검증
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QueryDslConfig.class, JpaAuditingConfig.class, IdGeneratorInitializer.class})
+class BidIdAllocatorTest {
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private BidProperties properties(int idBlockSize) {
+        return new BidProperties(
+                new BidProperties.Admission(BidAdmissionMode.WRITE_BEHIND),
+                new BidProperties.Sequencer(0, 256, Duration.ofSeconds(10)),
+                new BidProperties.WriteBehind(100, 500, 100_000, Duration.ofSeconds(30), Duration.ofSeconds(5), idBlockSize),
+                new BidProperties.Optimistic(3, Duration.ofMillis(20)));
+    }
+
+    @Test
+    @DisplayName("여러 노드가 블록을 나눠 받아도 ID 가 겹치지 않고, 이후 발급은 받아간 블록 뒤에서 시작한다")
+    void next_노드별_블록이_겹치지_않는다() {
+        BidIdAllocator nodeA = new BidIdAllocator(jdbcTemplate, properties(3));
+        BidIdAllocator nodeB = new BidIdAllocator(jdbcTemplate, properties(3));
+        List<Long> ids = new ArrayList<>();
+
+        for (int i = 0; i < 5; i++) {
+            ids.add(nodeA.next());
+            ids.add(nodeB.next());
+        }
+
+        Long nextVal = jdbcTemplate.queryForObject(
+                "SELECT " + IdGenerators.VALUE_COLUMN + " FROM " + IdGenerators.TABLE + " WHERE " + IdGenerators.SEGMENT_COLUMN + " = ?",
+                Long.class, IdGenerators.BID);
+
+        assertThat(ids).doesNotHaveDuplicates();
+        assertThat(ids).allSatisfy(id -> assertThat(id).isLessThan(nextVal));
+    }
+}
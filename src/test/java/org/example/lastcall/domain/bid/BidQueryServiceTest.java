@@ -9,6 +9,7 @@ import java.util.List;
 import java.util.Optional;
 
 import org.example.lastcall.common.exception.BusinessException;
+import org.example.lastcall.common.response.CursorResponse;
 import org.example.lastcall.common.response.PageResponse;
 import org.example.lastcall.domain.auction.entity.Auction;
 import org.example.lastcall.domain.auction.exception.AuctionErrorCode;
@@ -16,6 +17,7 @@ import org.example.lastcall.domain.auction.service.query.AuctionFinder;
 import org.example.lastcall.domain.bid.dto.response.BidGetAllResponse;
 import org.example.lastcall.domain.bid.entity.Bid;
 import org.example.lastcall.domain.bid.exception.BidErrorCode;
+import org.example.lastcall.domain.bid.repository.BidCursor;
 import org.example.lastcall.domain.bid.repository.BidRepository;
 import org.example.lastcall.domain.bid.service.query.BidQueryService;
 import org.example.lastcall.domain.user.entity.User;
@@ -25,6 +27,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -169,4 +172,59 @@ class BidQueryServiceTest {
 
 		verify(bidRepository, times(1)).findById(bidId);
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("커서 첫 페이지는 한 건을 더 읽어 다음 페이지 커서를 만든다")
+	void getBidsByCursor_첫_페이지에서_다음_커서를_반환한다() {
+		Long auctionId = 10L;
+		Auction auction = mock(Auction.class);
+		given(auctionFinder.findById(auctionId)).willReturn(auction);
+
+		List<Bid> bids = List.of(bidOf(3L, 1300L, auction), bidOf(2L, 1200L, auction), bidOf(1L, 1100L, auction));
+		given(bidRepository.findFirstPageByAuctionId(auctionId, Limit.of(3))).willReturn(bids);
+
+		CursorResponse<BidGetAllResponse> response = bidQueryService.getBidsByCursor(auctionId, null, 2);
+
+		assertThat(response.getContent()).extracting(BidGetAllResponse::getBidAmount).containsExactly(1300L, 1200L);
+		assertThat(response.isHasNext()).isTrue();
+		assertThat(BidCursor.decode(response.getNextCursor())).isEqualTo(new BidCursor(1200L, 2L));
+		verify(bidRepository, never()).findAllByAuction(any(), any());
+	}
+
+	@Test
+	@DisplayName("커서가 있으면 커서 이후부터 조회하고, 마지막 페이지면 다음 커서가 없다")
+	void getBidsByCursor_커서_이후를_조회한다() {
+		Long auctionId = 10L;
+		Auction auction = mock(Auction.class);
+		given(auctionFinder.findById(auctionId)).willReturn(auction);
+
+		String cursor = new BidCursor(1200L, 2L).encode();
+		given(bidRepository.findNextPageByAuctionId(auctionId, 1200L, 2L, Limit.of(3)))
+			.willReturn(List.of(bidOf(1L, 1100L, auction)));
+
+		CursorResponse<BidGetAllResponse> response = bidQueryService.getBidsByCursor(auctionId, cursor, 2);
+
+		assertThat(response.getContent()).hasSize(1);
+		assertThat(response.isHasNext()).isFalse();
+		assertThat(response.getNextCursor()).isNull();
+	}
+
+	@Test
+	@DisplayName("형식이 잘못된 커서는 400 으로 거절한다")
+	void getBidsByCursor_잘못된_커서는_예외() {
+		Long auctionId = 10L;
+		given(auctionFinder.findById(auctionId)).willReturn(mock(Auction.class));
+
+		assertThatThrownBy(() -> bidQueryService.getBidsByCursor(auctionId, "not-a-cursor", 5))
+			.isInstanceOf(BusinessException.class)
+			.hasFieldOrPropertyWithValue("errorCode", BidErrorCode.INVALID_CURSOR);
+	}
+
+	private Bid bidOf(Long id, Long amount, Auction auction) {
+		User user = mock(User.class);
+		Bid bid = Bid.of(amount, auction, user);
+		ReflectionTestUtils.setField(bid, "id", id);
+
+		return bid;
+	}
+}
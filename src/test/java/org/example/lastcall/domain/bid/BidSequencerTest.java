@@ -0,0 +1,144 @@
+package org.example.lastcall.domain.bid;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.example.lastcall.common.exception.BusinessException;
+import org.example.lastcall.domain.bid.config.BidProperties;
+import org.example.lastcall.domain.bid.enums.BidAdmissionMode;
+import org.example.lastcall.domain.bid.exception.BidErrorCode;
+import org.example.lastcall.domain.bid.service.command.BidSequencer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BidSequencerTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BidSequencer bidSequencer;
+
+    private BidSequencer createSequencer(int lanes, int queueCapacity) {
+        BidProperties properties = new BidProperties(
+                new BidProperties.Admission(BidAdmissionMode.SEQUENCER),
+                new BidProperties.Sequencer(lanes, queueCapacity, Duration.ofSeconds(5)),
+                new BidProperties.WriteBehind(100, 500, 100_000, Duration.ofSeconds(30), Duration.ofSeconds(5), 1000),
+                new BidProperties.Optimistic(3, Duration.ofMillis(20)));
+
+        bidSequencer = new BidSequencer(properties, meterRegistry);
+
+        return bidSequencer;
+    }
+
+    @AfterEach
+    void tearDown() {
+        bidSequencer.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 경매의 입찰은 하나의 레인에서 제출 순서대로 실행된다")
+    void execute_같은_경매의_입찰은_순서대로_실행된다() throws InterruptedException {
+        BidSequencer sequencer = createSequencer(4, 64);
+        List<Integer> executed = new CopyOnWriteArrayList<>();
+        CountDownLatch blocker = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(10);
+
+        callers.submit(() -> sequencer.execute(42L, () -> {
+            awaitQuietly(blocker);
+            return executed.add(0);
+        }));
+        Thread.sleep(50);
+
+        for (int i = 1; i < 10; i++) {
+            int order = i;
+            callers.submit(() -> sequencer.execute(42L, () -> executed.add(order)));
+            awaitQueueDepth(order);
+        }
+
+        blocker.countDown();
+        callers.shutdown();
+        assertThat(callers.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(executed).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        assertThat(meterRegistry.find("bid.sequencer.queue.depth").gauges()).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("레인 큐가 가득 차면 대기하지 않고 즉시 거절된다")
+    void execute_레인_큐가_가득_차면_즉시_거절된다() throws InterruptedException {
+        BidSequencer sequencer = createSequencer(1, 1);
+        CountDownLatch blocker = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+
+        callers.submit(() -> sequencer.execute(1L, () -> awaitQuietly(blocker)));
+        Thread.sleep(50);
+        callers.submit(() -> sequencer.execute(1L, () -> true));
+        Thread.sleep(50);
+
+        assertThatThrownBy(() -> sequencer.execute(1L, () -> true))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", BidErrorCode.BID_QUEUE_FULL);
+        assertThat(meterRegistry.get("bid.sequencer.rejected").counter().count()).isEqualTo(1.0);
+
+        blocker.countDown();
+        callers.shutdown();
+    }
+
+    @Test
+    @DisplayName("대기 중 인터럽트되어도 이미 실행 중인 입찰은 결과를 끝까지 기다려 반환한다")
+    void execute_실행_중인_입찰은_인터럽트되어도_결과를_반환한다() throws Exception {
+        BidSequencer sequencer = createSequencer(1, 8);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch blocker = new CountDownLatch(1);
+        ExecutorService callers = Executors.newSingleThreadExecutor();
+
+        Future<Boolean> result = callers.submit(() -> {
+            String value = sequencer.execute(1L, () -> {
+                started.countDown();
+                awaitQuietly(blocker);
+                return "placed";
+            });
+
+            return value.equals("placed") && Thread.currentThread().isInterrupted();
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        callers.shutdownNow();
+        Thread.sleep(50);
+        blocker.countDown();
+
+        assertThat(result.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    // 앞선 입찰이 레인 큐에 들어간 것을 확인한 뒤 다음 입찰을 제출 (고정 sleep 은 부하가 높으면 순서가 뒤섞임)
+    private void awaitQueueDepth(int depth) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+        while (queueDepth() < depth && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    private double queueDepth() {
+        return meterRegistry.find("bid.sequencer.queue.depth").gauges().stream()
+                .mapToDouble(gauge -> gauge.value())
+                .sum();
+    }
+
+    private boolean awaitQuietly(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
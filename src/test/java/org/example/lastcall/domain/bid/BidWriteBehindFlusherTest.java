@@ -0,0 +1,124 @@
+package org.example.lastcall.domain.bid;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.example.lastcall.domain.bid.config.BidProperties;
+import org.example.lastcall.domain.bid.enums.BidAdmissionMode;
+import org.example.lastcall.domain.bid.repository.BidBatchRepository;
+import org.example.lastcall.domain.bid.repository.BidRepository;
+import org.example.lastcall.domain.bid.service.command.BidAdmissionScript;
+import org.example.lastcall.domain.bid.service.command.BidWriteBehindBuffer;
+import org.example.lastcall.domain.bid.service.command.BidWriteBehindFlusher;
+import org.example.lastcall.domain.point.service.command.PointCommandServiceApi;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.StreamMessageId;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class BidWriteBehindFlusherTest {
+    @Mock
+    private BidWriteBehindBuffer buffer;
+    @Mock
+    private BidBatchRepository bidBatchRepository;
+    @Mock
+    private BidRepository bidRepository;
+    @Mock
+    private PointCommandServiceApi pointCommandServiceApi;
+    @Mock
+    private BidAdmissionScript bidAdmissionScript;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BidWriteBehindFlusher flusher;
+
+    @BeforeEach
+    void setUp() {
+        BidProperties properties = new BidProperties(
+                new BidProperties.Admission(BidAdmissionMode.WRITE_BEHIND),
+                new BidProperties.Sequencer(0, 256, Duration.ofSeconds(10)),
+                new BidProperties.WriteBehind(100, 500, 100_000, Duration.ofSeconds(30), Duration.ofMillis(200), 1000),
+                new BidProperties.Optimistic(3, Duration.ofMillis(20)));
+
+        flusher = new BidWriteBehindFlusher(buffer, bidBatchRepository, bidRepository, pointCommandServiceApi,
+                bidAdmissionScript, properties, transactionManager, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("버퍼의 입찰을 한 번에 저장하고 경매별로 한 번만 현재가와 신규 참여자 수를 갱신한 뒤 ACK 한다")
+    void flushScheduled_입찰을_배치로_저장하고_경매별로_한_번_갱신한다() {
+        given(buffer.claimIdle()).willReturn(List.of());
+        given(buffer.readOwnPending()).willReturn(List.of());
+        given(buffer.readNew()).willReturn(List.of(
+                entry(1, 101L, 10L, 1L, 1100L, 1000L, 0L, "1"),
+                entry(2, 102L, 10L, 2L, 1200L, 1100L, 0L, "1"),
+                entry(3, 103L, 10L, 1L, 1300L, 1200L, 1100L, "0"),
+                entry(4, 104L, 20L, 1L, 5500L, 5000L, 0L, "1")));
+        given(bidRepository.findIdsByIdIn(List.of(101L, 102L, 103L, 104L))).willReturn(List.of());
+        given(pointCommandServiceApi.depositForAdmittedBid(anyLong(), anyLong(), anyLong(), anyLong())).willReturn(true);
+
+        flusher.flushScheduled();
+
+        verify(bidBatchRepository, times(1)).insertAll(argThat(bids -> bids.size() == 4));
+        verify(bidBatchRepository, times(1)).applyToAuction(10L, 1300L, 2);
+        verify(bidBatchRepository, times(1)).applyToAuction(20L, 5500L, 1);
+        verify(buffer, times(1)).acknowledge(argThat(ids -> ids.size() == 4));
+        assertThat(meterRegistry.get("bid.write-behind.flush.lag").timer().count()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("저장 시점에 예치에 실패한 입찰은 삭제하고 Redis 상태를 지운다")
+    void flushScheduled_예치_실패_입찰은_무효_처리한다() {
+        given(buffer.claimIdle()).willReturn(List.of());
+        given(buffer.readOwnPending()).willReturn(List.of());
+        given(buffer.readNew()).willReturn(List.of(
+                entry(1, 101L, 10L, 1L, 1100L, 1000L, 0L, "1"),
+                entry(2, 102L, 10L, 2L, 1200L, 1100L, 0L, "1")));
+        given(bidRepository.findIdsByIdIn(List.of(101L, 102L))).willReturn(List.of());
+        given(pointCommandServiceApi.depositForAdmittedBid(10L, 101L, 1100L, 1L)).willReturn(true);
+        given(pointCommandServiceApi.depositForAdmittedBid(10L, 102L, 1200L, 2L)).willReturn(false);
+
+        flusher.flushScheduled();
+
+        verify(bidBatchRepository, times(1)).deleteAll(List.of(102L));
+        verify(bidBatchRepository, times(1)).applyToAuction(10L, 1100L, 1);
+        verify(bidAdmissionScript, times(1)).invalidate(10L);
+        assertThat(meterRegistry.get("bid.write-behind.voided").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 처리 중인 입찰이 끝내 남아 있으면 경매 종료 대기를 실패시킨다")
+    void drain_미처리_입찰이_남아_있으면_예외가_발생한다() {
+        given(buffer.readOwnPending()).willReturn(List.of());
+        given(buffer.readNew()).willReturn(List.of());
+        given(buffer.hasPending(10L)).willReturn(true);
+
+        assertThatThrownBy(() -> flusher.drain(10L))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private Map.Entry<StreamMessageId, Map<String, String>> entry(long sequence, Long bidId, Long auctionId, Long userId,
+            Long bidAmount, Long previousHighest, Long previousUserBid, String newParticipant) {
+        return Map.entry(new StreamMessageId(System.currentTimeMillis(), sequence), Map.of(
+                "bidId", String.valueOf(bidId),
+                "auctionId", String.valueOf(auctionId),
+                "userId", String.valueOf(userId),
+                "bidAmount", String.valueOf(bidAmount),
+                "previousHighest", String.valueOf(previousHighest),
+                "previousUserBid", String.valueOf(previousUserBid),
+                "newParticipant", newParticipant,
+                "admittedAt", String.valueOf(System.currentTimeMillis())));
+    }
+}
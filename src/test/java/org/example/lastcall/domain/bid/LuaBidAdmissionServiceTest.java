@@ -0,0 +1,120 @@
+package org.example.lastcall.domain.bid;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.example.lastcall.common.exception.BusinessException;
+import org.example.lastcall.domain.auction.entity.Auction;
+import org.example.lastcall.domain.auction.repository.AuctionRepository;
+import org.example.lastcall.domain.auction.service.query.AuctionQueryServiceApi;
+import org.example.lastcall.domain.auction.service.room.AuctionRoomPublisher;
+import org.example.lastcall.domain.auth.enums.AuthUser;
+import org.example.lastcall.domain.bid.dto.response.BidCreateResponse;
+import org.example.lastcall.domain.bid.entity.Bid;
+import org.example.lastcall.domain.bid.exception.BidErrorCode;
+import org.example.lastcall.domain.bid.repository.BidRepository;
+import org.example.lastcall.domain.bid.service.command.BidAdmission;
+import org.example.lastcall.domain.bid.service.command.BidAdmissionScript;
+import org.example.lastcall.domain.bid.service.command.LuaBidAdmissionService;
+import org.example.lastcall.domain.point.service.command.PointCommandServiceApi;
+import org.example.lastcall.domain.user.entity.User;
+import org.example.lastcall.domain.user.service.query.UserQueryServiceApi;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class LuaBidAdmissionServiceTest {
+    @Mock
+    private BidRepository bidRepository;
+    @Mock
+    private AuctionRepository auctionRepository;
+    @Mock
+    private AuctionQueryServiceApi auctionQueryServiceApi;
+    @Mock
+    private UserQueryServiceApi userQueryServiceApi;
+    @Mock
+    private PointCommandServiceApi pointCommandServiceApi;
+    @Mock
+    private BidAdmissionScript bidAdmissionScript;
+    @Mock
+    private AuctionRoomPublisher auctionRoomPublisher;
+
+    @InjectMocks
+    private LuaBidAdmissionService luaBidAdmissionService;
+
+    @BeforeEach
+    void setUp() {
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @DisplayName("Redis 상태가 없으면 DB에서 적재한 뒤 다시 허용 여부를 판정하고 입찰을 저장한다")
+    void createBid_Redis_상태가_없으면_적재_후_입찰에_성공한다() {
+        Long auctionId = 10L;
+        Long userId = 1L;
+        Long nextBidAmount = 1100L;
+        AuthUser authUser = new AuthUser(userId, "public" + userId, "USER");
+
+        Auction auction = mock(Auction.class);
+        User user = mock(User.class);
+        given(auction.getId()).willReturn(auctionId);
+        given(auction.getStartingBid()).willReturn(1000L);
+        given(user.getId()).willReturn(userId);
+
+        given(auctionQueryServiceApi.findBiddableAuction(auctionId)).willReturn(auction);
+        given(bidAdmissionScript.admit(auction, userId, nextBidAmount))
+                .willReturn(BidAdmission.rejected(BidAdmissionScript.NEEDS_INIT))
+                .willReturn(BidAdmission.admitted(1000L, true, 0L, null));
+        given(bidRepository.findMaxBidAmountByAuction(auction)).willReturn(Optional.empty());
+        given(bidRepository.countByAuctionId(auctionId)).willReturn(0L);
+        given(bidRepository.findBidderMaxBidsByAuctionId(auctionId)).willReturn(List.of());
+        given(auctionRepository.applyAdmittedBid(auctionId, nextBidAmount, 1)).willReturn(1);
+        given(userQueryServiceApi.findReferenceById(userId)).willReturn(user);
+
+        Bid savedBid = Bid.of(nextBidAmount, auction, user);
+        ReflectionTestUtils.setField(savedBid, "id", 5L);
+        given(bidRepository.save(any(Bid.class))).willReturn(savedBid);
+
+        BidCreateResponse response = luaBidAdmissionService.createBid(auctionId, authUser, nextBidAmount);
+
+        assertThat(response.getBidAmount()).isEqualTo(nextBidAmount);
+        verify(bidAdmissionScript, times(1)).init(auction, 1000L, 0L, List.of());
+        verify(pointCommandServiceApi, times(1)).updateDepositPoint(auctionId, 5L, nextBidAmount, userId);
+    }
+
+    @Test
+    @DisplayName("Lua 스크립트가 판매자 입찰을 거부하면 DB에 접근하지 않고 예외 발생")
+    void createBid_판매자_입찰이_거부되면_DB에_반영하지_않는다() {
+        Long auctionId = 10L;
+        Long sellerId = 1L;
+        AuthUser authUser = new AuthUser(sellerId, "public" + sellerId, "USER");
+
+        Auction auction = mock(Auction.class);
+        given(auctionQueryServiceApi.findBiddableAuction(auctionId)).willReturn(auction);
+        given(bidAdmissionScript.admit(auction, sellerId, 1100L))
+                .willReturn(BidAdmission.rejected(BidAdmissionScript.SELLER_CANNOT_BID));
+
+        assertThatThrownBy(() -> luaBidAdmissionService.createBid(auctionId, authUser, 1100L))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", BidErrorCode.SELLER_CANNOT_BID);
+
+        verify(auctionRepository, never()).applyAdmittedBid(anyLong(), anyLong(), anyInt());
+        verify(bidRepository, never()).save(any(Bid.class));
+    }
+}
@@ -0,0 +1,152 @@
+package org.example.lastcall.domain.bid;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.example.lastcall.common.exception.BusinessException;
+import org.example.lastcall.domain.auction.entity.Auction;
+import org.example.lastcall.domain.auction.enums.AuctionStatus;
+import org.example.lastcall.domain.auction.exception.AuctionErrorCode;
+import org.example.lastcall.domain.auction.repository.AuctionRepository;
+import org.example.lastcall.domain.auction.service.query.AuctionQueryServiceApi;
+import org.example.lastcall.domain.auction.service.room.AuctionRoomPublisher;
+import org.example.lastcall.domain.auth.enums.AuthUser;
+import org.example.lastcall.domain.bid.config.BidProperties;
+import org.example.lastcall.domain.bid.dto.response.BidCreateResponse;
+import org.example.lastcall.domain.bid.entity.Bid;
+import org.example.lastcall.domain.bid.enums.BidAdmissionMode;
+import org.example.lastcall.domain.bid.exception.BidErrorCode;
+import org.example.lastcall.domain.bid.repository.BidRepository;
+import org.example.lastcall.domain.bid.service.command.OptimisticBidService;
+import org.example.lastcall.domain.point.service.command.PointCommandServiceApi;
+import org.example.lastcall.domain.user.entity.User;
+import org.example.lastcall.domain.user.service.query.UserQueryServiceApi;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class OptimisticBidServiceTest {
+    @Mock
+    private BidRepository bidRepository;
+    @Mock
+    private AuctionRepository auctionRepository;
+    @Mock
+    private AuctionQueryServiceApi auctionQueryServiceApi;
+    @Mock
+    private UserQueryServiceApi userQueryServiceApi;
+    @Mock
+    private PointCommandServiceApi pointCommandServiceApi;
+    @Mock
+    private AuctionRoomPublisher auctionRoomPublisher;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OptimisticBidService optimisticBidService;
+
+    private final Long auctionId = 10L;
+    private final Long userId = 1L;
+    private final AuthUser authUser = new AuthUser(userId, "public" + userId, "USER");
+    private Auction auction;
+
+    @BeforeEach
+    void setUp() {
+        BidProperties properties = new BidProperties(
+                new BidProperties.Admission(BidAdmissionMode.OPTIMISTIC),
+                new BidProperties.Sequencer(0, 1000, Duration.ofSeconds(5)),
+                new BidProperties.WriteBehind(100, 500, 100_000, Duration.ofSeconds(30), Duration.ofSeconds(5), 1000),
+                new BidProperties.Optimistic(3, Duration.ZERO));
+
+        optimisticBidService = new OptimisticBidService(bidRepository, auctionRepository, auctionQueryServiceApi,
+                userQueryServiceApi, pointCommandServiceApi, auctionRoomPublisher, properties,
+                transactionManager);
+
+        User seller = mock(User.class);
+        given(seller.getId()).willReturn(99L);
+
+        auction = mock(Auction.class);
+        given(auction.getUser()).willReturn(seller);
+        given(auction.getCurrentBid()).willReturn(1000L);
+        given(auction.getBidStep()).willReturn(100L);
+        given(auction.getParticipantCount()).willReturn(1);
+        given(auctionQueryServiceApi.findBiddableAuction(auctionId)).willReturn(auction);
+    }
+
+    @Test
+    @DisplayName("현재가 조건부 UPDATE 가 성공하면 입찰을 저장하고 같은 트랜잭션에서 포인트를 예치한다")
+    void createBid_조건부_갱신에_성공하면_입찰과_예치가_반영된다() {
+        User user = mock(User.class);
+        given(user.getId()).willReturn(userId);
+        given(auction.getId()).willReturn(auctionId);
+        given(bidRepository.existsByAuctionIdAndUserId(auctionId, userId)).willReturn(false);
+        given(auctionRepository.compareAndSetCurrentBid(auctionId, 1000L, 1100L, 1)).willReturn(1);
+        given(userQueryServiceApi.findReferenceById(userId)).willReturn(user);
+        given(bidRepository.save(any(Bid.class))).willAnswer(invocation -> {
+            Bid bid = invocation.getArgument(0);
+            ReflectionTestUtils.setField(bid, "id", 500L);
+            return bid;
+        });
+
+        BidCreateResponse response = optimisticBidService.createBid(auctionId, authUser, 1100L);
+
+        assertThat(response.getId()).isEqualTo(500L);
+        assertThat(response.getBidAmount()).isEqualTo(1100L);
+        verify(pointCommandServiceApi).updateDepositPoint(auctionId, 500L, 1100L, userId);
+        verify(auctionRoomPublisher).publishBid(auctionId, 1100L, 2);
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE 가 0건이면 다른 입찰에 밀린 것으로 보고 재시도 없이 실패한다")
+    void createBid_조건부_갱신이_0건이면_동시_입찰_실패() {
+        Auction stored = mock(Auction.class);
+        given(stored.getStatus()).willReturn(AuctionStatus.ONGOING);
+        given(bidRepository.existsByAuctionIdAndUserId(auctionId, userId)).willReturn(true);
+        given(auctionRepository.compareAndSetCurrentBid(auctionId, 1000L, 1100L, 0)).willReturn(0);
+        given(auctionRepository.findById(auctionId)).willReturn(Optional.of(stored));
+
+        assertThatThrownBy(() -> optimisticBidService.createBid(auctionId, authUser, 1100L))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", BidErrorCode.CONCURRENCY_BID_FAILED);
+
+        verify(auctionRepository, times(1)).compareAndSetCurrentBid(anyLong(), anyLong(), anyLong(), anyInt());
+        verify(bidRepository, never()).save(any());
+        verifyNoInteractions(pointCommandServiceApi);
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE 시점에 경매가 종료되었으면 진행 중이 아닌 경매 오류로 실패한다")
+    void createBid_경매가_종료되었으면_입찰_불가() {
+        Auction stored = mock(Auction.class);
+        given(stored.getStatus()).willReturn(AuctionStatus.CLOSED);
+        given(auctionRepository.compareAndSetCurrentBid(auctionId, 1000L, 1100L, 1)).willReturn(0);
+        given(auctionRepository.findById(auctionId)).willReturn(Optional.of(stored));
+
+        assertThatThrownBy(() -> optimisticBidService.createBid(auctionId, authUser, 1100L))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", AuctionErrorCode.CANNOT_BID_ON_NON_ONGOING_AUCTION);
+    }
+
+    @Test
+    @DisplayName("락 대기 초과는 설정된 횟수만큼 재시도한 뒤 동시 입찰 실패로 응답한다")
+    void createBid_락_대기_초과는_제한된_횟수만큼_재시도한다() {
+        given(auctionRepository.compareAndSetCurrentBid(auctionId, 1000L, 1100L, 1))
+                .willThrow(new CannotAcquireLockException("lock wait timeout"));
+
+        assertThatThrownBy(() -> optimisticBidService.createBid(auctionId, authUser, 1100L))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", BidErrorCode.CONCURRENCY_BID_FAILED);
+
+        verify(auctionRepository, times(3)).compareAndSetCurrentBid(auctionId, 1000L, 1100L, 1);
+        verify(transactionManager, times(3)).rollback(any());
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.lastcall.domain.bid;
+
+import org.example.lastcall.domain.auction.entity.Auction;
+import org.example.lastcall.domain.bid.repository.BidRepository;
+import org.example.lastcall.domain.bid.repository.ProxyBidRepository;
+import org.example.lastcall.domain.bid.service.command.BidBookEntry;
+import org.example.lastcall.domain.bid.service.command.ProxyBidCommandService;
+import org.example.lastcall.domain.point.service.query.PointQueryServiceApi;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ProxyBidCommandServiceTest {
+    @Mock
+    private BidRepository bidRepository;
+    @Mock
+    private ProxyBidRepository proxyBidRepository;
+    @Mock
+    private PointQueryServiceApi pointQueryServiceApi;
+
+    @InjectMocks
+    private ProxyBidCommandService proxyBidCommandService;
+
+    @Test
+    @DisplayName("등록된 자동 입찰이 없으면 자동 입찰을 조회하지 않는다")
+    void applyProxyBids_자동_입찰이_없으면_조회하지_않는다() {
+        Auction auction = mock(Auction.class);
+        given(auction.hasProxyBids()).willReturn(false);
+
+        assertThat(proxyBidCommandService.applyProxyBids(auction, BidBookEntry.of(500L, 1L, List.of(1L)), 500L, 1L)).isEmpty();
+
+        verify(proxyBidRepository, never()).findAllByAuctionId(anyLong());
+        verify(bidRepository, never()).findBidderMaxBidsByAuctionIdAndUserIdIn(anyLong(), any());
+        verify(pointQueryServiceApi, never()).findAvailablePoints(any());
+    }
+}
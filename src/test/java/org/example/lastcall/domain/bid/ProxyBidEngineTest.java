@@ -0,0 +1,73 @@
+package org.example.lastcall.domain.bid;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.example.lastcall.domain.bid.service.command.ProxyBidEngine;
+import org.example.lastcall.domain.bid.service.command.ProxyBidEngine.Candidate;
+import org.example.lastcall.domain.bid.service.command.ProxyBidEngine.ResolvedBid;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ProxyBidEngineTest {
+    private static final long STARTING_BID = 1000L;
+    private static final long BID_STEP = 100L;
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @Test
+    @DisplayName("두 자동 입찰이 경쟁하면 2순위 최대 금액 + 입찰 단위에서 1순위가 선두가 된다")
+    void resolve_두_자동_입찰_경쟁은_한_번에_결정된다() {
+        List<ResolvedBid> resolved = ProxyBidEngine.resolve(STARTING_BID, BID_STEP, 1500L, 9L, List.of(
+                new Candidate(1L, 3000L, NOW),
+                new Candidate(2L, 2400L, NOW.plusSeconds(1))));
+
+        assertThat(resolved).containsExactly(
+                new ResolvedBid(2L, 2400L),
+                new ResolvedBid(1L, 2500L));
+    }
+
+    @Test
+    @DisplayName("최대 금액이 같으면 먼저 등록한 사용자가 그 금액으로 선두가 된다")
+    void resolve_최대_금액이_같으면_먼저_등록한_사용자가_이긴다() {
+        List<ResolvedBid> resolved = ProxyBidEngine.resolve(STARTING_BID, BID_STEP, 1500L, 9L, List.of(
+                new Candidate(2L, 2450L, NOW.plusSeconds(1)),
+                new Candidate(1L, 2400L, NOW)));
+
+        assertThat(resolved).containsExactly(
+                new ResolvedBid(2L, 2300L),
+                new ResolvedBid(1L, 2400L));
+    }
+
+    @Test
+    @DisplayName("현재 최고 입찰자의 최대 금액이 더 높으면 도전자의 최대 금액 + 입찰 단위로 방어한다")
+    void resolve_선두의_최대_금액이_높으면_방어한다() {
+        List<ResolvedBid> resolved = ProxyBidEngine.resolve(STARTING_BID, BID_STEP, 1500L, 1L, List.of(
+                new Candidate(1L, 5000L, NOW),
+                new Candidate(2L, 2000L, NOW.plusSeconds(1))));
+
+        assertThat(resolved).containsExactly(
+                new ResolvedBid(2L, 2000L),
+                new ResolvedBid(1L, 2100L));
+    }
+
+    @Test
+    @DisplayName("경쟁자가 없으면 선두는 그대로이고, 첫 입찰이면 다음 입찰 금액으로 한 건만 생성된다")
+    void resolve_경쟁자가_없으면_최소_금액만_입찰한다() {
+        assertThat(ProxyBidEngine.resolve(STARTING_BID, BID_STEP, 1500L, 1L, List.of(new Candidate(1L, 5000L, NOW))))
+                .isEmpty();
+
+        assertThat(ProxyBidEngine.resolve(STARTING_BID, BID_STEP, STARTING_BID, null, List.of(new Candidate(1L, 5000L, NOW))))
+                .containsExactly(new ResolvedBid(1L, 1100L));
+    }
+
+    @Test
+    @DisplayName("다음 입찰 금액에 못 미치는 최대 금액은 경쟁에 참여하지 않는다")
+    void resolve_다음_입찰_금액보다_낮은_최대_금액은_무시된다() {
+        List<ResolvedBid> resolved = ProxyBidEngine.resolve(STARTING_BID, BID_STEP, 1500L, 9L, List.of(
+                new Candidate(1L, 1590L, NOW)));
+
+        assertThat(resolved).isEmpty();
+    }
+}
@@ -7,6 +7,7 @@ import org.example.lastcall.domain.bid.entity.Bid;
 import org.example.lastcall.domain.point.entity.Point;
 import org.example.lastcall.domain.point.repository.PointRepository;
 import org.example.lastcall.domain.point.service.command.PointCommandService;
+import org.example.lastcall.domain.point.service.command.PointSettlementService;
 import org.example.lastcall.domain.user.entity.User;
 import org.example.lastcall.fixture.*;
 import org.junit.jupiter.api.DisplayName;
@@ -25,6 +26,9 @@ class PointCommandServiceIntegrationTest extends AbstractIntegrationTest {
     @Autowired
     private PointCommandService pointCommandService;
 
+    @Autowired
+    private PointSettlementService pointSettlementService;
+
     @Autowired
     private PointRepository pointRepository;
 
@@ -119,7 +123,7 @@ class PointCommandServiceIntegrationTest extends AbstractIntegrationTest {
 
     @DisplayName("동시에 여러 스레드가 정산 시도를 해도 한 번만 처리")
     @Test
-    void depositToSettlement_동시에_정산_시도를_해도_한_번만_처리된다() throws InterruptedException {
+    void settle_동시에_정산_시도를_해도_한_번만_처리된다() throws InterruptedException {
         String email = "test203@gmail.com";
         String nickname = "닉네임3";
 
@@ -141,7 +145,7 @@ class PointCommandServiceIntegrationTest extends AbstractIntegrationTest {
         for (int i = 0; i < threadCount; i++) {
             executor.submit(() -> {
                 try {
-                    pointCommandService.depositToSettlement(auction.getId());
+                    pointSettlementService.settle(auction.getId(), user.getId(), depositPoint);
                 } catch (Exception ignored) {
                     System.out.println(ignored);
                 } finally {
@@ -157,9 +161,9 @@ class PointCommandServiceIntegrationTest extends AbstractIntegrationTest {
         assertThat(result.getAvailablePoint()).isEqualTo(userPoint - depositPoint);
     }
 
-    @DisplayName("동시에 여러 스레드가 환불 요청을 해도 중복 환불되지 않음")
+    @DisplayName("동시에 여러 스레드가 정산을 시도해도 낙찰 실패자는 중복 환불되지 않음")
     @Test
-    void depositToAvailablePoint_동시에_환불_요청을_해도_한_번만_처리된다() throws InterruptedException {
+    void settle_동시에_환불_요청을_해도_한_번만_처리된다() throws InterruptedException {
         String email = "test104@gmail.com";
         String nickname = "닉네임4";
         var userPoint = 100000L;
@@ -194,7 +198,7 @@ class PointCommandServiceIntegrationTest extends AbstractIntegrationTest {
         for (int i = 0; i < threadCount; i++) {
             executor.submit(() -> {
                 try {
-                    pointCommandService.depositToAvailablePoint(auction.getId());
+                    pointSettlementService.settle(auction.getId(), winner.getId(), winnerDepositPoint);
                 } catch (Exception ignored) {
                     System.out.println(ignored);
                 } finally {
@@ -211,7 +215,8 @@ class PointCommandServiceIntegrationTest extends AbstractIntegrationTest {
         assertThat(loserResult.getDepositPoint()).isEqualTo(0L);
         assertThat(loserResult.getAvailablePoint()).isEqualTo(loserPoint.getAvailablePoint() + loserDepositPoint);
 
-        assertThat(winnerResult.getDepositPoint()).isEqualTo(userPoint - winnerPoint.getAvailablePoint());
+        assertThat(winnerResult.getDepositPoint()).isEqualTo(0L);
+        assertThat(winnerResult.getSettlementPoint()).isEqualTo(winnerDepositPoint);
         assertThat(winnerResult.getAvailablePoint()).isEqualTo(winnerPoint.getAvailablePoint());
     }
 }
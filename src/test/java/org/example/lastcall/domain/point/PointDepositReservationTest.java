@@ -0,0 +1,193 @@
+package org.example.lastcall.domain.point;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.example.lastcall.common.config.IdGeneratorInitializer;
+import org.example.lastcall.common.config.JpaAuditingConfig;
+import org.example.lastcall.common.config.QueryDslConfig;
+import org.example.lastcall.common.exception.BusinessException;
+import org.example.lastcall.domain.auction.entity.Auction;
+import org.example.lastcall.domain.bid.entity.Bid;
+import org.example.lastcall.domain.bid.service.query.BidQueryServiceApi;
+import org.example.lastcall.domain.point.entity.Point;
+import org.example.lastcall.domain.point.entity.PointLog;
+import org.example.lastcall.domain.point.enums.PointLogType;
+import org.example.lastcall.domain.point.exception.PointErrorCode;
+import org.example.lastcall.domain.point.repository.PointLogRepository;
+import org.example.lastcall.domain.point.repository.PointRepository;
+import org.example.lastcall.domain.point.service.command.PointCommandService;
+import org.example.lastcall.domain.point.service.command.PointSettlementService;
+import org.example.lastcall.domain.product.entity.Product;
+import org.example.lastcall.domain.product.enums.Category;
+import org.example.lastcall.domain.user.entity.User;
+import org.example.lastcall.domain.user.service.query.UserQueryServiceApi;
+import org.example.lastcall.fixture.TestAuctionService.AuctionFixture;
+import org.example.lastcall.fixture.UserFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+// 조건부 UPDATE 예치가 잔액 검사, 차액 예치, 로그 기록을 올바르게 처리하는지 검증 (JPA 슬라이스로 실행)
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QueryDslConfig.class, JpaAuditingConfig.class, IdGeneratorInitializer.class, PointCommandService.class})
+class PointDepositReservationTest {
+    // 닉네임은 유니크 + 10자 제한이라 짧은 일련번호 사용
+    private static final AtomicInteger USER_SEQ = new AtomicInteger();
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private PointCommandService pointCommandService;
+    @Autowired
+    private PointRepository pointRepository;
+    @Autowired
+    private PointLogRepository pointLogRepository;
+
+    @MockBean
+    private BidQueryServiceApi bidQueryServiceApi;
+    @MockBean
+    private UserQueryServiceApi userQueryServiceApi;
+    @MockBean
+    private PointSettlementService pointSettlementService;
+
+    private Auction auction;
+    private User bidder;
+
+    @BeforeEach
+    void setUp() {
+        User seller = entityManager.persist(UserFixture.createUser("seller-" + System.nanoTime() + "@test.com", "판매자" + USER_SEQ.incrementAndGet()));
+        Product product = entityManager.persist(Product.of(seller, "test_product", Category.ACCESSORY, "test_description"));
+        auction = entityManager.persist(Auction.of(seller, product, AuctionFixture.createRequest()));
+        bidder = entityManager.persist(UserFixture.createUser("bidder-" + System.nanoTime() + "@test.com", "입찰자" + USER_SEQ.incrementAndGet()));
+    }
+
+    @Test
+    @DisplayName("첫 입찰은 입찰 금액 전액을 예치하고 변경 후 잔액을 로그에 남긴다")
+    void updateDepositPoint_첫_입찰은_전액_예치한다() {
+        entityManager.persist(Point.of(bidder, 10_000L));
+        Bid bid = entityManager.persist(Bid.of(3000L, auction, bidder));
+        given(bidQueryServiceApi.findLastBidExceptBidId(auction.getId(), bidder.getId(), bid.getId()))
+                .willReturn(Optional.empty());
+
+        pointCommandService.updateDepositPoint(auction.getId(), bid.getId(), 3000L, bidder.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        Point point = pointRepository.findByUserId(bidder.getId()).orElseThrow();
+        PointLog log = pointLogRepository.findAll().get(0);
+
+        assertThat(point.getAvailablePoint()).isEqualTo(7000L);
+        assertThat(point.getDepositPoint()).isEqualTo(3000L);
+        assertThat(log.getType()).isEqualTo(PointLogType.DEPOSIT);
+        assertThat(log.getBidId()).isEqualTo(bid.getId());
+        assertThat(log.getPointChange()).isEqualTo(3000L);
+        assertThat(log.getAvailablePointAfter()).isEqualTo(7000L);
+        assertThat(log.getDepositPointAfter()).isEqualTo(3000L);
+    }
+
+    @Test
+    @DisplayName("재입찰은 직전 본인 입찰가와의 차액만 추가 예치한다")
+    void updateDepositPoint_재입찰은_차액만_예치한다() {
+        Point point = Point.of(bidder, 10_000L);
+        point.updateDepositPoint(3000L);
+        entityManager.persist(point);
+        Bid previousBid = entityManager.persist(Bid.of(3000L, auction, bidder));
+        Bid bid = entityManager.persist(Bid.of(5000L, auction, bidder));
+        given(bidQueryServiceApi.findLastBidExceptBidId(auction.getId(), bidder.getId(), bid.getId()))
+                .willReturn(Optional.of(previousBid));
+
+        pointCommandService.updateDepositPoint(auction.getId(), bid.getId(), 5000L, bidder.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        Point updated = pointRepository.findByUserId(bidder.getId()).orElseThrow();
+
+        assertThat(updated.getAvailablePoint()).isEqualTo(5000L);
+        assertThat(updated.getDepositPoint()).isEqualTo(5000L);
+        assertThat(pointLogRepository.findAll())
+                .singleElement()
+                .satisfies(log -> {
+                    assertThat(log.getType()).isEqualTo(PointLogType.ADDITIONAL_DEPOSIT);
+                    assertThat(log.getPointChange()).isEqualTo(2000L);
+                });
+    }
+
+    @Test
+    @DisplayName("가용 포인트가 부족하면 잔액을 바꾸지 않고 예외가 발생한다")
+    void updateDepositPoint_잔액이_부족하면_예외가_발생한다() {
+        entityManager.persist(Point.of(bidder, 1000L));
+        Bid bid = entityManager.persist(Bid.of(3000L, auction, bidder));
+        given(bidQueryServiceApi.findLastBidExceptBidId(auction.getId(), bidder.getId(), bid.getId()))
+                .willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> pointCommandService.updateDepositPoint(auction.getId(), bid.getId(), 3000L, bidder.getId()))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", PointErrorCode.INSUFFICIENT_POINT);
+
+        entityManager.clear();
+        assertThat(pointRepository.findByUserId(bidder.getId()).orElseThrow().getAvailablePoint()).isEqualTo(1000L);
+        assertThat(pointLogRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("포인트 계정이 없으면 예외가 발생한다")
+    void updateDepositPoint_포인트_계정이_없으면_예외가_발생한다() {
+        Bid bid = entityManager.persist(Bid.of(3000L, auction, bidder));
+        given(bidQueryServiceApi.findLastBidExceptBidId(auction.getId(), bidder.getId(), bid.getId()))
+                .willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> pointCommandService.updateDepositPoint(auction.getId(), bid.getId(), 3000L, bidder.getId()))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", PointErrorCode.POINT_RECORD_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("지연 저장 입찰은 지금까지 예치한 총액과의 차액만 예치한다")
+    void depositForAdmittedBid_차액만_예치한다() {
+        entityManager.persist(Point.of(bidder, 10_000L));
+        Bid first = entityManager.persist(Bid.of(3000L, auction, bidder));
+        Bid second = entityManager.persist(Bid.of(5000L, auction, bidder));
+
+        assertThat(pointCommandService.depositForAdmittedBid(auction.getId(), first.getId(), 3000L, bidder.getId())).isTrue();
+        assertThat(pointCommandService.depositForAdmittedBid(auction.getId(), second.getId(), 5000L, bidder.getId())).isTrue();
+        assertThat(pointCommandService.depositForAdmittedBid(auction.getId(), second.getId(), 5000L, bidder.getId())).isTrue();
+        entityManager.flush();
+        entityManager.clear();
+
+        Point point = pointRepository.findByUserId(bidder.getId()).orElseThrow();
+
+        assertThat(point.getAvailablePoint()).isEqualTo(5000L);
+        assertThat(point.getDepositPoint()).isEqualTo(5000L);
+        assertThat(pointLogRepository.findAll())
+                .extracting(PointLog::getType, PointLog::getPointChange)
+                .containsExactlyInAnyOrder(
+                        tuple(PointLogType.DEPOSIT, 3000L),
+                        tuple(PointLogType.ADDITIONAL_DEPOSIT, 2000L));
+    }
+
+    @Test
+    @DisplayName("지연 저장 입찰의 예치가 잔액 부족으로 갱신되지 않으면 실패를 반환한다")
+    void depositForAdmittedBid_잔액이_부족하면_실패를_반환한다() {
+        entityManager.persist(Point.of(bidder, 1000L));
+        Bid bid = entityManager.persist(Bid.of(3000L, auction, bidder));
+
+        assertThat(pointCommandService.depositForAdmittedBid(auction.getId(), bid.getId(), 3000L, bidder.getId())).isFalse();
+
+        entityManager.clear();
+        assertThat(pointRepository.findByUserId(bidder.getId()).orElseThrow().getAvailablePoint()).isEqualTo(1000L);
+        assertThat(pointLogRepository.findAll()).isEmpty();
+    }
+}
@@ -0,0 +1,116 @@
+package org.example.lastcall.domain.point;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.example.lastcall.common.config.IdGeneratorInitializer;
+import org.example.lastcall.common.config.JpaAuditingConfig;
+import org.example.lastcall.common.config.QueryDslConfig;
+import org.example.lastcall.common.exception.BusinessException;
+import org.example.lastcall.common.response.CursorResponse;
+import org.example.lastcall.domain.auth.enums.AuthUser;
+import org.example.lastcall.domain.point.dto.response.PointLogResponse;
+import org.example.lastcall.domain.point.entity.Point;
+import org.example.lastcall.domain.point.entity.PointLog;
+import org.example.lastcall.domain.point.enums.PointLogType;
+import org.example.lastcall.domain.point.exception.PointErrorCode;
+import org.example.lastcall.domain.point.service.query.PointQueryService;
+import org.example.lastcall.domain.user.entity.User;
+import org.example.lastcall.domain.user.service.query.UserQueryServiceApi;
+import org.example.lastcall.fixture.UserFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+// 포인트 내역 커서 조회가 누락/중복 없이 최신순으로 이어지는지 검증 (JPA 슬라이스로 실행)
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QueryDslConfig.class, JpaAuditingConfig.class, IdGeneratorInitializer.class, PointQueryService.class})
+class PointLogCursorPaginationTest {
+    // 닉네임은 유니크 + 10자 제한이라 짧은 일련번호 사용
+    private static final AtomicInteger USER_SEQ = new AtomicInteger();
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private PointQueryService pointQueryService;
+
+    @MockBean
+    private UserQueryServiceApi userQueryServiceApi;
+
+    private User user;
+    private List<Long> logIds;
+
+    @BeforeEach
+    void setUp() {
+        user = createUser();
+        logIds = createLogs(user, 5);
+        createLogs(createUser(), 3);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("커서를 따라가면 본인 내역 전체를 최신순으로 한 번씩 조회한다")
+    void getPointLogs_커서로_전체_내역을_순서대로_조회한다() {
+        AuthUser authUser = new AuthUser(user.getId(), user.getPublicId().toString(), "USER");
+        List<PointLogResponse> collected = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+
+        do {
+            CursorResponse<PointLogResponse> page = pointQueryService.getPointLogs(authUser, cursor, 2);
+            collected.addAll(page.getContent());
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(collected).extracting(PointLogResponse::getId)
+                .containsExactlyInAnyOrderElementsOf(logIds)
+                .doesNotHaveDuplicates();
+        assertThat(collected).isSortedAccordingTo((a, b) -> {
+            int byCreatedAt = b.getCreatedAt().compareTo(a.getCreatedAt());
+            return byCreatedAt != 0 ? byCreatedAt : b.getId().compareTo(a.getId());
+        });
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 예외가 발생한다")
+    void getPointLogs_잘못된_커서는_예외가_발생한다() {
+        AuthUser authUser = new AuthUser(user.getId(), user.getPublicId().toString(), "USER");
+
+        assertThatThrownBy(() -> pointQueryService.getPointLogs(authUser, "not-a-cursor", 2))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", PointErrorCode.INVALID_CURSOR);
+    }
+
+    private User createUser() {
+        return entityManager.persist(UserFixture.createUser("user-" + System.nanoTime() + "@test.com", "사용자" + USER_SEQ.incrementAndGet()));
+    }
+
+    private List<Long> createLogs(User owner, int count) {
+        Point point = entityManager.persist(Point.of(owner, 0L));
+        List<Long> ids = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            point.updateAvailablePoint(1000L);
+            PointLog log = entityManager.persist(PointLog.of(point, owner.getId(), PointLogType.EARN,
+                    PointLogType.EARN.getDescription(), 1000L));
+            ids.add(log.getId());
+        }
+
+        return ids;
+    }
+}
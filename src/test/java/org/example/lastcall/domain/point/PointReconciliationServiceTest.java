@@ -0,0 +1,170 @@
+package org.example.lastcall.domain.point;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.example.lastcall.common.config.IdGeneratorInitializer;
+import org.example.lastcall.common.config.JpaAuditingConfig;
+import org.example.lastcall.common.config.QueryDslConfig;
+import org.example.lastcall.domain.point.config.PointReconciliationProperties;
+import org.example.lastcall.domain.point.entity.Point;
+import org.example.lastcall.domain.point.entity.PointLog;
+import org.example.lastcall.domain.point.enums.PointLogType;
+import org.example.lastcall.domain.point.repository.PointLogRepository;
+import org.example.lastcall.domain.point.repository.PointReconciliationRepository;
+import org.example.lastcall.domain.point.repository.PointRepository;
+import org.example.lastcall.domain.point.service.command.PointReconciliationService;
+import org.example.lastcall.domain.user.entity.User;
+import org.example.lastcall.domain.user.repository.UserRepository;
+import org.example.lastcall.fixture.UserFixture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// 포인트 로그 누적 집계와 잔액 비교가 체크포인트부터 이어서 동작하는지 검증
+// 비교는 fork-join 스레드(다른 커넥션)에서 실행되므로 데이터를 커밋하고 직접 정리
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QueryDslConfig.class, JpaAuditingConfig.class, IdGeneratorInitializer.class, PointReconciliationRepository.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PointReconciliationServiceTest {
+    // 닉네임은 유니크 + 10자 제한이라 짧은 일련번호 사용
+    private static final AtomicInteger USER_SEQ = new AtomicInteger();
+    private static final int CHUNK_SIZE = 3;
+
+    @Autowired
+    private PointReconciliationRepository pointReconciliationRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PointRepository pointRepository;
+    @Autowired
+    private PointLogRepository pointLogRepository;
+
+    private PointReconciliationService pointReconciliationService;
+    private final List<Long> userIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // 최근 로그 대기 없이 바로 집계, 작은 chunk 로 여러 번 나눠 처리
+        PointReconciliationProperties properties = new PointReconciliationProperties(
+                true, 60_000, CHUNK_SIZE, 1_000_000, 2, 1, Duration.ZERO, Duration.ofMinutes(1));
+
+        pointReconciliationService = new PointReconciliationService(pointReconciliationRepository, properties, transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pointReconciliationService.shutdown();
+
+        namedParameterJdbcTemplate.getJdbcTemplate().update("DELETE FROM point_reconciliation_mismatches");
+        namedParameterJdbcTemplate.getJdbcTemplate().update("DELETE FROM point_ledger_balances");
+        namedParameterJdbcTemplate.getJdbcTemplate().update("DELETE FROM point_reconciliation_checkpoints");
+
+        if (!userIds.isEmpty()) {
+            namedParameterJdbcTemplate.update("DELETE FROM point_logs WHERE user_id IN (:ids)", Map.of("ids", userIds));
+            namedParameterJdbcTemplate.update("DELETE FROM points WHERE user_id IN (:ids)", Map.of("ids", userIds));
+            namedParameterJdbcTemplate.update("DELETE FROM users WHERE id IN (:ids)", Map.of("ids", userIds));
+        }
+    }
+
+    @Test
+    @DisplayName("로그와 잔액이 일치하면 불일치 없이 마지막 로그까지 체크포인트가 전진한다")
+    void reconcile_일치하면_불일치_없이_체크포인트가_전진한다() {
+        Point first = createPoint(1000L, 1000L, 2000L);
+        Point second = createPoint(500L, 500L);
+
+        int mismatches = reconcileAll();
+
+        assertThat(mismatches).isZero();
+        assertThat(mismatchCount(first.getUser().getId(), second.getUser().getId())).isZero();
+        assertThat(pointReconciliationService.backlog()).isZero();
+    }
+
+    @Test
+    @DisplayName("로그 합계와 잔액이 다른 사용자만 불일치로 기록한다")
+    void reconcile_잔액이_다른_사용자만_기록한다() {
+        Point consistent = createPoint(1000L, 1000L);
+        Point drifted = createPoint(1000L, 3000L);
+        drifted.updateAvailablePoint(700L);
+        pointRepository.save(drifted);
+
+        int mismatches = reconcileAll();
+
+        assertThat(mismatches).isGreaterThanOrEqualTo(1);
+        assertThat(mismatchCount(consistent.getUser().getId())).isZero();
+        assertThat(mismatchCount(drifted.getUser().getId())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다시 실행하면 체크포인트 이후의 새 로그만 집계한다")
+    void reconcile_체크포인트_이후_로그만_집계한다() {
+        Point point = createPoint(1000L, 1000L);
+        reconcileAll();
+
+        point.updateAvailablePoint(300L);
+        pointRepository.save(point);
+        PointLog added = pointLogRepository.save(PointLog.of(point, point.getUser().getId(), PointLogType.EARN,
+                PointLogType.EARN.getDescription(), 300L));
+
+        PointReconciliationService.ChunkResult result = pointReconciliationService.reconcileNextChunk();
+
+        assertThat(result.rows()).isEqualTo(1);
+        assertThat(result.mismatches()).isZero();
+        assertThat(result.checkpoint()).isEqualTo(added.getId());
+    }
+
+    // 체크포인트가 최신 로그까지 따라잡을 때까지 chunk 반복
+    private int reconcileAll() {
+        int mismatches = 0;
+        PointReconciliationService.ChunkResult result;
+
+        do {
+            result = pointReconciliationService.reconcileNextChunk();
+            mismatches += result.mismatches();
+        } while (result.rows() == CHUNK_SIZE);
+
+        return mismatches;
+    }
+
+    private long mismatchCount(Long... ids) {
+        return namedParameterJdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM point_reconciliation_mismatches WHERE user_id IN (:ids)",
+                Map.of("ids", List.of(ids)), Long.class);
+    }
+
+    // 충전 로그를 남기며 잔액을 맞춰 저장
+    private Point createPoint(Long... earns) {
+        User user = userRepository.save(UserFixture.createUser("user-" + System.nanoTime() + "@test.com", "정합" + USER_SEQ.incrementAndGet()));
+        userIds.add(user.getId());
+
+        Point point = pointRepository.save(Point.of(user, 0L));
+
+        for (Long earn : earns) {
+            point.updateAvailablePoint(earn);
+            pointLogRepository.save(PointLog.of(point, user.getId(), PointLogType.EARN, PointLogType.EARN.getDescription(), earn));
+        }
+
+        return pointRepository.save(point);
+    }
+}
@@ -0,0 +1,141 @@
+package org.example.lastcall.domain.point;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.example.lastcall.common.exception.BusinessException;
+import org.example.lastcall.domain.bid.repository.BidderMaxBid;
+import org.example.lastcall.domain.bid.service.query.BidQueryServiceApi;
+import org.example.lastcall.domain.point.entity.PointLog;
+import org.example.lastcall.domain.point.enums.PointLogType;
+import org.example.lastcall.domain.point.exception.PointErrorCode;
+import org.example.lastcall.domain.point.repository.PointBalance;
+import org.example.lastcall.domain.point.repository.PointSettlementRepository;
+import org.example.lastcall.domain.point.repository.PointLogRepository;
+import org.example.lastcall.domain.point.repository.PointRepository;
+import org.example.lastcall.domain.point.service.command.PointSettlementService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+@ExtendWith(MockitoExtension.class)
+class PointSettlementServiceTest {
+    @Mock
+    private BidQueryServiceApi bidQueryServiceApi;
+    @Mock
+    private PointSettlementRepository pointSettlementRepository;
+    @Mock
+    private PointRepository pointRepository;
+    @Mock
+    private PointLogRepository pointLogRepository;
+    @Mock
+    private CacheManager cacheManager;
+
+    @InjectMocks
+    private PointSettlementService pointSettlementService;
+
+    @Test
+    @DisplayName("낙찰자는 정산하고 낙찰 실패자는 최고 입찰가만큼 한 번의 배치로 환불한다")
+    void settle_낙찰자_정산과_실패자_환불을_한_번에_처리한다() {
+        given(bidQueryServiceApi.findBidderMaxBidsByAuctionId(1L)).willReturn(List.of(
+                new BidderMaxBid(30L, 3000L), new BidderMaxBid(10L, 5000L), new BidderMaxBid(20L, 4000L)));
+        given(pointSettlementRepository.findSettledUserIds(1L)).willReturn(Set.of());
+        given(pointSettlementRepository.moveDepositToAvailable(anyList())).willReturn(new int[] {1, 1});
+        given(pointSettlementRepository.moveDepositToSettlement(10L, 5000L)).willReturn(1);
+        given(pointSettlementRepository.findBalances(anyCollection())).willReturn(List.of(
+                new PointBalance(100L, 10L, 0L, 0L, 5000L),
+                new PointBalance(200L, 20L, 4000L, 0L, 0L),
+                new PointBalance(300L, 30L, 3000L, 0L, 0L)));
+        given(cacheManager.getCache("userPoints")).willReturn(new ConcurrentMapCache("userPoints"));
+
+        pointSettlementService.settle(1L, 10L, 5000L);
+
+        then(pointSettlementRepository).should().moveDepositToAvailable(List.of(Map.entry(20L, 4000L), Map.entry(30L, 3000L)));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PointLog>> logs = ArgumentCaptor.forClass(List.class);
+        then(pointLogRepository).should().saveAll(logs.capture());
+        assertThat(logs.getValue())
+                .extracting(PointLog::getUserId, PointLog::getType, PointLog::getPointChange, PointLog::getAvailablePointAfter)
+                .containsExactly(
+                        tuple(20L, PointLogType.DEPOSIT_TO_AVAILABLE, 4000L, 4000L),
+                        tuple(30L, PointLogType.DEPOSIT_TO_AVAILABLE, 3000L, 3000L),
+                        tuple(10L, PointLogType.SETTLEMENT, 5000L, 0L));
+    }
+
+    @Test
+    @DisplayName("이미 정산/환불된 사용자는 다시 처리하지 않는다")
+    void settle_이미_처리된_사용자는_건너뛴다() {
+        given(bidQueryServiceApi.findBidderMaxBidsByAuctionId(1L)).willReturn(List.of(
+                new BidderMaxBid(10L, 5000L), new BidderMaxBid(20L, 4000L)));
+        given(pointSettlementRepository.findSettledUserIds(1L)).willReturn(Set.of(10L, 20L));
+
+        pointSettlementService.settle(1L, 10L, 5000L);
+
+        then(pointSettlementRepository).should(never()).moveDepositToAvailable(anyList());
+        then(pointSettlementRepository).should(never()).moveDepositToSettlement(anyLong(), anyLong());
+        then(pointLogRepository).should(never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("예치금이 부족한 사용자가 있으면 예외를 던져 정산 전체를 롤백한다")
+    void settle_예치금이_부족하면_예외가_발생한다() {
+        given(bidQueryServiceApi.findBidderMaxBidsByAuctionId(1L)).willReturn(List.of(
+                new BidderMaxBid(10L, 5000L), new BidderMaxBid(20L, 4000L)));
+        given(pointSettlementRepository.findSettledUserIds(1L)).willReturn(Set.of());
+        given(pointSettlementRepository.moveDepositToAvailable(anyList())).willReturn(new int[] {0});
+
+        assertThatThrownBy(() -> pointSettlementService.settle(1L, 10L, 5000L))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", PointErrorCode.INSUFFICIENT_DEPOSIT_POINT);
+
+        then(pointLogRepository).should(never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("여러 경매를 한 번에 정산하고, 여러 경매에 걸친 사용자의 로그에는 갱신 순서대로의 잔액을 남긴다")
+    void settleAll_여러_경매를_한_번에_정산한다() {
+        // 사용자 20 은 경매 1 에서 환불(4000), 경매 2 에서 낙찰(6000)
+        List<PointSettlementService.AuctionSettlement> settlements = List.of(
+                new PointSettlementService.AuctionSettlement(1L, 10L, 5000L,
+                        List.of(new BidderMaxBid(10L, 5000L), new BidderMaxBid(20L, 4000L))),
+                new PointSettlementService.AuctionSettlement(2L, 20L, 6000L,
+                        List.of(new BidderMaxBid(20L, 6000L), new BidderMaxBid(30L, 2000L))));
+        given(pointSettlementRepository.findSettledUserIdsByAuctionIds(anyCollection())).willReturn(Map.of());
+        given(pointSettlementRepository.moveDepositToAvailable(anyList())).willReturn(new int[] {1, 1});
+        given(pointSettlementRepository.moveDepositToSettlement(anyList())).willReturn(new int[] {1, 1});
+        given(pointSettlementRepository.findBalances(anyCollection())).willReturn(List.of(
+                new PointBalance(100L, 10L, 0L, 0L, 5000L),
+                new PointBalance(200L, 20L, 4000L, 0L, 6000L),
+                new PointBalance(300L, 30L, 2000L, 0L, 0L)));
+        given(cacheManager.getCache("userPoints")).willReturn(new ConcurrentMapCache("userPoints"));
+
+        pointSettlementService.settleAll(settlements);
+
+        then(pointSettlementRepository).should().moveDepositToAvailable(List.of(Map.entry(20L, 4000L), Map.entry(30L, 2000L)));
+        then(pointSettlementRepository).should().moveDepositToSettlement(List.of(Map.entry(10L, 5000L), Map.entry(20L, 6000L)));
+        then(bidQueryServiceApi).shouldHaveNoInteractions();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PointLog>> logs = ArgumentCaptor.forClass(List.class);
+        then(pointLogRepository).should().saveAll(logs.capture());
+        assertThat(logs.getValue())
+                .extracting(PointLog::getUserId, PointLog::getType, PointLog::getDepositPointAfter, PointLog::getSettlementPointAfter)
+                .containsExactly(
+                        tuple(20L, PointLogType.DEPOSIT_TO_AVAILABLE, 6000L, 0L),
+                        tuple(30L, PointLogType.DEPOSIT_TO_AVAILABLE, 0L, 0L),
+                        tuple(10L, PointLogType.SETTLEMENT, 0L, 5000L),
+                        tuple(20L, PointLogType.SETTLEMENT, 0L, 6000L));
+    }
+}
@@ -0,0 +1,153 @@
+package org.example.lastcall.domain.point;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.example.lastcall.common.config.IdGeneratorInitializer;
+import org.example.lastcall.common.entity.IdGenerators;
+import org.example.lastcall.common.config.JpaAuditingConfig;
+import org.example.lastcall.common.config.QueryDslConfig;
+import org.example.lastcall.domain.auction.entity.Auction;
+import org.example.lastcall.domain.bid.entity.Bid;
+import org.example.lastcall.domain.bid.repository.BidRepository;
+import org.example.lastcall.domain.bid.service.query.BidQueryServiceApi;
+import org.example.lastcall.domain.point.entity.Point;
+import org.example.lastcall.domain.point.enums.PointLogType;
+import org.example.lastcall.domain.point.repository.PointLogRepository;
+import org.example.lastcall.domain.point.repository.PointRepository;
+import org.example.lastcall.domain.point.repository.PointSettlementRepository;
+import org.example.lastcall.domain.point.service.command.PointSettlementService;
+import org.example.lastcall.domain.product.entity.Product;
+import org.example.lastcall.domain.product.enums.Category;
+import org.example.lastcall.domain.user.entity.User;
+import org.example.lastcall.fixture.StatementCounter;
+import org.example.lastcall.fixture.TestAuctionService.AuctionFixture;
+import org.example.lastcall.fixture.UserFixture;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+// 경매 종료 정산의 DB 왕복 횟수가 입찰 수와 무관하게 일정한지 검증 (Redis 없이 JPA 슬라이스로 실행)
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QueryDslConfig.class, JpaAuditingConfig.class, IdGeneratorInitializer.class, PointSettlementRepository.class,
+        PointSettlementService.class, PointSettlementStatementCountTest.CountingConfig.class})
+class PointSettlementStatementCountTest {
+    // 닉네임은 유니크 + 10자 제한이라 짧은 일련번호 사용
+    private static final AtomicInteger USER_SEQ = new AtomicInteger();
+
+    @TestConfiguration
+    static class CountingConfig {
+        @Bean
+        static StatementCounter statementCounter() {
+            return new StatementCounter(IdGenerators.TABLE);
+        }
+    }
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private StatementCounter statementCounter;
+    @Autowired
+    private PointSettlementService pointSettlementService;
+    @Autowired
+    private BidRepository bidRepository;
+    @Autowired
+    private PointRepository pointRepository;
+    @Autowired
+    private PointLogRepository pointLogRepository;
+
+    @MockBean
+    private BidQueryServiceApi bidQueryServiceApi;
+
+    @Test
+    @DisplayName("입찰자 수가 늘어나도 정산의 DB 왕복 횟수는 같다")
+    void settle_입찰자_수와_무관하게_DB_왕복_횟수가_일정하다() {
+        int fewBidders = settleAndCountRoundTrips(5);
+        int manyBidders = settleAndCountRoundTrips(40);
+
+        assertThat(manyBidders).isEqualTo(fewBidders);
+        // 집계, 처리 이력, 환불 배치, 낙찰 정산, 잔액 조회, 로그 배치 INSERT (ID 블록 할당은 제외하고 셈)
+        assertThat(manyBidders).isLessThanOrEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("정산 후 낙찰 실패자의 예치금은 반환되고 낙찰자의 예치금은 정산 포인트로 이동한다")
+    void settle_잔액과_로그가_반영된다() {
+        Auction auction = createAuction();
+        List<User> bidders = createBidders(auction, 3);
+        entityManager.flush();
+        entityManager.clear();
+
+        User winner = bidders.get(bidders.size() - 1);
+        pointSettlementService.settle(auction.getId(), winner.getId(), 3000L);
+        entityManager.flush();
+        entityManager.clear();
+
+        Point loserPoint = pointRepository.findByUserId(bidders.get(0).getId()).orElseThrow();
+        Point winnerPoint = pointRepository.findByUserId(winner.getId()).orElseThrow();
+
+        assertThat(loserPoint.getDepositPoint()).isZero();
+        assertThat(loserPoint.getAvailablePoint()).isEqualTo(10_000L);
+        assertThat(winnerPoint.getDepositPoint()).isZero();
+        assertThat(winnerPoint.getSettlementPoint()).isEqualTo(3000L);
+        assertThat(pointLogRepository.findAll())
+                .extracting(log -> log.getType())
+                .containsExactlyInAnyOrder(PointLogType.DEPOSIT_TO_AVAILABLE, PointLogType.DEPOSIT_TO_AVAILABLE,
+                        PointLogType.SETTLEMENT);
+    }
+
+    private int settleAndCountRoundTrips(int bidderCount) {
+        Auction auction = createAuction();
+        List<User> bidders = createBidders(auction, bidderCount);
+        entityManager.flush();
+        entityManager.clear();
+
+        statementCounter.reset();
+        pointSettlementService.settle(auction.getId(), bidders.get(bidderCount - 1).getId(), bidderCount * 1000L);
+        entityManager.flush();
+
+        return statementCounter.roundTrips();
+    }
+
+    private Auction createAuction() {
+        User seller = entityManager.persist(UserFixture.createUser("seller-" + System.nanoTime() + "@test.com", "판매자" + USER_SEQ.incrementAndGet()));
+        Product product = entityManager.persist(Product.of(seller, "test_product", Category.ACCESSORY, "test_description"));
+
+        return entityManager.persist(Auction.of(seller, product, AuctionFixture.createRequest()));
+    }
+
+    // 입찰자 i 는 (i + 1) * 1000 원을 입찰하고 그만큼 예치한 상태
+    private List<User> createBidders(Auction auction, int count) {
+        List<User> bidders = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            User bidder = entityManager.persist(UserFixture.createUser("bidder-" + System.nanoTime() + "@test.com", "입찰자" + USER_SEQ.incrementAndGet()));
+            long amount = (i + 1) * 1000L;
+
+            Point point = Point.of(bidder, 10_000L);
+            point.updateDepositPoint(amount);
+            entityManager.persist(point);
+            entityManager.persist(Bid.of(amount, auction, bidder));
+            bidders.add(bidder);
+        }
+
+        given(bidQueryServiceApi.findBidderMaxBidsByAuctionId(auction.getId()))
+                .willAnswer(invocation -> bidRepository.findBidderMaxBidsByAuctionId(auction.getId()));
+
+        return bidders;
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.lastcall.fixture;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.example.lastcall.domain.auction.dto.response.AuctionRoomMessage;
+import org.example.lastcall.domain.auction.service.room.AuctionRoomBroker;
+
+// Redis pub/sub 대신 같은 프로세스 안에서 바로 전달하는 테스트용 브로커
+public class InMemoryAuctionRoomBroker implements AuctionRoomBroker {
+    private final List<Consumer<AuctionRoomMessage>> listeners = new CopyOnWriteArrayList<>();
+    private final List<AuctionRoomMessage> published = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(AuctionRoomMessage message) {
+        published.add(message);
+        listeners.forEach(listener -> listener.accept(message));
+    }
+
+    @Override
+    public void subscribe(Consumer<AuctionRoomMessage> listener) {
+        listeners.add(listener);
+    }
+
+    public List<AuctionRoomMessage> published() {
+        return published;
+    }
+}
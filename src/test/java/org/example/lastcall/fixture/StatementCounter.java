@@ -0,0 +1,83 @@
+package org.example.lastcall.fixture;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+// DataSource 를 감싸 DB 왕복 횟수(execute/executeQuery/executeUpdate/executeBatch 호출 수)를 센다
+// ignoredTables 가 포함된 SQL 은 세지 않음 (예: ID 블록 할당처럼 건수와 무관하게 가끔 발생하는 문장)
+public class StatementCounter implements BeanPostProcessor {
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    private final AtomicInteger roundTrips = new AtomicInteger();
+    private final List<String> ignoredTables;
+
+    public StatementCounter(String... ignoredTables) {
+        this.ignoredTables = Arrays.stream(ignoredTables).map(String::toLowerCase).toList();
+    }
+
+    public void reset() {
+        roundTrips.set(0);
+    }
+
+    public int roundTrips() {
+        return roundTrips.get();
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !Proxy.isProxyClass(bean.getClass())) {
+            return proxy(DataSource.class, dataSource, null);
+        }
+
+        return bean;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T proxy(Class<T> type, T target, String preparedSql) {
+        return (T)Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+            if (EXECUTE_METHODS.contains(method.getName()) && target instanceof Statement) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String given ? given : preparedSql;
+
+                if (!isIgnored(sql)) {
+                    roundTrips.incrementAndGet();
+                }
+            }
+
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+
+            if (result instanceof Connection connection) {
+                return proxy(Connection.class, connection, null);
+            } else if (result instanceof Statement statement && method.getReturnType() != Object.class) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String given ? given : null;
+                return proxy((Class<Statement>)method.getReturnType(), statement, sql);
+            }
+
+            return result;
+        });
+    }
+
+    private boolean isIgnored(String sql) {
+        if (sql == null) {
+            return false;
+        }
+
+        String lowerSql = sql.toLowerCase();
+        return ignoredTables.stream().anyMatch(lowerSql::contains);
+    }
+}